@@ -5,29 +5,39 @@ import com.flower.cart.dto.CartDto;
 import com.flower.cart.dto.CartItemDto;
 import com.flower.cart.dto.CartItemOptionDto;
 import com.flower.cart.service.CartService;
+import com.flower.common.dto.CursorPage;
 import com.flower.common.exception.EntityNotFoundException;
+import com.flower.common.idempotency.IdempotencyService;
+import com.flower.order.domain.OrderStatus;
 import com.flower.order.dto.CreateDirectOrderRequest;
 import com.flower.order.dto.CreateOrderRequest;
 import com.flower.order.dto.CreateOrderResponse;
 import com.flower.order.dto.OrderDetailDto;
 import com.flower.order.dto.OrderDto;
+import com.flower.order.dto.OrderExportFormat;
 import com.flower.order.dto.OrderItemDto;
 import com.flower.order.dto.OrderItemOptionDto;
+import com.flower.order.dto.OrderSearchCondition;
 import com.flower.order.dto.UpdateOrderStatusRequest;
+import com.flower.order.service.OrderExportService;
 import com.flower.order.service.OrderService;
 import com.flower.product.dto.ProductDto;
 import com.flower.product.dto.ProductOptionDto;
 import com.flower.product.service.ProductQueryService;
-import com.flower.review.service.ReviewQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -41,122 +51,163 @@ import java.util.stream.Collectors;
 @Tag(name = "Order", description = "주문 관리 API")
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
     private final CartService cartService;
     private final ProductQueryService productQueryService;
-    private final ReviewQueryService reviewQueryService;
+    private final IdempotencyService idempotencyService;
 
-    @Operation(summary = "주문 생성", description = "장바구니에 담긴 상품으로 주문을 생성합니다.")
+    @Operation(summary = "주문 생성", description = "장바구니에 담긴 상품으로 주문을 생성합니다. Idempotency-Key 헤더를 보내면 같은 키의 재시도에는 처음 생성된 주문을 반환합니다.")
     @PostMapping
-    public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderRequest request) {
+    public ResponseEntity<CreateOrderResponse> createOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody CreateOrderRequest request) {
         log.info("Received order request for member: {}", request.memberId());
 
-        CartDto cart = cartService.getCartDtoByMemberId(request.memberId());
-        if (cart.isEmpty()) {
-            throw new IllegalArgumentException("Cart is empty");
-        }
+        CreateOrderResponse response = idempotencyService.execute("order:create", idempotencyKey, request, () -> {
+            CartDto cart = cartService.getCartDtoByMemberId(request.memberId());
+            if (cart.isEmpty()) {
+                throw new IllegalArgumentException("Cart is empty");
+            }
 
-        List<Long> productIds = cart.items().stream()
-                .map(CartItemDto::productId)
-                .collect(Collectors.toList());
+            List<Long> productIds = cart.items().stream()
+                    .map(CartItemDto::productId)
+                    .collect(Collectors.toList());
         
-        Map<Long, ProductDto> productMap = productQueryService.getProductsMapByIds(productIds);
+            Map<Long, ProductDto> productMap = productQueryService.getProductsMapByIds(productIds);
 
-        List<OrderItemDto> orderItems = new ArrayList<>();
+            List<OrderItemDto> orderItems = new ArrayList<>();
 
-        for (CartItemDto cartItem : cart.items()) {
-            ProductDto product = productMap.get(cartItem.productId());
-            if (product == null) {
-                throw new EntityNotFoundException("Product not found: " + cartItem.productId());
-            }
+            for (CartItemDto cartItem : cart.items()) {
+                ProductDto product = productMap.get(cartItem.productId());
+                if (product == null) {
+                    throw new EntityNotFoundException("Product not found: " + cartItem.productId());
+                }
 
-            List<OrderItemOptionDto> optionDtos = new ArrayList<>();
-            for (CartItemOptionDto option : cartItem.options()) {
-                String optionName = "Option #" + (option.productOptionId() != null ? option.productOptionId() : option.productAddonId());
-                BigDecimal price = option.priceAdjustment();
+                List<OrderItemOptionDto> optionDtos = new ArrayList<>();
+                for (CartItemOptionDto option : cartItem.options()) {
+                    String optionName = "Option #" + (option.productOptionId() != null ? option.productOptionId() : option.productAddonId());
+                    BigDecimal price = option.priceAdjustment();
                 
-                optionDtos.add(OrderItemOptionDto.builder()
-                        .productOptionId(option.productOptionId())
-                        .productAddonId(option.productAddonId())
-                        .optionName(optionName) 
-                        .price(price)
+                    optionDtos.add(OrderItemOptionDto.builder()
+                            .productOptionId(option.productOptionId())
+                            .productAddonId(option.productAddonId())
+                            .optionName(optionName) 
+                            .price(price)
+                            .build());
+                }
+
+                orderItems.add(OrderItemDto.builder()
+                        .productId(cartItem.productId())
+                        .storeId(product.storeId())
+                        .productName(product.name())
+                        .quantity(cartItem.quantity())
+                        .unitPrice(cartItem.unitPrice())
+                        .options(optionDtos)
                         .build());
             }
 
-            orderItems.add(OrderItemDto.builder()
-                    .productId(cartItem.productId())
-                    .productName(product.name())
-                    .quantity(cartItem.quantity())
-                    .unitPrice(cartItem.unitPrice())
-                    .options(optionDtos)
-                    .build());
-        }
-
-        CreateOrderResponse response = orderService.createOrder(request, orderItems);
+            return orderService.createOrder(request, orderItems);
+        });
 
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "다이렉트 상품 주문", description = "장바구니를 거치지 않고 바로 상품을 주문합니다.")
+    @Operation(summary = "다이렉트 상품 주문", description = "장바구니를 거치지 않고 바로 상품을 주문합니다. Idempotency-Key 헤더를 보내면 같은 키의 재시도에는 처음 생성된 주문을 반환합니다.")
     @PostMapping("/direct")
-    public ResponseEntity<CreateOrderResponse> createDirectOrder(@RequestBody CreateDirectOrderRequest request) {
+    public ResponseEntity<CreateOrderResponse> createDirectOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody CreateDirectOrderRequest request) {
         log.info("Received direct order request for member: {}, product: {}", request.memberId(), request.productId());
 
-        ProductDto product = productQueryService.getProductById(request.productId());
+        CreateOrderResponse response = idempotencyService.execute("order:direct", idempotencyKey, request, () -> {
+            ProductDto product = productQueryService.getProductById(request.productId());
         
-        List<OrderItemDto> orderItems = new ArrayList<>();
+            List<OrderItemDto> orderItems = new ArrayList<>();
         
-        List<OrderItemOptionDto> options = new ArrayList<>();
-        if (request.optionIds() != null && !request.optionIds().isEmpty()) {
-            List<ProductOptionDto> productOptions = productQueryService.getOptionsByIds(request.optionIds());
-            for (ProductOptionDto opt : productOptions) {
-                 String optionName = opt.name() + ": " + opt.optionValue();
-                 options.add(OrderItemOptionDto.builder()
-                     .productOptionId(opt.id())
-                     .optionName(optionName)
-                     .price(opt.priceAdjustment())
-                     .build());
+            List<OrderItemOptionDto> options = new ArrayList<>();
+            if (request.optionIds() != null && !request.optionIds().isEmpty()) {
+                List<ProductOptionDto> productOptions = productQueryService.getOptionsByIds(request.optionIds());
+                for (ProductOptionDto opt : productOptions) {
+                     String optionName = opt.name() + ": " + opt.optionValue();
+                     options.add(OrderItemOptionDto.builder()
+                         .productOptionId(opt.id())
+                         .optionName(optionName)
+                         .price(opt.priceAdjustment())
+                         .build());
+                }
             }
-        }
-
-        orderItems.add(OrderItemDto.builder()
-                .productId(product.id())
-                .productName(product.name())
-                .quantity(request.quantity())
-                .unitPrice(product.price())
-                .options(options)
-                .build());
-
-        CreateOrderRequest orderRequest = new CreateOrderRequest(
-                request.memberId(),
-                request.deliveryMethod(),
-                request.reservedAt(),
-                request.messageCard(),
-                request.deliveryAddress(),
-                request.deliveryPhone(),
-                request.deliveryName(),
-                request.deliveryNote(),
-                true
-        );
-
-        CreateOrderResponse response = orderService.createOrder(orderRequest, orderItems);
+
+            orderItems.add(OrderItemDto.builder()
+                    .productId(product.id())
+                    .storeId(product.storeId())
+                    .productName(product.name())
+                    .quantity(request.quantity())
+                    .unitPrice(product.price())
+                    .options(options)
+                    .build());
+
+            CreateOrderRequest orderRequest = new CreateOrderRequest(
+                    request.memberId(),
+                    request.deliveryMethod(),
+                    request.reservedAt(),
+                    request.messageCard(),
+                    request.deliveryAddress(),
+                    request.deliveryPhone(),
+                    request.deliveryName(),
+                    request.deliveryNote(),
+                    true
+            );
+
+            return orderService.createOrder(orderRequest, orderItems);
+        });
 
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "내 주문 목록 조회", description = "회원의 주문 내역을 조회합니다. (리뷰 작성 여부 포함)")
+    @Operation(summary = "내 주문 목록 조회", description = "회원의 주문 내역을 최신순 커서 기반으로 조회합니다. (리뷰 작성 여부 포함) 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @GetMapping("/my")
-    public ResponseEntity<List<OrderDto>> getMyOrders(@RequestParam Long memberId) {
-        List<OrderDto> orders = orderService.getOrdersByMemberId(memberId);
-        fillReviewStatus(orders);
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<CursorPage<OrderDto>> getMyOrders(
+            @RequestParam Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(orderService.getMyOrders(memberId, cursor, size));
     }
 
-    @Operation(summary = "전체 주문 조회 (관리자)", description = "모든 회원의 주문 내역을 조회합니다.")
+    @Operation(summary = "주문 검색 (관리자)", description = "상태, 주문일 기간(from ~ to, 양 끝 포함), 회원, 매장 조건으로 주문을 최신순 커서 기반으로 조회합니다. 조건을 생략하면 전체 주문이 대상입니다.")
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    public ResponseEntity<List<OrderDto>> getAllOrders() {
-        return ResponseEntity.ok(orderService.getAllOrders());
+    public ResponseEntity<CursorPage<OrderDto>> searchOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) Long storeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        OrderSearchCondition condition = new OrderSearchCondition(status, from, to, memberId, storeId);
+        return ResponseEntity.ok(orderService.searchOrders(condition, cursor, size));
+    }
+
+    @Operation(summary = "주문 내보내기 (관리자)", description = "검색 조건에 맞는 주문을 CSV 또는 NDJSON 파일로 내려받습니다. 주문 수와 관계없이 조회하는 대로 바로 전송합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) Long storeId,
+            @RequestParam(defaultValue = "CSV") OrderExportFormat format) {
+        OrderSearchCondition condition = new OrderSearchCondition(status, from, to, memberId, storeId);
+        StreamingResponseBody body = out -> orderExportService.export(condition, format, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders." + format.getExtension() + "\"")
+                .body(body);
     }
 
     @Operation(summary = "주문 상태 변경 (관리자)", description = "주문의 상태를 변경합니다.")
@@ -180,26 +231,4 @@ public class OrderController {
         orderService.cancelOrderById(orderId);
         return ResponseEntity.ok().build();
     }
-
-    private void fillReviewStatus(List<OrderDto> orders) {
-        if (orders == null || orders.isEmpty()) return;
-
-        List<Long> allOrderItemIds = orders.stream()
-                .flatMap(order -> order.items().stream()) // items() 사용
-                .map(OrderItemDto::getOrderItemId)
-                .filter(java.util.Objects::nonNull)
-                .collect(Collectors.toList());
-
-        if (allOrderItemIds.isEmpty()) return;
-
-        Map<Long, Boolean> reviewStatusMap = reviewQueryService.getReviewStatusMap(allOrderItemIds);
-
-        for (OrderDto order : orders) {
-            for (OrderItemDto item : order.items()) { // items() 사용
-                if (item.getOrderItemId() != null) {
-                    item.setHasReview(reviewStatusMap.getOrDefault(item.getOrderItemId(), false));
-                }
-            }
-        }
-    }
 }
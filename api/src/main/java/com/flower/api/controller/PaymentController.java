@@ -1,6 +1,7 @@
 package com.flower.api.controller;
 
 import com.flower.api.dto.PaymentRequest;
+import com.flower.common.idempotency.IdempotencyService;
 import com.flower.payment.service.PaymentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,10 +22,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final IdempotencyService idempotencyService;
 
-    @Operation(summary = "결제 승인", description = "주문에 대한 결제를 수행합니다.")
+    @Operation(summary = "결제 승인", description = "주문에 대한 결제를 수행합니다. Idempotency-Key 헤더를 보내면 같은 키의 재시도는 PG 승인을 다시 요청하지 않습니다.")
     @PostMapping
-    public ResponseEntity<Void> processPayment(@RequestBody PaymentRequest request) {
+    public ResponseEntity<Void> processPayment(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody PaymentRequest request) {
         // API DTO -> Service DTO 변환
         var serviceRequest = new com.flower.payment.dto.PaymentRequest(
             request.orderNumber(),
@@ -34,7 +39,10 @@ public class PaymentController {
             "주문 결제" // orderName은 임시로 고정
         );
         
-        paymentService.processPayment(serviceRequest);
+        idempotencyService.executeSelfGuarded("payment:confirm", idempotencyKey, request, () -> {
+            paymentService.processPayment(serviceRequest);
+            return null;
+        });
         return ResponseEntity.ok().build();
     }
 }
@@ -1,12 +1,18 @@
 package com.flower.api.controller;
 
+import com.flower.common.dto.CursorPage;
+import com.flower.inventory.service.InventoryReservationService;
 import com.flower.product.domain.Product;
+import com.flower.product.domain.ProductCategory;
 import com.flower.product.dto.CreateProductRequest;
 import com.flower.product.dto.ProductDto;
+import com.flower.product.dto.ProductSearchResultDto;
+import com.flower.product.dto.RatingHistogram;
 import com.flower.product.dto.RestockProductRequest;
 import com.flower.product.dto.UpdateProductRequest;
 import com.flower.product.service.ProductQueryService;
 import com.flower.product.service.ProductService;
+import com.flower.product.service.ShardedStockService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +21,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 @Slf4j
 @RestController
@@ -26,6 +31,8 @@ public class ProductController {
 
     private final ProductService productService;
     private final ProductQueryService productQueryService;
+    private final ShardedStockService shardedStockService;
+    private final InventoryReservationService inventoryReservationService;
 
     @Operation(summary = "상품 등록", description = "새로운 상품을 등록합니다.")
     @PostMapping
@@ -37,11 +44,46 @@ public class ProductController {
         return ResponseEntity.created(URI.create("/api/v1/products/" + savedProduct.getId())).body(responseDto);
     }
 
-    @Operation(summary = "전체 상품 목록 조회", description = "등록된 모든 상품 목록을 조회합니다.")
+    @Operation(summary = "전체 상품 목록 조회", description = "등록된 상품 목록을 최신순으로 커서 기반 페이지 조회합니다.")
     @GetMapping
-    public ResponseEntity<List<ProductDto>> getAllProducts() {
-        List<ProductDto> products = productQueryService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<CursorPage<ProductDto>> getAllProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productQueryService.getProducts(cursor, size));
+    }
+
+    @Operation(summary = "구매 가능 상품 목록 조회", description = "판매 중이며 재고가 있는 상품을 커서 기반 페이지 조회합니다.")
+    @GetMapping("/available")
+    public ResponseEntity<CursorPage<ProductDto>> getAvailableProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productService.getAvailableProducts(cursor, size));
+    }
+
+    @Operation(summary = "추천 상품 목록 조회", description = "추천 상품을 커서 기반 페이지 조회합니다.")
+    @GetMapping("/featured")
+    public ResponseEntity<CursorPage<ProductDto>> getFeaturedProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productService.getFeaturedProducts(cursor, size));
+    }
+
+    @Operation(summary = "카테고리별 상품 목록 조회", description = "카테고리 상품을 트렌드/최신순으로 커서 기반 페이지 조회합니다.")
+    @GetMapping("/categories/{category}")
+    public ResponseEntity<CursorPage<ProductDto>> getProductsByCategory(
+            @PathVariable ProductCategory category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productService.getProductsByCategory(category, cursor, size));
+    }
+
+    @Operation(summary = "상품 검색", description = "상품명/설명/태그로 상품을 검색합니다. (관련도순)")
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResultDto> searchProducts(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productService.searchProducts(keyword, page, size));
     }
 
     @Operation(summary = "상품 수정", description = "기존 상품 정보를 수정합니다.")
@@ -63,11 +105,17 @@ public class ProductController {
         return ResponseEntity.ok().build();
     }
     
-    @Operation(summary = "상품 상세 조회", description = "상품 상세 정보를 조회합니다.")
+    @Operation(summary = "상품 상세 조회", description = "상품 상세 정보를 조회합니다. 상품/옵션 재고는 결제 대기 예약을 뺀 가용 재고입니다.")
     @GetMapping("/{productId}")
     public ResponseEntity<ProductDto> getProduct(@PathVariable Long productId) {
         ProductDto product = productQueryService.getProductById(productId);
-        return ResponseEntity.ok(product);
+        return ResponseEntity.ok(inventoryReservationService.withAvailableStock(product));
+    }
+
+    @Operation(summary = "상품 별점 분포 조회", description = "상품의 1~5점 리뷰 수를 조회합니다.")
+    @GetMapping("/{productId}/rating-histogram")
+    public ResponseEntity<RatingHistogram> getRatingHistogram(@PathVariable Long productId) {
+        return ResponseEntity.ok(productService.getRatingHistogram(productId));
     }
 
     @Operation(summary = "상품 재고 입고", description = "상품의 재고를 증가시킵니다.")
@@ -79,4 +127,20 @@ public class ProductController {
         ProductDto responseDto = productQueryService.getProductById(productId);
         return ResponseEntity.ok(responseDto);
     }
+
+    @Operation(summary = "분할 재고 적용", description = "타임세일 상품의 재고를 여러 카운터로 분할하여 동시 주문 시 락 경합을 줄입니다.")
+    @PostMapping("/{productId}/stock-shards")
+    public ResponseEntity<ProductDto> enableStockSharding(
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "8") int shards) {
+        shardedStockService.enableSharding(productId, shards);
+        return ResponseEntity.ok(productQueryService.getProductById(productId));
+    }
+
+    @Operation(summary = "분할 재고 해제", description = "분할된 재고를 합산하여 상품 재고로 되돌립니다.")
+    @DeleteMapping("/{productId}/stock-shards")
+    public ResponseEntity<ProductDto> disableStockSharding(@PathVariable Long productId) {
+        shardedStockService.disableSharding(productId);
+        return ResponseEntity.ok(productQueryService.getProductById(productId));
+    }
 }
@@ -1,7 +1,9 @@
 package com.flower.api.controller;
 
+import com.flower.common.dto.CursorPage;
 import com.flower.review.dto.CreateReviewRequest;
 import com.flower.review.dto.ReviewDto;
+import com.flower.review.dto.ReviewSort;
 import com.flower.review.dto.UpdateReviewRequest;
 import com.flower.review.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,8 +12,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/reviews")
 @RequiredArgsConstructor
@@ -26,10 +26,14 @@ public class ReviewController {
         return ResponseEntity.ok(reviewService.createReview(request));
     }
 
-    @Operation(summary = "상품별 리뷰 조회", description = "특정 상품의 리뷰 목록을 조회합니다.")
+    @Operation(summary = "상품별 리뷰 조회", description = "특정 상품의 리뷰 목록을 최신순/평점순으로 커서 기반 페이지 조회합니다.")
     @GetMapping("/products/{productId}")
-    public ResponseEntity<List<ReviewDto>> getProductReviews(@PathVariable Long productId) {
-        return ResponseEntity.ok(reviewService.getReviewsByProduct(productId));
+    public ResponseEntity<CursorPage<ReviewDto>> getProductReviews(
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "LATEST") ReviewSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(reviewService.getReviewsByProduct(productId, sort, cursor, size));
     }
 
     @Operation(summary = "리뷰 수정", description = "작성한 리뷰를 수정합니다.")
@@ -3,6 +3,8 @@ package com.flower.api.exception;
 import com.flower.common.dto.ErrorResponse;
 import com.flower.common.exception.BusinessException;
 import com.flower.common.exception.EntityNotFoundException;
+import com.flower.common.exception.IdempotencyConflictException;
+import com.flower.common.exception.PaymentNotAttemptedException;
 import com.flower.common.exception.PaymentProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -32,6 +34,14 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(HttpStatus.PAYMENT_REQUIRED.value(), e.getMessage()));
     }
 
+    @ExceptionHandler(PaymentNotAttemptedException.class)
+    public ResponseEntity<ErrorResponse> handlePaymentNotAttemptedException(PaymentNotAttemptedException e) {
+        log.warn("Payment Not Attempted: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage()));
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleEntityNotFoundException(EntityNotFoundException e) {
         log.warn("EntityNotFoundException: {}", e.getMessage());
@@ -40,6 +50,14 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(HttpStatus.NOT_FOUND.value(), e.getMessage()));
     }
 
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyConflictException(IdempotencyConflictException e) {
+        log.warn("IdempotencyConflictException: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ErrorResponse.of(HttpStatus.CONFLICT.value(), e.getMessage()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
         log.warn("IllegalArgumentException: {}", e.getMessage());
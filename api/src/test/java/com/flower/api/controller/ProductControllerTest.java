@@ -1,11 +1,13 @@
 package com.flower.api.controller;
 
+import com.flower.inventory.service.InventoryReservationService;
 import com.flower.product.domain.ProductCategory;
 import com.flower.product.domain.Product.DeliveryType;
 import com.flower.product.dto.ProductDto;
 import com.flower.product.dto.RestockProductRequest;
 import com.flower.product.service.ProductQueryService;
 import com.flower.product.service.ProductService;
+import com.flower.product.service.ShardedStockService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,7 +34,10 @@ class ProductControllerTest {
         // Given
         ProductService productService = mock(ProductService.class);
         ProductQueryService productQueryService = mock(ProductQueryService.class);
-        ProductController productController = new ProductController(productService, productQueryService);
+        ShardedStockService shardedStockService = mock(ShardedStockService.class);
+        InventoryReservationService inventoryReservationService = mock(InventoryReservationService.class);
+        ProductController productController = new ProductController(
+                productService, productQueryService, shardedStockService, inventoryReservationService);
 
         Long productId = 1L;
         RestockProductRequest request = new RestockProductRequest(50);
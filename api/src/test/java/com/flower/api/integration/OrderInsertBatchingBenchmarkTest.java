@@ -0,0 +1,153 @@
+package com.flower.api.integration;
+
+import com.flower.ApiApplication;
+import com.flower.order.domain.Order;
+import com.flower.order.dto.CreateOrderRequest;
+import com.flower.order.dto.OrderItemDto;
+import com.flower.order.dto.OrderItemOptionDto;
+import com.flower.order.service.OrderService;
+import com.flower.product.domain.Product;
+import com.flower.product.domain.ProductCategory;
+import com.flower.product.service.ProductService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 생성 DB 왕복 횟수 벤치마크 (./gradlew :api:test --tests OrderInsertBatchingBenchmarkTest)
+ * 상품 5개 × 옵션 2개 주문을 JDBC 배치를 끈 세션(IDENTITY 시절처럼 행마다 INSERT 1회)과 켠 세션에서 각각 생성해
+ * 주문당 PreparedStatement 수를 비교 (배치는 테이블별 묶음마다 한 번 준비·전송되므로 왕복 횟수와 같음)
+ */
+@SpringBootTest(classes = {ApiApplication.class, TestConfig.class})
+@TestPropertySource(properties = "spring.main.allow-bean-definition-overriding=true")
+class OrderInsertBatchingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderInsertBatchingBenchmarkTest.class);
+
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final int ORDERS = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private List<OrderItemDto> orderItems;
+
+    @BeforeEach
+    void setUp() {
+        orderItems = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            Product product = productService.createProduct(Product.builder()
+                    .name("벤치마크 장미 " + i)
+                    .productCode("BENCH-" + UUID.randomUUID())
+                    .price(new BigDecimal("10000"))
+                    .stockQuantity(1_000_000)
+                    .isActive(true)
+                    .isAvailableToday(true)
+                    .category(ProductCategory.FLOWER_GIFT)
+                    .deliveryType(Product.DeliveryType.PARCEL)
+                    .build());
+
+            orderItems.add(OrderItemDto.builder()
+                    .productId(product.getId())
+                    .productName(product.getName())
+                    .quantity(1)
+                    .unitPrice(product.getPrice())
+                    .options(List.of(addon(1L, "리본"), addon(2L, "메시지 카드")))
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("JDBC 배치 적용 시 주문당 DB 왕복 횟수가 행 단위 INSERT의 절반 미만이어야 한다")
+    void shouldBatchOrderInserts() {
+        // 준비 - 시퀀스 블록 확보와 상품 조회 캐시 적재가 측정에 섞이지 않도록 한 건씩 먼저 생성
+        placeOrders(1, 1);
+        placeOrders(null, 1);
+
+        // 실행
+        double unbatched = placeOrders(1, ORDERS);
+        double batched = placeOrders(null, ORDERS);
+
+        // 검증
+        log.info("주문당 DB 왕복 (상품 {}개 × 옵션 2개, {}건 평균): 배치 미적용 {}회 → 배치 적용 {}회",
+                ITEMS_PER_ORDER, ORDERS, String.format("%.1f", unbatched), String.format("%.1f", batched));
+        assertThat(batched).isLessThan(unbatched / 2);
+    }
+
+    /**
+     * @param jdbcBatchSize 세션 JDBC 배치 크기 (1이면 배치 미적용, null이면 설정값 사용)
+     * @return 주문당 PreparedStatement 수
+     */
+    private double placeOrders(Integer jdbcBatchSize, int count) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < count; i++) {
+            transaction.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+                orderService.createOrder(orderRequest(), orderItems);
+            });
+        }
+        return (double) statistics.getPrepareStatementCount() / count;
+    }
+
+    private CreateOrderRequest orderRequest() {
+        return new CreateOrderRequest(
+                1L,
+                Order.DeliveryMethod.SHIPPING,
+                LocalDateTime.now().plusDays(3),
+                null,
+                "서울 강남구",
+                "010-1234-5678",
+                "홍길동",
+                null,
+                false
+        );
+    }
+
+    /**
+     * 주문 생성은 회원·추가 상품 ID를 조회하지 않고 그대로 기록하므로(외래 키 없음) 회원 1번, 추가 상품 1·2번 픽스처는 필요 없음
+     */
+    private OrderItemOptionDto addon(Long addonId, String name) {
+        return OrderItemOptionDto.builder()
+                .productAddonId(addonId)
+                .optionName(name)
+                .price(new BigDecimal("1000"))
+                .build();
+    }
+}
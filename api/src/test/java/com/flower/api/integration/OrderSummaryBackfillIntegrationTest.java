@@ -0,0 +1,54 @@
+package com.flower.api.integration;
+
+import com.flower.ApiApplication;
+import com.flower.order.domain.Order;
+import com.flower.order.repository.OrderRepository;
+import com.flower.order.service.OrderSummaryProjector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestConfig.class})
+@Transactional
+@TestPropertySource(properties = "spring.main.allow-bean-definition-overriding=true")
+class OrderSummaryBackfillIntegrationTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSummaryProjector orderSummaryProjector;
+
+    @Test
+    @DisplayName("주문 목록 조회 모델 백필 대상 조회: 조회 모델이 이미 있는 주문은 건너뜀")
+    void shouldSkipOrdersThatAlreadyHaveSummary() {
+        // 1. 데이터 준비 - 조회 모델이 있는 주문과 없는 주문(조회 모델 도입 전 주문)
+        Order projected = orderRepository.save(order());
+        orderSummaryProjector.project(projected);
+        Order legacy = orderRepository.save(order());
+
+        // 2. 백필 대상 조회
+        Long afterId = Math.min(projected.getId(), legacy.getId()) - 1;
+        List<Long> ids = orderRepository.findIdsWithoutSummaryAfter(afterId, PageRequest.of(0, 100));
+
+        // 3. 검증
+        assertThat(ids).contains(legacy.getId());
+        assertThat(ids).doesNotContain(projected.getId());
+    }
+
+    private Order order() {
+        return Order.builder()
+                .memberId(1L)
+                .totalAmount(new BigDecimal("10000"))
+                .build();
+    }
+}
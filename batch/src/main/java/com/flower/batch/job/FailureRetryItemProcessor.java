@@ -0,0 +1,32 @@
+package com.flower.batch.job;
+
+import com.flower.batch.job.strategy.RetryStrategy;
+import com.flower.common.entity.FailureLog;
+import com.flower.common.repository.FailureLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실패 로그 한 건 재시도 (건마다 별도 트랜잭션)
+ */
+@Component
+@RequiredArgsConstructor
+public class FailureRetryItemProcessor {
+
+    private final FailureLogRepository failureLogRepository;
+
+    /**
+     * 보상 작업과 RESOLVED 처리를 한 트랜잭션으로 커밋
+     * 점유가 만료되어 다른 노드가 가져간 경우 보상 작업까지 롤백해 같은 작업이 두 번 반영되지 않게 함
+     */
+    @Transactional
+    public void retryAndResolve(FailureLog logItem, RetryStrategy strategy, String claimToken) {
+        strategy.retry(logItem);
+        if (failureLogRepository.markResolved(logItem.getId(), claimToken, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("실패 로그 점유가 만료되었습니다: " + logItem.getId());
+        }
+    }
+}
@@ -3,51 +3,162 @@ package com.flower.batch.job;
 import com.flower.batch.job.strategy.RetryStrategy;
 import com.flower.common.entity.FailureLog;
 import com.flower.common.repository.FailureLogRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
+/**
+ * 실패한 보상 트랜잭션(주문 취소) 재시도 배치
+ * - 재시도 시각이 지난 대기 로그를 청크 단위로 점유(조건부 UPDATE)해 여러 배치 노드가 같은 로그를 중복 처리하지 않음
+ * - 점유는 lease-seconds 뒤 만료되어, 처리 도중 노드가 죽어도 다른 노드가 다시 가져감
+ * - 청크는 참조 ID(주문번호)별로 묶어 스레드 풀에서 병렬 처리하고, 로그마다 별도 트랜잭션으로 커밋
+ * - 한 건이 item-timeout-seconds 안에 끝나지 않으면 기다리지 않고 재시도를 예약 (점유 토큰을 비우므로 늦게 끝난 작업은 롤백됨)
+ * - 실패 시 지수 백오프 + 지터로 다음 재시도 시각을 예약 (한꺼번에 다시 몰리지 않도록)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class FailureRetryScheduler {
 
     private final FailureLogRepository failureLogRepository;
     private final List<RetryStrategy> strategies;
+    private final FailureRetryItemProcessor itemProcessor;
+    private final int batchSize;
+    private final long leaseSeconds;
+    private final int maxRetries;
+    private final long baseBackoffSeconds;
+    private final long maxBackoffSeconds;
+    private final long itemTimeoutSeconds;
+    private final ExecutorService workers;
+    // 건별 재시도 실행용 (시간 초과 시 인터럽트하고 버려도 워커 스레드가 묶이지 않도록 분리)
+    private final ExecutorService itemRunner = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public FailureRetryScheduler(FailureLogRepository failureLogRepository,
+                                 List<RetryStrategy> strategies,
+                                 FailureRetryItemProcessor itemProcessor,
+                                 @Value("${failure-retry.batch-size:100}") int batchSize,
+                                 @Value("${failure-retry.lease-seconds:300}") long leaseSeconds,
+                                 @Value("${failure-retry.max-retries:5}") int maxRetries,
+                                 @Value("${failure-retry.backoff.base-seconds:30}") long baseBackoffSeconds,
+                                 @Value("${failure-retry.backoff.max-seconds:3600}") long maxBackoffSeconds,
+                                 @Value("${failure-retry.item-timeout-seconds:30}") long itemTimeoutSeconds,
+                                 @Value("${failure-retry.parallelism:4}") int parallelism) {
+        this.failureLogRepository = failureLogRepository;
+        this.strategies = strategies;
+        this.itemProcessor = itemProcessor;
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.maxRetries = maxRetries;
+        this.baseBackoffSeconds = baseBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.itemTimeoutSeconds = itemTimeoutSeconds;
+        this.workers = Executors.newFixedThreadPool(parallelism);
+    }
 
     /**
      * 실패한 보상 트랜잭션(주문 취소) 재시도
-     * 1분마다 실행
+     * 1분마다 실행, 점유한 청크가 가득 차 있으면 대기 로그가 빌 때까지 이어서 처리
      */
-    @Scheduled(fixedDelay = 60000)
-    @Transactional
+    @Scheduled(fixedDelayString = "${failure-retry.poll-interval-ms:60000}")
     public void retryFailedCancellations() {
-        log.info("보상 트랜잭션 재시도 배치 시작...");
-        
-        List<FailureLog> pendingLogs = failureLogRepository.findByStatus(FailureLog.ProcessingStatus.PENDING);
-        
-        if (pendingLogs.isEmpty()) {
-            log.info("처리할 대기 로그가 없습니다.");
+        if (!running.compareAndSet(false, true)) {
+            log.info("보상 트랜잭션 재시도 배치가 이미 실행 중이라 건너뜁니다.");
             return;
         }
+        try {
+            log.info("보상 트랜잭션 재시도 배치 시작...");
+            int total = 0;
+            int claimed;
+            do {
+                claimed = retryBatch();
+                total += claimed;
+            } while (claimed >= batchSize);
+
+            if (total == 0) {
+                log.info("처리할 대기 로그가 없습니다.");
+                return;
+            }
+            log.info("보상 트랜잭션 재시도 배치 종료. 처리 {}건", total);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        itemRunner.shutdownNow();
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * 청크 하나를 점유해 처리
+     *
+     * @return 이번에 점유한 로그 수 (다른 노드가 먼저 가져간 로그는 제외)
+     */
+    private int retryBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> candidateIds = failureLogRepository.findClaimableIds(now, PageRequest.of(0, batchSize));
+        if (candidateIds.isEmpty()) {
+            return 0;
+        }
 
-        for (FailureLog logItem : pendingLogs) {
-            processLog(logItem);
+        String claimToken = UUID.randomUUID().toString();
+        if (failureLogRepository.claim(candidateIds, claimToken, now.plusSeconds(leaseSeconds), now) == 0) {
+            // 후보를 모두 다른 노드가 먼저 점유함. 다음 청크는 다음 실행에서
+            return 0;
         }
-        
-        log.info("보상 트랜잭션 재시도 배치 종료.");
+        List<FailureLog> claimedLogs = failureLogRepository.findByClaimTokenOrderByIdAsc(claimToken);
+
+        Map<String, List<FailureLog>> byReference = claimedLogs.stream()
+                .collect(Collectors.groupingBy(FailureLog::getReferenceId, LinkedHashMap::new, Collectors.toList()));
+        AtomicInteger resolved = new AtomicInteger();
+
+        // 같은 주문의 로그는 ID 순서대로, 주문끼리는 병렬로 (같은 주문을 동시에 보상하지 않으면서 느린 건이 다른 주문을 막지 않도록)
+        CompletableFuture<?>[] futures = byReference.values().stream()
+                .map(logs -> CompletableFuture.runAsync(() -> logs.forEach(logItem -> {
+                    if (processLog(logItem, claimToken)) {
+                        resolved.incrementAndGet();
+                    }
+                }), workers))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        log.info("재시도 청크 처리 결과: 점유 {}건, 성공 {}건", claimedLogs.size(), resolved.get());
+        return claimedLogs.size();
     }
 
-    private void processLog(FailureLog logItem) {
-        if (logItem.getRetryCount() >= 5) {
+    /**
+     * @return 재시도에 성공했는지 여부
+     */
+    private boolean processLog(FailureLog logItem, String claimToken) {
+        if (logItem.getRetryCount() >= maxRetries) {
             log.warn("최대 재시도 횟수 초과. 상태를 FAILED로 변경합니다. ID={}, Ref={}", logItem.getId(), logItem.getReferenceId());
-            logItem.markAsFailed();
-            failureLogRepository.save(logItem);
-            return;
+            failureLogRepository.markRetry(logItem.getId(), claimToken, FailureLog.ProcessingStatus.FAILED,
+                    logItem.getRetryCount(), null, logItem.getErrorMessage(), LocalDateTime.now());
+            return false;
         }
 
         RetryStrategy strategy = strategies.stream()
@@ -57,24 +168,58 @@ public class FailureRetryScheduler {
 
         if (strategy == null) {
             log.warn("지원하지 않는 도메인입니다: {}. 처리를 건너뜁니다.", logItem.getDomain());
-            logItem.incrementRetryCount();
-            failureLogRepository.save(logItem);
-            return;
+            scheduleRetry(logItem, claimToken, logItem.getErrorMessage());
+            return false;
         }
 
+        log.info("재시도 수행 중... ID={}, Ref={}, Count={}", logItem.getId(), logItem.getReferenceId(), logItem.getRetryCount() + 1);
+        Future<?> attempt = itemRunner.submit(() -> itemProcessor.retryAndResolve(logItem, strategy, claimToken));
         try {
-            log.info("재시도 수행 중... ID={}, Ref={}, Count={}", logItem.getId(), logItem.getReferenceId(), logItem.getRetryCount() + 1);
-            
-            strategy.retry(logItem);
-            
-            logItem.markAsResolved();
+            attempt.get(itemTimeoutSeconds, TimeUnit.SECONDS);
             log.info("재시도 성공. 상태를 RESOLVED로 변경합니다. ID={}", logItem.getId());
+            return true;
+        } catch (TimeoutException e) {
+            attempt.cancel(true);
+            log.error("재시도 시간 초과. ID={}, Timeout={}s", logItem.getId(), itemTimeoutSeconds);
+            scheduleRetry(logItem, claimToken, "재시도 시간 초과 (" + itemTimeoutSeconds + "초)");
+            return false;
+        } catch (InterruptedException e) {
+            attempt.cancel(true);
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            log.error("재시도 실패. ID={}, Error={}", logItem.getId(), cause.getMessage());
+            scheduleRetry(logItem, claimToken, cause.getMessage());
+            return false;
+        }
+    }
 
+    private void scheduleRetry(FailureLog logItem, String claimToken, String errorMessage) {
+        int retryCount = logItem.getRetryCount() + 1;
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds(retryCount));
+        FailureLog.ProcessingStatus status = retryCount >= maxRetries
+                ? FailureLog.ProcessingStatus.FAILED
+                : FailureLog.ProcessingStatus.PENDING;
+        try {
+            if (failureLogRepository.markRetry(logItem.getId(), claimToken, status, retryCount,
+                    nextAttemptAt, errorMessage, LocalDateTime.now()) == 0) {
+                log.warn("점유가 만료되어 재시도 결과를 기록하지 못했습니다. ID={}", logItem.getId());
+            } else if (status == FailureLog.ProcessingStatus.FAILED) {
+                log.warn("최대 재시도 횟수 도달. 상태를 FAILED로 변경합니다. ID={}, Ref={}", logItem.getId(), logItem.getReferenceId());
+            }
         } catch (Exception e) {
-            log.error("재시도 실패. ID={}, Error={}", logItem.getId(), e.getMessage());
-            logItem.incrementRetryCount();
+            // 기록에 실패해도 점유가 만료되면 다시 처리됨
+            log.error("재시도 결과 기록 실패. ID={}, Error={}", logItem.getId(), e.getMessage());
         }
-        
-        failureLogRepository.save(logItem);
+    }
+
+    /**
+     * base * 2^(n-1)을 max로 자른 뒤 절반 ~ 전체 구간에서 무작위로 선택 (equal jitter)
+     */
+    private long backoffSeconds(int retryCount) {
+        long exponential = baseBackoffSeconds << Math.min(retryCount - 1, 30);
+        long capped = Math.max(1, Math.min(exponential, maxBackoffSeconds));
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped - capped / 2 + 1);
     }
 }
@@ -0,0 +1,54 @@
+package com.flower.batch.job;
+
+import com.flower.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주문 목록 조회 모델 백필
+ * 조회 모델 도입 전에 생성된 주문(조회 모델 행이 없는 주문)을 ID 순 청크로 채움
+ * 새 주문은 주문 생성 시 바로 만들어지므로, 기동 시 한 번 돌면 대상이 없어 바로 끝남
+ */
+@Slf4j
+@Component
+public class OrderSummaryBackfillJob {
+
+    private final OrderRepository orderRepository;
+    private final OrderSummaryBackfillWriter writer;
+    private final int chunkSize;
+
+    public OrderSummaryBackfillJob(OrderRepository orderRepository,
+                                   OrderSummaryBackfillWriter writer,
+                                   @Value("${order-summary-backfill.chunk-size:500}") int chunkSize) {
+        this.orderRepository = orderRepository;
+        this.writer = writer;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long total = 0;
+        Long afterId = 0L;
+        List<Long> ids;
+        while (!(ids = orderRepository.findIdsWithoutSummaryAfter(afterId, PageRequest.of(0, chunkSize))).isEmpty()) {
+            try {
+                writer.write(ids);
+                total += ids.size();
+            } catch (Exception e) {
+                // 실패한 청크는 조회 모델 행이 없는 상태로 남아 다음 기동 때 다시 처리됨
+                log.error("주문 목록 조회 모델 백필 청크 실패: 주문 {} ~ {}, 오류={}",
+                        ids.get(0), ids.get(ids.size() - 1), e.getMessage(), e);
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (total > 0) {
+            log.info("주문 목록 조회 모델 백필 완료: 주문 {}건", total);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.flower.batch.job;
+
+import com.flower.order.domain.Order;
+import com.flower.order.domain.OrderItem;
+import com.flower.order.repository.OrderRepository;
+import com.flower.order.service.OrderSummaryProjector;
+import com.flower.review.service.ReviewQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 목록 조회 모델 백필 청크 단위 처리 (청크마다 별도 트랜잭션으로 커밋)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryBackfillWriter {
+
+    private final OrderRepository orderRepository;
+    private final OrderSummaryProjector orderSummaryProjector;
+    private final ReviewQueryService reviewQueryService;
+
+    /**
+     * 청크에 속한 주문의 조회 모델을 만들고, 리뷰 원본으로 리뷰 작성 여부를 채움
+     */
+    @Transactional
+    public void write(List<Long> orderIds) {
+        List<Order> orders = orderRepository.findAllWithItemsByIdIn(orderIds);
+        orders.forEach(orderSummaryProjector::project);
+
+        List<Long> orderItemIds = orders.stream()
+                .flatMap(order -> order.getItems().stream())
+                .map(OrderItem::getId)
+                .toList();
+        if (orderItemIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Boolean> reviewStatus = reviewQueryService.getReviewStatusMap(orderItemIds);
+        orderSummaryProjector.changeReviewStatus(reviewStatus.entrySet().stream()
+                .filter(Map.Entry::getValue)
+                .map(Map.Entry::getKey)
+                .toList(), true);
+    }
+}
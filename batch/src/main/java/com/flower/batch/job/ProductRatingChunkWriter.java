@@ -0,0 +1,52 @@
+package com.flower.batch.job;
+
+import com.flower.product.dto.ProductReviewStats;
+import com.flower.product.dto.RatingHistogram;
+import com.flower.product.repository.ProductReviewStatsRepository;
+import com.flower.review.dto.ProductRatingStatDto;
+import com.flower.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 평점 동기화 청크 단위 처리 (청크마다 별도 트랜잭션으로 커밋)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductRatingChunkWriter {
+
+    private final ReviewRepository reviewRepository;
+    private final ProductReviewStatsRepository productReviewStatsRepository;
+
+    /**
+     * 청크에 속한 상품의 리뷰 통계(별점 분포 포함)를 리뷰 원본으로 다시 집계해 덮어씀 (리뷰가 모두 사라진 상품은 0으로)
+     *
+     * @return 실제로 갱신된 상품 수
+     */
+    @Transactional
+    public int write(List<Long> productIds) {
+        Map<Long, ProductRatingStatDto> stats = reviewRepository.countReviewStatsByProductIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductRatingStatDto::productId, Function.identity()));
+
+        List<ProductReviewStats> rows = productIds.stream()
+                .map(productId -> {
+                    ProductRatingStatDto stat = stats.get(productId);
+                    return stat == null
+                            ? new ProductReviewStats(productId, 0, 0, RatingHistogram.EMPTY)
+                            : new ProductReviewStats(productId, stat.reviewCount(), stat.totalRating(), new RatingHistogram(
+                                    stat.oneStarCount(), stat.twoStarCount(), stat.threeStarCount(),
+                                    stat.fourStarCount(), stat.fiveStarCount()));
+                })
+                .toList();
+
+        int[] updated = productReviewStatsRepository.overwriteStats(rows);
+        return (int) Arrays.stream(updated).filter(count -> count > 0).count();
+    }
+}
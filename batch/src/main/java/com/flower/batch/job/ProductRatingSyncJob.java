@@ -1,45 +1,193 @@
 package com.flower.batch.job;
 
+import com.flower.common.entity.JobWatermark;
+import com.flower.common.repository.JobWatermarkRepository;
 import com.flower.product.repository.ProductRepository;
-import com.flower.review.dto.ProductRatingStatDto;
-import com.flower.review.repository.ReviewRepository;
-import lombok.RequiredArgsConstructor;
+import com.flower.review.repository.ReviewChangeLogRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 상품 평점 동기화 배치
+ * - 증분: 마지막 처리 위치(워터마크) 이후 리뷰 변경 기록에 나온 상품만 다시 집계
+ * - 전체 재집계: 모든 상품을 ID 순으로 훑으며 다시 집계하고 진행률을 로그로 남김
+ * - 두 모드 모두 상품을 청크로 나눠 여러 스레드에서 처리하며, 청크마다 커밋 (한 청크가 실패해도 다른 청크의 결과는 유지)
+ * - 실패한 청크가 있으면 워터마크를 올리지 않아 다음 실행에서 같은 범위를 다시 처리 (덮어쓰기라 재실행해도 안전)
+ *
+ * 최근 settle-seconds 이내의 변경 기록은 앞 번호가 아직 커밋 전일 수 있어 다음 실행으로 미룸.
+ *
+ * 덮어쓴 뒤에 ReviewStatsAggregator가 이미 리뷰 원본에 포함된 변화량을 반영하면 그 상품은 이중 집계됨.
+ * 이를 바로잡기 위해 변경 기록은 처리 직후 지우지 않고 한 번 더 남겨 두어, 다음 실행에서 직전 범위의 상품을 다시 집계한 뒤 정리함
+ * (실행 간격보다 늦게 반영된 변화량은 주간 전체 재집계에서 바로잡힘)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ProductRatingSyncJob {
 
-    private final ReviewRepository reviewRepository;
+    static final String JOB_NAME = "product-rating-sync";
+
+    private final ReviewChangeLogRepository reviewChangeLogRepository;
     private final ProductRepository productRepository;
+    private final JobWatermarkRepository jobWatermarkRepository;
+    private final ProductRatingChunkWriter chunkWriter;
+    private final int chunkSize;
+    private final int threads;
+    private final long settleSeconds;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ProductRatingSyncJob(ReviewChangeLogRepository reviewChangeLogRepository,
+                                ProductRepository productRepository,
+                                JobWatermarkRepository jobWatermarkRepository,
+                                ProductRatingChunkWriter chunkWriter,
+                                @Value("${product-rating-sync.chunk-size:500}") int chunkSize,
+                                @Value("${product-rating-sync.threads:4}") int threads,
+                                @Value("${product-rating-sync.settle-seconds:60}") long settleSeconds) {
+        this.reviewChangeLogRepository = reviewChangeLogRepository;
+        this.productRepository = productRepository;
+        this.jobWatermarkRepository = jobWatermarkRepository;
+        this.chunkWriter = chunkWriter;
+        this.chunkSize = chunkSize;
+        this.threads = threads;
+        this.settleSeconds = settleSeconds;
+    }
 
     /**
-     * 매일 새벽 3시에 실행되어 상품 평점을 동기화
+     * 증분 동기화 (기본 10분마다)
      */
-    @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
+    @Scheduled(cron = "${product-rating-sync.cron:0 */10 * * * *}")
     public void syncProductRatings() {
-        log.info("상품 평점 동기화 배치 시작");
-        
-        List<ProductRatingStatDto> stats = reviewRepository.countReviewStatsByProduct();
-        log.info("집계된 상품 수: {}", stats.size());
-
-        for (ProductRatingStatDto stat : stats) {
-            productRepository.findById(stat.productId()).ifPresentOrElse(
-                product -> {
-                    product.updateReviewStats(stat.reviewCount(), stat.totalRating());
-                    // JPA Dirty Checking으로 자동 저장
-                },
-                () -> log.warn("집계된 상품 ID가 존재하지 않음: {}", stat.productId())
-            );
+        if (!running.compareAndSet(false, true)) {
+            log.info("상품 평점 동기화가 이미 실행 중이라 건너뜁니다.");
+            return;
+        }
+        try {
+            long from = currentWatermark();
+            Long settled = reviewChangeLogRepository.findMaxIdChangedBefore(LocalDateTime.now().minusSeconds(settleSeconds));
+            long to = settled == null ? from : Math.max(settled, from);
+
+            // 워터마크 이하로 남아 있는 기록은 직전 실행에서 처리한 범위 (덮어쓴 뒤 반영된 변화량을 바로잡기 위해 다시 집계)
+            List<Long> productIds = reviewChangeLogRepository.findChangedProductIds(0L, to);
+            if (productIds.isEmpty()) {
+                log.info("상품 평점 동기화: 새 리뷰 변경 없음 (워터마크={})", from);
+                return;
+            }
+            log.info("상품 평점 증분 동기화 시작: 변경 기록 ~ {} (새 기록 {} 이후), 대상 상품 {}개", to, from, productIds.size());
+
+            if (writeChunks(chunk(productIds), productIds.size(), false)) {
+                if (to > from) {
+                    advanceWatermark(to);
+                }
+                int purged = reviewChangeLogRepository.deleteUpTo(from);
+                log.info("상품 평점 증분 동기화 완료: 워터마크={}, 정리한 변경 기록 {}건", to, purged);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 전체 재집계 (기본 매주 일요일 새벽 3시, 리뷰 데이터 보정이나 최초 적용 시 수동 실행)
+     */
+    @Scheduled(cron = "${product-rating-sync.rebuild-cron:0 0 3 * * SUN}")
+    public void rebuildAllProductRatings() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("상품 평점 동기화가 이미 실행 중이라 전체 재집계를 건너뜁니다.");
+            return;
         }
-        
-        log.info("상품 평점 동기화 배치 완료");
+        try {
+            // 시작 전에 확정된 변경 기록까지는 이번 재집계에 반영되므로 워터마크를 그 위치까지 올릴 수 있음
+            Long upTo = reviewChangeLogRepository.findMaxIdChangedBefore(LocalDateTime.now().minusSeconds(settleSeconds));
+            long total = productRepository.count();
+            log.info("상품 평점 전체 재집계 시작: 상품 {}개", total);
+
+            List<List<Long>> chunks = new ArrayList<>();
+            Long afterId = 0L;
+            List<Long> ids;
+            while (!(ids = productRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize))).isEmpty()) {
+                chunks.add(ids);
+                afterId = ids.get(ids.size() - 1);
+            }
+
+            long from = currentWatermark();
+            if (writeChunks(chunks, total, true) && upTo != null && upTo > from) {
+                // 새 범위의 기록은 다음 증분 실행에서 한 번 더 집계할 수 있도록 남겨 둠
+                advanceWatermark(upTo);
+                reviewChangeLogRepository.deleteUpTo(from);
+            }
+            log.info("상품 평점 전체 재집계 완료");
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private List<List<Long>> chunk(List<Long> productIds) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i += chunkSize) {
+            chunks.add(productIds.subList(i, Math.min(i + chunkSize, productIds.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * @return 모든 청크가 성공했는지 여부
+     */
+    private boolean writeChunks(List<List<Long>> chunks, long total, boolean reportProgress) {
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger updated = new AtomicInteger();
+        AtomicInteger failedChunks = new AtomicInteger();
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            CompletableFuture<?>[] futures = chunks.stream()
+                    .map(chunk -> CompletableFuture.runAsync(() -> {
+                        try {
+                            updated.addAndGet(chunkWriter.write(chunk));
+                        } catch (Exception e) {
+                            failedChunks.incrementAndGet();
+                            log.error("상품 평점 동기화 청크 실패: 상품 {} ~ {}, 오류={}",
+                                    chunk.get(0), chunk.get(chunk.size() - 1), e.getMessage(), e);
+                        }
+                        int done = processed.addAndGet(chunk.size());
+                        if (reportProgress) {
+                            log.info("상품 평점 전체 재집계 진행: {}/{} ({}%)",
+                                    done, total, total == 0 ? 100 : done * 100 / total);
+                        }
+                    }, pool))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        }
+
+        log.info("상품 평점 동기화 결과: 처리 {}개, 갱신 {}개, 실패 청크 {}개",
+                processed.get(), updated.get(), failedChunks.get());
+        if (failedChunks.get() > 0) {
+            log.warn("실패한 청크가 있어 워터마크를 유지합니다. 다음 실행에서 다시 처리합니다.");
+            return false;
+        }
+        return true;
+    }
+
+    private long currentWatermark() {
+        return jobWatermarkRepository.findById(JOB_NAME).map(JobWatermark::getLastValue).orElse(0L);
+    }
+
+    private void advanceWatermark(Long value) {
+        JobWatermark watermark = jobWatermarkRepository.findById(JOB_NAME)
+                .orElseGet(() -> new JobWatermark(JOB_NAME, value));
+        watermark.advanceTo(value);
+        jobWatermarkRepository.save(watermark);
     }
 }
@@ -0,0 +1,105 @@
+package com.flower.batch.job;
+
+import com.flower.batch.job.settlement.SettlementFileGenerator;
+import com.flower.batch.job.settlement.SettlementReconciler;
+import com.flower.common.entity.JobWatermark;
+import com.flower.common.repository.JobWatermarkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * PG 정산 대사 배치
+ * - 마지막으로 대사한 일자(워터마크) 다음 날부터 어제까지, 일자별 정산 파일(settlement-yyyyMMdd.csv)을 순서대로 대사
+ * - 정산 파일이 아직 도착하지 않은 일자에서 멈추고 다음 실행에서 이어서 처리
+ * - 로컬/부하 테스트에서는 generate-missing-files=true로 없는 파일을 주문 데이터로 만들어 대사 흐름을 검증
+ */
+@Slf4j
+@Component
+public class SettlementReconciliationJob {
+
+    static final String JOB_NAME = "settlement-reconciliation";
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final SettlementReconciler reconciler;
+    private final SettlementFileGenerator fileGenerator;
+    private final JobWatermarkRepository jobWatermarkRepository;
+    private final Path directory;
+    private final boolean generateMissingFiles;
+    private final double generatorMismatchRate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public SettlementReconciliationJob(SettlementReconciler reconciler,
+                                       SettlementFileGenerator fileGenerator,
+                                       JobWatermarkRepository jobWatermarkRepository,
+                                       @Value("${settlement-reconciliation.dir:./settlements}") String directory,
+                                       @Value("${settlement-reconciliation.generate-missing-files:false}") boolean generateMissingFiles,
+                                       @Value("${settlement-reconciliation.generator.mismatch-rate:0.001}") double generatorMismatchRate) {
+        this.reconciler = reconciler;
+        this.fileGenerator = fileGenerator;
+        this.jobWatermarkRepository = jobWatermarkRepository;
+        this.directory = Path.of(directory);
+        this.generateMissingFiles = generateMissingFiles;
+        this.generatorMismatchRate = generatorMismatchRate;
+    }
+
+    /**
+     * 정산 대사 (기본 매일 새벽 6시 30분, PG 정산 파일 수신 이후)
+     */
+    @Scheduled(cron = "${settlement-reconciliation.cron:0 30 6 * * *}")
+    public void reconcileSettlements() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("정산 대사가 이미 실행 중이라 건너뜁니다.");
+            return;
+        }
+        try {
+            LocalDate yesterday = LocalDate.now().minusDays(1);
+            LocalDate date = jobWatermarkRepository.findById(JOB_NAME)
+                    .map(watermark -> LocalDate.ofEpochDay(watermark.getLastValue()).plusDays(1))
+                    .orElse(yesterday);
+
+            for (; !date.isAfter(yesterday); date = date.plusDays(1)) {
+                Path file = directory.resolve("settlement-" + FILE_DATE.format(date) + ".csv");
+                if (Files.notExists(file)) {
+                    if (!generateMissingFiles) {
+                        log.warn("정산 파일이 아직 없어 {} 이후 대사를 다음 실행으로 미룹니다: {}", date, file);
+                        return;
+                    }
+                    fileGenerator.generate(file, date, generatorMismatchRate);
+                }
+                reconcile(date, file);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private void reconcile(LocalDate date, Path file) {
+        long startedAt = System.currentTimeMillis();
+        log.info("정산 대사 시작: {} ({})", date, file);
+
+        SettlementReconciler.Result result = reconciler.reconcile(date, file);
+
+        JobWatermark watermark = jobWatermarkRepository.findById(JOB_NAME)
+                .orElseGet(() -> new JobWatermark(JOB_NAME, date.toEpochDay()));
+        watermark.advanceTo(date.toEpochDay());
+        jobWatermarkRepository.save(watermark);
+
+        log.info("정산 대사 완료: {} - 정산 {}건, 주문 {}건, 일치 {}건, 불일치 {}건 ({}ms)",
+                date, result.settlementRows(), result.orderRows(), result.matched(), result.mismatched(),
+                System.currentTimeMillis() - startedAt);
+        if (result.mismatched() > 0) {
+            log.warn("정산 불일치 {}건이 FailureLog(domain=SETTLEMENT)에 기록되었습니다. 일자={}", result.mismatched(), date);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.flower.batch.job.settlement;
+
+import com.flower.order.dto.OrderSettlementRow;
+import com.flower.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬/부하 테스트용 정산 파일 생성기
+ * 해당 일자의 주문 쪽 정산 내역(결제 PAID, 환불 REFUNDED)을 (주문번호, 상태) 순으로 흘려 쓰면서, mismatch-rate 비율로 금액 변경/누락/유령 거래를 섞음
+ * 주문 수와 관계없이 한 줄씩 쓰므로 메모리 사용량이 일정함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementFileGenerator {
+
+    /**
+     * 고정 길이 주문번호 뒤에 붙여 정렬 순서를 유지한 채 주문에 없는 거래를 끼워 넣음
+     */
+    private static final String PHANTOM_SUFFIX = "-P";
+
+    private final OrderRepository orderRepository;
+
+    /**
+     * @return 생성한 줄 수 (헤더 제외)
+     */
+    @Transactional(readOnly = true)
+    public long generate(Path file, LocalDate settlementDate, double mismatchRate) {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        long written = 0;
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (SettlementOrderRows rows = new SettlementOrderRows(orderRepository, settlementDate);
+                 BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(SettlementRecord.HEADER);
+                writer.newLine();
+                // 유령 거래는 같은 주문번호의 줄(PAID, REFUNDED)을 모두 쓴 뒤에 써야 정렬 순서가 유지됨
+                SettlementRecord phantom = null;
+                while (rows.hasNext()) {
+                    OrderSettlementRow row = rows.next();
+                    if (phantom != null && !phantom.orderNumber().equals(row.orderNumber() + PHANTOM_SUFFIX)) {
+                        writeLine(writer, phantom);
+                        written++;
+                        phantom = null;
+                    }
+                    SettlementRecord record = new SettlementRecord(row.orderNumber(), row.paymentStatus().name(),
+                            row.totalAmount(), settlementDate.atTime(12, 0));
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    if (random.nextDouble() < mismatchRate) {
+                        // 상태를 바꾸면 같은 날 결제·환불된 주문의 다른 줄과 키가 겹치므로 상태 변경은 섞지 않음
+                        switch (random.nextInt(3)) {
+                            case 0 -> record = new SettlementRecord(record.orderNumber(), record.status(),
+                                    record.amount().add(BigDecimal.valueOf(100)), record.approvedAt());
+                            case 1 -> record = null;
+                            default -> phantom = new SettlementRecord(record.orderNumber() + PHANTOM_SUFFIX,
+                                    record.status(), record.amount(), record.approvedAt());
+                        }
+                    }
+                    if (record != null) {
+                        writeLine(writer, record);
+                        written++;
+                    }
+                }
+                if (phantom != null) {
+                    writeLine(writer, phantom);
+                    written++;
+                }
+            }
+            // 다 쓴 뒤에 이름을 바꿔, 대사 작업이 쓰는 중인 파일을 읽지 않도록
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("정산 파일을 생성할 수 없습니다: " + file, e);
+        }
+        log.info("정산 파일 생성 완료: {} ({}건, 불일치 비율 {})", file, written, mismatchRate);
+        return written;
+    }
+
+    // --- Private Helper Methods ---
+
+    private void writeLine(BufferedWriter writer, SettlementRecord record) throws IOException {
+        writer.write(record.toLine());
+        writer.newLine();
+    }
+}
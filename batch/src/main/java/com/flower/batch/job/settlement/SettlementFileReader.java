@@ -0,0 +1,75 @@
+package com.flower.batch.job.settlement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * PG 정산 파일을 한 줄씩 읽는 반복자 (파일 크기와 관계없이 한 줄만 메모리에 둠)
+ * 병합 조인을 위해 (주문번호, 상태) 오름차순 정렬을 전제로 하며, 순서가 어긋나거나 키가 중복되면 예외
+ */
+public class SettlementFileReader implements Iterator<SettlementRecord>, AutoCloseable {
+
+    private final Path file;
+    private final BufferedReader reader;
+    private SettlementRecord next;
+    private SettlementRecord previous;
+    private long lineNumber;
+
+    public SettlementFileReader(Path file) throws IOException {
+        this.file = file;
+        this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public SettlementRecord next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        SettlementRecord current = next;
+        advance();
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // --- Private Helper Methods ---
+
+    private void advance() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith(SettlementRecord.HEADER)) {
+                    continue;
+                }
+                SettlementRecord record = SettlementRecord.parse(line, lineNumber);
+                if (previous != null && SettlementRecord.compareKeys(record.orderNumber(), record.status(),
+                        previous.orderNumber(), previous.status()) <= 0) {
+                    throw new IllegalStateException("정산 파일이 주문번호 순으로 정렬되어 있지 않습니다 ("
+                            + file.getFileName() + " " + lineNumber + "행): " + record.orderNumber() + "," + record.status());
+                }
+                previous = record;
+                next = record;
+                return;
+            }
+            next = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("정산 파일을 읽을 수 없습니다: " + file, e);
+        }
+    }
+}
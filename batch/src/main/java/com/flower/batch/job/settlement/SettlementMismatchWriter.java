@@ -0,0 +1,30 @@
+package com.flower.batch.job.settlement;
+
+import com.flower.common.entity.FailureLog;
+import com.flower.common.repository.FailureLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 대사 불일치 기록 (주문 커서를 연 읽기 트랜잭션과 분리해 묶음 단위로 커밋)
+ */
+@Component
+@RequiredArgsConstructor
+public class SettlementMismatchWriter {
+
+    private final FailureLogRepository failureLogRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void write(List<FailureLog> mismatches) {
+        failureLogRepository.saveAll(mismatches);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int clear(String domain, String payloadPrefix) {
+        return failureLogRepository.deleteByDomainAndPayloadPrefix(domain, payloadPrefix);
+    }
+}
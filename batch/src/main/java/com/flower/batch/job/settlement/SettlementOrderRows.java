@@ -0,0 +1,90 @@
+package com.flower.batch.job.settlement;
+
+import com.flower.order.domain.Order;
+import com.flower.order.dto.OrderSettlementRow;
+import com.flower.order.repository.OrderRepository;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * 하루치 주문 쪽 정산 내역 - 그날 결제된 주문은 PAID, 그날 환불된 주문은 REFUNDED로 한 건씩
+ * 결제 커서(결제일 기준)와 환불 커서(환불일 기준)를 병합해 정산 파일과 같은 (주문번호, 상태) 순으로 흘려 보냄
+ * 나중에 환불된 주문도 결제일 파일에서는 PAID로, 환불일 파일에서는 REFUNDED로 대사됨 (같은 날 결제·환불이면 PAID 다음 REFUNDED)
+ *
+ * 호출 측 트랜잭션 안에서 소비하고 닫아야 함
+ */
+class SettlementOrderRows implements Iterator<OrderSettlementRow>, AutoCloseable {
+
+    private final Stream<OrderSettlementRow> paymentStream;
+    private final Stream<OrderSettlementRow> refundStream;
+    private final Iterator<OrderSettlementRow> payments;
+    private final Iterator<OrderSettlementRow> refunds;
+    private OrderSettlementRow nextPayment;
+    private OrderSettlementRow nextRefund;
+
+    SettlementOrderRows(OrderRepository orderRepository, LocalDate settlementDate) {
+        this.paymentStream = orderRepository.streamSettlementRows(
+                settlementDate.atStartOfDay(), settlementDate.plusDays(1).atStartOfDay(),
+                EnumSet.of(Order.PaymentStatus.PAID, Order.PaymentStatus.REFUNDED));
+        try {
+            this.refundStream = orderRepository.streamRefundRows(
+                    settlementDate.atStartOfDay(), settlementDate.plusDays(1).atStartOfDay());
+        } catch (RuntimeException e) {
+            paymentStream.close();
+            throw e;
+        }
+        this.payments = paymentStream.iterator();
+        this.refunds = refundStream.iterator();
+        this.nextPayment = nextPayment();
+        this.nextRefund = refunds.hasNext() ? refunds.next() : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextPayment != null || nextRefund != null;
+    }
+
+    @Override
+    public OrderSettlementRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        OrderSettlementRow current;
+        if (nextRefund == null || (nextPayment != null && SettlementRecord.compareKeys(
+                nextPayment.orderNumber(), nextPayment.paymentStatus().name(),
+                nextRefund.orderNumber(), nextRefund.paymentStatus().name()) <= 0)) {
+            current = nextPayment;
+            nextPayment = nextPayment();
+        } else {
+            current = nextRefund;
+            nextRefund = refunds.hasNext() ? refunds.next() : null;
+        }
+        return current;
+    }
+
+    @Override
+    public void close() {
+        try {
+            paymentStream.close();
+        } finally {
+            refundStream.close();
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * 결제 내역은 이후에 환불되었더라도 그날 PG에는 승인(PAID)으로 정산됨
+     */
+    private OrderSettlementRow nextPayment() {
+        if (!payments.hasNext()) {
+            return null;
+        }
+        OrderSettlementRow row = payments.next();
+        return new OrderSettlementRow(row.orderNumber(), Order.PaymentStatus.PAID, row.totalAmount());
+    }
+}
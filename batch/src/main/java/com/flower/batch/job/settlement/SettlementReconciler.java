@@ -0,0 +1,153 @@
+package com.flower.batch.job.settlement;
+
+import com.flower.common.entity.FailureLog;
+import com.flower.order.dto.OrderSettlementRow;
+import com.flower.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하루치 PG 정산 파일과 주문을 병합 조인으로 대사
+ * - 정산 파일과 그날의 주문 쪽 내역(결제일 기준 PAID + 환불일 기준 REFUNDED)을 (주문번호, 상태) 순으로 한 줄씩 나란히 전진하며 비교
+ * - 며칠 뒤 환불된 주문도 결제일에는 PAID로, 환불일에는 REFUNDED로 대사되므로 결제일 파일이 환불 때문에 어긋나지 않음
+ * - 양쪽 모두 한 건씩만 메모리에 두고, 불일치는 batch-size 단위로 FailureLog(domain=SETTLEMENT)에 기록
+ * - 불일치는 자동 보정 대상이 아니라 재무팀 확인용이므로 FAILED 상태로 남겨 재시도 배치가 가져가지 않게 함
+ *
+ * 자정 직전 결제처럼 PG 승인일과 주문 결제일이 다르면 양쪽 날짜에서 각각 누락으로 잡힐 수 있음
+ */
+@Slf4j
+@Component
+public class SettlementReconciler {
+
+    static final String DOMAIN = "SETTLEMENT";
+
+    private final OrderRepository orderRepository;
+    private final SettlementMismatchWriter mismatchWriter;
+    private final int batchSize;
+
+    public SettlementReconciler(OrderRepository orderRepository,
+                                SettlementMismatchWriter mismatchWriter,
+                                @Value("${settlement-reconciliation.batch-size:500}") int batchSize) {
+        this.orderRepository = orderRepository;
+        this.mismatchWriter = mismatchWriter;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 같은 일자를 다시 대사하면 이전 실행에서 기록한 불일치를 지우고 새로 기록
+     */
+    @Transactional(readOnly = true)
+    public Result reconcile(LocalDate settlementDate, Path file) {
+        mismatchWriter.clear(DOMAIN, payloadPrefix(settlementDate));
+        Result result = new Result();
+        List<FailureLog> buffer = new ArrayList<>(batchSize);
+
+        try (SettlementFileReader settlements = new SettlementFileReader(file);
+             SettlementOrderRows orders = new SettlementOrderRows(orderRepository, settlementDate)) {
+            SettlementRecord settlement = settlements.hasNext() ? settlements.next() : null;
+            OrderSettlementRow order = orders.hasNext() ? orders.next() : null;
+
+            while (settlement != null || order != null) {
+                int compare = settlement == null ? 1
+                        : order == null ? -1
+                        : SettlementRecord.compareKeys(settlement.orderNumber(), settlement.status(),
+                                order.orderNumber(), order.paymentStatus().name());
+
+                if (compare < 0) {
+                    result.settlementRows++;
+                    addMismatch(buffer, result, settlementDate, settlement.orderNumber(), "PG 정산 내역에 있으나 주문 쪽 " + settlement.status() + " 내역이 없음", settlement, null);
+                    settlement = settlements.hasNext() ? settlements.next() : null;
+                } else if (compare > 0) {
+                    result.orderRows++;
+                    addMismatch(buffer, result, settlementDate, order.orderNumber(), "주문 쪽 " + order.paymentStatus() + " 내역이나 PG 정산 내역이 없음", null, order);
+                    order = orders.hasNext() ? orders.next() : null;
+                } else {
+                    result.settlementRows++;
+                    result.orderRows++;
+                    String difference = compare(settlement, order);
+                    if (difference == null) {
+                        result.matched++;
+                    } else {
+                        addMismatch(buffer, result, settlementDate, order.orderNumber(), difference, settlement, order);
+                    }
+                    settlement = settlements.hasNext() ? settlements.next() : null;
+                    order = orders.hasNext() ? orders.next() : null;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("정산 파일을 읽을 수 없습니다: " + file, e);
+        }
+
+        flush(buffer);
+        return result;
+    }
+
+    // --- Private Helper Methods ---
+
+    private String compare(SettlementRecord settlement, OrderSettlementRow order) {
+        if (settlement.amount().compareTo(order.totalAmount()) != 0) {
+            return settlement.status() + " 금액 불일치: PG=" + settlement.amount().toPlainString() + ", 주문=" + order.totalAmount().toPlainString();
+        }
+        return null;
+    }
+
+    private void addMismatch(List<FailureLog> buffer, Result result, LocalDate settlementDate, String orderNumber, String reason,
+                             SettlementRecord settlement, OrderSettlementRow order) {
+        result.mismatched++;
+        buffer.add(FailureLog.builder()
+                .domain(DOMAIN)
+                .referenceId(orderNumber)
+                .errorMessage(reason)
+                .payload(payloadPrefix(settlementDate) + " settlement=" + (settlement == null ? "-" : settlement.toLine())
+                        + "; order=" + (order == null ? "-" : order.paymentStatus() + "," + order.totalAmount().toPlainString()))
+                .status(FailureLog.ProcessingStatus.FAILED)
+                .build());
+        if (buffer.size() >= batchSize) {
+            flush(buffer);
+        }
+    }
+
+    private String payloadPrefix(LocalDate settlementDate) {
+        return "date=" + settlementDate + ";";
+    }
+
+    private void flush(List<FailureLog> buffer) {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        mismatchWriter.write(List.copyOf(buffer));
+        buffer.clear();
+    }
+
+    public static class Result {
+        private long settlementRows;
+        private long orderRows;
+        private long matched;
+        private long mismatched;
+
+        public long settlementRows() {
+            return settlementRows;
+        }
+
+        public long orderRows() {
+            return orderRows;
+        }
+
+        public long matched() {
+            return matched;
+        }
+
+        public long mismatched() {
+            return mismatched;
+        }
+    }
+}
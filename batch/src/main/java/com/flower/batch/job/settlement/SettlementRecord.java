@@ -0,0 +1,44 @@
+package com.flower.batch.job.settlement;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * PG 정산 파일 한 줄 (주문번호,상태,금액,승인일시)
+ * 같은 날 결제 후 환불된 주문은 PAID, REFUNDED 두 줄로 오므로 (주문번호, 상태)가 한 줄의 키
+ *
+ * @param status PAID(정산 완료) 또는 REFUNDED(환불)
+ */
+public record SettlementRecord(
+    String orderNumber,
+    String status,
+    BigDecimal amount,
+    LocalDateTime approvedAt
+) {
+    static final String HEADER = "order_number,status,amount,approved_at";
+
+    static SettlementRecord parse(String line, long lineNumber) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != 4) {
+            throw new IllegalStateException("정산 파일 형식 오류 (" + lineNumber + "행): " + line);
+        }
+        try {
+            return new SettlementRecord(columns[0].trim(), columns[1].trim(),
+                    new BigDecimal(columns[2].trim()), LocalDateTime.parse(columns[3].trim()));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("정산 파일 형식 오류 (" + lineNumber + "행): " + line, e);
+        }
+    }
+
+    /**
+     * 병합 조인 정렬 키 비교 - 주문번호 순, 같은 주문번호면 상태 이름 순 (PAID가 REFUNDED보다 앞)
+     */
+    static int compareKeys(String orderNumber, String status, String otherOrderNumber, String otherStatus) {
+        int compare = orderNumber.compareTo(otherOrderNumber);
+        return compare != 0 ? compare : status.compareTo(otherStatus);
+    }
+
+    String toLine() {
+        return orderNumber + "," + status + "," + amount.toPlainString() + "," + approvedAt;
+    }
+}
@@ -0,0 +1,174 @@
+package com.flower.batch.job;
+
+import com.flower.batch.job.strategy.RetryStrategy;
+import com.flower.common.entity.FailureLog;
+import com.flower.common.repository.FailureLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FailureRetryScheduler Tests")
+class FailureRetrySchedulerTest {
+
+    private static final int MAX_RETRIES = 3;
+    private static final long BASE_BACKOFF_SECONDS = 30;
+
+    @Mock
+    private FailureLogRepository failureLogRepository;
+
+    @Mock
+    private FailureRetryItemProcessor itemProcessor;
+
+    @Mock
+    private RetryStrategy orderStrategy;
+
+    private FailureRetryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(orderStrategy.supports("ORDER")).thenReturn(true);
+        when(failureLogRepository.markRetry(anyLong(), anyString(), any(), anyInt(), any(), any(), any())).thenReturn(1);
+        scheduler = new FailureRetryScheduler(failureLogRepository, List.of(orderStrategy), itemProcessor,
+                100, 300, MAX_RETRIES, BASE_BACKOFF_SECONDS, 3600, 1, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should claim pending logs and resolve them through the item processor")
+    void shouldClaimRetryAndResolve() {
+        // 준비
+        FailureLog logItem = failureLog(1L, "ORD-1", 0);
+        claimable(logItem);
+
+        // 실행
+        scheduler.retryFailedCancellations();
+
+        // 검증
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(failureLogRepository).claim(eq(List.of(1L)), token.capture(), any(), any());
+        verify(itemProcessor).retryAndResolve(logItem, orderStrategy, token.getValue());
+        verify(failureLogRepository, never()).markRetry(anyLong(), anyString(), any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should schedule the next attempt with backoff when the retry fails")
+    void shouldBackOffWhenRetryFails() {
+        // 준비
+        FailureLog logItem = failureLog(1L, "ORD-1", 1);
+        claimable(logItem);
+        doThrow(new IllegalStateException("취소 실패")).when(itemProcessor).retryAndResolve(any(), any(), any());
+
+        // 실행
+        LocalDateTime before = LocalDateTime.now();
+        scheduler.retryFailedCancellations();
+
+        // 검증 - 2번째 실패: base * 2 = 60초를 절반 ~ 전체 구간에서 선택
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(failureLogRepository).markRetry(eq(1L), anyString(), eq(FailureLog.ProcessingStatus.PENDING), eq(2),
+                nextAttemptAt.capture(), eq("취소 실패"), any());
+        assertThat(nextAttemptAt.getValue()).isAfterOrEqualTo(before.plusSeconds(30));
+        assertThat(nextAttemptAt.getValue()).isBeforeOrEqualTo(LocalDateTime.now().plusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("Should mark the log FAILED when the last allowed retry fails")
+    void shouldFailAfterMaxRetries() {
+        // 준비
+        FailureLog logItem = failureLog(1L, "ORD-1", MAX_RETRIES - 1);
+        claimable(logItem);
+        doThrow(new IllegalStateException("취소 실패")).when(itemProcessor).retryAndResolve(any(), any(), any());
+
+        // 실행
+        scheduler.retryFailedCancellations();
+
+        // 검증
+        verify(failureLogRepository).markRetry(eq(1L), anyString(), eq(FailureLog.ProcessingStatus.FAILED),
+                eq(MAX_RETRIES), any(), eq("취소 실패"), any());
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for a slow retry and schedule it again")
+    void shouldScheduleRetryWhenItemTimesOut() {
+        // 준비
+        FailureLog logItem = failureLog(1L, "ORD-1", 0);
+        claimable(logItem);
+        CountDownLatch never = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            never.await();
+            return null;
+        }).when(itemProcessor).retryAndResolve(any(), any(), any());
+
+        // 실행
+        long started = System.nanoTime();
+        scheduler.retryFailedCancellations();
+
+        // 검증
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started)).isLessThan(5);
+        verify(failureLogRepository).markRetry(eq(1L), anyString(), eq(FailureLog.ProcessingStatus.PENDING), eq(1),
+                any(), startsWith("재시도 시간 초과"), any());
+    }
+
+    @Test
+    @DisplayName("Should retry logs of different orders in parallel")
+    void shouldRetryDifferentOrdersInParallel() {
+        // 준비 - 두 주문의 재시도가 서로를 기다리므로 순차 처리라면 시간 초과로 끝남
+        FailureLog first = failureLog(1L, "ORD-1", 0);
+        FailureLog second = failureLog(2L, "ORD-2", 0);
+        claimable(first, second);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            bothStarted.countDown();
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("다른 주문의 재시도가 시작되지 않음");
+            }
+            return null;
+        }).when(itemProcessor).retryAndResolve(any(), any(), any());
+
+        // 실행
+        scheduler.retryFailedCancellations();
+
+        // 검증
+        verify(itemProcessor, times(2)).retryAndResolve(any(), eq(orderStrategy), anyString());
+        verify(failureLogRepository, never()).markRetry(anyLong(), anyString(), any(), anyInt(), any(), any(), any());
+    }
+
+    private void claimable(FailureLog... logs) {
+        List<Long> ids = Arrays.stream(logs).map(FailureLog::getId).toList();
+        when(failureLogRepository.findClaimableIds(any(), any())).thenReturn(ids, List.of());
+        when(failureLogRepository.claim(eq(ids), anyString(), any(), any())).thenReturn(logs.length);
+        when(failureLogRepository.findByClaimTokenOrderByIdAsc(anyString())).thenReturn(List.of(logs));
+    }
+
+    private FailureLog failureLog(Long id, String orderNumber, int retryCount) {
+        return FailureLog.builder()
+                .id(id)
+                .domain("ORDER")
+                .referenceId(orderNumber)
+                .payload("Reason: 결제 실패")
+                .retryCount(retryCount)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.flower.batch.job;
+
+import com.flower.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderSummaryBackfillJob Tests")
+class OrderSummaryBackfillJobTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderSummaryBackfillWriter writer;
+
+    private OrderSummaryBackfillJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new OrderSummaryBackfillJob(orderRepository, writer, 2);
+    }
+
+    @Test
+    @DisplayName("Should write only the orders reported as missing a summary, chunk by chunk")
+    void shouldBackfillOnlyOrdersWithoutSummary() {
+        // 준비 - 2, 4번 주문은 이미 조회 모델이 있어 조회 결과에서 빠짐
+        when(orderRepository.findIdsWithoutSummaryAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of(1L, 3L));
+        when(orderRepository.findIdsWithoutSummaryAfter(3L, PageRequest.of(0, 2))).thenReturn(List.of(5L));
+        when(orderRepository.findIdsWithoutSummaryAfter(5L, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        // 실행
+        job.backfill();
+
+        // 검증
+        verify(writer).write(List.of(1L, 3L));
+        verify(writer).write(List.of(5L));
+        verifyNoMoreInteractions(writer);
+    }
+
+    @Test
+    @DisplayName("Should move on to the next chunk when a chunk fails")
+    void shouldContinueAfterFailedChunk() {
+        // 준비
+        when(orderRepository.findIdsWithoutSummaryAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of(1L, 2L));
+        when(orderRepository.findIdsWithoutSummaryAfter(2L, PageRequest.of(0, 2))).thenReturn(List.of(3L));
+        when(orderRepository.findIdsWithoutSummaryAfter(3L, PageRequest.of(0, 2))).thenReturn(List.of());
+        doThrow(new IllegalStateException("DB 오류")).when(writer).write(List.of(1L, 2L));
+
+        // 실행
+        job.backfill();
+
+        // 검증
+        verify(writer).write(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("Should do nothing when every order already has a summary")
+    void shouldSkipWhenNothingToBackfill() {
+        // 준비
+        when(orderRepository.findIdsWithoutSummaryAfter(eq(0L), any())).thenReturn(List.of());
+
+        // 실행
+        job.backfill();
+
+        // 검증
+        verifyNoInteractions(writer);
+    }
+}
@@ -0,0 +1,155 @@
+package com.flower.batch.job;
+
+import com.flower.common.entity.JobWatermark;
+import com.flower.common.repository.JobWatermarkRepository;
+import com.flower.product.repository.ProductRepository;
+import com.flower.review.repository.ReviewChangeLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductRatingSyncJob Tests")
+class ProductRatingSyncJobTest {
+
+    private static final long SETTLE_SECONDS = 60;
+
+    @Mock
+    private ReviewChangeLogRepository reviewChangeLogRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private JobWatermarkRepository jobWatermarkRepository;
+
+    @Mock
+    private ProductRatingChunkWriter chunkWriter;
+
+    private ProductRatingSyncJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new ProductRatingSyncJob(reviewChangeLogRepository, productRepository, jobWatermarkRepository,
+                chunkWriter, 2, 2, SETTLE_SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should only take change-log rows older than the settle window")
+    void shouldStopAtSettleWindow() {
+        // 준비
+        watermarkAt(10L);
+        when(reviewChangeLogRepository.findMaxIdChangedBefore(any())).thenReturn(null);
+
+        // 실행
+        job.syncProductRatings();
+
+        // 검증
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reviewChangeLogRepository).findMaxIdChangedBefore(before.capture());
+        assertThat(before.getValue()).isCloseTo(LocalDateTime.now().minusSeconds(SETTLE_SECONDS), within(5, ChronoUnit.SECONDS));
+        verify(reviewChangeLogRepository).findChangedProductIds(0L, 10L);
+        verify(chunkWriter, never()).write(any());
+        verify(jobWatermarkRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should recompute new and previous-run products, advance the watermark and purge only the previous range")
+    void shouldAdvanceWatermarkAndKeepLatestRangeForRecheck() {
+        // 준비
+        JobWatermark watermark = watermarkAt(10L);
+        when(reviewChangeLogRepository.findMaxIdChangedBefore(any())).thenReturn(20L);
+        when(reviewChangeLogRepository.findChangedProductIds(0L, 20L)).thenReturn(List.of(1L, 2L, 3L));
+        when(chunkWriter.write(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // 실행
+        job.syncProductRatings();
+
+        // 검증
+        verify(chunkWriter).write(List.of(1L, 2L));
+        verify(chunkWriter).write(List.of(3L));
+        assertThat(watermark.getLastValue()).isEqualTo(20L);
+        verify(jobWatermarkRepository).save(watermark);
+        verify(reviewChangeLogRepository).deleteUpTo(10L);
+    }
+
+    @Test
+    @DisplayName("Should recheck the previous range and purge it even without new change-log rows")
+    void shouldRecheckPreviousRangeWithoutNewRows() {
+        // 준비
+        watermarkAt(20L);
+        when(reviewChangeLogRepository.findMaxIdChangedBefore(any())).thenReturn(20L);
+        when(reviewChangeLogRepository.findChangedProductIds(0L, 20L)).thenReturn(List.of(3L));
+        when(chunkWriter.write(anyList())).thenReturn(1);
+
+        // 실행
+        job.syncProductRatings();
+
+        // 검증
+        verify(chunkWriter).write(List.of(3L));
+        verify(jobWatermarkRepository, never()).save(any());
+        verify(reviewChangeLogRepository).deleteUpTo(20L);
+    }
+
+    @Test
+    @DisplayName("Should keep the watermark and change-log rows when a chunk fails")
+    void shouldKeepWatermarkWhenChunkFails() {
+        // 준비
+        JobWatermark watermark = watermarkAt(10L);
+        when(reviewChangeLogRepository.findMaxIdChangedBefore(any())).thenReturn(20L);
+        when(reviewChangeLogRepository.findChangedProductIds(0L, 20L)).thenReturn(List.of(1L, 2L, 3L));
+        when(chunkWriter.write(List.of(1L, 2L))).thenReturn(2);
+        when(chunkWriter.write(List.of(3L))).thenThrow(new IllegalStateException("DB 오류"));
+
+        // 실행
+        job.syncProductRatings();
+
+        // 검증 - 성공한 청크는 커밋되었지만 다음 실행에서 같은 범위를 다시 처리
+        verify(chunkWriter, times(2)).write(anyList());
+        assertThat(watermark.getLastValue()).isEqualTo(10L);
+        verify(jobWatermarkRepository, never()).save(any());
+        verify(reviewChangeLogRepository, never()).deleteUpTo(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should advance the watermark after a full rebuild but leave the new range for the next recheck")
+    void shouldAdvanceWatermarkAfterRebuild() {
+        // 준비
+        JobWatermark watermark = watermarkAt(10L);
+        when(reviewChangeLogRepository.findMaxIdChangedBefore(any())).thenReturn(30L);
+        when(productRepository.count()).thenReturn(3L);
+        when(productRepository.findIdsAfter(eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(productRepository.findIdsAfter(eq(2L), any())).thenReturn(List.of(3L));
+        when(productRepository.findIdsAfter(eq(3L), any())).thenReturn(List.of());
+        when(chunkWriter.write(anyList())).thenReturn(1);
+
+        // 실행
+        job.rebuildAllProductRatings();
+
+        // 검증
+        verify(chunkWriter).write(List.of(1L, 2L));
+        verify(chunkWriter).write(List.of(3L));
+        assertThat(watermark.getLastValue()).isEqualTo(30L);
+        verify(reviewChangeLogRepository).deleteUpTo(10L);
+    }
+
+    private JobWatermark watermarkAt(long value) {
+        JobWatermark watermark = new JobWatermark(ProductRatingSyncJob.JOB_NAME, value);
+        when(jobWatermarkRepository.findById(ProductRatingSyncJob.JOB_NAME)).thenReturn(Optional.of(watermark));
+        return watermark;
+    }
+}
@@ -0,0 +1,134 @@
+package com.flower.batch.job.settlement;
+
+import com.flower.order.domain.Order;
+import com.flower.order.dto.OrderSettlementRow;
+import com.flower.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementFileGenerator Tests")
+class SettlementFileGeneratorTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 5, 1);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private SettlementMismatchWriter mismatchWriter;
+
+    @TempDir
+    Path dir;
+
+    private SettlementFileGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new SettlementFileGenerator(orderRepository);
+    }
+
+    @Test
+    @DisplayName("Should write payments and refunds in key order so that reconciliation matches every row")
+    void shouldGenerateFileThatReconcilesCleanly() throws IOException {
+        // 준비
+        dayWithPaymentsAndRefunds();
+        Path file = dir.resolve("settlement.csv");
+
+        // 실행
+        long written = generator.generate(file, DATE, 0.0);
+
+        // 검증
+        assertThat(written).isEqualTo(5);
+        assertThat(Files.readAllLines(file)).containsExactly(
+                SettlementRecord.HEADER,
+                "ORD-00001,PAID,10000,2026-05-01T12:00",
+                "ORD-00002,PAID,10000,2026-05-01T12:00",
+                "ORD-00002,REFUNDED,10000,2026-05-01T12:00",
+                "ORD-00003,PAID,10000,2026-05-01T12:00",
+                "ORD-00004,REFUNDED,10000,2026-05-01T12:00");
+        assertThat(Files.exists(dir.resolve("settlement.csv.tmp"))).isFalse();
+
+        SettlementReconciler.Result result = new SettlementReconciler(orderRepository, mismatchWriter, 100)
+                .reconcile(DATE, file);
+        assertThat(result.matched()).isEqualTo(5);
+        assertThat(result.mismatched()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the file sorted when every row is turned into a mismatch")
+    void shouldKeepFileSortedWithMismatches() throws IOException {
+        // 준비
+        dayWithPaymentsAndRefunds();
+        Path file = dir.resolve("settlement.csv");
+
+        // 실행 - 금액 변경/누락/유령 거래가 무작위로 섞이므로 여러 번 생성해 확인
+        for (int attempt = 0; attempt < 20; attempt++) {
+            generator.generate(file, DATE, 1.0);
+
+            // 검증 - 정렬이 어긋나면 reader가 예외를 던짐 (유령 거래는 원래 줄을 그대로 두므로 일부는 일치할 수 있음)
+            SettlementReconciler.Result result = new SettlementReconciler(orderRepository, mismatchWriter, 100)
+                    .reconcile(DATE, file);
+            assertThat(result.orderRows()).isEqualTo(5);
+            assertThat(result.mismatched()).isPositive();
+            assertThat(result.matched()).isLessThan(5);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream a large day without collecting the rows")
+    void shouldStreamLargeDay() throws IOException {
+        // 준비
+        int count = 200_000;
+        when(orderRepository.streamSettlementRows(any(), any(), any())).thenAnswer(invocation -> IntStream.rangeClosed(1, count)
+                .mapToObj(i -> row(String.format("ORD-%08d", i), Order.PaymentStatus.PAID)));
+        when(orderRepository.streamRefundRows(any(), any())).thenAnswer(invocation -> Stream.empty());
+        Path file = dir.resolve("settlement.csv");
+
+        // 실행
+        long written = generator.generate(file, DATE, 0.0);
+
+        // 검증
+        assertThat(written).isEqualTo(count);
+        List<String> firstLines = new ArrayList<>();
+        try (Stream<String> lines = Files.lines(file)) {
+            lines.limit(3).forEach(firstLines::add);
+        }
+        assertThat(firstLines).containsExactly(SettlementRecord.HEADER,
+                "ORD-00000001,PAID,10000,2026-05-01T12:00", "ORD-00000002,PAID,10000,2026-05-01T12:00");
+    }
+
+    private void dayWithPaymentsAndRefunds() {
+        // ORD-00002는 당일 결제 후 환불, ORD-00004는 이전에 결제되어 당일 환불
+        when(orderRepository.streamSettlementRows(any(), any(), any())).thenAnswer(invocation -> Stream.of(
+                row("ORD-00001", Order.PaymentStatus.PAID),
+                row("ORD-00002", Order.PaymentStatus.REFUNDED),
+                row("ORD-00003", Order.PaymentStatus.PAID)));
+        when(orderRepository.streamRefundRows(any(), any())).thenAnswer(invocation -> Stream.of(
+                row("ORD-00002", Order.PaymentStatus.REFUNDED),
+                row("ORD-00004", Order.PaymentStatus.REFUNDED)));
+    }
+
+    private OrderSettlementRow row(String orderNumber, Order.PaymentStatus status) {
+        return new OrderSettlementRow(orderNumber, status, new BigDecimal("10000"));
+    }
+}
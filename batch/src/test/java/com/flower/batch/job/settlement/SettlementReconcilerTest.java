@@ -0,0 +1,191 @@
+package com.flower.batch.job.settlement;
+
+import com.flower.common.entity.FailureLog;
+import com.flower.order.domain.Order;
+import com.flower.order.dto.OrderSettlementRow;
+import com.flower.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementReconciler Tests")
+class SettlementReconcilerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 5, 1);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private SettlementMismatchWriter mismatchWriter;
+
+    @TempDir
+    Path dir;
+
+    private SettlementReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new SettlementReconciler(orderRepository, mismatchWriter, 2);
+    }
+
+    @Test
+    @DisplayName("Should match payments by pay date and refunds by refund date, including a same-day pay and refund")
+    void shouldMatchPaymentsAndRefunds() throws IOException {
+        // 준비 - ORD-2는 당일 결제 후 환불, ORD-3은 이전에 결제되어 당일 환불
+        payments(row("ORD-1", Order.PaymentStatus.PAID, "10000"), row("ORD-2", Order.PaymentStatus.REFUNDED, "20000"));
+        refunds(row("ORD-2", Order.PaymentStatus.REFUNDED, "20000"), row("ORD-3", Order.PaymentStatus.REFUNDED, "30000"));
+        Path file = file(
+                "ORD-1,PAID,10000,2026-05-01T10:00",
+                "ORD-2,PAID,20000,2026-05-01T11:00",
+                "ORD-2,REFUNDED,20000,2026-05-01T15:00",
+                "ORD-3,REFUNDED,30000,2026-05-01T16:00");
+
+        // 실행
+        SettlementReconciler.Result result = reconciler.reconcile(DATE, file);
+
+        // 검증
+        assertThat(result.settlementRows()).isEqualTo(4);
+        assertThat(result.orderRows()).isEqualTo(4);
+        assertThat(result.matched()).isEqualTo(4);
+        assertThat(result.mismatched()).isZero();
+        verify(mismatchWriter).clear(SettlementReconciler.DOMAIN, "date=2026-05-01;");
+        verify(mismatchWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("Should record amount mismatches, missing settlements and phantom settlements")
+    void shouldRecordMismatches() throws IOException {
+        // 준비
+        payments(row("ORD-1", Order.PaymentStatus.PAID, "10000"), row("ORD-2", Order.PaymentStatus.PAID, "20000"));
+        refunds();
+        Path file = file(
+                "ORD-1,PAID,10100,2026-05-01T10:00",
+                "ORD-1-P,PAID,10000,2026-05-01T10:00");
+
+        // 실행
+        SettlementReconciler.Result result = reconciler.reconcile(DATE, file);
+
+        // 검증
+        assertThat(result.matched()).isZero();
+        assertThat(result.mismatched()).isEqualTo(3);
+        List<FailureLog> logs = writtenLogs();
+        assertThat(logs).extracting(FailureLog::getReferenceId).containsExactly("ORD-1", "ORD-1-P", "ORD-2");
+        assertThat(logs.get(0).getErrorMessage()).startsWith("PAID 금액 불일치");
+        assertThat(logs.get(1).getErrorMessage()).contains("주문 쪽 PAID 내역이 없음");
+        assertThat(logs.get(2).getErrorMessage()).contains("PG 정산 내역이 없음");
+        assertThat(logs).allSatisfy(log -> {
+            assertThat(log.getStatus()).isEqualTo(FailureLog.ProcessingStatus.FAILED);
+            assertThat(log.getPayload()).startsWith("date=2026-05-01;");
+        });
+    }
+
+    @Test
+    @DisplayName("Should report a refund the PG settled on a day the order was not refunded")
+    void shouldRecordRefundWithoutOrderRefund() throws IOException {
+        // 준비
+        payments(row("ORD-1", Order.PaymentStatus.PAID, "10000"));
+        refunds();
+        Path file = file(
+                "ORD-1,PAID,10000,2026-05-01T10:00",
+                "ORD-1,REFUNDED,10000,2026-05-01T15:00");
+
+        // 실행
+        SettlementReconciler.Result result = reconciler.reconcile(DATE, file);
+
+        // 검증
+        assertThat(result.matched()).isEqualTo(1);
+        assertThat(writtenLogs()).singleElement()
+                .satisfies(log -> assertThat(log.getErrorMessage()).contains("주문 쪽 REFUNDED 내역이 없음"));
+    }
+
+    @Test
+    @DisplayName("Should write mismatches in batches of the configured size")
+    void shouldFlushMismatchesInBatches() throws IOException {
+        // 준비 - 주문 쪽 내역이 없어 정산 파일 5줄이 모두 불일치
+        payments();
+        refunds();
+        Path file = file(
+                "ORD-1,PAID,10000,2026-05-01T10:00",
+                "ORD-2,PAID,10000,2026-05-01T10:00",
+                "ORD-3,PAID,10000,2026-05-01T10:00",
+                "ORD-4,PAID,10000,2026-05-01T10:00",
+                "ORD-5,PAID,10000,2026-05-01T10:00");
+
+        // 실행
+        SettlementReconciler.Result result = reconciler.reconcile(DATE, file);
+
+        // 검증
+        assertThat(result.mismatched()).isEqualTo(5);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FailureLog>> batches = ArgumentCaptor.forClass(List.class);
+        verify(mismatchWriter, times(3)).write(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("Should reject a settlement file that is not sorted by order number and status")
+    void shouldRejectUnsortedFile() throws IOException {
+        // 준비
+        payments();
+        refunds();
+        Path file = file(
+                "ORD-1,REFUNDED,10000,2026-05-01T15:00",
+                "ORD-1,PAID,10000,2026-05-01T10:00");
+
+        // 실행 & 검증
+        assertThatThrownBy(() -> reconciler.reconcile(DATE, file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("정렬되어 있지 않습니다");
+    }
+
+    private void payments(OrderSettlementRow... rows) {
+        when(orderRepository.streamSettlementRows(eq(DATE.atStartOfDay()), eq(DATE.plusDays(1).atStartOfDay()), any()))
+                .thenAnswer(invocation -> Stream.of(rows));
+    }
+
+    private void refunds(OrderSettlementRow... rows) {
+        when(orderRepository.streamRefundRows(DATE.atStartOfDay(), DATE.plusDays(1).atStartOfDay()))
+                .thenAnswer(invocation -> Stream.of(rows));
+    }
+
+    private List<FailureLog> writtenLogs() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FailureLog>> batches = ArgumentCaptor.forClass(List.class);
+        verify(mismatchWriter, atLeastOnce()).write(batches.capture());
+        List<FailureLog> logs = new ArrayList<>();
+        batches.getAllValues().forEach(logs::addAll);
+        return logs;
+    }
+
+    private Path file(String... lines) throws IOException {
+        List<String> content = new ArrayList<>();
+        content.add(SettlementRecord.HEADER);
+        content.addAll(List.of(lines));
+        return Files.write(dir.resolve("settlement.csv"), content);
+    }
+
+    private OrderSettlementRow row(String orderNumber, Order.PaymentStatus status, String amount) {
+        return new OrderSettlementRow(orderNumber, status, new BigDecimal(amount));
+    }
+}
@@ -17,7 +17,8 @@ import java.math.BigDecimal;
 public class CartItemOption {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_item_options_seq")
+    @SequenceGenerator(name = "cart_item_options_seq", sequenceName = "cart_item_options_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,12 +2,10 @@ package com.flower.cart.event;
 
 import com.flower.cart.service.CartService;
 import com.flower.common.event.PaymentCompletedEvent;
+import com.flower.common.outbox.OutboxListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Slf4j
 @Component
@@ -16,8 +14,7 @@ public class CartEventListener {
 
     private final CartService cartService;
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @OutboxListener
     public void handlePaymentCompleted(PaymentCompletedEvent event) {
         log.info("결제 완료 이벤트 수신 - 장바구니 비우기 시작: 주문ID={}", event.getOrderId());
         
@@ -8,6 +8,7 @@ import com.flower.cart.dto.CartItemDto;
 import com.flower.cart.dto.CartItemOptionDto;
 import com.flower.cart.repository.CartRepository;
 import com.flower.common.exception.EntityNotFoundException;
+import com.flower.inventory.service.InventoryReservationService;
 import com.flower.product.dto.ProductDto;
 import com.flower.product.dto.ProductOptionDto;
 import com.flower.product.service.ProductQueryService;
@@ -16,6 +17,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +28,7 @@ public class CartService {
 
     private final CartRepository cartRepository;
     private final ProductQueryService productQueryService;
+    private final InventoryReservationService inventoryReservationService;
 
     @Transactional
     public Cart getOrCreateCart(String cartKey) {
@@ -76,18 +80,22 @@ public class CartService {
     }
 
     @Transactional
-    public CartItem addItem(String cartKey, Long productId, int quantity, java.util.List<Long> optionIds) {
+    public CartItem addItem(String cartKey, Long productId, int quantity, List<Long> optionIds) {
         Cart cart = getOrCreateCart(cartKey);
         ProductDto product = productQueryService.getProductById(productId);
         
         log.info("장바구니에 상품 추가: {} (수량: {}) - 카트: {}", product.name(), quantity, cartKey);
 
+        List<ProductOptionDto> options = optionIds == null || optionIds.isEmpty()
+                ? List.of()
+                : productQueryService.getOptionsByIds(optionIds);
+        CartItem existingItem = cart.findItemByProductId(productId);
+        validateAvailableStock(productId, options, existingItem == null ? quantity : existingItem.getQuantity() + quantity);
+
         // effectivePrice is mapped to price()
         CartItem item = cart.addItem(product.id(), product.price(), quantity);
         
-        if (optionIds != null && !optionIds.isEmpty()) {
-            java.util.List<ProductOptionDto> options = productQueryService.getOptionsByIds(optionIds);
-            
+        if (!options.isEmpty()) {
             for (ProductOptionDto opt : options) {
                 CartItemOption itemOption = CartItemOption.builder()
                         .cartItem(item)
@@ -118,13 +126,22 @@ public class CartService {
     @Transactional
     public void updateItemQuantity(String cartKey, Long itemId, int quantity) {
         Cart cart = getCart(cartKey);
+        CartItem item = cart.findItemById(itemId);
+        if (item != null) {
+            List<Long> optionIds = item.getOptions().stream()
+                    .map(CartItemOption::getProductOptionId)
+                    .toList();
+            validateAvailableStock(item.getProductId(), optionIds.isEmpty()
+                    ? List.of()
+                    : productQueryService.getOptionsByIds(optionIds), quantity);
+        }
         cart.updateItemQuantity(itemId, quantity);
         cartRepository.save(cart);
         log.info("장바구니 아이템 수량 변경: {} -> {} - 카트: {}", itemId, quantity, cartKey);
     }
     
     @Transactional
-    public void updateItemOptions(String cartKey, Long itemId, java.util.List<Long> optionIds) {
+    public void updateItemOptions(String cartKey, Long itemId, List<Long> optionIds) {
         Cart cart = getCart(cartKey);
         CartItem item = cart.findItemById(itemId);
         
@@ -135,7 +152,8 @@ public class CartService {
         item.clearOptions();
         
         if (optionIds != null && !optionIds.isEmpty()) {
-            java.util.List<ProductOptionDto> options = productQueryService.getOptionsByIds(optionIds);
+            List<ProductOptionDto> options = productQueryService.getOptionsByIds(optionIds);
+            validateAvailableStock(item.getProductId(), options, item.getQuantity());
             
             for (ProductOptionDto opt : options) {
                 CartItemOption itemOption = CartItemOption.builder()
@@ -190,6 +208,29 @@ public class CartService {
         );
     }
 
+    /**
+     * 상품과 재고를 관리하는 옵션은 담을 수량만큼 가용 재고(실재고 - 결제 대기 예약)가 있어야 함
+     * 최종 차감은 주문 시 재고 예약에서 수행
+     */
+    private void validateAvailableStock(Long productId, List<ProductOptionDto> options, int quantity) {
+        int available = inventoryReservationService.availableToPromise(productId);
+        if (available < quantity) {
+            throw new IllegalStateException("재고가 부족합니다. 상품ID: " + productId
+                    + ", 가용재고: " + available + ", 요청수량: " + quantity);
+        }
+        if (options.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> availableOptions = inventoryReservationService.availableOptionStocks(productId);
+        for (ProductOptionDto option : options) {
+            Integer optionAvailable = availableOptions.get(option.id());
+            if (optionAvailable != null && optionAvailable < quantity) {
+                throw new IllegalStateException("옵션 재고가 부족합니다. 옵션: " + option.name() + " " + option.optionValue()
+                        + ", 가용재고: " + optionAvailable + ", 요청수량: " + quantity);
+            }
+        }
+    }
+
     private CartItemOptionDto toOptionDto(CartItemOption option) {
         return new CartItemOptionDto(
             option.getProductOptionId(),
@@ -2,7 +2,9 @@ package com.flower.cart.service;
 
 import com.flower.cart.domain.Cart;
 import com.flower.cart.repository.CartRepository;
+import com.flower.inventory.service.InventoryReservationService;
 import com.flower.product.dto.ProductDto;
+import com.flower.product.dto.ProductOptionDto;
 import com.flower.product.service.ProductQueryService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,10 +14,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +36,9 @@ class CartServiceTest {
     @Mock
     private ProductQueryService productQueryService;
 
+    @Mock
+    private InventoryReservationService inventoryReservationService;
+
     @Test
     @DisplayName("장바구니가 없으면 생성하고 상품을 추가해야 한다")
     void addItemShouldCreateCartIfNotExists() {
@@ -38,22 +47,7 @@ class CartServiceTest {
         Long productId = 100L;
         BigDecimal price = new BigDecimal("5000");
         
-        // ProductDto(Long id, String name, BigDecimal price, Integer stockQuantity, String thumbnailUrl, boolean isActive, boolean isAvailableToday, List<ProductOptionDto> options, ProductCategory category, DeliveryType deliveryType)
-        ProductDto product = new ProductDto(
-            productId, 
-            "Test Flower", 
-            price, 
-            100, 
-            null, 
-            true, 
-            true, 
-            null, 
-            null, 
-            null,
-            0L,
-            0L,
-            0.0
-        );
+        ProductDto product = product(productId, price);
 
         given(cartRepository.findByCartKey(cartKey)).willReturn(Optional.empty());
         // 저장 시 적절한 Cart 객체 반환, 모의 구현 로직
@@ -62,6 +56,7 @@ class CartServiceTest {
             return savedCart;
         });
         given(productQueryService.getProductById(productId)).willReturn(product);
+        given(inventoryReservationService.availableToPromise(productId)).willReturn(100);
 
         // 실행
         cartService.addItem(cartKey, productId, 1);
@@ -70,4 +65,46 @@ class CartServiceTest {
         verify(productQueryService).getProductById(productId);
         // verify(cartRepository).save(any(Cart.class)); // Called twice actually
     }
+
+    @Test
+    @DisplayName("재고를 관리하는 옵션의 가용 재고가 부족하면 장바구니에 담을 수 없다")
+    void addItemShouldRejectWhenOptionStockIsShort() {
+        // 준비 - 옵션 실재고는 5개지만 결제 대기 예약을 빼면 1개만 남음
+        String cartKey = "user-456";
+        Long productId = 100L;
+        ProductOptionDto option = new ProductOptionDto(10L, "사이즈", "L", new BigDecimal("3000"), 5);
+
+        given(cartRepository.findByCartKey(cartKey)).willReturn(Optional.of(Cart.builder().cartKey(cartKey).build()));
+        given(productQueryService.getProductById(productId)).willReturn(product(productId, new BigDecimal("5000")));
+        given(productQueryService.getOptionsByIds(List.of(10L))).willReturn(List.of(option));
+        given(inventoryReservationService.availableToPromise(productId)).willReturn(100);
+        given(inventoryReservationService.availableOptionStocks(productId)).willReturn(Map.of(10L, 1));
+
+        // 실행 및 검증
+        assertThrows(IllegalStateException.class, () -> cartService.addItem(cartKey, productId, 2, List.of(10L)));
+        verify(cartRepository, never()).save(any(Cart.class));
+    }
+
+    @Test
+    @DisplayName("상품 실재고가 있어도 가용 재고(ATP)가 부족하면 장바구니에 담을 수 없다")
+    void addItemShouldRejectWhenAvailableToPromiseIsShort() {
+        // 준비
+        String cartKey = "user-789";
+        Long productId = 100L;
+
+        given(cartRepository.findByCartKey(cartKey)).willReturn(Optional.of(Cart.builder().cartKey(cartKey).build()));
+        given(productQueryService.getProductById(productId)).willReturn(product(productId, new BigDecimal("5000")));
+        given(inventoryReservationService.availableToPromise(productId)).willReturn(2);
+
+        // 실행 및 검증
+        assertThrows(IllegalStateException.class, () -> cartService.addItem(cartKey, productId, 3));
+        verify(cartRepository, never()).save(any(Cart.class));
+    }
+
+    private ProductDto product(Long productId, BigDecimal price) {
+        return new ProductDto(
+            productId, null, "Test Flower", price, null, 100, null, null, true, true,
+            List.of(), null, null, 0L, 0L, 0.0
+        );
+    }
 }
@@ -0,0 +1,147 @@
+package com.flower.common.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 호출용 회로 차단기
+ * - CLOSED: 최근 window-size건의 결과 중 실패 비율이 임계치를 넘으면 OPEN
+ * - OPEN: open-duration 동안 호출을 바로 거절 (느린 외부 시스템을 기다리며 스레드/커넥션을 묶어두지 않도록)
+ * - HALF_OPEN: 시험 호출 half-open-calls건만 허용해 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ *
+ * 외부 호출 빈도에서는 락 경합이 문제 되지 않아 상태 전이는 synchronized로 단순하게 처리
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final boolean[] outcomes; // true = 실패
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoTime;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int failures;
+    private int cursor;
+    private long openedAt;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                   Duration openDuration, int halfOpenCalls, LongSupplier nanoTime) {
+        if (windowSize <= 0 || minimumCalls <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("window-size, minimum-calls, half-open-calls는 1 이상이어야 합니다.");
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failure-rate-threshold는 0 초과 1 이하여야 합니다: " + failureRateThreshold);
+        }
+        this.name = name;
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @return 호출해도 되는지 여부 (true면 호출 후 반드시 onSuccess/onFailure/releasePermission 중 하나를 호출)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoTime.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermitted++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSucceeded >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 결과를 판단할 수 없는 호출(호출 측 중단 등)의 허가 반납
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermitted > halfOpenSucceeded) {
+            halfOpenPermitted--;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    // --- Private Helper Methods ---
+
+    private void record(boolean failed) {
+        if (recorded == outcomes.length) {
+            if (outcomes[cursor]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[cursor] = failed;
+        if (failed) {
+            failures++;
+        }
+        cursor = (cursor + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("회로 차단기 상태 변경: {} {} -> {} (최근 실패 {}/{})", name, state, next, failures, recorded);
+        state = next;
+        recorded = 0;
+        failures = 0;
+        cursor = 0;
+        halfOpenPermitted = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoTime.getAsLong();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.flower.common.concurrent;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 단위 순차 실행기
+ * - 같은 키(상품 ID, 주문번호 등)의 작업은 항상 같은 레인(단일 스레드)에서 제출 순서대로 실행
+ * - 서로 다른 키는 레인 수만큼 병렬 실행
+ * - 레인별 대기열은 고정 길이이며, 가득 차면 RejectedExecutionException (호출 측에서 재시도/보류 결정)
+ *
+ * 주의: 특정 키에 작업이 몰리면 그 키가 속한 레인만 밀리므로, 레인 수는 동시에 활발한 키 수보다 넉넉하게 설정
+ */
+public class KeyedSerialExecutor {
+
+    private final ThreadPoolExecutor[] lanes;
+
+    public KeyedSerialExecutor(int laneCount, int queueCapacityPerLane, ThreadFactory threadFactory) {
+        if (laneCount < 1 || queueCapacityPerLane < 1) {
+            throw new IllegalArgumentException("레인 설정이 잘못되었습니다: laneCount=" + laneCount
+                    + ", queueCapacityPerLane=" + queueCapacityPerLane);
+        }
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            ThreadPoolExecutor lane = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacityPerLane), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+            lane.allowCoreThreadTimeOut(true);
+            lanes[i] = lane;
+        }
+    }
+
+    /**
+     * @throws RejectedExecutionException 해당 레인의 대기열이 가득 찼거나 종료 중인 경우
+     */
+    public void execute(Object key, Runnable task) {
+        lanes[laneOf(key)].execute(task);
+    }
+
+    public int laneOf(Object key) {
+        int hash = Objects.hashCode(key);
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    public int queueSize() {
+        return Arrays.stream(lanes).mapToInt(lane -> lane.getQueue().size()).sum();
+    }
+
+    public int activeCount() {
+        return Arrays.stream(lanes).mapToInt(ThreadPoolExecutor::getActiveCount).sum();
+    }
+
+    public void shutdown(long timeoutSeconds) throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                lane.shutdownNow();
+            }
+        }
+    }
+}
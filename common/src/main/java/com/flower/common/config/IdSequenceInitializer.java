@@ -0,0 +1,70 @@
+package com.flower.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * IDENTITY에서 시퀀스로 ID 발급 방식을 바꾼 테이블의 시퀀스를 기존 데이터 뒤로 맞춤
+ * ddl-auto=update는 새 시퀀스를 1부터 만들기 때문에, 전환 전에 쌓인 행이 있는 DB에서는 발급 ID가 기존 PK와 겹침
+ * 스키마 생성(EntityManagerFactory 초기화) 후, 요청이나 스케줄 작업이 ID를 발급받기 전에 한 번 실행 (H2 시퀀스 문법)
+ * API·배치 앱 모두에서 실행되며, 먼저 뜬 앱이 맞춰 두면 나중 앱은 확인만 하고 넘어감
+ * 앱마다 스캔하는 엔티티가 달라 아직 만들어지지 않은 테이블·시퀀스는 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    // 엔티티 @SequenceGenerator의 allocationSize
+    private static final int ALLOCATION_SIZE = 50;
+
+    // 테이블 → 시퀀스
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "orders", "orders_seq",
+            "order_items", "order_items_seq",
+            "order_item_options", "order_item_options_seq",
+            "cart_items", "cart_items_seq",
+            "cart_item_options", "cart_item_options_seq",
+            "point_history", "point_history_seq",
+            "reviews", "reviews_seq",
+            "inventory_reservation_logs", "inventory_reservation_logs_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCES.forEach(this::alignSequence);
+    }
+
+    // --- Private Helper Methods ---
+
+    private void alignSequence(String table, String sequence) {
+        if (!exists("TABLES", "TABLE", table) || !exists("SEQUENCES", "SEQUENCE", sequence)) {
+            return;
+        }
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        // pooled 방식은 시퀀스 값 v를 받으면 v - (allocationSize - 1) ~ v 범위를 발급함
+        Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+        if (next != null && next - (ALLOCATION_SIZE - 1) > maxId) {
+            return;
+        }
+        long restartWith = maxId + ALLOCATION_SIZE;
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restartWith);
+        log.info("ID 시퀀스를 기존 데이터 뒤로 이동: {} (최대 ID {}) → {}", sequence, maxId, restartWith);
+    }
+
+    private boolean exists(String view, String kind, String name) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA." + view +
+                " WHERE " + kind + "_SCHEMA = CURRENT_SCHEMA AND " + kind + "_NAME = ?", Integer.class, name.toUpperCase());
+        return count != null && count > 0;
+    }
+}
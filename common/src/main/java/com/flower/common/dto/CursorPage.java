@@ -0,0 +1,31 @@
+package com.flower.common.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * nextCursor는 다음 페이지 조회 시 그대로 전달하는 불투명 문자열이며, 마지막 페이지면 null
+ */
+public record CursorPage<T>(
+    List<T> content,
+    String nextCursor,
+    boolean hasNext
+) {
+    /**
+     * size + 1건을 조회한 결과로 페이지를 구성 (초과분 1건은 다음 페이지 존재 여부 판단에만 사용)
+     */
+    public static <E, T> CursorPage<T> of(List<E> fetched, int size, Function<E, String> cursorOf, Function<E, T> mapper) {
+        return ofBatch(fetched, size, cursorOf, page -> page.stream().map(mapper).toList());
+    }
+
+    /**
+     * 페이지 단위로 한 번에 변환하는 버전 (연관 데이터를 페이지 전체에 대해 일괄 조회할 때 사용)
+     */
+    public static <E, T> CursorPage<T> ofBatch(List<E> fetched, int size, Function<E, String> cursorOf, Function<List<E>, List<T>> pageMapper) {
+        boolean hasNext = fetched.size() > size;
+        List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(pageMapper.apply(page), nextCursor, hasNext);
+    }
+}
@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "failure_logs")
+@Table(name = "failure_logs", indexes = {
+        @Index(name = "idx_failure_logs_status_next", columnList = "status, next_attempt_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -41,6 +43,15 @@ public class FailureLog {
     @Builder.Default
     private Integer retryCount = 0;
 
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt; // 이 시각 이후에 재시도 (지수 백오프 + 지터)
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken; // 처리 중인 배치 노드의 점유 토큰
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil; // 점유 만료 시각 (노드가 죽으면 만료 후 다른 노드가 가져감)
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -51,6 +62,9 @@ public class FailureLog {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
     }
 
     @PreUpdate
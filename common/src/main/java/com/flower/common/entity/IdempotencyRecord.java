@@ -0,0 +1,63 @@
+package com.flower.common.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 처리 기록 (요청 지문 + 응답 스냅샷)
+ * 처리 중(IN_PROGRESS)에는 expires_at이 점유 만료 시각, 완료(COMPLETED) 후에는 보관 만료 시각
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 150)
+    private String idempotencyKey; // 범위:클라이언트 키
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Lob
+    @Column(name = "response_snapshot")
+    private String responseSnapshot;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "owner_token", length = 36)
+    private String ownerToken; // 점유한 요청의 토큰 (점유가 만료되어 다른 요청이 이어받으면 바뀌어, 늦게 끝난 요청은 완료 기록을 남기지 못함)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public IdempotencyRecord(String idempotencyKey, String requestHash, Status status,
+                             String responseSnapshot, LocalDateTime expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.status = status;
+        this.responseSnapshot = responseSnapshot;
+        this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+
+    public enum Status {
+        IN_PROGRESS, COMPLETED
+    }
+}
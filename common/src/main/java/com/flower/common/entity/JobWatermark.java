@@ -0,0 +1,39 @@
+package com.flower.common.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증분 배치의 처리 위치 (작업 이름별 마지막으로 처리한 값)
+ */
+@Entity
+@Table(name = "job_watermarks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobWatermark {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "last_value", nullable = false)
+    private Long lastValue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public JobWatermark(String jobName, Long lastValue) {
+        this.jobName = jobName;
+        this.lastValue = lastValue;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advanceTo(Long value) {
+        this.lastValue = value;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
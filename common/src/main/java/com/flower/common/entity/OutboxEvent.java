@@ -0,0 +1,82 @@
+package com.flower.common.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 항목
+ * 도메인 이벤트를 애그리거트 변경과 같은 트랜잭션에서 리스너별로 한 행씩 기록하고,
+ * OutboxRelay가 폴링하여 리스너에 전달한 뒤 일괄로 완료 처리함
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_status_next", columnList = "status, next_attempt_at, id"),
+        @Index(name = "idx_outbox_events_listener_key", columnList = "listener_id, aggregate_key, id")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType; // 이벤트 클래스명
+
+    @Column(name = "listener_id", nullable = false)
+    private String listenerId; // 빈이름#메서드명
+
+    @Column(name = "aggregate_key", nullable = false)
+    private String aggregateKey; // 같은 키는 순서대로 전달 (예: 주문번호)
+
+    @Lob
+    @Column(nullable = false)
+    private String payload; // 직렬화된 이벤트 (Base64)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token")
+    private String claimToken;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+
+    public enum Status {
+        PENDING, DONE, FAILED
+    }
+}
@@ -0,0 +1,26 @@
+package com.flower.common.event;
+
+import lombok.Getter;
+
+import java.io.Serial;
+
+/**
+ * 배송 상태 변경 이벤트 (status는 배송 모듈의 DeliveryStatus 이름)
+ */
+@Getter
+public class DeliveryStatusChangedEvent extends DomainEvent {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final String orderNumber;
+    private final Long orderId;
+    private final String status;
+
+    public DeliveryStatusChangedEvent(String orderNumber, Long orderId, String status) {
+        super(orderNumber);
+        this.orderNumber = orderNumber;
+        this.orderId = orderId;
+        this.status = status;
+    }
+}
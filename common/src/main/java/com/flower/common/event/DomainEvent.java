@@ -3,20 +3,46 @@ package com.flower.common.event;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
  * Base class for all domain events
+ * 아웃박스에 직렬화되어 저장되므로 하위 이벤트의 필드는 모두 Serializable이어야 하고, serialVersionUID를 고정해 둠
+ * (필드 추가/삭제는 호환되지만 타입 변경은 대기 중인 아웃박스 행을 읽지 못하게 하므로 새 필드로 추가할 것)
  */
 @Getter
 public abstract class DomainEvent extends ApplicationEvent {
 
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final String eventType;
     private final LocalDateTime occurredOn;
 
+    // EventObject.source는 transient라 역직렬화하면 null이 되므로 복원용으로 따로 보관 (직렬화할 수 없는 소스는 클래스명)
+    private final Serializable serializableSource;
+
     public DomainEvent(Object source) {
         super(source);
         this.eventType = this.getClass().getSimpleName();
         this.occurredOn = LocalDateTime.now();
+        this.serializableSource = source instanceof Serializable serializable ? serializable : source.getClass().getName();
+    }
+
+    /**
+     * 같은 키의 이벤트는 아웃박스 릴레이에서 리스너 빈별로 발행 순서대로 하나씩 전달됨 (기본값: 이벤트 소스)
+     */
+    public String getAggregateKey() {
+        return String.valueOf(getSource());
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.source = serializableSource;
     }
 }
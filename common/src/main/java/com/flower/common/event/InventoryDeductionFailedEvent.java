@@ -2,6 +2,8 @@ package com.flower.common.event;
 
 import lombok.Getter;
 
+import java.io.Serial;
+
 /**
  * 재고 차감 실패 이벤트
  * 보상 트랜잭션(주문 취소)을 위해 사용됨
@@ -9,6 +11,9 @@ import lombok.Getter;
 @Getter
 public class InventoryDeductionFailedEvent extends DomainEvent {
 
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final String orderNumber;
     private final String reason;
 
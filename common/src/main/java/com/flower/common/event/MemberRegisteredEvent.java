@@ -2,6 +2,8 @@ package com.flower.common.event;
 
 import lombok.Getter;
 
+import java.io.Serial;
+
 /**
  * 회원 가입 완료 이벤트
  * 신규 회원이 가입을 성공적으로 완료했을 때 발행됨
@@ -9,6 +11,9 @@ import lombok.Getter;
 @Getter
 public class MemberRegisteredEvent extends DomainEvent {
 
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Long memberId;
     private final String email;
     private final String name;
@@ -1,10 +1,16 @@
 package com.flower.common.event;
 
 import lombok.Getter;
+
+import java.io.Serial;
 import java.util.List;
 
 @Getter
 public class OrderCancelledEvent extends DomainEvent {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final String orderNumber;
     private final Long orderId; // 추가된 필드
     private final String reason;
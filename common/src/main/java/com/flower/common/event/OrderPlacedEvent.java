@@ -1,6 +1,9 @@
 package com.flower.common.event;
 
 import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -10,6 +13,9 @@ import java.util.List;
 @Getter
 public class OrderPlacedEvent extends DomainEvent {
 
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final String orderNumber; // Business Key (e.g. ORD-1234)
     private final Long internalOrderId;       // Internal DB ID
     private final String itemSummary;
@@ -50,22 +56,36 @@ public class OrderPlacedEvent extends DomainEvent {
     public double getPrice() { return totalAmount.doubleValue(); }
     
     @Getter
-    public static class OrderItemInfo {
+    public static class OrderItemInfo implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
         private final Long productId;
         private final String productName;
         private final int quantity;
         private final BigDecimal price;
+        private final List<Long> optionIds; // 선택한 상품 옵션 ID (옵션 재고 차감용)
         
         public OrderItemInfo(Long productId, String productName, int quantity, BigDecimal price) {
+            this(productId, productName, quantity, price, List.of());
+        }
+
+        public OrderItemInfo(Long productId, String productName, int quantity, BigDecimal price, List<Long> optionIds) {
             this.productId = productId;
             this.productName = productName;
             this.quantity = quantity;
             this.price = price;
+            this.optionIds = optionIds == null ? List.of() : List.copyOf(optionIds);
         }
     }
     
     @Getter
-    public static class DeliveryInfo {
+    public static class DeliveryInfo implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
         private final String receiverName;
         private final String phone;
         private final String address;
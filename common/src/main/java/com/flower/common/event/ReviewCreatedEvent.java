@@ -2,20 +2,32 @@ package com.flower.common.event;
 
 import lombok.Getter;
 
+import java.io.Serial;
 import java.time.LocalDateTime;
 
 @Getter
 public class ReviewCreatedEvent extends DomainEvent {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Long reviewId;
     private final Long productId;
+    private final Long orderItemId;
     private final Integer rating;
     private final LocalDateTime createdAt;
 
-    public ReviewCreatedEvent(Object source, Long reviewId, Long productId, Integer rating) {
+    public ReviewCreatedEvent(Object source, Long reviewId, Long productId, Long orderItemId, Integer rating) {
         super(source);
         this.reviewId = reviewId;
         this.productId = productId;
+        this.orderItemId = orderItemId;
         this.rating = rating;
         this.createdAt = LocalDateTime.now();
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "product:" + productId;
+    }
 }
@@ -2,16 +2,29 @@ package com.flower.common.event;
 
 import lombok.Getter;
 
+import java.io.Serial;
+
 @Getter
 public class ReviewDeletedEvent extends DomainEvent {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Long reviewId;
     private final Long productId;
+    private final Long orderItemId;
     private final Integer rating;
 
-    public ReviewDeletedEvent(Object source, Long reviewId, Long productId, Integer rating) {
+    public ReviewDeletedEvent(Object source, Long reviewId, Long productId, Long orderItemId, Integer rating) {
         super(source);
         this.reviewId = reviewId;
         this.productId = productId;
+        this.orderItemId = orderItemId;
         this.rating = rating;
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "product:" + productId;
+    }
 }
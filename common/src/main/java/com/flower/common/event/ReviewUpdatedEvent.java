@@ -2,8 +2,14 @@ package com.flower.common.event;
 
 import lombok.Getter;
 
+import java.io.Serial;
+
 @Getter
 public class ReviewUpdatedEvent extends DomainEvent {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Long reviewId;
     private final Long productId;
     private final Integer oldRating;
@@ -16,4 +22,9 @@ public class ReviewUpdatedEvent extends DomainEvent {
         this.oldRating = oldRating;
         this.newRating = newRating;
     }
+
+    @Override
+    public String getAggregateKey() {
+        return "product:" + productId;
+    }
 }
@@ -0,0 +1,10 @@
+package com.flower.common.exception;
+
+/**
+ * 같은 Idempotency-Key 요청이 아직 처리 중일 때 (클라이언트는 잠시 후 같은 키로 재시도)
+ */
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
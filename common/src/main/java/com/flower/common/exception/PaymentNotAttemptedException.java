@@ -0,0 +1,11 @@
+package com.flower.common.exception;
+
+/**
+ * PG를 호출하기 전에 거절된 결제 (동시 호출 한도 초과, 회로 차단)
+ * PG에는 아무 요청도 가지 않았으므로 결제 실패가 아니라 나중에 다시 시도할 수 있는 상태
+ */
+public class PaymentNotAttemptedException extends PaymentProcessingException {
+    public PaymentNotAttemptedException(String message) {
+        super(message);
+    }
+}
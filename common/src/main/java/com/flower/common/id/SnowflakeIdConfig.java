@@ -0,0 +1,19 @@
+package com.flower.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 인스턴스별 노드 ID로 공용 ID 생성기를 설정
+ * 여러 인스턴스를 띄울 때는 app.id.node-id(또는 NODE_ID 환경변수)를 인스턴스마다 다르게 지정해야 함
+ */
+@Slf4j
+@Configuration
+public class SnowflakeIdConfig {
+
+    public SnowflakeIdConfig(@Value("${app.id.node-id:${NODE_ID:0}}") long nodeId) {
+        SnowflakeIdGenerator.configureShared(nodeId);
+        log.info("ID 생성기 노드 ID 설정: {}", nodeId);
+    }
+}
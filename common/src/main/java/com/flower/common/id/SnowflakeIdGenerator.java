@@ -0,0 +1,95 @@
+package com.flower.common.id;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식의 시간순 64비트 ID 생성기 (락 없이 CAS로 동작)
+ * - 구성: [41비트 밀리초(2025-01-01 기준)] [10비트 노드 ID] [12비트 시퀀스]
+ * - 노드당 밀리초마다 4096개를 발급하며, 시퀀스가 넘치면 다음 밀리초를 미리 당겨 사용
+ * - 시계가 뒤로 가도(NTP 보정 등) 마지막 발급 시각에서 이어서 발급하므로 역행/중복이 없음
+ * - 주문번호/상품코드는 "접두어-yyMMdd-base36" 형태로 CS 담당자가 읽고 날짜를 바로 알 수 있음
+ */
+public final class SnowflakeIdGenerator {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int CODE_LENGTH = 13; // Long.MAX_VALUE의 base36 자릿수
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyMMdd");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static volatile SnowflakeIdGenerator shared = new SnowflakeIdGenerator(0);
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    // (논리 밀리초 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 엔티티 등 스프링 빈을 주입받을 수 없는 곳에서 사용하는 공용 생성기
+     */
+    public static SnowflakeIdGenerator shared() {
+        return shared;
+    }
+
+    public static void configureShared(long nodeId) {
+        shared = new SnowflakeIdGenerator(nodeId);
+    }
+
+    public long nextId() {
+        while (true) {
+            long previous = state.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            // 같은 밀리초이거나 시계가 역행하면 시퀀스 증가 (넘치면 자연히 다음 밀리초로 올라감)
+            long next = now > (previous >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : previous + 1;
+            if (state.compareAndSet(previous, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                        | (nodeId << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * 접두어가 붙은 사람이 읽을 수 있는 코드 (예: ORD-261018-0A3K9Z1M2B7QX)
+     * 같은 접두어 안에서는 문자열 정렬 순서가 발급 순서와 같음
+     */
+    public String nextCode(String prefix) {
+        return format(prefix, nextId());
+    }
+
+    public static String format(String prefix, long id) {
+        String body = Long.toString(id, 36).toUpperCase(Locale.ROOT);
+        return prefix + "-" + DATE_FORMAT.format(timestampOf(id).atZone(ZONE)) + "-"
+                + "0".repeat(CODE_LENGTH - body.length()) + body;
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
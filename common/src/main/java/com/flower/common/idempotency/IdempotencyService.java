@@ -0,0 +1,251 @@
+package com.flower.common.idempotency;
+
+import com.flower.common.entity.IdempotencyRecord;
+import com.flower.common.exception.IdempotencyConflictException;
+import com.flower.common.repository.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 중복 요청 처리
+ * - 처음 온 요청만 실행하고 응답을 스냅샷으로 남겨, 같은 키의 재시도에는 원래 응답을 그대로 돌려줌
+ * - 키 선점은 DB INSERT(PK 충돌)로 하므로 여러 노드에 동시에 들어온 중복 요청도 한 번만 실행됨
+ * - 완료된 응답은 노드 메모리의 LRU에도 두어, 재시도 폭주 시 DB를 거치지 않고 응답
+ * - 요청 지문은 요청 DTO(record)의 toString SHA-256, 응답은 아웃박스와 같이 Java 직렬화(Base64)
+ *   (역직렬화는 애플리케이션 클래스와 응답 필드에 쓰는 JDK 값 타입만 허용 - 그 밖의 클래스가 들어 있으면 거부)
+ *
+ * 실행이 예외로 끝나면 키를 풀어 같은 키로 다시 시도할 수 있게 함.
+ * 완료 기록은 작업과 같은 트랜잭션으로 커밋하므로, 완료 기록 실패나 점유 만료 후 이어받기로 작업이 두 번 반영되지 않음
+ * (여러 트랜잭션에 걸친 작업은 executeSelfGuarded - 작업 스스로 재실행을 막아야 함)
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private static final ObjectInputFilter ALLOWED_CLASSES = ObjectInputFilter.Config.createFilter(
+            "maxdepth=20;maxrefs=10000;maxbytes=1048576;"
+                    + "com.flower.**;java.lang.*;java.util.*;java.time.*;java.math.*;!*");
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotentActionWriter idempotentActionWriter;
+    private final long ttlSeconds;
+    private final long lockSeconds;
+    private final Map<String, Snapshot> completed;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              IdempotentActionWriter idempotentActionWriter,
+                              @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${idempotency.lock-seconds:60}") long lockSeconds,
+                              @Value("${idempotency.cache.max-size:10000}") int cacheMaxSize) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.idempotentActionWriter = idempotentActionWriter;
+        this.ttlSeconds = ttlHours * 3600;
+        this.lockSeconds = lockSeconds;
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+                return size() > cacheMaxSize;
+            }
+        });
+    }
+
+    /**
+     * 한 트랜잭션으로 끝나는 작업(주문 생성 등)을 완료 기록과 함께 커밋
+     * 작업의 쓰기는 호출 측 트랜잭션에 참여해야 함 (기본 전파 방식의 @Transactional)
+     *
+     * @param scope          API 구분 (예: order:create) - 같은 키라도 API가 다르면 별개의 요청
+     * @param idempotencyKey 클라이언트가 보낸 키 (없으면 멱등 처리 없이 바로 실행)
+     * @param request        요청 지문 계산용 요청 DTO
+     * @param action         실제 처리 (반환값은 Serializable 이거나 null)
+     * @throws IllegalArgumentException      같은 키로 다른 내용의 요청을 보낸 경우
+     * @throws IdempotencyConflictException 같은 키의 요청이 아직 처리 중이거나, 처리 도중 점유가 만료된 경우
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object request, Supplier<T> action) {
+        return run(scope, idempotencyKey, request, action, true);
+    }
+
+    /**
+     * 여러 트랜잭션이나 외부 호출에 걸친 작업(결제 승인 등)용 - 완료 기록이 작업과 따로 커밋됨
+     * 완료 기록에 실패하거나 작업이 점유 시간을 넘기면 같은 키의 재시도가 작업을 다시 실행하므로,
+     * 작업 스스로 이미 반영된 요청을 거부해야 함 (결제는 주문 결제 상태 전이로 막음)
+     */
+    public <T> T executeSelfGuarded(String scope, String idempotencyKey, Object request, Supplier<T> action) {
+        return run(scope, idempotencyKey, request, action, false);
+    }
+
+    /**
+     * 보관 기간이 지난 기록 정리 (기본 10분마다)
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = idempotencyRecordRepository.deleteExpired(now);
+        synchronized (completed) {
+            completed.values().removeIf(snapshot -> !snapshot.expiresAt().isAfter(now));
+        }
+        if (purged > 0) {
+            log.info("만료된 멱등 키 {}건 정리", purged);
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    @SuppressWarnings("unchecked")
+    private <T> T run(String scope, String idempotencyKey, Object request, Supplier<T> action, boolean transactional) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String key = scope + ":" + idempotencyKey;
+        String requestHash = fingerprint(request);
+        LocalDateTime now = LocalDateTime.now();
+
+        Snapshot cached = completed.get(key);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return (T) replay(key, cached, requestHash);
+        }
+
+        String ownerToken = UUID.randomUUID().toString();
+        if (!acquire(key, requestHash, ownerToken, now)) {
+            return (T) replayExisting(key, requestHash, now);
+        }
+
+        LocalDateTime expiresAt = now.plusSeconds(ttlSeconds);
+        if (transactional) {
+            IdempotentActionWriter.Completion<T> completion;
+            try {
+                completion = idempotentActionWriter.runAndComplete(key, ownerToken, action, IdempotencyService::serialize, expiresAt);
+            } catch (RuntimeException e) {
+                idempotencyRecordRepository.release(key, ownerToken);
+                throw e;
+            }
+            completed.put(key, new Snapshot(requestHash, completion.payload(), expiresAt));
+            return completion.result();
+        }
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            idempotencyRecordRepository.release(key, ownerToken);
+            throw e;
+        }
+        completeSeparately(key, ownerToken, requestHash, result, expiresAt);
+        return result;
+    }
+
+    /**
+     * 작업은 이미 반영되었으므로 여기서 실패해도 키를 풀지 않음 (점유 만료 후 같은 키의 재시도는 작업 스스로 거부)
+     */
+    private void completeSeparately(String key, String ownerToken, String requestHash, Object result, LocalDateTime expiresAt) {
+        try {
+            String payload = serialize(result);
+            if (idempotencyRecordRepository.complete(key, ownerToken, payload, expiresAt) == 0) {
+                log.warn("점유가 만료된 뒤 처리가 끝나 완료 기록을 남기지 못했습니다: Key={}", key);
+                return;
+            }
+            completed.put(key, new Snapshot(requestHash, payload, expiresAt));
+        } catch (RuntimeException e) {
+            log.error("완료 기록 실패: Key={}, Error={}", key, e.getMessage(), e);
+        }
+    }
+
+    private boolean acquire(String key, String requestHash, String ownerToken, LocalDateTime now) {
+        LocalDateTime lockedUntil = now.plusSeconds(lockSeconds);
+        try {
+            return idempotencyRecordRepository.insertInProgress(key, requestHash, ownerToken, lockedUntil, now) > 0;
+        } catch (DataIntegrityViolationException e) {
+            return idempotencyRecordRepository.takeOverExpired(key, requestHash, ownerToken, lockedUntil, now) > 0;
+        }
+    }
+
+    private Object replayExisting(String key, String requestHash, LocalDateTime now) {
+        IdempotencyRecord existing = idempotencyRecordRepository.findById(key)
+                .orElseThrow(() -> new IdempotencyConflictException("같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+        if (!existing.getRequestHash().equals(requestHash)) {
+            throw new IllegalArgumentException("이미 다른 요청에 사용된 Idempotency-Key 입니다.");
+        }
+        if (!existing.isCompleted()) {
+            log.info("처리 중인 멱등 키로 중복 요청 수신: Key={}", key);
+            throw new IdempotencyConflictException("같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Snapshot snapshot = new Snapshot(existing.getRequestHash(), existing.getResponseSnapshot(), existing.getExpiresAt());
+        if (snapshot.expiresAt().isAfter(now)) {
+            completed.put(key, snapshot);
+        }
+        return replay(key, snapshot, requestHash);
+    }
+
+    private Object replay(String key, Snapshot snapshot, String requestHash) {
+        if (!snapshot.requestHash().equals(requestHash)) {
+            throw new IllegalArgumentException("이미 다른 요청에 사용된 Idempotency-Key 입니다.");
+        }
+        log.info("중복 요청에 이전 응답 반환: Key={}", key);
+        return deserialize(snapshot.payload());
+    }
+
+    private static String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(String.valueOf(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static String serialize(Object response) {
+        if (response == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(response);
+        } catch (IOException e) {
+            throw new IllegalStateException("응답을 직렬화할 수 없습니다: " + response.getClass().getSimpleName(), e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    private static Object deserialize(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(payload)))) {
+            in.setObjectInputFilter(ALLOWED_CLASSES);
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("응답 스냅샷을 역직렬화할 수 없습니다", e);
+        }
+    }
+
+    private record Snapshot(String requestHash, String payload, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.flower.common.idempotency;
+
+import com.flower.common.exception.IdempotencyConflictException;
+import com.flower.common.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키로 보호되는 작업과 완료 기록을 한 트랜잭션으로 커밋
+ * 완료 기록에 실패하거나 점유가 만료되어 다른 요청이 이어받았으면 작업까지 롤백해, 같은 키의 작업이 두 번 반영되지 않게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotentActionWriter {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    /**
+     * @param serializer 응답 스냅샷 변환 (직렬화 실패도 작업과 함께 롤백되도록 트랜잭션 안에서 수행)
+     */
+    @Transactional
+    public <T> Completion<T> runAndComplete(String key, String ownerToken, Supplier<T> action,
+                                            Function<Object, String> serializer, LocalDateTime expiresAt) {
+        T result = action.get();
+        String payload = serializer.apply(result);
+        if (idempotencyRecordRepository.complete(key, ownerToken, payload, expiresAt) == 0) {
+            throw new IdempotencyConflictException("처리 시간이 초과되어 같은 요청이 다시 처리되었습니다. 잠시 후 다시 조회해주세요.");
+        }
+        return new Completion<>(result, payload);
+    }
+
+    public record Completion<T>(T result, String payload) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.flower.common.outbox;
+
+import com.flower.common.concurrent.KeyedSerialExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리스너 전용 실행기 (동시 실행 수와 대기열 길이가 고정된 이름 있는 키 단위 순차 실행기)
+ * - 같은 애그리거트 키의 작업은 한 레인에서 순서대로 실행되고, 다른 키는 concurrency개 레인에서 병렬 실행
+ * - 대기열이 가득 차면 RejectedExecutionException을 던지며, 호출 측(릴레이)은 해당 작업을 다음 폴링으로 미룸
+ * - 가상 스레드 사용 시에도 동시 실행 수는 concurrency로 제한됨 (DB 커넥션 풀 고갈 방지)
+ *
+ * 지표 (listener 태그): outbox.listener.queue.size, outbox.listener.active,
+ * outbox.listener.queue.wait, outbox.listener.task, outbox.listener.rejected
+ */
+public class ListenerExecutor {
+
+    private final String name;
+    private final KeyedSerialExecutor executor;
+    private final Timer queueWait;
+    private final Timer taskTimer;
+    private final Counter rejected;
+
+    public ListenerExecutor(String name, int concurrency, int queueCapacity, boolean virtualThreads, MeterRegistry meterRegistry) {
+        if (concurrency < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("리스너 실행기 설정이 잘못되었습니다: " + name
+                    + ", concurrency=" + concurrency + ", queueCapacity=" + queueCapacity);
+        }
+        this.name = name;
+        this.executor = new KeyedSerialExecutor(concurrency, Math.max(queueCapacity / concurrency, 1),
+                threadFactory(name, virtualThreads));
+
+        this.queueWait = Timer.builder("outbox.listener.queue.wait").tag("listener", name)
+                .description("작업이 대기열에서 기다린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.taskTimer = Timer.builder("outbox.listener.task").tag("listener", name)
+                .description("리스너 작업 실행 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("outbox.listener.rejected").tag("listener", name).register(meterRegistry);
+        Gauge.builder("outbox.listener.queue.size", executor, KeyedSerialExecutor::queueSize)
+                .tag("listener", name).register(meterRegistry);
+        Gauge.builder("outbox.listener.active", executor, KeyedSerialExecutor::activeCount)
+                .tag("listener", name).register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param key 애그리거트 키 (같은 키는 제출 순서대로 실행)
+     * @throws RejectedExecutionException 키가 속한 레인의 대기열이 가득 찼거나 종료 중인 경우
+     */
+    public void execute(String key, Runnable task) {
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(key, () -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    taskTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    public int queueSize() {
+        return executor.queueSize();
+    }
+
+    public int activeCount() {
+        return executor.activeCount();
+    }
+
+    public void shutdown(long timeoutSeconds) throws InterruptedException {
+        executor.shutdown(timeoutSeconds);
+    }
+
+    private static ThreadFactory threadFactory(String name, boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name("listener-" + name + "-", 1).factory();
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "listener-" + name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.flower.common.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리스너 빈별 전용 실행기 목록
+ * 느린 리스너(배송 등)가 대기열을 채워도 다른 리스너(재고 차감 등)의 실행기에는 영향이 없음
+ *
+ * 설정: outbox.listeners.{빈이름}.concurrency / queue-capacity / virtual-threads
+ * (지정하지 않은 항목은 outbox.listeners.default.* 값을 사용)
+ */
+@Slf4j
+@Component
+public class ListenerExecutors {
+
+    private static final String PREFIX = "outbox.listeners.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ListenerExecutor> executors = new ConcurrentHashMap<>();
+
+    public ListenerExecutors(Environment environment, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    public ListenerExecutor executorFor(String listenerName) {
+        return executors.computeIfAbsent(listenerName, this::create);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ListenerExecutor executor : executors.values()) {
+            executor.shutdown(10);
+        }
+    }
+
+    private ListenerExecutor create(String listenerName) {
+        int concurrency = property(listenerName, "concurrency", Integer.class, 4);
+        int queueCapacity = property(listenerName, "queue-capacity", Integer.class, 1000);
+        boolean virtualThreads = property(listenerName, "virtual-threads", Boolean.class, true);
+        log.info("리스너 실행기 생성: {} (동시 실행={}, 대기열={}, 가상 스레드={})",
+                listenerName, concurrency, queueCapacity, virtualThreads);
+        return new ListenerExecutor(listenerName, concurrency, queueCapacity, virtualThreads, meterRegistry);
+    }
+
+    private <T> T property(String listenerName, String key, Class<T> type, T defaultValue) {
+        T value = environment.getProperty(PREFIX + listenerName + "." + key, type);
+        return value != null ? value : environment.getProperty(PREFIX + "default." + key, type, defaultValue);
+    }
+}
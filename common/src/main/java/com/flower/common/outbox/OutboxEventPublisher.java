@@ -0,0 +1,47 @@
+package com.flower.common.outbox;
+
+import com.flower.common.entity.OutboxEvent;
+import com.flower.common.event.DomainEvent;
+import com.flower.common.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 도메인 이벤트 발행
+ * - 트랜잭션 안에서 동기로 처리해야 하는 @EventListener(재고 예약 등)에는 즉시 전달
+ * - @OutboxListener에는 구독 리스너별로 아웃박스 행을 같은 트랜잭션에 기록 → 커밋된 이벤트만 릴레이가 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxListenerRegistry listenerRegistry;
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Transactional
+    public void publish(DomainEvent event) {
+        eventPublisher.publishEvent(event);
+
+        List<OutboxListenerRegistry.Subscription> subscriptions = listenerRegistry.subscriptionsFor(event.getClass());
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        String payload = OutboxPayloads.serialize(event);
+        outboxEventRepository.saveAll(subscriptions.stream()
+                .map(subscription -> OutboxEvent.builder()
+                        .eventType(event.getClass().getName())
+                        .listenerId(subscription.id())
+                        .aggregateKey(event.getAggregateKey())
+                        .payload(payload)
+                        .build())
+                .toList());
+        log.debug("아웃박스 기록: {} ({}) -> 리스너 {}개", event.getEventType(), event.getAggregateKey(), subscriptions.size());
+    }
+}
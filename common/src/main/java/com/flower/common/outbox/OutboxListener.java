@@ -0,0 +1,21 @@
+package com.flower.common.outbox;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 아웃박스를 통해 전달받는 도메인 이벤트 리스너
+ * - 발행 트랜잭션이 커밋된 이벤트만 OutboxRelay 작업 스레드에서 호출됨 (JVM이 죽어도 재기동 후 전달)
+ * - 같은 빈의 리스너 메서드들은 이벤트의 애그리거트 키가 같으면 한 레인에서 기록 순서대로 하나씩 호출되고,
+ *   키가 다르면 병렬로 호출됨 (예: 한 상품의 리뷰 생성/수정/삭제 처리가 서로 겹치지 않음)
+ * - 예외를 던지면 백오프 후 재시도되므로, 리스너는 같은 이벤트를 두 번 받아도 안전해야 함
+ * - 메서드는 DomainEvent 하위 타입 하나를 인자로 받아야 함
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OutboxListener {
+}
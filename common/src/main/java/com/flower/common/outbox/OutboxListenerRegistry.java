@@ -0,0 +1,86 @@
+package com.flower.common.outbox;
+
+import com.flower.common.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @OutboxListener 메서드 목록
+ * 트랜잭션 등 프록시가 적용된 빈은 프록시를 통해 호출하여 리스너의 @Transactional이 그대로 동작하게 함
+ */
+@Slf4j
+@Component
+public class OutboxListenerRegistry implements BeanPostProcessor {
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<Subscription>> byEventType = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        Map<Method, OutboxListener> methods = MethodIntrospector.selectMethods(targetClass,
+                (MethodIntrospector.MetadataLookup<OutboxListener>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, OutboxListener.class));
+
+        methods.keySet().forEach(method -> {
+            if (method.getParameterCount() != 1 || !DomainEvent.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                throw new IllegalStateException("@OutboxListener 메서드는 DomainEvent 하나만 받아야 합니다: " + method);
+            }
+            Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+            ReflectionUtils.makeAccessible(invocable);
+            Subscription subscription = new Subscription(beanName + "#" + method.getName(), beanName,
+                    method.getParameterTypes()[0], bean, invocable);
+            subscriptions.put(subscription.id(), subscription);
+            log.debug("아웃박스 리스너 등록: {} <- {}", subscription.id(), subscription.eventType().getSimpleName());
+        });
+        if (!methods.isEmpty()) {
+            byEventType.clear();
+        }
+        return bean;
+    }
+
+    public List<Subscription> subscriptionsFor(Class<?> eventType) {
+        return byEventType.computeIfAbsent(eventType, type -> subscriptions.values().stream()
+                .filter(subscription -> subscription.eventType().isAssignableFrom(type))
+                .sorted((a, b) -> a.id().compareTo(b.id()))
+                .toList());
+    }
+
+    public Set<String> listenerIds() {
+        return Set.copyOf(subscriptions.keySet());
+    }
+
+    public Optional<Subscription> find(String listenerId) {
+        return Optional.ofNullable(subscriptions.get(listenerId));
+    }
+
+    /**
+     * @param beanName 리스너 빈 이름 (리스너별 실행기 구분에 사용)
+     */
+    public record Subscription(String id, String beanName, Class<?> eventType, Object bean, Method method) {
+
+        public void invoke(DomainEvent event) throws Exception {
+            try {
+                method.invoke(bean, event);
+            } catch (InvocationTargetException e) {
+                if (e.getTargetException() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
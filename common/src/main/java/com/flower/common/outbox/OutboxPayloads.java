@@ -0,0 +1,47 @@
+package com.flower.common.outbox;
+
+import com.flower.common.event.DomainEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Base64;
+
+/**
+ * 아웃박스 페이로드 직렬화
+ * 이벤트가 불변 필드 + 생성자 구조라 별도 매핑 없이 Java 직렬화(Base64)로 저장
+ * 이벤트 클래스는 serialVersionUID를 고정해 필드 추가 후에도 대기 중인 행을 읽을 수 있게 하고,
+ * 역직렬화는 이벤트 패키지와 이벤트 필드에 쓰는 JDK 값 타입만 허용 (그 밖의 클래스가 들어 있으면 거부)
+ */
+final class OutboxPayloads {
+
+    private static final ObjectInputFilter ALLOWED_CLASSES = ObjectInputFilter.Config.createFilter(
+            "maxdepth=20;maxrefs=10000;maxbytes=1048576;"
+                    + "com.flower.common.event.*;org.springframework.context.ApplicationEvent;"
+                    + "java.lang.*;java.util.*;java.time.*;java.math.*;!*");
+
+    private OutboxPayloads() {
+    }
+
+    static String serialize(DomainEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(event);
+        } catch (IOException e) {
+            throw new IllegalStateException("이벤트를 직렬화할 수 없습니다: " + event.getEventType(), e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    static DomainEvent deserialize(String payload) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(payload)))) {
+            in.setObjectInputFilter(ALLOWED_CLASSES);
+            return (DomainEvent) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("이벤트를 역직렬화할 수 없습니다", e);
+        }
+    }
+}
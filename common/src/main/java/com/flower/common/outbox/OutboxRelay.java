@@ -0,0 +1,308 @@
+package com.flower.common.outbox;
+
+import com.flower.common.entity.OutboxEvent;
+import com.flower.common.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이
+ * - 대기 행을 배치로 점유(리스)한 뒤 리스너 빈별 전용 실행기(ListenerExecutors)에 넘기고 바로 다음 폴링으로 진행
+ * - 같은 리스너 빈·애그리거트 키의 행(예: 한 상품의 리뷰 생성/수정/삭제)은 ID 순으로 한 작업에 묶어 키 레인에 넣으므로,
+ *   배치 안에서도 배치 사이에서도 기록 순서대로 하나씩 처리되고 다른 키는 병렬 처리됨
+ * - 한 행이 실패하면 같은 키의 뒤 행은 전달을 멈추고, 앞선 행이 재시도 대기 중인 동안에는 점유하지 않음
+ *   (최대 횟수를 넘겨 FAILED가 되면 뒤 행부터 다시 전달)
+ * - 점유 UPDATE에서 앞선 행 조건을 다시 확인하고, 점유 직후 앞 행을 함께 갖지 못한 뒤 행은 내려놓으므로
+ *   여러 노드에서 릴레이가 동시에 떠도 한 키의 행이 서로 다른 노드에 나뉘어 순서가 뒤바뀌지 않음
+ * - 완료된 행은 모아 두었다가 다음 폴링 시 한 번의 UPDATE로 완료 처리하고, 실패한 행은 지수 백오프로 재시도 (최대 횟수 초과 시 FAILED)
+ * - 레인 대기열이 가득 차면 점유를 풀어 해당 리스너에 배압을 걸고, 다른 리스너는 계속 전달됨
+ * - 실행기에 넘긴 뒤 아직 끝나지 않은 행은 리스 절반이 지나면 매 폴링에서 연장하므로, 레인에서 오래 대기해도 다시 점유되어 중복 전달되지 않음
+ * - 배치가 가득 차고 배압이 없으면 쉬지 않고 다음 배치를 처리하여 피크 시간대 적체를 따라잡음
+ * - 이 인스턴스에 등록된 리스너의 행만 점유하므로 리스너 구성이 다른 애플리케이션(batch 등)과 함께 떠도 안전함
+ *
+ * 지표: outbox.relay.events(result), outbox.relay.delivery.lag, outbox.relay.batch, outbox.relay.lag.seconds,
+ * outbox.relay.deferred
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final long MAX_BACKOFF_SECONDS = 300;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxListenerRegistry listenerRegistry;
+    private final ListenerExecutors listenerExecutors;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    private final Queue<Long> completed = new ConcurrentLinkedQueue<>();
+    // 실행기에 넘긴 뒤 전달이 끝나지 않은 행 → 점유 만료 시각
+    private final Map<Long, LocalDateTime> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter succeeded;
+    private final Counter failed;
+    private final Counter deferred;
+    private final Timer deliveryLag;
+    private final Timer batchTimer;
+    private final AtomicLong oldestPendingLagSeconds = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxListenerRegistry listenerRegistry,
+                       ListenerExecutors listenerExecutors,
+                       ObjectProvider<MeterRegistry> meterRegistryProvider,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.lease-seconds:60}") long leaseSeconds,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.retention-days:3}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.listenerRegistry = listenerRegistry;
+        this.listenerExecutors = listenerExecutors;
+        this.batchSize = batchSize;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.succeeded = Counter.builder("outbox.relay.events").tag("result", "success").register(meterRegistry);
+        this.failed = Counter.builder("outbox.relay.events").tag("result", "failure").register(meterRegistry);
+        this.deferred = Counter.builder("outbox.relay.deferred")
+                .description("실행기 포화로 다음 폴링으로 미룬 행 수")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("outbox.relay.delivery.lag")
+                .description("이벤트 기록부터 리스너 전달 완료까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch").register(meterRegistry);
+        Gauge.builder("outbox.relay.lag.seconds", oldestPendingLagSeconds, AtomicLong::get)
+                .description("가장 오래된 대기 이벤트의 경과 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:100}")
+    public void poll() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed >= batchSize); // 적체가 남아 있으면 바로 다음 배치 처리
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 완료 행 일괄 반영 후 한 배치 점유 및 실행기 투입
+     *
+     * @return 실행기에 넘긴 후보 수 (배치 크기와 같으면 적체가 남아 있는 것으로 판단, 배압이 걸리면 0)
+     */
+    public int relayBatch() {
+        flushCompleted();
+        renewLeases();
+
+        Set<String> listenerIds = listenerRegistry.listenerIds();
+        if (listenerIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> candidates = outboxEventRepository.findClaimableIds(listenerIds, now, PageRequest.of(0, batchSize));
+        if (candidates.isEmpty()) {
+            oldestPendingLagSeconds.set(0);
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        String token = UUID.randomUUID().toString();
+        outboxEventRepository.claim(candidates, token, now.plus(lease), now);
+        outboxEventRepository.yieldOutOfOrder(token);
+        List<OutboxEvent> claimed = outboxEventRepository.findByClaimTokenOrderByIdAsc(token);
+
+        List<Long> postponed = new ArrayList<>();
+        Map<String, Map<String, List<Dispatch>>> byListener = new LinkedHashMap<>();
+        for (OutboxEvent event : claimed) {
+            Optional<OutboxListenerRegistry.Subscription> subscription = listenerRegistry.find(event.getListenerId());
+            if (subscription.isEmpty()) {
+                scheduleRetry(event, new IllegalStateException("리스너를 찾을 수 없습니다: " + event.getListenerId()));
+                continue;
+            }
+            byListener.computeIfAbsent(subscription.get().beanName(), name -> new LinkedHashMap<>())
+                    .computeIfAbsent(event.getAggregateKey(), key -> new ArrayList<>())
+                    .add(new Dispatch(subscription.get(), event));
+        }
+        LocalDateTime claimedUntil = now.plus(lease);
+        byListener.forEach((beanName, byKey) -> {
+            ListenerExecutor executor = listenerExecutors.executorFor(beanName);
+            byKey.forEach((key, group) -> {
+                group.forEach(dispatch -> inFlight.put(dispatch.event().getId(), claimedUntil));
+                if (!submit(executor, key, group)) {
+                    group.forEach(dispatch -> {
+                        inFlight.remove(dispatch.event().getId());
+                        postponed.add(dispatch.event().getId());
+                    });
+                }
+            });
+        });
+        if (!postponed.isEmpty()) {
+            outboxEventRepository.release(postponed);
+            deferred.increment(postponed.size());
+        }
+        batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        updateLag();
+
+        log.debug("아웃박스 전달: 점유 {}건, 보류 {}건", claimed.size(), postponed.size());
+        return postponed.isEmpty() ? candidates.size() : 0;
+    }
+
+    /**
+     * 전달 완료된 행을 한 번의 UPDATE로 완료 처리
+     */
+    public int flushCompleted() {
+        List<Long> done = new ArrayList<>();
+        for (Long id = completed.poll(); id != null; id = completed.poll()) {
+            done.add(id);
+        }
+        if (!done.isEmpty()) {
+            outboxEventRepository.markDone(done, LocalDateTime.now());
+        }
+        return done.size();
+    }
+
+    /**
+     * 보존 기간이 지난 완료 행 정리
+     */
+    @Scheduled(cron = "${outbox.relay.cleanup-cron:0 30 3 * * *}")
+    public void purgeDone() {
+        int deleted = outboxEventRepository.deleteDoneBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("아웃박스 완료 행 정리: {}건", deleted);
+    }
+
+    /**
+     * 실행기에 남은 작업이 끝날 때까지 기다린 뒤 완료 행 반영
+     * 릴레이가 실행기보다 먼저 소멸되므로 여기서 먼저 실행기를 종료하지 않으면 마지막 배치의 완료가 유실됨
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        listenerExecutors.shutdown();
+        flushCompleted();
+    }
+
+    // --- Private Helper Methods ---
+
+    // 키가 속한 레인의 대기열이 가득 차면 false
+    private boolean submit(ListenerExecutor executor, String key, List<Dispatch> group) {
+        try {
+            executor.execute(key, () -> dispatchInOrder(group));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    // 앞선 행이 실패하면 같은 키의 뒤 행은 전달하지 않고 점유만 풀어 둠 (앞선 행이 재시도로 끝날 때까지 점유 대상에서 제외됨)
+    private void dispatchInOrder(List<Dispatch> group) {
+        for (int i = 0; i < group.size(); i++) {
+            if (!dispatch(group.get(i))) {
+                List<Long> held = group.subList(i + 1, group.size()).stream()
+                        .map(dispatch -> dispatch.event().getId())
+                        .toList();
+                if (!held.isEmpty()) {
+                    outboxEventRepository.release(held);
+                    held.forEach(inFlight::remove);
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean dispatch(Dispatch dispatch) {
+        OutboxEvent event = dispatch.event();
+        try {
+            dispatch.subscription().invoke(OutboxPayloads.deserialize(event.getPayload()));
+            completed.add(event.getId());
+            inFlight.remove(event.getId());
+            succeeded.increment();
+            deliveryLag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+            return true;
+        } catch (Exception e) {
+            failed.increment();
+            scheduleRetry(event, e);
+            inFlight.remove(event.getId());
+            return false;
+        }
+    }
+
+    // 리스 절반이 지난 전달 중 행의 점유 연장 (완료/실패 처리된 행은 조건부 UPDATE에서 제외됨)
+    private void renewLeases() {
+        if (inFlight.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime renewBefore = now.plus(lease.dividedBy(2));
+        List<Long> expiring = inFlight.entrySet().stream()
+                .filter(entry -> !entry.getValue().isAfter(renewBefore))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (expiring.isEmpty()) {
+            return;
+        }
+        LocalDateTime claimedUntil = now.plus(lease);
+        outboxEventRepository.extendLease(expiring, claimedUntil);
+        expiring.forEach(id -> inFlight.replace(id, claimedUntil));
+        log.debug("아웃박스 전달 중 행 점유 연장: {}건", expiring.size());
+    }
+
+    private void scheduleRetry(OutboxEvent event, Exception cause) {
+        int attempts = event.getAttempts() + 1;
+        OutboxEvent.Status status = attempts >= maxAttempts ? OutboxEvent.Status.FAILED : OutboxEvent.Status.PENDING;
+        long backoffSeconds = Math.min(1L << Math.min(attempts, 20), MAX_BACKOFF_SECONDS);
+        String error = String.valueOf(cause.getMessage());
+        outboxEventRepository.markFailed(event.getId(), status, attempts, LocalDateTime.now().plusSeconds(backoffSeconds),
+                error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        if (status == OutboxEvent.Status.FAILED) {
+            log.error("아웃박스 전달 최종 실패: id={}, 리스너={}, 키={}, 시도={}회, 오류={}",
+                    event.getId(), event.getListenerId(), event.getAggregateKey(), attempts, error, cause);
+        } else {
+            log.warn("아웃박스 전달 실패, {}초 후 재시도: id={}, 리스너={}, 시도={}회, 오류={}",
+                    backoffSeconds, event.getId(), event.getListenerId(), attempts, error);
+        }
+    }
+
+    private void updateLag() {
+        LocalDateTime oldest = outboxEventRepository.findOldestPendingCreatedAt();
+        oldestPendingLagSeconds.set(oldest == null ? 0 : Math.max(Duration.between(oldest, LocalDateTime.now()).toSeconds(), 0));
+    }
+
+    private record Dispatch(OutboxListenerRegistry.Subscription subscription, OutboxEvent event) {
+    }
+}
@@ -1,12 +1,64 @@
 package com.flower.common.repository;
 
 import com.flower.common.entity.FailureLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface FailureLogRepository extends JpaRepository<FailureLog, Long> {
     List<FailureLog> findByStatus(FailureLog.ProcessingStatus status);
+
+    /**
+     * 재시도 대상 후보 (대기 중이며 재시도 시각이 지났고, 다른 노드가 점유하지 않은 행)
+     */
+    @Query("SELECT f.id FROM FailureLog f WHERE f.status = com.flower.common.entity.FailureLog.ProcessingStatus.PENDING " +
+           "AND (f.nextAttemptAt IS NULL OR f.nextAttemptAt <= :now) " +
+           "AND (f.claimedUntil IS NULL OR f.claimedUntil < :now) ORDER BY f.id")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 후보 행을 점유 (조건부 UPDATE라 여러 배치 노드가 동시에 점유해도 한 곳만 성공)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE FailureLog f SET f.claimToken = :token, f.claimedUntil = :until " +
+           "WHERE f.id IN :ids AND f.status = com.flower.common.entity.FailureLog.ProcessingStatus.PENDING " +
+           "AND (f.claimedUntil IS NULL OR f.claimedUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token,
+              @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    List<FailureLog> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    /**
+     * 재시도 성공 처리 (점유 토큰이 그대로일 때만 - 점유가 만료되어 다른 노드가 가져갔으면 0)
+     */
+    @Modifying
+    @Query("UPDATE FailureLog f SET f.status = com.flower.common.entity.FailureLog.ProcessingStatus.RESOLVED, " +
+           "f.claimToken = NULL, f.claimedUntil = NULL, f.updatedAt = :now WHERE f.id = :id AND f.claimToken = :token")
+    int markResolved(@Param("id") Long id, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    /**
+     * 재시도 실패 기록 후 다음 시도 예약 (최대 횟수 초과 시 status = FAILED)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE FailureLog f SET f.status = :status, f.retryCount = :retryCount, f.nextAttemptAt = :nextAttemptAt, " +
+           "f.errorMessage = :error, f.claimToken = NULL, f.claimedUntil = NULL, f.updatedAt = :now " +
+           "WHERE f.id = :id AND f.claimToken = :token")
+    int markRetry(@Param("id") Long id, @Param("token") String token, @Param("status") FailureLog.ProcessingStatus status,
+                  @Param("retryCount") int retryCount, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("error") String error, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM FailureLog f WHERE f.domain = :domain AND f.payload LIKE CONCAT(:payloadPrefix, '%')")
+    int deleteByDomainAndPayloadPrefix(@Param("domain") String domain, @Param("payloadPrefix") String payloadPrefix);
 }
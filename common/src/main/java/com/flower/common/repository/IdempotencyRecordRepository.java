@@ -0,0 +1,63 @@
+package com.flower.common.repository;
+
+import com.flower.common.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * 처리 중 기록 생성 (키가 이미 있으면 DataIntegrityViolationException - save()는 병합이라 덮어쓰므로 직접 INSERT)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, request_hash, status, owner_token, expires_at, created_at) " +
+                   "VALUES (:key, :hash, 'IN_PROGRESS', :token, :lockedUntil, :now)", nativeQuery = true)
+    int insertInProgress(@Param("key") String key, @Param("hash") String hash, @Param("token") String token,
+                         @Param("lockedUntil") LocalDateTime lockedUntil, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 기록(처리하던 노드가 죽었거나 보관 기간이 지난 경우)을 새 요청이 이어받음
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = com.flower.common.entity.IdempotencyRecord.Status.IN_PROGRESS, " +
+           "r.requestHash = :hash, r.responseSnapshot = NULL, r.ownerToken = :token, r.expiresAt = :lockedUntil, r.createdAt = :now " +
+           "WHERE r.idempotencyKey = :key AND r.expiresAt < :now")
+    int takeOverExpired(@Param("key") String key, @Param("hash") String hash, @Param("token") String token,
+                        @Param("lockedUntil") LocalDateTime lockedUntil, @Param("now") LocalDateTime now);
+
+    /**
+     * 완료 기록 (점유 토큰이 그대로일 때만 - 점유가 만료되어 다른 요청이 이어받았으면 0)
+     * 호출 측 트랜잭션에 참여하므로 작업과 같은 트랜잭션에서 부르면 함께 커밋/롤백됨
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = com.flower.common.entity.IdempotencyRecord.Status.COMPLETED, " +
+           "r.responseSnapshot = :snapshot, r.expiresAt = :expiresAt, r.ownerToken = NULL " +
+           "WHERE r.idempotencyKey = :key AND r.ownerToken = :token " +
+           "AND r.status = com.flower.common.entity.IdempotencyRecord.Status.IN_PROGRESS")
+    int complete(@Param("key") String key, @Param("token") String token,
+                 @Param("snapshot") String snapshot, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 처리 실패 시 점유 해제 (클라이언트가 같은 키로 다시 시도할 수 있도록, 다른 요청이 이어받은 점유는 건드리지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :key AND r.ownerToken = :token " +
+           "AND r.status = com.flower.common.entity.IdempotencyRecord.Status.IN_PROGRESS")
+    int release(@Param("key") String key, @Param("token") String token);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
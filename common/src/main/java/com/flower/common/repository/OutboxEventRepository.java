@@ -0,0 +1,99 @@
+package com.flower.common.repository;
+
+import com.flower.common.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 전달 대상 후보 (이 인스턴스의 리스너 행 중 대기 중이며 재시도 시각이 지났고, 다른 릴레이가 점유하지 않은 행)
+     * 같은 리스너·키의 앞선 행이 재시도 대기 중이거나 아직 전달 중이면 순서를 지키기 위해 제외
+     */
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = com.flower.common.entity.OutboxEvent.Status.PENDING " +
+           "AND e.listenerId IN :listenerIds AND e.nextAttemptAt <= :now " +
+           "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) " +
+           "AND NOT EXISTS (SELECT 1 FROM OutboxEvent p WHERE p.listenerId = e.listenerId AND p.aggregateKey = e.aggregateKey " +
+           "AND p.id < e.id AND p.status = com.flower.common.entity.OutboxEvent.Status.PENDING " +
+           "AND (p.nextAttemptAt > :now OR p.claimedUntil >= :now)) ORDER BY e.id")
+    List<Long> findClaimableIds(@Param("listenerIds") Collection<String> listenerIds,
+                                @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 후보 행을 점유 (조건부 UPDATE라 여러 인스턴스가 동시에 점유해도 한 곳만 성공)
+     * 후보 조회 이후 다른 인스턴스가 같은 리스너·키의 앞선 행을 점유했거나 재시도 대기로 돌린 경우를 막기 위해,
+     * 이번 후보에 함께 들어 있지 않은 앞선 대기 행이 있으면 점유하지 않음
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimToken = :token, e.claimedUntil = :until " +
+           "WHERE e.id IN :ids AND e.status = com.flower.common.entity.OutboxEvent.Status.PENDING " +
+           "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) " +
+           "AND NOT EXISTS (SELECT 1 FROM OutboxEvent p WHERE p.listenerId = e.listenerId AND p.aggregateKey = e.aggregateKey " +
+           "AND p.id < e.id AND p.status = com.flower.common.entity.OutboxEvent.Status.PENDING AND p.id NOT IN :ids)")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token,
+              @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    /**
+     * 점유 직후 같은 리스너·키의 앞선 대기 행을 이 토큰이 함께 점유하지 못한 행을 다시 내려놓음
+     * 두 인스턴스가 같은 후보를 동시에 점유하면 앞 행과 뒤 행이 서로 다른 인스턴스에 나뉠 수 있는데,
+     * 커밋된 점유 결과를 기준으로 앞 행을 갖지 못한 쪽이 뒤 행을 양보하므로 키 순서는 노드 수와 무관하게 유지됨
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimToken = NULL, e.claimedUntil = NULL WHERE e.claimToken = :token " +
+           "AND EXISTS (SELECT 1 FROM OutboxEvent p WHERE p.listenerId = e.listenerId AND p.aggregateKey = e.aggregateKey " +
+           "AND p.id < e.id AND p.status = com.flower.common.entity.OutboxEvent.Status.PENDING " +
+           "AND (p.claimToken IS NULL OR p.claimToken <> :token))")
+    int yieldOutOfOrder(@Param("token") String token);
+
+    List<OutboxEvent> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.flower.common.entity.OutboxEvent.Status.DONE, " +
+           "e.processedAt = :now, e.claimToken = NULL, e.claimedUntil = NULL WHERE e.id IN :ids")
+    int markDone(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 실행기 대기열에서 아직 전달을 기다리는 행의 점유 연장 (이미 완료·실패 처리되어 점유가 풀린 행은 제외)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedUntil = :until WHERE e.id IN :ids " +
+           "AND e.status = com.flower.common.entity.OutboxEvent.Status.PENDING AND e.claimToken IS NOT NULL")
+    int extendLease(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+
+    /**
+     * 점유 해제 (리스너 실행기가 포화되어 이번 폴링에서 처리하지 못한 행)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimToken = NULL, e.claimedUntil = NULL WHERE e.id IN :ids")
+    int release(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, " +
+           "e.lastError = :error, e.claimToken = NULL, e.claimedUntil = NULL WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("status") OutboxEvent.Status status, @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status = com.flower.common.entity.OutboxEvent.Status.PENDING")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = com.flower.common.entity.OutboxEvent.Status.DONE AND e.processedAt < :cutoff")
+    int deleteDoneBefore(@Param("cutoff") LocalDateTime cutoff);
+}
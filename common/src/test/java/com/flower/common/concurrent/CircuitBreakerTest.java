@@ -0,0 +1,114 @@
+package com.flower.common.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CircuitBreaker Tests")
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private CircuitBreaker circuitBreaker() {
+        return new CircuitBreaker("pg", 10, 4, 0.5, Duration.ofSeconds(30), 2, now::get);
+    }
+
+    @Test
+    @DisplayName("Should open when the failure rate reaches the threshold and reject calls")
+    void shouldOpenOnFailureRate() {
+        // 준비
+        CircuitBreaker breaker = circuitBreaker();
+
+        // 실행 - 성공 2건, 실패 2건 (50%)
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        // 검증
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should stay closed until the minimum number of calls is recorded")
+    void shouldWaitForMinimumCalls() {
+        // 준비
+        CircuitBreaker breaker = circuitBreaker();
+
+        // 실행
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        // 검증
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should allow limited trial calls after the open duration and close when they succeed")
+    void shouldCloseAfterSuccessfulTrials() {
+        // 준비
+        CircuitBreaker breaker = circuitBreaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+
+        // 실행
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        boolean first = breaker.tryAcquirePermission();
+        boolean second = breaker.tryAcquirePermission();
+        boolean third = breaker.tryAcquirePermission();
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        // 검증
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should reopen when a trial call fails")
+    void shouldReopenOnTrialFailure() {
+        // 준비
+        CircuitBreaker breaker = circuitBreaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // 실행
+        breaker.tryAcquirePermission();
+        breaker.onFailure();
+
+        // 검증
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should forget old outcomes outside the sliding window")
+    void shouldSlideWindow() {
+        // 준비
+        CircuitBreaker breaker = new CircuitBreaker("pg", 4, 4, 0.75, Duration.ofSeconds(30), 1, now::get);
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        // 실행 - 앞의 실패 2건이 창 밖으로 밀려남
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        // 검증
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
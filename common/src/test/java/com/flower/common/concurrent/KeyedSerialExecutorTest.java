@@ -0,0 +1,94 @@
+package com.flower.common.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeyedSerialExecutor Tests")
+class KeyedSerialExecutorTest {
+
+    @Test
+    @DisplayName("Should run tasks of the same key one at a time in submission order")
+    void shouldSerializeTasksPerKey() throws InterruptedException {
+        // 준비
+        KeyedSerialExecutor executor = new KeyedSerialExecutor(8, 10_000, Thread.ofVirtual().factory());
+        int keys = 16;
+        int tasksPerKey = 500;
+        Map<Long, List<Integer>> executed = new ConcurrentHashMap<>();
+        Map<Long, AtomicInteger> running = new ConcurrentHashMap<>();
+        AtomicInteger overlaps = new AtomicInteger();
+
+        // 실행
+        for (int i = 0; i < tasksPerKey; i++) {
+            for (long key = 1; key <= keys; key++) {
+                long productId = key;
+                int sequence = i;
+                executor.execute(productId, () -> {
+                    if (running.computeIfAbsent(productId, id -> new AtomicInteger()).incrementAndGet() > 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    executed.computeIfAbsent(productId, id -> new CopyOnWriteArrayList<>()).add(sequence);
+                    running.get(productId).decrementAndGet();
+                });
+            }
+        }
+        executor.shutdown(10);
+
+        // 검증
+        assertThat(overlaps.get()).isZero();
+        assertThat(executed).hasSize(keys);
+        executed.values().forEach(sequences -> assertThat(sequences).hasSize(tasksPerKey).isSorted());
+    }
+
+    @Test
+    @DisplayName("Should keep other lanes running while one key is blocked")
+    void shouldNotBlockOtherLanes() throws InterruptedException {
+        // 준비
+        KeyedSerialExecutor executor = new KeyedSerialExecutor(4, 10, Thread.ofVirtual().factory());
+        String blockedKey = "ORD-1";
+        String otherKey = findKeyOnOtherLane(executor, blockedKey);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherDone = new CountDownLatch(1);
+
+        // 실행
+        executor.execute(blockedKey, () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(otherKey, otherDone::countDown);
+
+        // 검증
+        assertThat(otherDone.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        executor.shutdown(5);
+    }
+
+    @Test
+    @DisplayName("Should refuse invalid lane settings")
+    void shouldRefuseInvalidSettings() {
+        assertThatThrownBy(() -> new KeyedSerialExecutor(0, 10, Thread.ofVirtual().factory()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String findKeyOnOtherLane(KeyedSerialExecutor executor, String key) {
+        for (int i = 2; ; i++) {
+            String candidate = "ORD-" + i;
+            if (executor.laneOf(candidate) != executor.laneOf(key)) {
+                return candidate;
+            }
+        }
+    }
+}
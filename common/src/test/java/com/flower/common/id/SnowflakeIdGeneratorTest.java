@@ -0,0 +1,115 @@
+package com.flower.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Snowflake ID 생성기 테스트")
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 ID가 중복되지 않아야 한다")
+    void shouldGenerateUniqueIdsConcurrently() throws InterruptedException {
+        // 준비
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        int threadCount = 16;
+        int idsPerThread = 50_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        // 실행
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(generator.nextId());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // 검증
+        assertEquals(threadCount * idsPerThread, ids.size());
+    }
+
+    @Test
+    @DisplayName("시계가 역행해도 ID는 계속 증가해야 한다")
+    void shouldStayMonotonicWhenClockMovesBackwards() {
+        // 준비
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+        long first = generator.nextId();
+
+        // 실행
+        clock.addAndGet(-5_000);
+        long second = generator.nextId();
+        clock.addAndGet(10_000);
+        long third = generator.nextId();
+
+        // 검증
+        assertTrue(second > first);
+        assertTrue(third > second);
+    }
+
+    @Test
+    @DisplayName("한 밀리초에 시퀀스를 모두 쓰면 다음 밀리초로 넘어가야 한다")
+    void shouldBorrowNextMillisecondWhenSequenceIsExhausted() {
+        // 준비
+        long now = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> now);
+
+        // 실행
+        long previous = generator.nextId();
+        for (int i = 1; i < (1 << SnowflakeIdGenerator.SEQUENCE_BITS); i++) {
+            long next = generator.nextId();
+            assertTrue(next > previous);
+            previous = next;
+        }
+        long overflow = generator.nextId();
+
+        // 검증
+        assertTrue(overflow > previous);
+        assertEquals(now + 1, SnowflakeIdGenerator.timestampOf(overflow).toEpochMilli());
+        assertEquals(1, SnowflakeIdGenerator.nodeIdOf(overflow));
+    }
+
+    @Test
+    @DisplayName("코드는 접두어와 발급 날짜를 포함하고 발급 순서대로 정렬되어야 한다")
+    void shouldFormatReadableSortableCode() {
+        // 준비
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+
+        // 실행
+        String first = generator.nextCode("ORD");
+        String second = generator.nextCode("ORD");
+
+        // 검증
+        assertTrue(first.matches("ORD-\\d{6}-[0-9A-Z]{13}"), first);
+        assertTrue(first.compareTo(second) < 0);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 거부해야 한다")
+    void shouldRejectInvalidNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+    }
+}
@@ -0,0 +1,239 @@
+package com.flower.common.idempotency;
+
+import com.flower.common.entity.IdempotencyRecord;
+import com.flower.common.exception.IdempotencyConflictException;
+import com.flower.common.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyService Tests")
+class IdempotencyServiceTest {
+
+    private static final String KEY = "order:create:client-key-1";
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(idempotencyRecordRepository.complete(eq(KEY), anyString(), any(), any())).thenReturn(1);
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, new IdempotentActionWriter(idempotencyRecordRepository), 24, 60, 100);
+    }
+
+    @Test
+    @DisplayName("Should run action without bookkeeping when no key is given")
+    void shouldRunDirectlyWithoutKey() {
+        // 실행
+        String result = idempotencyService.execute("order:create", null, new StubRequest(1L), () -> "ORD-1");
+
+        // 검증
+        assertThat(result).isEqualTo("ORD-1");
+        verifyNoInteractions(idempotencyRecordRepository);
+    }
+
+    @Test
+    @DisplayName("Should replay the first response from memory for a repeated key")
+    void shouldReplayFromMemory() {
+        // 준비
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any())).thenReturn(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        // 실행
+        String first = idempotencyService.execute("order:create", "client-key-1", new StubRequest(1L),
+                () -> "ORD-" + executions.incrementAndGet());
+        String second = idempotencyService.execute("order:create", "client-key-1", new StubRequest(1L),
+                () -> "ORD-" + executions.incrementAndGet());
+
+        // 검증
+        assertThat(first).isEqualTo("ORD-1");
+        assertThat(second).isEqualTo("ORD-1");
+        assertThat(executions.get()).isEqualTo(1);
+        verify(idempotencyRecordRepository).complete(eq(KEY), anyString(), anyString(), any());
+        verify(idempotencyRecordRepository, times(1)).insertInProgress(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should replay the stored snapshot when another node completed the key")
+    void shouldReplayFromDatabase() {
+        // 준비 - 다른 노드에서 처리되어 저장된 스냅샷
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any())).thenReturn(1);
+        idempotencyService.execute("order:create", "client-key-1", new StubRequest(1L), () -> "ORD-1");
+        ArgumentCaptor<String> snapshot = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyRecordRepository).complete(eq(KEY), anyString(), snapshot.capture(), any());
+        String requestHash = captureRequestHash();
+
+        IdempotencyService otherNode = new IdempotencyService(idempotencyRecordRepository, new IdempotentActionWriter(idempotencyRecordRepository), 24, 60, 100);
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(idempotencyRecordRepository.findById(KEY)).thenReturn(Optional.of(new IdempotencyRecord(
+                KEY, requestHash, IdempotencyRecord.Status.COMPLETED, snapshot.getValue(), LocalDateTime.now().plusHours(1))));
+
+        // 실행
+        String result = otherNode.execute("order:create", "client-key-1", new StubRequest(1L), () -> "ORD-2");
+
+        // 검증
+        assertThat(result).isEqualTo("ORD-1");
+    }
+
+    @Test
+    @DisplayName("Should refuse to replay a stored snapshot holding a class outside the allowlist")
+    void shouldRejectSnapshotWithDisallowedClass() throws IOException {
+        // 준비 - 저장소에 애플리케이션 응답이 아닌 클래스가 들어간 스냅샷
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any()))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        idempotencyService.execute("order:create", "client-key-1", new StubRequest(1L), () -> "ORD-1");
+        String requestHash = captureRequestHash();
+        IdempotencyService otherNode = new IdempotencyService(idempotencyRecordRepository, new IdempotentActionWriter(idempotencyRecordRepository), 24, 60, 100);
+        when(idempotencyRecordRepository.findById(KEY)).thenReturn(Optional.of(new IdempotencyRecord(
+                KEY, requestHash, IdempotencyRecord.Status.COMPLETED, serialize(new File("/tmp/evil")), LocalDateTime.now().plusHours(1))));
+
+        // 실행 & 검증
+        assertThatThrownBy(() -> otherNode.execute("order:create", "client-key-1", new StubRequest(1L), () -> "ORD-2"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("역직렬화");
+    }
+
+    @Test
+    @DisplayName("Should reject a concurrent duplicate while the first request is in progress")
+    void shouldRejectConcurrentDuplicate() {
+        // 준비
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any()))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        AtomicInteger executions = new AtomicInteger();
+
+        // 실행 - 첫 요청 처리 도중 같은 키의 요청이 들어옴
+        idempotencyService.execute("order:create", "client-key-1", new StubRequest(1L), () -> {
+            executions.incrementAndGet();
+            String requestHash = captureRequestHash();
+            when(idempotencyRecordRepository.findById(KEY)).thenReturn(Optional.of(new IdempotencyRecord(
+                    KEY, requestHash, IdempotencyRecord.Status.IN_PROGRESS, null, LocalDateTime.now().plusSeconds(60))));
+
+            assertThatThrownBy(() -> idempotencyService.execute("order:create", "client-key-1", new StubRequest(1L),
+                    () -> "ORD-" + executions.incrementAndGet()))
+                    .isInstanceOf(IdempotencyConflictException.class);
+            return "ORD-1";
+        });
+
+        // 검증
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject reuse of a key with a different request body")
+    void shouldRejectDifferentRequestForSameKey() {
+        // 준비
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any())).thenReturn(1);
+        idempotencyService.execute("order:create", "client-key-1", new StubRequest(1L), () -> "ORD-1");
+
+        // 실행 & 검증
+        assertThatThrownBy(() -> idempotencyService.execute("order:create", "client-key-1", new StubRequest(2L), () -> "ORD-2"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should release the key when the action fails so the client can retry")
+    void shouldReleaseKeyOnFailure() {
+        // 준비
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any())).thenReturn(1);
+
+        // 실행
+        assertThatThrownBy(() -> idempotencyService.execute("order:create", "client-key-1", new StubRequest(1L), () -> {
+            throw new IllegalStateException("재고 부족");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // 검증
+        verify(idempotencyRecordRepository).release(eq(KEY), anyString());
+        verify(idempotencyRecordRepository, never()).complete(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should roll back the action when the lock was taken over before completion")
+    void shouldFailWhenLockTakenOverBeforeCompletion() {
+        // 준비 - 점유가 만료되어 다른 요청이 이어받은 상태라 완료 기록이 0건
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any())).thenReturn(1);
+        when(idempotencyRecordRepository.complete(eq(KEY), anyString(), any(), any())).thenReturn(0);
+
+        // 실행 & 검증 - 예외가 작업 트랜잭션을 롤백시키고, 이어받은 요청의 점유는 건드리지 않음
+        assertThatThrownBy(() -> idempotencyService.execute("order:create", "client-key-1", new StubRequest(1L), () -> "ORD-1"))
+                .isInstanceOf(IdempotencyConflictException.class);
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyRecordRepository).insertInProgress(eq(KEY), anyString(), token.capture(), any(), any());
+        verify(idempotencyRecordRepository).release(KEY, token.getValue());
+    }
+
+    @Test
+    @DisplayName("Should complete a taken-over key with the new owner token")
+    void shouldCompleteWithTakeOverToken() {
+        // 준비
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(idempotencyRecordRepository.takeOverExpired(eq(KEY), anyString(), anyString(), any(), any())).thenReturn(1);
+
+        // 실행
+        String result = idempotencyService.execute("order:create", "client-key-1", new StubRequest(1L), () -> "ORD-1");
+
+        // 검증
+        assertThat(result).isEqualTo("ORD-1");
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyRecordRepository).takeOverExpired(eq(KEY), anyString(), token.capture(), any(), any());
+        verify(idempotencyRecordRepository).complete(eq(KEY), eq(token.getValue()), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep the key locked when a self-guarded action succeeded but completion failed")
+    void shouldKeepKeyWhenSelfGuardedCompletionFails() {
+        // 준비
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any())).thenReturn(1);
+        when(idempotencyRecordRepository.complete(eq(KEY), anyString(), any(), any()))
+                .thenThrow(new IllegalStateException("DB 연결 끊김"));
+
+        // 실행
+        String result = idempotencyService.executeSelfGuarded("order:create", "client-key-1", new StubRequest(1L), () -> "PAID");
+
+        // 검증 - 결제는 이미 반영되었으므로 응답은 그대로 돌려주고, 키를 풀어 재실행을 허용하지 않음
+        assertThat(result).isEqualTo("PAID");
+        verify(idempotencyRecordRepository, never()).release(any(), any());
+    }
+
+    private String captureRequestHash() {
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyRecordRepository, atLeastOnce()).insertInProgress(eq(KEY), hash.capture(), anyString(), any(), any());
+        return hash.getAllValues().get(0);
+    }
+
+    private static String serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    private record StubRequest(Long memberId) {
+    }
+}
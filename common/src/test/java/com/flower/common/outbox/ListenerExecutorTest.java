@@ -0,0 +1,66 @@
+package com.flower.common.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ListenerExecutor Tests")
+class ListenerExecutorTest {
+
+    @Test
+    @DisplayName("Should reject tasks once the bounded queue is full and count the rejection")
+    void shouldRejectWhenQueueIsFull() throws InterruptedException {
+        // 준비
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ListenerExecutor executor = new ListenerExecutor("stubListener", 1, 1, true, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+
+        // 실행
+        executor.execute("ORD-1", () -> {
+            started.countDown();
+            await(release);
+            completed.incrementAndGet();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute("ORD-2", completed::incrementAndGet);
+
+        // 검증
+        assertThat(executor.activeCount()).isEqualTo(1);
+        assertThat(executor.queueSize()).isEqualTo(1);
+        assertThatThrownBy(() -> executor.execute("ORD-3", completed::incrementAndGet))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("outbox.listener.rejected").tag("listener", "stubListener").counter().count())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        executor.shutdown(5);
+        assertThat(completed.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("outbox.listener.task").tag("listener", "stubListener").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should refuse invalid pool settings")
+    void shouldRefuseInvalidSettings() {
+        assertThatThrownBy(() -> new ListenerExecutor("stubListener", 0, 10, false, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
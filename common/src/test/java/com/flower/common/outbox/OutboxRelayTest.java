@@ -0,0 +1,256 @@
+package com.flower.common.outbox;
+
+import com.flower.common.entity.OutboxEvent;
+import com.flower.common.event.DomainEvent;
+import com.flower.common.event.InventoryDeductionFailedEvent;
+import com.flower.common.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    private static final String LISTENER_ID = "stubListener#handle";
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final StubListener listener = new StubListener();
+    private ListenerExecutors listenerExecutors;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        OutboxListenerRegistry registry = new OutboxListenerRegistry();
+        registry.postProcessAfterInitialization(listener, "stubListener");
+        when(meterRegistryProvider.getIfAvailable(any())).thenAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
+        listenerExecutors = new ListenerExecutors(new MockEnvironment(), meterRegistryProvider);
+        outboxRelay = new OutboxRelay(outboxEventRepository, registry, listenerExecutors, meterRegistryProvider, 100, 60, 3, 3);
+    }
+
+    // 실행기에 넘긴 작업이 모두 끝날 때까지 대기 후 완료 행 반영 (종료 시 동작과 같음)
+    private void awaitDispatched() throws InterruptedException {
+        outboxRelay.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should dispatch claimed events and mark successes done in one update")
+    void shouldDispatchAndMarkDoneInBulk() throws InterruptedException {
+        // 준비
+        List<OutboxEvent> claimed = List.of(
+                outboxEvent(1L, "ORD-1", "첫번째", 0),
+                outboxEvent(2L, "ORD-2", "두번째", 0),
+                outboxEvent(3L, "ORD-1", "세번째", 0));
+        when(outboxEventRepository.findClaimableIds(anyCollection(), any(), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(outboxEventRepository.findByClaimTokenOrderByIdAsc(anyString())).thenReturn(claimed);
+
+        // 실행
+        int relayed = outboxRelay.relayBatch();
+        awaitDispatched();
+
+        // 검증
+        assertThat(relayed).isEqualTo(3);
+        assertThat(listener.received).containsExactlyInAnyOrder("첫번째", "두번째", "세번째");
+        assertThat(listener.received.indexOf("첫번째")).isLessThan(listener.received.indexOf("세번째"));
+
+        ArgumentCaptor<Collection<Long>> done = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxEventRepository).markDone(done.capture(), any(LocalDateTime.class));
+        assertThat(done.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(outboxEventRepository, never()).markFailed(anyLong(), any(), anyInt(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should back off failed events and give up after max attempts")
+    void shouldBackOffFailedEvents() throws InterruptedException {
+        // 준비
+        List<OutboxEvent> claimed = List.of(
+                outboxEvent(1L, "ORD-1", StubListener.FAIL, 0),
+                outboxEvent(2L, "ORD-2", StubListener.FAIL, 2),
+                outboxEvent(3L, "ORD-3", "정상", 0));
+        when(outboxEventRepository.findClaimableIds(anyCollection(), any(), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(outboxEventRepository.findByClaimTokenOrderByIdAsc(anyString())).thenReturn(claimed);
+
+        // 실행
+        outboxRelay.relayBatch();
+        awaitDispatched();
+
+        // 검증
+        verify(outboxEventRepository).markFailed(eq(1L), eq(OutboxEvent.Status.PENDING), eq(1), any(LocalDateTime.class), anyString());
+        verify(outboxEventRepository).markFailed(eq(2L), eq(OutboxEvent.Status.FAILED), eq(3), any(LocalDateTime.class), anyString());
+        verify(outboxEventRepository).markDone(eq(List.of(3L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should hold back later rows of an aggregate once an earlier row fails")
+    void shouldStopAggregateGroupAtFirstFailure() throws InterruptedException {
+        // 준비
+        List<OutboxEvent> claimed = List.of(
+                outboxEvent(1L, "ORD-1", StubListener.FAIL, 0),
+                outboxEvent(2L, "ORD-1", "두번째", 0),
+                outboxEvent(3L, "ORD-2", "세번째", 0));
+        when(outboxEventRepository.findClaimableIds(anyCollection(), any(), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(outboxEventRepository.findByClaimTokenOrderByIdAsc(anyString())).thenReturn(claimed);
+
+        // 실행
+        outboxRelay.relayBatch();
+        awaitDispatched();
+
+        // 검증 - ORD-1의 두번째 행은 전달하지 않고 점유만 풀어 앞선 행의 재시도를 기다림
+        verify(outboxEventRepository).markFailed(eq(1L), eq(OutboxEvent.Status.PENDING), eq(1), any(LocalDateTime.class), anyString());
+        verify(outboxEventRepository).release(List.of(2L));
+        assertThat(listener.received).containsExactly("세번째");
+        verify(outboxEventRepository).markDone(eq(List.of(3L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should restore a serializable event source after relay")
+    void shouldRestoreEventSourceAfterDeserialization() {
+        // 준비
+        InventoryDeductionFailedEvent event = new InventoryDeductionFailedEvent("ORD-9", "재고 부족");
+
+        // 실행
+        DomainEvent restored = OutboxPayloads.deserialize(OutboxPayloads.serialize(event));
+
+        // 검증
+        assertThat(restored.getSource()).isEqualTo("ORD-9");
+        assertThat(restored.getAggregateKey()).isEqualTo("ORD-9");
+    }
+
+    @Test
+    @DisplayName("Should deliver later rows of an aggregate only after its earlier rows finish")
+    void shouldKeepAggregateOrderAcrossBatches() throws InterruptedException {
+        // 준비
+        listener.blocking = new CountDownLatch(1);
+        when(outboxEventRepository.findClaimableIds(anyCollection(), any(), any()))
+                .thenReturn(List.of(1L), List.of(2L, 3L));
+        when(outboxEventRepository.findByClaimTokenOrderByIdAsc(anyString()))
+                .thenReturn(List.of(outboxEvent(1L, "ORD-1", "첫번째", 0)),
+                        List.of(outboxEvent(2L, "ORD-1", "두번째", 0), outboxEvent(3L, "ORD-2", "세번째", 0)));
+
+        // 실행
+        outboxRelay.relayBatch();
+        int relayed = outboxRelay.relayBatch();
+        listener.blocking.countDown();
+        awaitDispatched();
+
+        // 검증
+        assertThat(relayed).isEqualTo(2);
+        verify(outboxEventRepository, never()).release(anyCollection());
+        assertThat(listener.received).containsExactlyInAnyOrder("첫번째", "두번째", "세번째");
+        assertThat(listener.received.indexOf("첫번째")).isLessThan(listener.received.indexOf("두번째"));
+    }
+
+    @Test
+    @DisplayName("Should yield out-of-order rows before loading the claimed batch")
+    void shouldYieldRowsWhoseEarlierRowIsHeldElsewhere() throws InterruptedException {
+        // 준비 - 다른 노드가 ORD-1의 앞 행을 점유해 이 노드에는 ORD-2 행만 남은 상황
+        when(outboxEventRepository.findClaimableIds(anyCollection(), any(), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(outboxEventRepository.findByClaimTokenOrderByIdAsc(anyString()))
+                .thenReturn(List.of(outboxEvent(3L, "ORD-2", "세번째", 0)));
+
+        // 실행
+        outboxRelay.relayBatch();
+        awaitDispatched();
+
+        // 검증 - 점유 → 양보 → 조회 순서로 같은 토큰을 사용
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        InOrder inOrder = inOrder(outboxEventRepository);
+        inOrder.verify(outboxEventRepository).claim(eq(List.of(1L, 2L, 3L)), token.capture(), any(), any());
+        inOrder.verify(outboxEventRepository).yieldOutOfOrder(token.getValue());
+        inOrder.verify(outboxEventRepository).findByClaimTokenOrderByIdAsc(token.getValue());
+        assertThat(listener.received).containsExactly("세번째");
+    }
+
+    @Test
+    @DisplayName("Should extend the lease of rows still waiting in a listener lane")
+    void shouldRenewLeaseWhileRowIsQueued() throws InterruptedException {
+        // 준비 - 리스 0초: 다음 폴링 시점에 이미 리스 절반이 지난 상태
+        OutboxListenerRegistry registry = new OutboxListenerRegistry();
+        registry.postProcessAfterInitialization(listener, "stubListener");
+        OutboxRelay shortLeaseRelay = new OutboxRelay(outboxEventRepository, registry, listenerExecutors, meterRegistryProvider, 100, 0, 3, 3);
+        listener.blocking = new CountDownLatch(1);
+        when(outboxEventRepository.findClaimableIds(anyCollection(), any(), any())).thenReturn(List.of(1L), List.of());
+        when(outboxEventRepository.findByClaimTokenOrderByIdAsc(anyString()))
+                .thenReturn(List.of(outboxEvent(1L, "ORD-1", "첫번째", 0)));
+
+        // 실행 - 첫 행이 리스너에서 막혀 있는 동안 다음 폴링
+        shortLeaseRelay.relayBatch();
+        shortLeaseRelay.relayBatch();
+        listener.blocking.countDown();
+        shortLeaseRelay.shutdown();
+
+        // 검증 - 전달 중인 행만 연장하고, 완료 후에는 종료 시 한 번에 완료 처리
+        verify(outboxEventRepository).extendLease(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(outboxEventRepository).markDone(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should not claim anything when there is nothing to relay")
+    void shouldSkipWhenNothingPending() {
+        // 준비
+        when(outboxEventRepository.findClaimableIds(anyCollection(), any(), any())).thenReturn(List.of());
+
+        // 실행
+        int relayed = outboxRelay.relayBatch();
+
+        // 검증
+        assertThat(relayed).isZero();
+        verify(outboxEventRepository, never()).claim(anyCollection(), anyString(), any(), any());
+    }
+
+    private OutboxEvent outboxEvent(Long id, String orderNumber, String reason, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .eventType(InventoryDeductionFailedEvent.class.getName())
+                .listenerId(LISTENER_ID)
+                .aggregateKey(orderNumber)
+                .payload(OutboxPayloads.serialize(new InventoryDeductionFailedEvent(orderNumber, reason)))
+                .attempts(attempts)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    static class StubListener {
+        static final String FAIL = "실패";
+
+        final List<String> received = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch blocking;
+
+        @OutboxListener
+        public void handle(InventoryDeductionFailedEvent event) throws InterruptedException {
+            if (blocking != null && "첫번째".equals(event.getReason())) {
+                blocking.await(5, TimeUnit.SECONDS);
+            }
+            if (FAIL.equals(event.getReason())) {
+                throw new IllegalStateException("리스너 처리 실패");
+            }
+            received.add(event.getReason());
+        }
+    }
+}
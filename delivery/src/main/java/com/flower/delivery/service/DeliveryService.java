@@ -1,5 +1,6 @@
 package com.flower.delivery.service;
 
+import com.flower.common.event.DeliveryStatusChangedEvent;
 import com.flower.common.event.OrderPlacedEvent;
 import com.flower.common.event.PaymentCompletedEvent;
 import com.flower.delivery.domain.Delivery;
@@ -7,14 +8,13 @@ import com.flower.delivery.repository.DeliveryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.flower.delivery.dto.DeliveryDto;
 import com.flower.delivery.dto.UpdateDeliveryStatusRequest;
 import com.flower.common.exception.EntityNotFoundException;
+import com.flower.common.outbox.OutboxEventPublisher;
+import com.flower.common.outbox.OutboxListener;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,13 +26,13 @@ import java.util.stream.Collectors;
 public class DeliveryService {
 
     private final DeliveryRepository deliveryRepository;
+    private final OutboxEventPublisher eventPublisher;
 
     /**
      * 결제 완료 시 배송 준비 시작
      * (기존 OrderPlacedEvent 리스너는 PaymentCompletedEvent로 대체하여 결제 완료된 주문만 배송 처리)
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @OutboxListener
     public void handlePaymentCompleted(PaymentCompletedEvent event) {
         log.info("결제 완료 이벤트 수신 - 배송 생성 시작: 주문번호={}", event.getOrderNumber());
         
@@ -84,6 +84,10 @@ public class DeliveryService {
 
         Delivery saved = deliveryRepository.save(delivery);
         log.info("배송 상태 변경: ID={}, Status={}", saved.getId(), saved.getStatus());
+
+        // 주문 상태와 주문 목록 조회 모델 갱신
+        eventPublisher.publish(new DeliveryStatusChangedEvent(
+                saved.getOrderNumber(), saved.getOrderId(), saved.getStatus().name()));
         
         return toDto(saved);
     }
@@ -0,0 +1,92 @@
+package com.flower.inventory.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 원장 (추가 전용)
+ * - RESERVED: 주문 생성 시 상품/옵션별로 한 행씩 기록 (productId 또는 productOptionId, quantity, expiresAt)
+ * - CONFIRMED / RELEASED / EXPIRED: 주문당 한 행만 기록하는 종료 항목 (productId, quantity 없음)
+ *   RELEASED는 주문이 끝나 재고를 더 움직일 일이 없다는 뜻이고, EXPIRED는 결제 대기 중 예약만 풀린 것이라
+ *   이후 결제되면 직접 차감(CONFIRMED)되고, 그 뒤 취소되면 재고가 복구(RELEASED)될 수 있음
+ * - CLOSED: 확정된 주문이 배송 시작 등으로 더 이상 취소(재고 복구)될 수 없게 된 시점에 기록 (로그 정리 대상 표시)
+ * 종료 항목이 없는 RESERVED 행이 현재 유효한 예약이며, 재기동 시 이 행들로 메모리 원장을 복원함
+ */
+@Entity
+@Table(name = "inventory_reservation_logs", indexes = {
+        @Index(name = "idx_reservation_log_order_number", columnList = "order_number"),
+        @Index(name = "idx_reservation_log_type_created", columnList = "entry_type, created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryReservationLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_reservation_logs_seq")
+    @SequenceGenerator(name = "inventory_reservation_logs_seq", sequenceName = "inventory_reservation_logs_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "order_number", nullable = false, length = 50)
+    private String orderNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private EntryType entryType;
+
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "product_option_id")
+    private Long productOptionId;
+
+    private Integer quantity;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public static InventoryReservationLog reserved(String orderNumber, Long productId, int quantity, LocalDateTime expiresAt) {
+        return InventoryReservationLog.builder()
+                .orderNumber(orderNumber)
+                .entryType(EntryType.RESERVED)
+                .productId(productId)
+                .quantity(quantity)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    public static InventoryReservationLog reservedOption(String orderNumber, Long productOptionId, int quantity, LocalDateTime expiresAt) {
+        return InventoryReservationLog.builder()
+                .orderNumber(orderNumber)
+                .entryType(EntryType.RESERVED)
+                .productOptionId(productOptionId)
+                .quantity(quantity)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    public static InventoryReservationLog settled(String orderNumber, EntryType entryType) {
+        return InventoryReservationLog.builder()
+                .orderNumber(orderNumber)
+                .entryType(entryType)
+                .build();
+    }
+
+    public enum EntryType {
+        RESERVED, CONFIRMED, RELEASED, EXPIRED, CLOSED
+    }
+}
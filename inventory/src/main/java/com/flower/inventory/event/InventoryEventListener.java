@@ -1,64 +1,108 @@
 package com.flower.inventory.event;
 
+import com.flower.common.event.DeliveryStatusChangedEvent;
 import com.flower.common.event.InventoryDeductionFailedEvent;
 import com.flower.common.event.OrderCancelledEvent;
 import com.flower.common.event.OrderPlacedEvent;
-import com.flower.product.service.ProductService;
+import com.flower.common.event.PaymentCompletedEvent;
+import com.flower.common.outbox.OutboxEventPublisher;
+import com.flower.common.outbox.OutboxListener;
+import com.flower.inventory.service.InventoryReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class InventoryEventListener {
 
-    private final ProductService productService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final InventoryReservationService reservationService;
+    private final OutboxEventPublisher eventPublisher;
 
     /**
-     * 결제 완료 이벤트 처리 (재고 차감)
-     * 트랜잭션 커밋 후 비동기로 실행됨
+     * 주문 생성 이벤트 처리 (재고 예약)
+     * 주문 생성 트랜잭션 안에서 동기로 실행되며, 가용 재고가 부족하면 주문 생성이 롤백됨
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void handleOrderPlaced(OrderPlacedEvent event) {
-        log.info("주문 생성 이벤트 수신 - 재고 차감 시작: 주문번호={}", event.getOrderNumber());
-
-        if (event.getItems() != null) {
-            try {
-                for (OrderPlacedEvent.OrderItemInfo item : event.getItems()) {
-                    decreaseStock(item.getProductId(), item.getQuantity());
-                }
-            } catch (Exception e) {
-                log.error("재고 차감 실패로 인한 보상 트랜잭션 발동: 주문번호={}, 오류={}", event.getOrderNumber(), e.getMessage());
-                eventPublisher.publishEvent(new InventoryDeductionFailedEvent(event.getOrderNumber(), e.getMessage()));
-            }
-        } else {
-            log.warn("주문 상품 상세 정보가 없습니다. 재고 차감을 건너뜁니다. OrderNumber={}", event.getOrderNumber());
+        if (event.getItems() == null) {
+            log.warn("주문 상품 상세 정보가 없습니다. 재고 예약을 건너뜁니다. OrderNumber={}", event.getOrderNumber());
+            return;
         }
+        log.info("주문 생성 이벤트 수신 - 재고 예약: 주문번호={}", event.getOrderNumber());
+        reservationService.reserve(event.getOrderNumber(),
+                quantitiesByProduct(event.getItems()), quantitiesByOption(event.getItems()));
     }
 
-    private void decreaseStock(Long productId, int quantity) {
-        log.info("재고 차감 실행: 상품ID={}, 수량={}", productId, quantity);
-        productService.decreaseStock(productId, quantity);
+    /**
+     * 결제 완료 이벤트 처리 (예약 확정 및 재고 차감)
+     * 결제 트랜잭션 커밋 후 아웃박스 릴레이가 전달하며, 차감 실패 시 보상 이벤트도 아웃박스로 발행
+     */
+    @OutboxListener
+    public void handlePaymentCompleted(PaymentCompletedEvent event) {
+        log.info("결제 완료 이벤트 수신 - 재고 예약 확정: 주문번호={}", event.getOrderNumber());
+
+        try {
+            List<OrderPlacedEvent.OrderItemInfo> items = event.getItems() == null ? List.of() : event.getItems();
+            reservationService.confirm(event.getOrderNumber(), quantitiesByProduct(items), quantitiesByOption(items));
+        } catch (Exception e) {
+            log.error("재고 차감 실패로 인한 보상 트랜잭션 발동: 주문번호={}, 오류={}", event.getOrderNumber(), e.getMessage());
+            eventPublisher.publish(new InventoryDeductionFailedEvent(event.getOrderNumber(), e.getMessage()));
+        }
     }
 
     /**
-     * 주문 취소 이벤트 처리 (재고 복구)
+     * 주문 취소 이벤트 처리 (예약 해제 또는 확정 재고 복구)
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @OutboxListener
     public void handleOrderCancelled(OrderCancelledEvent event) {
-        log.info("주문 취소 이벤트 수신 - 재고 복구 시작: 주문ID={}", event.getOrderNumber());
-        if (event.getItems() != null) {
-            for (OrderPlacedEvent.OrderItemInfo item : event.getItems()) {
-                productService.increaseStock(item.getProductId(), item.getQuantity());
+        log.info("주문 취소 이벤트 수신 - 재고 예약 해제/복구 시작: 주문번호={}", event.getOrderNumber());
+        List<OrderPlacedEvent.OrderItemInfo> items = event.getItems() == null ? List.of() : event.getItems();
+        reservationService.cancel(event.getOrderNumber(),
+                quantitiesByProduct(items), quantitiesByOption(items), event.getReason());
+    }
+
+    /**
+     * 배송 상태 변경 이벤트 처리 (배송이 시작되면 주문을 취소할 수 없으므로 예약 로그를 종료 처리)
+     */
+    @OutboxListener
+    public void handleDeliveryStatusChanged(DeliveryStatusChangedEvent event) {
+        if (!"SHIPPING".equals(event.getStatus()) && !"COMPLETED".equals(event.getStatus())) {
+            return;
+        }
+        reservationService.close(event.getOrderNumber());
+    }
+
+    /**
+     * 주문 항목을 상품 ID 오름차순으로 합산 (같은 상품이 여러 항목에 있으면 수량을 합침)
+     */
+    private Map<Long, Integer> quantitiesByProduct(List<OrderPlacedEvent.OrderItemInfo> items) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderPlacedEvent.OrderItemInfo item : items) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    /**
+     * 주문 항목의 선택 옵션별 수량을 옵션 ID 오름차순으로 합산 (옵션 하나당 항목 수량만큼 차감)
+     */
+    private Map<Long, Integer> quantitiesByOption(List<OrderPlacedEvent.OrderItemInfo> items) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderPlacedEvent.OrderItemInfo item : items) {
+            if (item.getOptionIds() == null) {
+                continue;
+            }
+            for (Long optionId : item.getOptionIds()) {
+                quantities.merge(optionId, item.getQuantity(), Integer::sum);
             }
         }
+        return quantities;
     }
 }
@@ -0,0 +1,59 @@
+package com.flower.inventory.repository;
+
+import com.flower.inventory.domain.InventoryReservationLog;
+import com.flower.inventory.domain.InventoryReservationLog.EntryType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface InventoryReservationLogRepository extends JpaRepository<InventoryReservationLog, Long> {
+
+    boolean existsByOrderNumberAndEntryType(String orderNumber, EntryType entryType);
+
+    /**
+     * 종료 항목(CONFIRMED/RELEASED/EXPIRED)이 없는 예약 행 (재기동 시 원장 복원용)
+     */
+    @Query("SELECT r FROM InventoryReservationLog r WHERE r.entryType = com.flower.inventory.domain.InventoryReservationLog.EntryType.RESERVED " +
+           "AND NOT EXISTS (SELECT 1 FROM InventoryReservationLog t WHERE t.orderNumber = r.orderNumber " +
+           "AND t.entryType <> com.flower.inventory.domain.InventoryReservationLog.EntryType.RESERVED)")
+    List<InventoryReservationLog> findOpenReservations();
+
+    /**
+     * 재고 복구가 더 이상 일어날 수 없는 주문 (해제되었거나, 확정 후 취소 불가 상태로 종료된 주문)
+     * CONFIRMED만 있는 주문은 취소 시 확정 항목으로 복구 여부를 판단하므로 정리 대상에서 제외
+     */
+    @Query("SELECT r.orderNumber FROM InventoryReservationLog r " +
+           "WHERE r.entryType IN (com.flower.inventory.domain.InventoryReservationLog.EntryType.RELEASED, " +
+           "com.flower.inventory.domain.InventoryReservationLog.EntryType.CLOSED) AND r.createdAt < :cutoff")
+    List<String> findClosedOrderNumbersBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 예약이 만료된 뒤 결제되지 않은 주문 (만료 후 결제되어 직접 차감된 주문은 취소 시 복구해야 하므로 제외)
+     */
+    @Query("SELECT r.orderNumber FROM InventoryReservationLog r " +
+           "WHERE r.entryType = com.flower.inventory.domain.InventoryReservationLog.EntryType.EXPIRED AND r.createdAt < :cutoff " +
+           "AND NOT EXISTS (SELECT 1 FROM InventoryReservationLog t WHERE t.orderNumber = r.orderNumber " +
+           "AND t.entryType = com.flower.inventory.domain.InventoryReservationLog.EntryType.CONFIRMED)")
+    List<String> findExpiredUnconfirmedOrderNumbersBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM InventoryReservationLog r WHERE r.orderNumber IN :orderNumbers")
+    int deleteByOrderNumberIn(@Param("orderNumbers") Collection<String> orderNumbers);
+
+    /**
+     * 조회와 삭제 사이에 만료 후 결제(CONFIRMED)가 끼어든 주문은 확정 항목을 남기도록 확정 항목이 없는 주문의 행만 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM InventoryReservationLog r WHERE r.orderNumber IN :orderNumbers " +
+           "AND NOT EXISTS (SELECT 1 FROM InventoryReservationLog t WHERE t.orderNumber = r.orderNumber " +
+           "AND t.entryType = com.flower.inventory.domain.InventoryReservationLog.EntryType.CONFIRMED)")
+    int deleteUnconfirmedByOrderNumberIn(@Param("orderNumbers") Collection<String> orderNumbers);
+}
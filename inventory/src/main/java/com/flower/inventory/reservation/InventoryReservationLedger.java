@@ -0,0 +1,142 @@
+package com.flower.inventory.reservation;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * 유효한 재고 예약의 메모리 원장
+ * - 주문번호별 예약 내역과 상품별 예약 합계를 함께 유지하여, 가용 재고(ATP = 실재고 - 예약 합계)를 O(1)로 계산
+ * - 상품별 합계 갱신은 ConcurrentHashMap.compute로 키 단위 원자성을 보장 (같은 상품의 동시 예약이 초과 예약되지 않음)
+ * - 영속 상태는 InventoryReservationLog가 원본이며, 이 원장은 재기동 시 로그로부터 복원됨
+ */
+@Component
+public class InventoryReservationLedger {
+
+    private final Map<String, Reservation> reservations = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> reservedByProduct = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> reservedByOption = new ConcurrentHashMap<>();
+
+    public int reservedQuantity(Long productId) {
+        return reservedByProduct.getOrDefault(productId, 0);
+    }
+
+    public int reservedOptionQuantity(Long optionId) {
+        return reservedByOption.getOrDefault(optionId, 0);
+    }
+
+    public Optional<Reservation> find(String orderNumber) {
+        return Optional.ofNullable(reservations.get(orderNumber));
+    }
+
+    public int size() {
+        return reservations.size();
+    }
+
+    /**
+     * 가용 재고를 확인하며 예약 (하나라도 부족하면 이미 잡은 수량을 되돌리고 예외)
+     */
+    public void reserve(Reservation reservation, ToIntFunction<Long> onHandOf) {
+        reserve(reservation, onHandOf, optionId -> 0);
+    }
+
+    /**
+     * 상품과 옵션의 가용 재고를 확인하며 예약 (상품 → 옵션 순으로 잡고, 하나라도 부족하면 전부 되돌림)
+     *
+     * @param onHandOf       상품별 실재고 조회 함수
+     * @param optionOnHandOf 옵션별 실재고 조회 함수
+     */
+    public void reserve(Reservation reservation, ToIntFunction<Long> onHandOf, ToIntFunction<Long> optionOnHandOf) {
+        if (reservations.putIfAbsent(reservation.orderNumber(), reservation) != null) {
+            throw new IllegalStateException("이미 재고가 예약된 주문입니다: " + reservation.orderNumber());
+        }
+
+        List<Runnable> undo = new ArrayList<>();
+        try {
+            acquire(reservedByProduct, reservation.quantities(), onHandOf, "상품", undo);
+            acquire(reservedByOption, reservation.optionQuantities(), optionOnHandOf, "옵션", undo);
+        } catch (RuntimeException e) {
+            undo.forEach(Runnable::run);
+            reservations.remove(reservation.orderNumber());
+            throw e;
+        }
+    }
+
+    private static void acquire(Map<Long, Integer> reservedById, Map<Long, Integer> quantities,
+                                ToIntFunction<Long> onHandOf, String target, List<Runnable> undo) {
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            int onHand = onHandOf.applyAsInt(entry.getKey());
+            reservedById.compute(entry.getKey(), (id, reserved) -> {
+                int current = reserved == null ? 0 : reserved;
+                if (onHand - current < entry.getValue()) {
+                    throw new IllegalStateException("재고가 부족합니다. " + target + "ID: " + id
+                            + ", 가용재고: " + Math.max(onHand - current, 0) + ", 요청수량: " + entry.getValue());
+                }
+                return current + entry.getValue();
+            });
+            undo.add(() -> subtract(reservedById, entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /**
+     * 재고 확인 없이 예약 복원 (재기동 시 로그 재생용)
+     */
+    public void restore(Reservation reservation) {
+        if (reservations.putIfAbsent(reservation.orderNumber(), reservation) == null) {
+            reservation.quantities().forEach((productId, quantity) ->
+                    reservedByProduct.merge(productId, quantity, Integer::sum));
+            reservation.optionQuantities().forEach((optionId, quantity) ->
+                    reservedByOption.merge(optionId, quantity, Integer::sum));
+        }
+    }
+
+    /**
+     * 예약 제거 (확정/해제 커밋 후 호출)
+     * @return 제거된 예약, 없으면 null
+     */
+    public Reservation remove(String orderNumber) {
+        Reservation removed = reservations.remove(orderNumber);
+        if (removed != null) {
+            removed.quantities().forEach((productId, quantity) -> subtract(reservedByProduct, productId, quantity));
+            removed.optionQuantities().forEach((optionId, quantity) -> subtract(reservedByOption, optionId, quantity));
+        }
+        return removed;
+    }
+
+    public void removeAll(Collection<String> orderNumbers) {
+        orderNumbers.forEach(this::remove);
+    }
+
+    private static void subtract(Map<Long, Integer> reservedById, Long id, int quantity) {
+        reservedById.computeIfPresent(id, (key, reserved) -> reserved - quantity > 0 ? reserved - quantity : null);
+    }
+
+    /**
+     * @param quantities       상품 ID 오름차순 상품별 수량
+     * @param optionQuantities 옵션 ID 오름차순 옵션별 수량 (재고를 관리하는 옵션만)
+     */
+    public record Reservation(String orderNumber, SortedMap<Long, Integer> quantities,
+                              SortedMap<Long, Integer> optionQuantities, LocalDateTime expiresAt) {
+        public Reservation {
+            quantities = new TreeMap<>(quantities);
+            optionQuantities = new TreeMap<>(optionQuantities);
+        }
+
+        public Reservation(String orderNumber, SortedMap<Long, Integer> quantities, LocalDateTime expiresAt) {
+            this(orderNumber, quantities, new TreeMap<>(), expiresAt);
+        }
+
+        public boolean isExpired(LocalDateTime now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
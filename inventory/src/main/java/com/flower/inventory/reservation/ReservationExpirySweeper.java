@@ -0,0 +1,62 @@
+package com.flower.inventory.reservation;
+
+import com.flower.inventory.service.InventoryReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 만료 스위퍼
+ * 매 tick마다 타이머 휠을 전진시켜 만료 후보를 받아 일괄 해제하고, 하루 한 번 해제·종료된 예약 로그를 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationExpirySweeper {
+
+    private final ReservationTimerWheel timerWheel;
+    private final InventoryReservationService reservationService;
+
+    @Value("${inventory.reservation.sweep-interval-ms:1000}")
+    private long sweepIntervalMillis = 1000;
+
+    @Value("${inventory.reservation.log-retention-days:7}")
+    private int logRetentionDays = 7;
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.sweep-interval-ms:1000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        List<String> candidates = timerWheel.advance(now);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        try {
+            int released = reservationService.releaseExpired(candidates);
+            if (released > 0) {
+                log.info("만료된 재고 예약 해제: {}건", released);
+            }
+        } catch (Exception e) {
+            // 다음 tick에 다시 시도하도록 후보를 재등록
+            log.error("재고 예약 만료 처리 실패: 후보 {}건, 오류={}", candidates.size(), e.getMessage());
+            candidates.forEach(orderNumber -> timerWheel.schedule(orderNumber, now + sweepIntervalMillis));
+        }
+    }
+
+    @Scheduled(cron = "${inventory.reservation.compaction-cron:0 30 4 * * *}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(logRetentionDays);
+        int deleted;
+        int total = 0;
+        do {
+            deleted = reservationService.compactSettledBefore(cutoff);
+            total += deleted;
+        } while (deleted > 0);
+        log.info("재고 예약 로그 정리 완료: {}행 삭제", total);
+    }
+}
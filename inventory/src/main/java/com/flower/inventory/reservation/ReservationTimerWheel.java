@@ -0,0 +1,80 @@
+package com.flower.inventory.reservation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 예약 만료 감시용 해시드 타이머 휠
+ * - 만료 시각을 tick 단위로 환산해 (tick % 슬롯 수) 슬롯에 넣고, advance 시 지나간 슬롯만 확인
+ * - 휠 한 바퀴보다 먼 만료 시각은 같은 슬롯에 남아 있다가 해당 바퀴에 도달하면 만료됨
+ * 전체 예약을 매번 스캔하지 않으므로 sweep 비용이 예약 수가 아닌 만료 건수에 비례함
+ */
+@Component
+public class ReservationTimerWheel {
+
+    private static final int SLOT_COUNT = 512;
+
+    private final long tickMillis;
+    private final List<Queue<Timeout>> slots = new ArrayList<>(SLOT_COUNT);
+    // advance가 마지막으로 처리한 tick (-1이면 아직 처리 전)
+    private long currentTick = -1;
+
+    public ReservationTimerWheel(@Value("${inventory.reservation.sweep-interval-ms:1000}") long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tick 간격은 0보다 커야 합니다: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    public synchronized void schedule(String orderNumber, long deadlineMillis) {
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        // 이미 지나간 tick이면 다음 advance에서 처리되도록 바로 다음 슬롯에 배치
+        if (currentTick >= 0 && deadlineTick <= currentTick) {
+            deadlineTick = currentTick + 1;
+        }
+        slots.get(slotOf(deadlineTick)).add(new Timeout(orderNumber, deadlineTick));
+    }
+
+    /**
+     * 현재 시각까지 지나간 슬롯을 처리하여 만료된 주문번호 반환
+     */
+    public synchronized List<String> advance(long nowMillis) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+
+        // 첫 advance이거나 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩 확인
+        List<String> expired = new ArrayList<>();
+        long from = currentTick < 0 ? nowTick - SLOT_COUNT + 1 : Math.max(currentTick + 1, nowTick - SLOT_COUNT + 1);
+        for (long tick = from; tick <= nowTick; tick++) {
+            Iterator<Timeout> iterator = slots.get(slotOf(tick)).iterator();
+            while (iterator.hasNext()) {
+                Timeout timeout = iterator.next();
+                if (timeout.deadlineTick() <= nowTick) {
+                    expired.add(timeout.orderNumber());
+                    iterator.remove();
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, nowTick);
+        return expired;
+    }
+
+    public int pendingCount() {
+        return slots.stream().mapToInt(Queue::size).sum();
+    }
+
+    private static int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) SLOT_COUNT);
+    }
+
+    private record Timeout(String orderNumber, long deadlineTick) {
+    }
+}
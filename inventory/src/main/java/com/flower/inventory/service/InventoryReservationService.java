@@ -0,0 +1,393 @@
+package com.flower.inventory.service;
+
+import com.flower.inventory.domain.InventoryReservationLog;
+import com.flower.inventory.domain.InventoryReservationLog.EntryType;
+import com.flower.inventory.repository.InventoryReservationLogRepository;
+import com.flower.inventory.reservation.InventoryReservationLedger;
+import com.flower.inventory.reservation.InventoryReservationLedger.Reservation;
+import com.flower.inventory.reservation.ReservationTimerWheel;
+import com.flower.product.dto.ProductDto;
+import com.flower.product.dto.ProductOptionDto;
+import com.flower.product.service.ProductQueryService;
+import com.flower.product.service.ProductService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 예약 서비스
+ * - 주문 생성 시 가용 재고(ATP)를 확인하며 예약 → 결제 완료 시 확정(실재고 차감) → 취소 시 해제(RELEASED), 만료 시 만료(EXPIRED)
+ * - 예약 상태 변경은 예약 원장 로그에 추가 기록하고, 메모리 원장은 트랜잭션 결과에 맞춰 반영
+ */
+@Slf4j
+@Service
+public class InventoryReservationService {
+
+    private static final int COMPACTION_BATCH_SIZE = 500;
+
+    private final InventoryReservationLogRepository reservationLogRepository;
+    private final InventoryReservationLedger ledger;
+    private final ReservationTimerWheel timerWheel;
+    private final ProductService productService;
+    private final ProductQueryService productQueryService;
+    private final Duration ttl;
+
+    public InventoryReservationService(InventoryReservationLogRepository reservationLogRepository,
+                                       InventoryReservationLedger ledger,
+                                       ReservationTimerWheel timerWheel,
+                                       ProductService productService,
+                                       ProductQueryService productQueryService,
+                                       @Value("${inventory.reservation.ttl-minutes:15}") long ttlMinutes) {
+        this.reservationLogRepository = reservationLogRepository;
+        this.ledger = ledger;
+        this.timerWheel = timerWheel;
+        this.productService = productService;
+        this.productQueryService = productQueryService;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    /**
+     * 가용 재고 (실재고 - 유효 예약 합계)
+     * 실재고는 상품 캐시에서, 예약 합계는 메모리 원장에서 읽으므로 DB 조회 없이 응답
+     */
+    public int availableToPromise(Long productId) {
+        return Math.max(onHand(productId) - ledger.reservedQuantity(productId), 0);
+    }
+
+    /**
+     * 상품의 옵션별 가용 재고 (옵션 재고 - 유효 예약 합계)
+     * 캐시된 상품 스냅샷의 옵션 목록 한 번으로 계산하며, 재고를 관리하지 않는 옵션은 null
+     */
+    public Map<Long, Integer> availableOptionStocks(Long productId) {
+        Map<Long, Integer> available = new LinkedHashMap<>();
+        for (ProductOptionDto option : productQueryService.getProductById(productId).options()) {
+            available.put(option.id(), option.stockQuantity() == null
+                    ? null
+                    : Math.max(option.stockQuantity() - ledger.reservedOptionQuantity(option.id()), 0));
+        }
+        return available;
+    }
+
+    /**
+     * 상품 상세 응답용 사본 (상품/옵션 재고를 가용 재고로 바꿈)
+     * 결제 대기 중인 예약분까지 구매 가능한 것처럼 보이지 않도록 실재고 대신 ATP를 노출
+     */
+    public ProductDto withAvailableStock(ProductDto product) {
+        Map<Long, Integer> optionStocks = availableOptionStocks(product.id());
+        List<ProductOptionDto> options = product.options().stream()
+                .map(option -> new ProductOptionDto(option.id(), option.name(), option.optionValue(),
+                        option.priceAdjustment(), optionStocks.getOrDefault(option.id(), option.stockQuantity())))
+                .toList();
+        return new ProductDto(
+                product.id(),
+                product.storeId(),
+                product.name(),
+                product.price(),
+                product.discountPrice(),
+                availableToPromise(product.id()),
+                product.description(),
+                product.thumbnailUrl(),
+                product.isActive(),
+                product.isAvailableToday(),
+                options,
+                product.category(),
+                product.deliveryType(),
+                product.reviewCount(),
+                product.totalRating(),
+                product.averageRating()
+        );
+    }
+
+    @Transactional
+    public void reserve(String orderNumber, Map<Long, Integer> quantitiesByProductId) {
+        reserve(orderNumber, quantitiesByProductId, Map.of());
+    }
+
+    /**
+     * 주문 생성 트랜잭션 안에서 상품/옵션 재고 예약
+     * 가용 재고가 부족하면 IllegalStateException을 던져 주문 생성 자체를 롤백시킴
+     *
+     * @param quantitiesByOptionId 옵션 ID별 수량 (재고를 관리하지 않는 옵션은 예약하지 않음)
+     */
+    @Transactional
+    public void reserve(String orderNumber, Map<Long, Integer> quantitiesByProductId, Map<Long, Integer> quantitiesByOptionId) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        Map<Long, Integer> optionStocks = optionStocks(quantitiesByOptionId.keySet());
+        TreeMap<Long, Integer> trackedOptions = new TreeMap<>();
+        quantitiesByOptionId.forEach((optionId, quantity) -> {
+            if (optionStocks.get(optionId) != null) {
+                trackedOptions.put(optionId, quantity);
+            }
+        });
+        Reservation reservation = new Reservation(orderNumber, new TreeMap<>(quantitiesByProductId), trackedOptions, expiresAt);
+
+        ledger.reserve(reservation, this::onHand, optionStocks::get);
+        onRollback(() -> ledger.remove(orderNumber));
+
+        List<InventoryReservationLog> entries = new ArrayList<>();
+        reservation.quantities().forEach((productId, quantity) ->
+                entries.add(InventoryReservationLog.reserved(orderNumber, productId, quantity, expiresAt)));
+        reservation.optionQuantities().forEach((optionId, quantity) ->
+                entries.add(InventoryReservationLog.reservedOption(orderNumber, optionId, quantity, expiresAt)));
+        reservationLogRepository.saveAll(entries);
+        timerWheel.schedule(orderNumber, toEpochMillis(expiresAt));
+
+        log.info("재고 예약: 주문번호={}, 상품별 수량={}, 옵션별 수량={}, 만료={}",
+                orderNumber, reservation.quantities(), reservation.optionQuantities(), expiresAt);
+    }
+
+    /**
+     * 결제 완료 주문의 예약 확정 (실재고 차감)
+     * 예약이 이미 만료/해제된 경우에는 주문 수량으로 직접 차감을 시도하며, 재고가 부족하면 예외
+     *
+     * @param fallbackQuantities       예약이 없을 때 차감할 상품별 수량
+     * @param fallbackOptionQuantities 예약이 없을 때 차감할 옵션별 수량
+     */
+    @Transactional
+    public void confirm(String orderNumber, Map<Long, Integer> fallbackQuantities, Map<Long, Integer> fallbackOptionQuantities) {
+        if (reservationLogRepository.existsByOrderNumberAndEntryType(orderNumber, EntryType.CONFIRMED)) {
+            log.info("이미 확정된 재고 예약입니다: 주문번호={}", orderNumber);
+            return;
+        }
+        if (!confirmAll(List.of(orderNumber)).isEmpty()) {
+            return;
+        }
+
+        log.warn("유효한 재고 예약이 없어 직접 차감합니다: 주문번호={}", orderNumber);
+        productService.decreaseStocks(fallbackQuantities, fallbackOptionQuantities);
+        reservationLogRepository.save(InventoryReservationLog.settled(orderNumber, EntryType.CONFIRMED));
+    }
+
+    /**
+     * 여러 주문의 예약을 한 번에 확정 (상품/옵션별 수량을 합산하여 한 번의 일괄 차감으로 처리)
+     *
+     * @return 확정된 주문번호 목록 (유효한 예약이 없는 주문은 제외)
+     */
+    @Transactional
+    public List<String> confirmAll(Collection<String> orderNumbers) {
+        List<Reservation> reservations = activeReservations(orderNumbers);
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> total = new TreeMap<>();
+        Map<Long, Integer> optionTotal = new TreeMap<>();
+        reservations.forEach(reservation -> {
+            reservation.quantities().forEach((productId, quantity) -> total.merge(productId, quantity, Integer::sum));
+            reservation.optionQuantities().forEach((optionId, quantity) -> optionTotal.merge(optionId, quantity, Integer::sum));
+        });
+        productService.decreaseStocks(total, optionTotal);
+
+        List<String> confirmed = settle(reservations, EntryType.CONFIRMED);
+        log.info("재고 예약 확정: 주문 {}건, 상품별 수량={}, 옵션별 수량={}", confirmed.size(), total, optionTotal);
+        return confirmed;
+    }
+
+    /**
+     * 여러 주문의 예약을 한 번에 해제 (실재고 변동 없음)
+     *
+     * @return 해제된 주문번호 목록
+     */
+    @Transactional
+    public List<String> releaseAll(Collection<String> orderNumbers, String reason) {
+        return release(orderNumbers, EntryType.RELEASED, reason);
+    }
+
+    /**
+     * 주문 취소 처리
+     * - 확정 전이면 예약만 해제
+     * - 이미 확정(차감)된 주문이면 실재고를 복구하고 해제 항목을 기록 (중복 복구 방지)
+     *   예약 만료(EXPIRED) 뒤 결제되어 직접 차감된 주문도 확정 항목이 있으므로 복구됨
+     */
+    @Transactional
+    public void cancel(String orderNumber, Map<Long, Integer> quantitiesByProductId,
+                       Map<Long, Integer> quantitiesByOptionId, String reason) {
+        if (!releaseAll(List.of(orderNumber), reason).isEmpty()) {
+            return;
+        }
+        if (!reservationLogRepository.existsByOrderNumberAndEntryType(orderNumber, EntryType.CONFIRMED)
+                || reservationLogRepository.existsByOrderNumberAndEntryType(orderNumber, EntryType.RELEASED)) {
+            log.info("복구할 재고가 없습니다: 주문번호={}", orderNumber);
+            return;
+        }
+
+        productService.increaseStocks(quantitiesByProductId, quantitiesByOptionId);
+        reservationLogRepository.save(InventoryReservationLog.settled(orderNumber, EntryType.RELEASED));
+        log.info("확정 재고 복구: 주문번호={}, 상품별 수량={}, 옵션별 수량={}", orderNumber, quantitiesByProductId, quantitiesByOptionId);
+    }
+
+    /**
+     * 만료된 예약 해제 (타이머 휠이 넘겨준 후보 중 아직 유효하고 만료 시각이 지난 예약만 해제)
+     */
+    @Transactional
+    public int releaseExpired(Collection<String> candidates) {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> expired = candidates.stream()
+                .filter(orderNumber -> ledger.find(orderNumber).map(reservation -> reservation.isExpired(now)).orElse(false))
+                .toList();
+        return release(expired, EntryType.EXPIRED, "예약 만료").size();
+    }
+
+    /**
+     * 확정된 주문이 취소 불가 상태(배송 시작/완료)가 되었음을 기록 (이후 로그 정리 대상이 됨)
+     * 확정 전이거나 이미 해제/종료된 주문이면 기록하지 않음
+     */
+    @Transactional
+    public void close(String orderNumber) {
+        if (!reservationLogRepository.existsByOrderNumberAndEntryType(orderNumber, EntryType.CONFIRMED)
+                || reservationLogRepository.existsByOrderNumberAndEntryType(orderNumber, EntryType.RELEASED)
+                || reservationLogRepository.existsByOrderNumberAndEntryType(orderNumber, EntryType.CLOSED)) {
+            return;
+        }
+        reservationLogRepository.save(InventoryReservationLog.settled(orderNumber, EntryType.CLOSED));
+        log.info("재고 예약 종료: 주문번호={}", orderNumber);
+    }
+
+    /**
+     * 종료된 예약의 로그 정리 (보존 기간이 지난 주문의 모든 행 삭제)
+     * - 해제 또는 취소 불가로 종료된 주문
+     * - 예약이 만료된 뒤 결제되지 않은 주문
+     * 확정만 된 주문(만료 후 직접 차감 포함)은 이후 취소 시 재고 복구 여부를 확정 항목으로 판단하므로 종료될 때까지 보존
+     */
+    @Transactional
+    public int compactSettledBefore(LocalDateTime cutoff) {
+        int deleted = 0;
+        List<String> closed = reservationLogRepository.findClosedOrderNumbersBefore(
+                cutoff, PageRequest.of(0, COMPACTION_BATCH_SIZE));
+        if (!closed.isEmpty()) {
+            deleted += reservationLogRepository.deleteByOrderNumberIn(closed);
+        }
+        List<String> expired = reservationLogRepository.findExpiredUnconfirmedOrderNumbersBefore(
+                cutoff, PageRequest.of(0, COMPACTION_BATCH_SIZE));
+        if (!expired.isEmpty()) {
+            deleted += reservationLogRepository.deleteUnconfirmedByOrderNumberIn(expired);
+        }
+        return deleted;
+    }
+
+    /**
+     * 기동 시 종료 항목이 없는 예약 로그로 메모리 원장과 타이머 휠을 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void recover() {
+        Map<String, List<InventoryReservationLog>> open = reservationLogRepository.findOpenReservations().stream()
+                .collect(Collectors.groupingBy(InventoryReservationLog::getOrderNumber));
+
+        open.forEach((orderNumber, entries) -> {
+            TreeMap<Long, Integer> quantities = new TreeMap<>();
+            TreeMap<Long, Integer> optionQuantities = new TreeMap<>();
+            entries.forEach(entry -> {
+                if (entry.getProductOptionId() != null) {
+                    optionQuantities.merge(entry.getProductOptionId(), entry.getQuantity(), Integer::sum);
+                } else {
+                    quantities.merge(entry.getProductId(), entry.getQuantity(), Integer::sum);
+                }
+            });
+            LocalDateTime expiresAt = entries.get(0).getExpiresAt();
+            ledger.restore(new Reservation(orderNumber, quantities, optionQuantities, expiresAt));
+            timerWheel.schedule(orderNumber, toEpochMillis(expiresAt));
+        });
+        log.info("재고 예약 원장 복원 완료: 유효 예약 {}건", open.size());
+    }
+
+    // --- Private Helper Methods ---
+
+    private List<Reservation> activeReservations(Collection<String> orderNumbers) {
+        List<Reservation> reservations = new ArrayList<>();
+        for (String orderNumber : orderNumbers) {
+            ledger.find(orderNumber).ifPresent(reservations::add);
+        }
+        return reservations;
+    }
+
+    private List<String> release(Collection<String> orderNumbers, EntryType entryType, String reason) {
+        List<Reservation> reservations = activeReservations(orderNumbers);
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+        List<String> released = settle(reservations, entryType);
+        log.info("재고 예약 해제: 주문 {}건, 사유={}", released.size(), reason);
+        return released;
+    }
+
+    // 종료 항목을 일괄 기록하고, 커밋된 뒤에만 메모리 원장에서 제거
+    private List<String> settle(List<Reservation> reservations, EntryType entryType) {
+        List<String> orderNumbers = reservations.stream().map(Reservation::orderNumber).toList();
+        reservationLogRepository.saveAll(orderNumbers.stream()
+                .map(orderNumber -> InventoryReservationLog.settled(orderNumber, entryType))
+                .toList());
+        onCommit(() -> ledger.removeAll(orderNumbers));
+        return orderNumbers;
+    }
+
+    private int onHand(Long productId) {
+        Integer stock = productQueryService.getProductById(productId).stockQuantity();
+        return stock == null ? 0 : stock;
+    }
+
+    // 옵션 ID별 재고 (재고를 관리하지 않는 옵션은 null)
+    private Map<Long, Integer> optionStocks(Collection<Long> optionIds) {
+        if (optionIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> stocks = new TreeMap<>();
+        for (ProductOptionDto option : productQueryService.getOptionsByIds(List.copyOf(optionIds))) {
+            stocks.put(option.id(), option.stockQuantity());
+        }
+        optionIds.stream()
+                .filter(optionId -> !stocks.containsKey(optionId))
+                .findFirst()
+                .ifPresent(optionId -> {
+                    throw new IllegalArgumentException("상품 옵션을 찾을 수 없습니다: " + optionId);
+                });
+        return stocks;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static void onCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private static void onRollback(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        task.run();
+                    }
+                }
+            });
+        }
+    }
+}
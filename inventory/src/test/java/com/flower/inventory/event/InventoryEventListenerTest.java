@@ -1,19 +1,26 @@
 package com.flower.inventory.event;
 
+import com.flower.common.event.DeliveryStatusChangedEvent;
+import com.flower.common.event.InventoryDeductionFailedEvent;
+import com.flower.common.event.OrderCancelledEvent;
 import com.flower.common.event.OrderPlacedEvent;
 import com.flower.common.event.PaymentCompletedEvent;
-import com.flower.product.service.ProductService;
+import com.flower.common.outbox.OutboxEventPublisher;
+import com.flower.inventory.service.InventoryReservationService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import org.springframework.context.ApplicationEventPublisher;
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.ArrayList;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 /**
@@ -24,17 +31,17 @@ import static org.mockito.Mockito.*;
 class InventoryEventListenerTest {
 
     @Mock
-    private ProductService productService;
+    private InventoryReservationService reservationService;
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private OutboxEventPublisher eventPublisher;
 
     @InjectMocks
     private InventoryEventListener inventoryEventListener;
 
     @Test
-    @DisplayName("Should decrease stock when OrderPlacedEvent is received")
-    void shouldDecreaseStockWhenOrderPlacedEventIsReceived() {
+    @DisplayName("Should reserve stock when OrderPlacedEvent is received")
+    void shouldReserveStockWhenOrderPlacedEventIsReceived() {
         // 준비
         OrderPlacedEvent.OrderItemInfo item1 = new OrderPlacedEvent.OrderItemInfo(1L, "Rose", 2, new BigDecimal("10000"));
         OrderPlacedEvent.OrderItemInfo item2 = new OrderPlacedEvent.OrderItemInfo(2L, "Lily", 3, new BigDecimal("8000"));
@@ -48,31 +55,65 @@ class InventoryEventListenerTest {
         inventoryEventListener.handleOrderPlaced(event);
 
         // 검증
-        verify(productService).decreaseStock(1L, 2);
-        verify(productService).decreaseStock(2L, 3);
-        verify(eventPublisher, never()).publishEvent(any());
+        verify(reservationService).reserve("ORD-001", Map.of(1L, 2, 2L, 3), Map.of());
+        verify(eventPublisher, never()).publish(any());
     }
-    
+
     @Test
-    @DisplayName("Should publish failure event when stock deduction fails")
-    void shouldPublishFailureEventWhenStockDeductionFails() {
+    @DisplayName("Should propagate reservation failure so that order creation rolls back")
+    void shouldPropagateReservationFailure() {
         // 준비
-        OrderPlacedEvent.OrderItemInfo item1 = new OrderPlacedEvent.OrderItemInfo(1L, "Rose", 2, new BigDecimal("10000"));
         OrderPlacedEvent event = new OrderPlacedEvent(
                 "ORD-FAIL", 1L, "Rose x 2", 2, new BigDecimal("20000"),
-                List.of(item1), null, false
+                List.of(new OrderPlacedEvent.OrderItemInfo(1L, "Rose", 2, new BigDecimal("10000"))), null, false
         );
+        doThrow(new IllegalStateException("재고가 부족합니다.")).when(reservationService).reserve("ORD-FAIL", Map.of(1L, 2), Map.of());
+
+        // 실행 및 검증
+        assertThrows(IllegalStateException.class, () -> inventoryEventListener.handleOrderPlaced(event));
+    }
+
+    @Test
+    @DisplayName("Should merge duplicate items and pass products in id order")
+    void shouldMergeDuplicateItemsAndSortByProductId() {
+        // 준비
+        OrderPlacedEvent event = new OrderPlacedEvent(
+                "ORD-003", 1L, "Lily x 1, Rose x 2, Lily x 4", 7, new BigDecimal("62000"),
+                List.of(
+                        new OrderPlacedEvent.OrderItemInfo(2L, "Lily", 1, new BigDecimal("8000")),
+                        new OrderPlacedEvent.OrderItemInfo(1L, "Rose", 2, new BigDecimal("10000")),
+                        new OrderPlacedEvent.OrderItemInfo(2L, "Lily", 4, new BigDecimal("8000"))
+                ), null, false
+        );
+        ArgumentCaptor<Map<Long, Integer>> captor = ArgumentCaptor.forClass(Map.class);
+
+        // 실행
+        inventoryEventListener.handleOrderPlaced(event);
+
+        // 검증
+        verify(reservationService).reserve(eq("ORD-003"), captor.capture(), anyMap());
+        assertThat(captor.getValue()).containsExactly(entry(1L, 2), entry(2L, 5));
+    }
 
-        doThrow(new RuntimeException("Out of stock")).when(productService).decreaseStock(1L, 2);
+    @Test
+    @DisplayName("Should reserve each selected option by the item quantity")
+    void shouldReserveOptionStockByItemQuantity() {
+        // 준비
+        OrderPlacedEvent event = new OrderPlacedEvent(
+                "ORD-007", 1L, "Rose x 2, Rose x 3", 5, new BigDecimal("50000"),
+                List.of(
+                        new OrderPlacedEvent.OrderItemInfo(1L, "Rose", 2, new BigDecimal("10000"), List.of(10L, 20L)),
+                        new OrderPlacedEvent.OrderItemInfo(1L, "Rose", 3, new BigDecimal("10000"), List.of(10L))
+                ), null, false
+        );
 
         // 실행
         inventoryEventListener.handleOrderPlaced(event);
 
         // 검증
-        verify(productService).decreaseStock(1L, 2);
-        verify(eventPublisher).publishEvent(any(com.flower.common.event.InventoryDeductionFailedEvent.class));
+        verify(reservationService).reserve("ORD-007", Map.of(1L, 5), Map.of(10L, 5, 20L, 2));
     }
-    
+
     @Test
     @DisplayName("Should log warning when items are missing")
     void shouldLogWarningWhenItemsAreMissing() {
@@ -86,6 +127,67 @@ class InventoryEventListenerTest {
         inventoryEventListener.handleOrderPlaced(event);
 
         // 검증
-        verify(productService, never()).decreaseStock(anyLong(), anyInt());
+        verify(reservationService, never()).reserve(anyString(), anyMap(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Should confirm reservation when PaymentCompletedEvent is received")
+    void shouldConfirmReservationWhenPaymentCompleted() {
+        // 준비
+        PaymentCompletedEvent event = paymentCompletedEvent("ORD-005");
+
+        // 실행
+        inventoryEventListener.handlePaymentCompleted(event);
+
+        // 검증
+        verify(reservationService).confirm("ORD-005", Map.of(1L, 2), Map.of());
+        verify(eventPublisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("Should publish failure event when confirmation fails")
+    void shouldPublishFailureEventWhenConfirmationFails() {
+        // 준비
+        PaymentCompletedEvent event = paymentCompletedEvent("ORD-006");
+        doThrow(new IllegalStateException("Out of stock")).when(reservationService).confirm("ORD-006", Map.of(1L, 2), Map.of());
+
+        // 실행
+        inventoryEventListener.handlePaymentCompleted(event);
+
+        // 검증
+        verify(eventPublisher).publish(any(InventoryDeductionFailedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should release or restore stock when OrderCancelledEvent is received")
+    void shouldCancelReservationWhenOrderCancelled() {
+        // 준비
+        OrderCancelledEvent event = new OrderCancelledEvent("ORD-004", 4L, "고객 요청", 1L, List.of(
+                new OrderPlacedEvent.OrderItemInfo(3L, "Tulip", 1, new BigDecimal("7000")),
+                new OrderPlacedEvent.OrderItemInfo(1L, "Rose", 2, new BigDecimal("10000"))
+        ), List.of());
+
+        // 실행
+        inventoryEventListener.handleOrderCancelled(event);
+
+        // 검증
+        verify(reservationService).cancel("ORD-004", Map.of(1L, 2, 3L, 1), Map.of(), "고객 요청");
+    }
+
+    @Test
+    @DisplayName("Should close confirmed reservation once the order has shipped")
+    void shouldCloseReservationWhenShipped() {
+        // 실행
+        inventoryEventListener.handleDeliveryStatusChanged(new DeliveryStatusChangedEvent("ORD-005", 5L, "PREPARING"));
+        inventoryEventListener.handleDeliveryStatusChanged(new DeliveryStatusChangedEvent("ORD-005", 5L, "SHIPPING"));
+
+        // 검증 - 배송 준비 단계는 아직 취소 가능하므로 종료하지 않음
+        verify(reservationService, times(1)).close("ORD-005");
+    }
+
+    private PaymentCompletedEvent paymentCompletedEvent(String orderNumber) {
+        return new PaymentCompletedEvent(orderNumber, 5L, 1L,
+                List.of(new OrderPlacedEvent.OrderItemInfo(1L, "Rose", 2, new BigDecimal("10000"))),
+                false, "홍길동", "010-1234-5678", "서울 강남구", null);
     }
 }
@@ -0,0 +1,121 @@
+package com.flower.inventory.reservation;
+
+import com.flower.inventory.reservation.InventoryReservationLedger.Reservation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("InventoryReservationLedger Tests")
+class InventoryReservationLedgerTest {
+
+    private final InventoryReservationLedger ledger = new InventoryReservationLedger();
+
+    @Test
+    @DisplayName("Should roll back partially reserved products when one product is short")
+    void shouldRollbackPartialReservation() {
+        // 준비
+        Map<Long, Integer> onHand = Map.of(1L, 10, 2L, 1);
+
+        // 실행
+        assertThrows(IllegalStateException.class,
+                () -> ledger.reserve(reservation("ORD-1", Map.of(1L, 3, 2L, 2)), onHand::get));
+
+        // 검증
+        assertThat(ledger.reservedQuantity(1L)).isZero();
+        assertThat(ledger.reservedQuantity(2L)).isZero();
+        assertThat(ledger.find("ORD-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate reservation for the same order")
+    void shouldRejectDuplicateReservation() {
+        // 준비
+        ledger.reserve(reservation("ORD-1", Map.of(1L, 1)), productId -> 10);
+
+        // 실행 및 검증
+        assertThrows(IllegalStateException.class,
+                () -> ledger.reserve(reservation("ORD-1", Map.of(1L, 1)), productId -> 10));
+        assertThat(ledger.reservedQuantity(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should free reserved quantity when reservation is removed")
+    void shouldFreeReservedQuantityOnRemove() {
+        // 준비
+        ledger.reserve(reservation("ORD-1", Map.of(1L, 4)), productId -> 10);
+        ledger.reserve(reservation("ORD-2", Map.of(1L, 6)), productId -> 10);
+
+        // 실행
+        ledger.remove("ORD-1");
+
+        // 검증
+        assertThat(ledger.reservedQuantity(1L)).isEqualTo(6);
+        assertThat(ledger.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should roll back product reservation when a selected option is short")
+    void shouldRollbackProductsWhenOptionIsShort() {
+        // 준비
+        ledger.reserve(new Reservation("ORD-1", new TreeMap<>(Map.of(1L, 1)), new TreeMap<>(Map.of(10L, 2)),
+                LocalDateTime.now().plusMinutes(15)), productId -> 10, optionId -> 3);
+
+        // 실행
+        assertThrows(IllegalStateException.class,
+                () -> ledger.reserve(new Reservation("ORD-2", new TreeMap<>(Map.of(1L, 1)), new TreeMap<>(Map.of(10L, 2)),
+                        LocalDateTime.now().plusMinutes(15)), productId -> 10, optionId -> 3));
+
+        // 검증
+        assertThat(ledger.reservedQuantity(1L)).isEqualTo(1);
+        assertThat(ledger.reservedOptionQuantity(10L)).isEqualTo(2);
+        assertThat(ledger.find("ORD-2")).isEmpty();
+
+        ledger.remove("ORD-1");
+        assertThat(ledger.reservedOptionQuantity(10L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never reserve more than on-hand stock under concurrent orders")
+    void shouldNotOverReserveConcurrently() throws InterruptedException {
+        // 준비
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // 실행
+        for (int i = 0; i < threadCount; i++) {
+            String orderNumber = "ORD-" + i;
+            executorService.submit(() -> {
+                try {
+                    ledger.reserve(reservation(orderNumber, Map.of(1L, 1)), productId -> 20);
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException ignored) {
+                    // 재고 부족
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executorService.shutdown();
+
+        // 검증
+        assertThat(successCount.get()).isEqualTo(20);
+        assertThat(ledger.reservedQuantity(1L)).isEqualTo(20);
+    }
+
+    private Reservation reservation(String orderNumber, Map<Long, Integer> quantities) {
+        return new Reservation(orderNumber, new TreeMap<>(quantities), LocalDateTime.now().plusMinutes(15));
+    }
+}
@@ -0,0 +1,53 @@
+package com.flower.inventory.reservation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReservationTimerWheel Tests")
+class ReservationTimerWheelTest {
+
+    private final ReservationTimerWheel wheel = new ReservationTimerWheel(1000);
+
+    @Test
+    @DisplayName("Should expire only timeouts whose deadline has passed")
+    void shouldExpireOnlyPassedDeadlines() {
+        // 준비
+        long base = 1_000_000L;
+        wheel.advance(base);
+        wheel.schedule("ORD-1", base + 2_000);
+        wheel.schedule("ORD-2", base + 5_000);
+
+        // 실행 및 검증
+        assertThat(wheel.advance(base + 1_000)).isEmpty();
+        assertThat(wheel.advance(base + 2_000)).containsExactly("ORD-1");
+        assertThat(wheel.advance(base + 10_000)).containsExactly("ORD-2");
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep timeouts that are more than one rotation away")
+    void shouldKeepTimeoutsBeyondOneRotation() {
+        // 준비: 슬롯 512개, tick 1초 → 600초 뒤 만료는 같은 슬롯을 한 바퀴 이상 지나야 함
+        long base = 1_000_000L;
+        wheel.advance(base);
+        wheel.schedule("ORD-LONG", base + 600_000);
+
+        // 실행 및 검증
+        assertThat(wheel.advance(base + 88_000)).isEmpty();
+        assertThat(wheel.advance(base + 599_000)).isEmpty();
+        assertThat(wheel.advance(base + 600_000)).containsExactly("ORD-LONG");
+    }
+
+    @Test
+    @DisplayName("Should expire timeouts scheduled in the past on the next advance")
+    void shouldExpirePastDeadlinesOnNextAdvance() {
+        // 준비: 재기동 직후 이미 만료 시각이 지난 예약을 복원하는 경우
+        long base = 1_000_000L;
+        wheel.schedule("ORD-OLD", base - 60_000);
+
+        // 실행 및 검증
+        assertThat(wheel.advance(base)).containsExactly("ORD-OLD");
+    }
+}
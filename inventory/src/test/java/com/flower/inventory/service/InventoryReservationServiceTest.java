@@ -0,0 +1,150 @@
+package com.flower.inventory.service;
+
+import com.flower.inventory.domain.InventoryReservationLog;
+import com.flower.inventory.domain.InventoryReservationLog.EntryType;
+import com.flower.inventory.repository.InventoryReservationLogRepository;
+import com.flower.inventory.reservation.InventoryReservationLedger;
+import com.flower.inventory.reservation.InventoryReservationLedger.Reservation;
+import com.flower.inventory.reservation.ReservationTimerWheel;
+import com.flower.product.service.ProductQueryService;
+import com.flower.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryReservationService Tests")
+class InventoryReservationServiceTest {
+
+    private static final String ORDER_NUMBER = "ORD-1";
+
+    @Mock
+    private InventoryReservationLogRepository reservationLogRepository;
+
+    @Mock
+    private ReservationTimerWheel timerWheel;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ProductQueryService productQueryService;
+
+    private final InventoryReservationLedger ledger = new InventoryReservationLedger();
+    private final List<InventoryReservationLog> entries = new ArrayList<>();
+
+    private InventoryReservationService reservationService;
+
+    @BeforeEach
+    void setUp() {
+        reservationService = new InventoryReservationService(reservationLogRepository, ledger, timerWheel,
+                productService, productQueryService, 15);
+        // 원장 로그는 목록에 쌓아 두고, 종료 항목 존재 여부도 그 목록으로 응답
+        lenient().when(reservationLogRepository.save(any())).thenAnswer(invocation -> {
+            entries.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        lenient().when(reservationLogRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            entries.addAll(invocation.<Collection<InventoryReservationLog>>getArgument(0));
+            return invocation.getArgument(0);
+        });
+        lenient().when(reservationLogRepository.existsByOrderNumberAndEntryType(anyString(), any())).thenAnswer(invocation ->
+                entries.stream().anyMatch(entry -> entry.getOrderNumber().equals(invocation.getArgument(0))
+                        && entry.getEntryType() == invocation.getArgument(1)));
+    }
+
+    @Test
+    @DisplayName("Should restore stock when an order paid after its reservation expired is cancelled")
+    void shouldRestoreStockWhenCancelledAfterExpiryAndFallbackConfirm() {
+        // 준비 - 결제 대기 중 예약이 만료됨
+        ledger.restore(new Reservation(ORDER_NUMBER, new TreeMap<>(Map.of(1L, 2)), LocalDateTime.now().minusMinutes(1)));
+        assertThat(reservationService.releaseExpired(List.of(ORDER_NUMBER))).isEqualTo(1);
+
+        // 실행 - 만료 후 결제되어 직접 차감된 뒤 취소
+        reservationService.confirm(ORDER_NUMBER, Map.of(1L, 2), Map.of());
+        reservationService.cancel(ORDER_NUMBER, Map.of(1L, 2), Map.of(), "고객 취소");
+
+        // 검증
+        verify(productService).decreaseStocks(Map.of(1L, 2), Map.of());
+        verify(productService).increaseStocks(Map.of(1L, 2), Map.of());
+        assertThat(entries).extracting(InventoryReservationLog::getEntryType)
+                .containsExactly(EntryType.EXPIRED, EntryType.CONFIRMED, EntryType.RELEASED);
+    }
+
+    @Test
+    @DisplayName("Should restore the stock only once when the cancellation is redelivered")
+    void shouldRestoreStockOnlyOnce() {
+        // 준비
+        ledger.restore(new Reservation(ORDER_NUMBER, new TreeMap<>(Map.of(1L, 2)), LocalDateTime.now().minusMinutes(1)));
+        reservationService.releaseExpired(List.of(ORDER_NUMBER));
+        reservationService.confirm(ORDER_NUMBER, Map.of(1L, 2), Map.of());
+
+        // 실행
+        reservationService.cancel(ORDER_NUMBER, Map.of(1L, 2), Map.of(), "고객 취소");
+        reservationService.cancel(ORDER_NUMBER, Map.of(1L, 2), Map.of(), "고객 취소");
+
+        // 검증
+        verify(productService, times(1)).increaseStocks(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should close an order paid after its reservation expired once it can no longer be cancelled")
+    void shouldCloseAfterExpiryAndFallbackConfirm() {
+        // 준비
+        ledger.restore(new Reservation(ORDER_NUMBER, new TreeMap<>(Map.of(1L, 2)), LocalDateTime.now().minusMinutes(1)));
+        reservationService.releaseExpired(List.of(ORDER_NUMBER));
+        reservationService.confirm(ORDER_NUMBER, Map.of(1L, 2), Map.of());
+
+        // 실행
+        reservationService.close(ORDER_NUMBER);
+
+        // 검증
+        assertThat(entries).extracting(InventoryReservationLog::getEntryType)
+                .containsExactly(EntryType.EXPIRED, EntryType.CONFIRMED, EntryType.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should not restore stock when an expired order that was never paid is cancelled")
+    void shouldNotRestoreStockForUnpaidExpiredOrder() {
+        // 준비
+        ledger.restore(new Reservation(ORDER_NUMBER, new TreeMap<>(Map.of(1L, 2)), LocalDateTime.now().minusMinutes(1)));
+        reservationService.releaseExpired(List.of(ORDER_NUMBER));
+
+        // 실행
+        reservationService.cancel(ORDER_NUMBER, Map.of(1L, 2), Map.of(), "고객 취소");
+
+        // 검증
+        verify(productService, never()).increaseStocks(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should compact released/closed orders and expired orders that were never paid")
+    void shouldCompactSettledAndExpiredUnconfirmedOrders() {
+        // 준비
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
+        when(reservationLogRepository.findClosedOrderNumbersBefore(eq(cutoff), any())).thenReturn(List.of("ORD-1"));
+        when(reservationLogRepository.deleteByOrderNumberIn(List.of("ORD-1"))).thenReturn(2);
+        when(reservationLogRepository.findExpiredUnconfirmedOrderNumbersBefore(eq(cutoff), any())).thenReturn(List.of("ORD-2"));
+        when(reservationLogRepository.deleteUnconfirmedByOrderNumberIn(List.of("ORD-2"))).thenReturn(3);
+
+        // 실행
+        int deleted = reservationService.compactSettledBefore(cutoff);
+
+        // 검증
+        assertThat(deleted).isEqualTo(5);
+    }
+}
@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class PointHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_history_seq")
+    @SequenceGenerator(name = "point_history_seq", sequenceName = "point_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
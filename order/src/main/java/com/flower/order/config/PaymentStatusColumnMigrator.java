@@ -0,0 +1,45 @@
+package com.flower.order.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * orders.payment_status를 순번(ordinal) 저장에서 이름(STRING) 저장으로 전환
+ * ddl-auto=update는 기존 컬럼의 타입을 바꾸지 않으므로, 숫자 컬럼이 남아 있으면 이름 컬럼으로 옮겨 담고 교체함
+ * 스키마 생성(EntityManagerFactory 초기화) 후, 요청이나 스케줄 작업이 주문을 읽기 전에 한 번 실행 (H2 문법)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentStatusColumnMigrator implements SmartInitializingSingleton {
+
+    private static final Set<String> NUMERIC_TYPES = Set.of("TINYINT", "SMALLINT", "INTEGER", "BIGINT");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<String> types = jdbcTemplate.queryForList(
+                "SELECT DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS " +
+                "WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND TABLE_NAME = 'ORDERS' AND COLUMN_NAME = 'PAYMENT_STATUS'",
+                String.class);
+        if (types.isEmpty() || !NUMERIC_TYPES.contains(types.get(0))) {
+            return;
+        }
+
+        // 순번 저장 당시의 선언 순서: PENDING, PAID, FAILED, REFUNDED
+        jdbcTemplate.execute("ALTER TABLE orders ADD COLUMN payment_status_name VARCHAR(20)");
+        int migrated = jdbcTemplate.update("UPDATE orders SET payment_status_name = CASE payment_status " +
+                "WHEN 0 THEN 'PENDING' WHEN 1 THEN 'PAID' WHEN 2 THEN 'FAILED' WHEN 3 THEN 'REFUNDED' END");
+        jdbcTemplate.execute("ALTER TABLE orders DROP COLUMN payment_status");
+        jdbcTemplate.execute("ALTER TABLE orders ALTER COLUMN payment_status_name RENAME TO payment_status");
+        jdbcTemplate.execute("ALTER TABLE orders ALTER COLUMN payment_status SET NOT NULL");
+        log.info("orders.payment_status를 이름 저장으로 전환: {}건", migrated);
+    }
+}
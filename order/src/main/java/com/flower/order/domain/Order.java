@@ -1,5 +1,6 @@
 package com.flower.order.domain;
 
+import com.flower.common.id.SnowflakeIdGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,15 +13,24 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders", indexes = @Index(name = "idx_order_member_id", columnList = "member_id"))
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_order_member_created", columnList = "member_id, created_at, id"),
+        @Index(name = "idx_order_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_order_created", columnList = "created_at, id"),
+        @Index(name = "idx_order_paid_at", columnList = "paid_at"),
+        @Index(name = "idx_order_refunded_at", columnList = "refunded_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
 
+    // IDENTITY는 INSERT마다 생성 키를 받아와야 해 JDBC 배치가 꺼지므로, 시퀀스에서 50개씩 미리 받아 두고 발급 (pooled)
+    // 주문·주문 상품·옵션 INSERT가 테이블별로 한 번의 배치로 전송됨
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -45,6 +55,7 @@ public class Order {
     @Builder.Default
     private OrderStatus status = OrderStatus.PENDING;
 
+    @Enumerated(EnumType.STRING)
     @Column(name = "payment_status", nullable = false, length = 20)
     @Builder.Default
     private PaymentStatus paymentStatus = PaymentStatus.PENDING;
@@ -85,6 +96,9 @@ public class Order {
     @Column(name = "paid_at")
     private LocalDateTime paidAt;
 
+    @Column(name = "refunded_at")
+    private LocalDateTime refundedAt;
+
     @Column(name = "shipped_at")
     private LocalDateTime shippedAt;
 
@@ -118,14 +132,33 @@ public class Order {
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
+    /**
+     * 목록 표시용 상품 요약 (예: "장미 꽃다발 외 2건")
+     */
+    public String summarizeItems() {
+        return summarizeItems(items);
+    }
+
+    public static String summarizeItems(List<OrderItem> items) {
+        if (items == null || items.isEmpty()) {
+            return "";
+        }
+        String firstItemName = items.get(0).getProductName();
+        int size = items.size();
+        return size > 1 ? firstItemName + " 외 " + (size - 1) + "건" : firstItemName;
+    }
+
     private String generateOrderNumber() {
-        return "ORD-" + System.currentTimeMillis();
+        return SnowflakeIdGenerator.shared().nextCode("ORD");
     }
 
     public void markAsPaid() {
         if (this.status == OrderStatus.CANCELLED) {
             throw new IllegalStateException("취소된 주문은 결제할 수 없습니다.");
         }
+        if (this.paymentStatus == PaymentStatus.FAILED) {
+            throw new IllegalStateException("결제 실패로 정리된 주문입니다.");
+        }
         this.paidAt = LocalDateTime.now();
         this.paymentStatus = PaymentStatus.PAID;
         this.status = OrderStatus.PAID;
@@ -137,6 +170,7 @@ public class Order {
     }
 
     public void markAsRefunded() {
+        this.refundedAt = LocalDateTime.now();
         this.paymentStatus = PaymentStatus.REFUNDED;
     }
 
@@ -156,7 +190,7 @@ public class Order {
     }
 
     public enum PaymentStatus {
-        PENDING, PAID, FAILED, REFUNDED
+        PENDING, IN_PROGRESS, PAID, FAILED, REFUNDED
     }
 
     public enum DeliveryMethod {
@@ -17,7 +17,8 @@ import java.math.BigDecimal;
 public class OrderItemOption {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_options_seq")
+    @SequenceGenerator(name = "order_item_options_seq", sequenceName = "order_item_options_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
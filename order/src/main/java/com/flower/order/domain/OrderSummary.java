@@ -0,0 +1,84 @@
+package com.flower.order.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 내 주문 목록 조회 모델 (주문 1건 = 1행)
+ * 주문/주문상품을 조인하지 않고 회원별 최신순 keyset 조회 한 번으로 목록을 구성할 수 있도록 미리 비정규화해 둠
+ * 주문 생성·상태 변경은 OrderService에서 같은 트랜잭션으로, 배송·리뷰 변화는 이벤트로 반영됨 (OrderSummaryProjector)
+ */
+@Entity
+@Table(name = "order_summaries", indexes = {
+        @Index(name = "idx_order_summary_member_latest", columnList = "member_id, created_at, order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSummary implements Persistable<Long> {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "order_number", nullable = false)
+    private String orderNumber;
+
+    @Column(name = "total_amount", precision = 12, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "item_summary")
+    private String itemSummary;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean isNew;
+
+    public OrderSummary(Order order, String itemSummary) {
+        this.orderId = order.getId();
+        this.memberId = order.getMemberId();
+        this.orderNumber = order.getOrderNumber();
+        this.totalAmount = order.getTotalAmount();
+        this.status = order.getStatus();
+        this.itemSummary = itemSummary;
+        this.createdAt = order.getCreatedAt();
+        this.updatedAt = LocalDateTime.now();
+        this.isNew = true;
+    }
+
+    /**
+     * ID를 직접 지정하는 엔티티라 save() 시 존재 여부 SELECT 없이 바로 INSERT 하도록 새 행임을 알려줌
+     */
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,73 @@
+package com.flower.order.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+
+/**
+ * 내 주문 목록 조회 모델의 주문 상품 행 (리뷰 작성 여부 포함)
+ * 리뷰 모듈을 다시 조회하지 않도록 리뷰 생성/삭제 이벤트로 hasReview를 유지함
+ */
+@Entity
+@Table(name = "order_summary_items", indexes = {
+        @Index(name = "idx_order_summary_item_order", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSummaryItem implements Persistable<Long> {
+
+    @Id
+    @Column(name = "order_item_id")
+    private Long orderItemId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "product_name", nullable = false)
+    private String productName;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "unit_price", precision = 10, scale = 2)
+    private BigDecimal unitPrice;
+
+    @Column(name = "has_review", nullable = false)
+    private boolean hasReview;
+
+    @Transient
+    private boolean isNew;
+
+    public OrderSummaryItem(Long orderId, OrderItem item) {
+        this.orderItemId = item.getId();
+        this.orderId = orderId;
+        this.productId = item.getProductId();
+        this.productName = item.getProductName();
+        this.quantity = item.getQuantity();
+        this.unitPrice = item.getUnitPrice();
+        this.isNew = true;
+    }
+
+    @Override
+    public Long getId() {
+        return orderItemId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.isNew = false;
+    }
+}
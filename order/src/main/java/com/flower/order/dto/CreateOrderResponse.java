@@ -4,6 +4,7 @@ import com.flower.order.domain.Order;
 import com.flower.order.domain.OrderStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -26,7 +27,7 @@ public record CreateOrderResponse(
 
     @Schema(description = "메시지 카드 내용", example = "생일 축하해!")
     String messageCard
-) {
+) implements Serializable {
     public static CreateOrderResponse from(Order order) {
         return new CreateOrderResponse(
             order.getId(),
@@ -0,0 +1,47 @@
+package com.flower.order.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 내 주문 목록 keyset 커서 (createdAt, id)
+ * 클라이언트에는 Base64 인코딩된 불투명 문자열로만 노출
+ */
+public record OrderCursor(
+    LocalDateTime createdAt,
+    Long id
+) {
+    /**
+     * 첫 페이지 조회용 센티널 커서 (모든 주문보다 뒤에 위치)
+     */
+    public static final OrderCursor FIRST = new OrderCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String DELIMITER = "|";
+
+    public static OrderCursor of(OrderDto order) {
+        return new OrderCursor(order.createdAt(), order.id());
+    }
+
+    public static OrderCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return new OrderCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
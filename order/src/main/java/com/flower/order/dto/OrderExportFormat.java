@@ -0,0 +1,17 @@
+package com.flower.order.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 주문 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+}
@@ -14,6 +14,7 @@ import java.util.List;
 @AllArgsConstructor
 public class OrderItemDto {
     private Long productId;
+    private Long storeId;
     private String productName;
     private int quantity;
     private BigDecimal unitPrice;
@@ -0,0 +1,35 @@
+package com.flower.order.dto;
+
+import com.flower.order.domain.OrderStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 주문 검색 조건 (null인 조건은 적용하지 않음)
+ * 기간은 주문 생성일 기준 from ~ to (양 끝 날짜 포함)
+ */
+public record OrderSearchCondition(
+    OrderStatus status,
+    LocalDate from,
+    LocalDate to,
+    Long memberId,
+    Long storeId
+) {
+    public OrderSearchCondition {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다: " + from + " ~ " + to);
+        }
+    }
+
+    public LocalDateTime createdFrom() {
+        return from == null ? null : from.atStartOfDay();
+    }
+
+    /**
+     * 종료일 다음 날 0시 (미포함 상한)
+     */
+    public LocalDateTime createdBefore() {
+        return to == null ? null : to.plusDays(1).atStartOfDay();
+    }
+}
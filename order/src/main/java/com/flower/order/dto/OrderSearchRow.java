@@ -0,0 +1,49 @@
+package com.flower.order.dto;
+
+import com.flower.order.domain.Order;
+import com.flower.order.domain.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 주문 검색/내보내기 행 (orders 테이블 한 행, 주문 상품 제외)
+ * 모든 값이 숫자·열거형·주문번호(영숫자)라 CSV 따옴표나 JSON 이스케이프가 필요 없음
+ */
+public record OrderSearchRow(
+    Long id,
+    String orderNumber,
+    Long memberId,
+    BigDecimal totalAmount,
+    OrderStatus status,
+    Order.PaymentStatus paymentStatus,
+    LocalDateTime createdAt,
+    LocalDateTime paidAt
+) {
+    public static final String CSV_HEADER = "order_id,order_number,member_id,total_amount,status,payment_status,created_at,paid_at";
+
+    public String toCsvLine() {
+        return id + "," + orderNumber + "," + text(memberId) + "," + amount() + "," + status + "," + paymentStatus
+                + "," + createdAt + "," + text(paidAt);
+    }
+
+    public String toJsonLine() {
+        return "{\"orderId\":" + id
+                + ",\"orderNumber\":\"" + orderNumber + "\""
+                + ",\"memberId\":" + memberId
+                + ",\"totalAmount\":" + (totalAmount == null ? "null" : amount())
+                + ",\"status\":\"" + status + "\""
+                + ",\"paymentStatus\":\"" + paymentStatus + "\""
+                + ",\"createdAt\":\"" + createdAt + "\""
+                + ",\"paidAt\":" + (paidAt == null ? "null" : "\"" + paidAt + "\"")
+                + "}";
+    }
+
+    private String amount() {
+        return totalAmount == null ? "" : totalAmount.toPlainString();
+    }
+
+    private static String text(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
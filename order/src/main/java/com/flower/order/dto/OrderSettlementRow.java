@@ -0,0 +1,14 @@
+package com.flower.order.dto;
+
+import com.flower.order.domain.Order.PaymentStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * PG 정산 대사용 주문 결제 정보
+ */
+public record OrderSettlementRow(
+    String orderNumber,
+    PaymentStatus paymentStatus,
+    BigDecimal totalAmount
+) {}
@@ -1,17 +1,48 @@
 package com.flower.order.event;
 
+import com.flower.common.event.DeliveryStatusChangedEvent;
+import com.flower.common.event.ReviewCreatedEvent;
+import com.flower.common.event.ReviewDeletedEvent;
+import com.flower.common.outbox.OutboxListener;
 import com.flower.common.repository.FailureLogRepository;
 import com.flower.order.service.OrderService;
+import com.flower.order.service.OrderSummaryProjector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderEventListener {
 
     private final OrderService orderService;
+    private final OrderSummaryProjector orderSummaryProjector;
     private final FailureLogRepository failureLogRepository;
 
+    @OutboxListener
+    public void handleDeliveryStatusChanged(DeliveryStatusChangedEvent event) {
+        log.info("배송 상태 변경 이벤트 수신 - 주문 상태 반영: 주문번호={}, 배송 상태={}", event.getOrderNumber(), event.getStatus());
+        orderService.applyDeliveryStatus(event.getOrderId(), event.getStatus());
+    }
+
+    @OutboxListener
+    public void handleReviewCreated(ReviewCreatedEvent event) {
+        if (event.getOrderItemId() == null) {
+            return;
+        }
+        log.info("리뷰 생성 이벤트 수신 - 주문 목록 리뷰 작성 여부 반영: OrderItemId={}", event.getOrderItemId());
+        orderSummaryProjector.changeReviewStatus(List.of(event.getOrderItemId()), true);
+    }
+
+    @OutboxListener
+    public void handleReviewDeleted(ReviewDeletedEvent event) {
+        if (event.getOrderItemId() == null) {
+            return;
+        }
+        log.info("리뷰 삭제 이벤트 수신 - 주문 목록 리뷰 작성 여부 해제: OrderItemId={}", event.getOrderItemId());
+        orderSummaryProjector.changeReviewStatus(List.of(event.getOrderItemId()), false);
+    }
 }
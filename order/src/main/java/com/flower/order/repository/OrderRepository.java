@@ -1,22 +1,104 @@
 package com.flower.order.repository;
 
 import com.flower.order.domain.Order;
+import com.flower.order.dto.OrderSettlementRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findByOrderNumber(String orderNumber);
     
-    @org.springframework.data.jpa.repository.Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.memberId = :memberId ORDER BY o.createdAt DESC")
-    List<Order> findByMemberIdWithItems(@org.springframework.data.repository.query.Param("memberId") Long memberId);
+    /**
+     * 주문 목록 조회 모델이 아직 없는 주문 ID를 ID 순으로 조회 (조회 모델 도입 전 주문 백필용)
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT o.id FROM Order o WHERE o.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM OrderSummary s WHERE s.orderId = o.id) ORDER BY o.id")
+    List<Long> findIdsWithoutSummaryAfter(@org.springframework.data.repository.query.Param("afterId") Long afterId,
+                                          org.springframework.data.domain.Pageable pageable);
 
-    @org.springframework.data.jpa.repository.Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items ORDER BY o.createdAt DESC")
-    List<Order> findAllWithItems();
+    @org.springframework.data.jpa.repository.Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    List<Order> findAllWithItemsByIdIn(@org.springframework.data.repository.query.Param("ids") Collection<Long> ids);
+
+    @org.springframework.data.jpa.repository.Query("SELECT i FROM OrderItem i WHERE i.order.id IN :orderIds ORDER BY i.id")
+    List<com.flower.order.domain.OrderItem> findItemsByOrderIdIn(@org.springframework.data.repository.query.Param("orderIds") Collection<Long> orderIds);
 
     @org.springframework.data.jpa.repository.Query("SELECT i FROM OrderItem i JOIN FETCH i.order WHERE i.id = :orderItemId")
     Optional<com.flower.order.domain.OrderItem> findOrderItemById(@org.springframework.data.repository.query.Param("orderItemId") Long orderItemId);
+
+    /**
+     * 결제 대기 주문만 결제 진행 중으로 전환 (동시에 들어온 결제 요청 중 한 건만 성공)
+     */
+    @org.springframework.data.jpa.repository.Modifying(clearAutomatically = true)
+    @org.springframework.data.jpa.repository.Query("UPDATE Order o SET o.paymentStatus = com.flower.order.domain.Order.PaymentStatus.IN_PROGRESS, o.updatedAt = :now " +
+            "WHERE o.id = :orderId AND o.status = com.flower.order.domain.OrderStatus.PENDING " +
+            "AND o.paymentStatus = com.flower.order.domain.Order.PaymentStatus.PENDING")
+    int startPayment(@org.springframework.data.repository.query.Param("orderId") Long orderId,
+                     @org.springframework.data.repository.query.Param("now") LocalDateTime now);
+
+    /**
+     * 결제 진행 중인 주문만 결제 완료로 전환 (그 사이 멈춘 결제로 정리되었거나 취소되었으면 0)
+     */
+    @org.springframework.data.jpa.repository.Modifying(clearAutomatically = true)
+    @org.springframework.data.jpa.repository.Query("UPDATE Order o SET o.status = com.flower.order.domain.OrderStatus.PAID, " +
+            "o.paymentStatus = com.flower.order.domain.Order.PaymentStatus.PAID, o.paidAt = :now, o.updatedAt = :now " +
+            "WHERE o.id = :orderId AND o.status = com.flower.order.domain.OrderStatus.PENDING " +
+            "AND o.paymentStatus = com.flower.order.domain.Order.PaymentStatus.IN_PROGRESS")
+    int completePayment(@org.springframework.data.repository.query.Param("orderId") Long orderId,
+                        @org.springframework.data.repository.query.Param("now") LocalDateTime now);
+
+    /**
+     * PG를 호출하지 못한 결제를 다시 결제 대기로 되돌림 (그 사이 결과가 반영되었거나 멈춘 결제로 정리되었으면 0)
+     */
+    @org.springframework.data.jpa.repository.Modifying(clearAutomatically = true)
+    @org.springframework.data.jpa.repository.Query("UPDATE Order o SET o.paymentStatus = com.flower.order.domain.Order.PaymentStatus.PENDING, o.updatedAt = :now " +
+            "WHERE o.id = :orderId AND o.paymentStatus = com.flower.order.domain.Order.PaymentStatus.IN_PROGRESS")
+    int abandonPayment(@org.springframework.data.repository.query.Param("orderId") Long orderId,
+                       @org.springframework.data.repository.query.Param("now") LocalDateTime now);
+
+    /**
+     * 결제 진행 중인 채로 기준 시각 이전에 멈춘 주문 (결제 시작 후 결과를 반영하기 전에 프로세스가 죽은 경우)
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT o.id FROM Order o " +
+            "WHERE o.paymentStatus = com.flower.order.domain.Order.PaymentStatus.IN_PROGRESS AND o.updatedAt < :before ORDER BY o.id")
+    List<Long> findStalePaymentIds(@org.springframework.data.repository.query.Param("before") LocalDateTime before,
+                                   org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * 멈춘 결제를 실패로 정리 (그 사이 결과가 반영되었으면 0)
+     */
+    @org.springframework.data.jpa.repository.Modifying(clearAutomatically = true)
+    @org.springframework.data.jpa.repository.Query("UPDATE Order o SET o.status = com.flower.order.domain.OrderStatus.FAILED, " +
+            "o.paymentStatus = com.flower.order.domain.Order.PaymentStatus.FAILED, o.updatedAt = :now " +
+            "WHERE o.id = :orderId AND o.paymentStatus = com.flower.order.domain.Order.PaymentStatus.IN_PROGRESS AND o.updatedAt < :before")
+    int failStalePayment(@org.springframework.data.repository.query.Param("orderId") Long orderId,
+                         @org.springframework.data.repository.query.Param("before") LocalDateTime before,
+                         @org.springframework.data.repository.query.Param("now") LocalDateTime now);
+
+    /**
+     * 기간 내 결제된 주문을 주문번호 순으로 커서 조회 (호출 측 트랜잭션 안에서 소비하고 닫아야 함)
+     * 건수와 관계없이 fetch size 만큼만 메모리에 올라옴
+     */
+    @org.springframework.data.jpa.repository.QueryHints(@jakarta.persistence.QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @org.springframework.data.jpa.repository.Query("SELECT new com.flower.order.dto.OrderSettlementRow(o.orderNumber, o.paymentStatus, o.totalAmount) FROM Order o " +
+            "WHERE o.paidAt >= :from AND o.paidAt < :to AND o.paymentStatus IN :statuses ORDER BY o.orderNumber")
+    Stream<OrderSettlementRow> streamSettlementRows(@org.springframework.data.repository.query.Param("from") LocalDateTime from,
+                                                    @org.springframework.data.repository.query.Param("to") LocalDateTime to,
+                                                    @org.springframework.data.repository.query.Param("statuses") Collection<Order.PaymentStatus> statuses);
+
+    /**
+     * 기간 내 환불된 주문을 주문번호 순으로 커서 조회 (결제된 적 없이 취소된 주문은 PG 환불 내역이 없으므로 제외)
+     */
+    @org.springframework.data.jpa.repository.QueryHints(@jakarta.persistence.QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @org.springframework.data.jpa.repository.Query("SELECT new com.flower.order.dto.OrderSettlementRow(o.orderNumber, o.paymentStatus, o.totalAmount) FROM Order o " +
+            "WHERE o.refundedAt >= :from AND o.refundedAt < :to AND o.paidAt IS NOT NULL " +
+            "AND o.paymentStatus = com.flower.order.domain.Order.PaymentStatus.REFUNDED ORDER BY o.orderNumber")
+    Stream<OrderSettlementRow> streamRefundRows(@org.springframework.data.repository.query.Param("from") LocalDateTime from,
+                                                @org.springframework.data.repository.query.Param("to") LocalDateTime to);
 }
@@ -0,0 +1,112 @@
+package com.flower.order.repository;
+
+import com.flower.order.domain.Order;
+import com.flower.order.domain.OrderStatus;
+import com.flower.order.dto.OrderCursor;
+import com.flower.order.dto.OrderSearchCondition;
+import com.flower.order.dto.OrderSearchRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 관리자 주문 검색/내보내기 (JDBC)
+ * 주어진 조건만 WHERE 절에 넣어 조건 조합마다 맞는 복합 인덱스를 타도록 함
+ * - 회원: idx_order_member_created, 상태: idx_order_status_created, 기간만: idx_order_created
+ * - 매장: 주문 상품의 idx_order_item_store로 EXISTS 확인
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSearchRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT o.id, o.order_number, o.member_id, o.total_amount, o.status, o.payment_status, o.created_at, o.paid_at " +
+            "FROM orders o WHERE 1 = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 최신순 keyset 페이지 조회
+     */
+    public List<OrderSearchRow> findPage(OrderSearchCondition condition, OrderCursor after, int limit) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        appendConditions(sql, params, condition);
+        sql.append(" AND (o.created_at < ? OR (o.created_at = ? AND o.id < ?))");
+        params.add(Timestamp.valueOf(after.createdAt()));
+        params.add(Timestamp.valueOf(after.createdAt()));
+        params.add(after.id());
+        sql.append(" ORDER BY o.created_at DESC, o.id DESC LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> mapRow(rs), params.toArray());
+    }
+
+    /**
+     * 조건에 맞는 주문을 생성 순으로 한 행씩 전달 (읽기 전용·순방향 커서, fetchSize 만큼만 메모리에 올라옴)
+     * 호출 측 트랜잭션 없이 자체 커넥션으로 읽으므로 action에서 느린 출력이 있어도 영속성 컨텍스트가 쌓이지 않음
+     */
+    public void forEach(OrderSearchCondition condition, int fetchSize, Consumer<OrderSearchRow> action) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        appendConditions(sql, params, condition);
+        sql.append(" ORDER BY o.created_at, o.id");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(mapRow(rs)));
+    }
+
+    // --- Private Helper Methods ---
+
+    private void appendConditions(StringBuilder sql, List<Object> params, OrderSearchCondition condition) {
+        if (condition.memberId() != null) {
+            sql.append(" AND o.member_id = ?");
+            params.add(condition.memberId());
+        }
+        if (condition.status() != null) {
+            sql.append(" AND o.status = ?");
+            params.add(condition.status().name());
+        }
+        if (condition.createdFrom() != null) {
+            sql.append(" AND o.created_at >= ?");
+            params.add(Timestamp.valueOf(condition.createdFrom()));
+        }
+        if (condition.createdBefore() != null) {
+            sql.append(" AND o.created_at < ?");
+            params.add(Timestamp.valueOf(condition.createdBefore()));
+        }
+        if (condition.storeId() != null) {
+            sql.append(" AND EXISTS (SELECT 1 FROM order_items i WHERE i.store_id = ? AND i.order_id = o.id)");
+            params.add(condition.storeId());
+        }
+    }
+
+    private OrderSearchRow mapRow(ResultSet rs) throws SQLException {
+        Timestamp paidAt = rs.getTimestamp("paid_at");
+        return new OrderSearchRow(
+                rs.getLong("id"),
+                rs.getString("order_number"),
+                rs.getObject("member_id", Long.class),
+                rs.getBigDecimal("total_amount"),
+                OrderStatus.valueOf(rs.getString("status")),
+                Order.PaymentStatus.valueOf(rs.getString("payment_status")),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                paidAt == null ? null : paidAt.toLocalDateTime()
+        );
+    }
+}
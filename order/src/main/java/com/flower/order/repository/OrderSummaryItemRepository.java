@@ -0,0 +1,23 @@
+package com.flower.order.repository;
+
+import com.flower.order.domain.OrderSummaryItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderSummaryItemRepository extends JpaRepository<OrderSummaryItem, Long> {
+
+    List<OrderSummaryItem> findByOrderIdInOrderByOrderItemIdAsc(Collection<Long> orderIds);
+
+    @Modifying
+    @Query("UPDATE OrderSummaryItem i SET i.hasReview = :hasReview WHERE i.orderItemId IN :orderItemIds")
+    int updateHasReview(@Param("orderItemIds") Collection<Long> orderItemIds, @Param("hasReview") boolean hasReview);
+
+    @Modifying
+    @Query("UPDATE OrderSummaryItem i SET i.hasReview = false WHERE i.orderId = :orderId")
+    int clearReviews(@Param("orderId") Long orderId);
+}
@@ -0,0 +1,30 @@
+package com.flower.order.repository;
+
+import com.flower.order.domain.OrderStatus;
+import com.flower.order.domain.OrderSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    /**
+     * 회원 주문 목록 최신순 keyset 조회 (idx_order_summary_member_latest)
+     */
+    @Query("SELECT s FROM OrderSummary s WHERE s.memberId = :memberId " +
+           "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.orderId < :orderId)) " +
+           "ORDER BY s.createdAt DESC, s.orderId DESC")
+    List<OrderSummary> findLatestPageAfter(@Param("memberId") Long memberId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("orderId") Long orderId,
+                                           Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OrderSummary s SET s.status = :status, s.updatedAt = :now WHERE s.orderId = :orderId")
+    int updateStatus(@Param("orderId") Long orderId, @Param("status") OrderStatus status, @Param("now") LocalDateTime now);
+}
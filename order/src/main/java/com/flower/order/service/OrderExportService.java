@@ -0,0 +1,72 @@
+package com.flower.order.service;
+
+import com.flower.order.dto.OrderExportFormat;
+import com.flower.order.dto.OrderSearchCondition;
+import com.flower.order.dto.OrderSearchRow;
+import com.flower.order.repository.OrderSearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 관리자 주문 내보내기 (CSV / NDJSON)
+ * DB 커서에서 한 행 읽을 때마다 바로 응답 스트림에 쓰므로 주문 수와 관계없이 메모리 사용량이 일정함
+ * flush-every 행마다 flush 해 클라이언트가 전체 조회를 기다리지 않고 받기 시작함
+ */
+@Slf4j
+@Service
+public class OrderExportService {
+
+    private final OrderSearchRepository orderSearchRepository;
+    private final int fetchSize;
+    private final int flushEvery;
+
+    public OrderExportService(OrderSearchRepository orderSearchRepository,
+                              @Value("${order-export.fetch-size:1000}") int fetchSize,
+                              @Value("${order-export.flush-every:1000}") int flushEvery) {
+        this.orderSearchRepository = orderSearchRepository;
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * @return 내보낸 주문 수
+     */
+    public long export(OrderSearchCondition condition, OrderExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == OrderExportFormat.CSV) {
+            writer.write(OrderSearchRow.CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long[] written = {0};
+        try {
+            orderSearchRepository.forEach(condition, fetchSize, row -> {
+                try {
+                    writer.write(format == OrderExportFormat.CSV ? row.toCsvLine() : row.toJsonLine());
+                    writer.write('\n');
+                    if (++written[0] % flushEvery == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 다운로드를 중단한 경우 → 커서를 닫고 중단
+            log.warn("주문 내보내기 중단: {}건 전송 후 출력 실패 ({})", written[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("주문 내보내기 완료: 형식={}, {}건, 조건={}", format, written[0], condition);
+        return written[0];
+    }
+}
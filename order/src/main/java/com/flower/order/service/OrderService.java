@@ -1,29 +1,41 @@
 package com.flower.order.service;
 
+import com.flower.common.dto.CursorPage;
 import com.flower.common.event.OrderPlacedEvent;
 import com.flower.common.event.OrderCancelledEvent;
 import com.flower.order.domain.Order;
 import com.flower.order.domain.OrderItem;
 import com.flower.order.domain.OrderItemOption;
 import com.flower.order.domain.OrderStatus;
+import com.flower.order.domain.OrderSummary;
+import com.flower.order.domain.OrderSummaryItem;
 import com.flower.order.dto.CreateOrderRequest;
 import com.flower.order.dto.CreateOrderResponse;
+import com.flower.order.dto.OrderCursor;
 import com.flower.order.dto.OrderDetailDto;
 import com.flower.order.dto.OrderDto;
 import com.flower.order.dto.OrderItemDto;
 import com.flower.order.dto.OrderItemOptionDto;
+import com.flower.order.dto.OrderSearchCondition;
+import com.flower.order.dto.OrderSearchRow;
 import com.flower.order.dto.UpdateOrderStatusRequest;
 import com.flower.order.repository.OrderRepository;
+import com.flower.order.repository.OrderSearchRepository;
+import com.flower.order.repository.OrderSummaryItemRepository;
+import com.flower.order.repository.OrderSummaryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.flower.common.exception.EntityNotFoundException;
+import com.flower.common.outbox.OutboxEventPublisher;
 
 @Slf4j
 @Service
@@ -31,14 +43,52 @@ import com.flower.common.exception.EntityNotFoundException;
 @Transactional(readOnly = true)
 public class OrderService {
 
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OrderSearchRepository orderSearchRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderSummaryItemRepository orderSummaryItemRepository;
+    private final OrderSummaryProjector orderSummaryProjector;
+    private final OutboxEventPublisher eventPublisher;
+
+    /**
+     * 결제 시작 (주문을 결제 진행 중으로 바꾸고 결제에 필요한 주문 정보를 함께 반환)
+     *
+     * @throws IllegalStateException 결제 대기 상태가 아닌 주문 (이미 결제 중이거나 완료/취소된 주문)
+     */
+    @Transactional
+    public OrderDetailDto startPayment(Long orderId) {
+        if (orderRepository.startPayment(orderId, LocalDateTime.now()) == 0) {
+            Order order = findOrderById(orderId);
+            throw new IllegalStateException("결제할 수 없는 주문 상태입니다: " + order.getStatus() + " / " + order.getPaymentStatus());
+        }
+        return getOrderDetail(orderId);
+    }
 
+    /**
+     * PG를 호출하기 전에 거절된 결제(동시 호출 한도 초과, 회로 차단)를 결제 대기로 되돌려 다시 결제할 수 있게 함
+     * PG에 요청이 가지 않았으므로 주문 취소 이벤트(PG 취소, 재고 예약 해제)는 발행하지 않음
+     *
+     * @return 되돌렸으면 true (그 사이 결과가 반영되었거나 멈춘 결제로 정리되었으면 false)
+     */
+    @Transactional
+    public boolean abandonPayment(Long orderId) {
+        return orderRepository.abandonPayment(orderId, LocalDateTime.now()) > 0;
+    }
+
+    /**
+     * 결제 진행 중인 주문을 결제 완료로 전환
+     * 멈춘 결제 정리(failStalePayment)와 같은 조건부 UPDATE로 전환해, 정리가 먼저 커밋되어 취소 이벤트가 나간 주문을 PAID로 덮어쓰지 않음
+     */
     @Transactional
     public void markAsPaid(Long orderId) {
-        Order order = findOrderById(orderId);
-        order.markAsPaid();
-        orderRepository.save(order);
+        if (orderRepository.completePayment(orderId, LocalDateTime.now()) == 0) {
+            Order order = findOrderById(orderId);
+            throw new IllegalStateException("결제 완료로 전환할 수 없는 주문 상태입니다: " + order.getStatus() + " / " + order.getPaymentStatus());
+        }
+        orderSummaryProjector.changeStatus(orderId, OrderStatus.PAID);
     }
 
     @Transactional
@@ -48,13 +98,42 @@ public class OrderService {
         orderRepository.save(order);
     }
 
+    /**
+     * 결제 진행 중에 멈춘 주문 ID (오래된 순)
+     */
+    public List<Long> findStalePaymentIds(LocalDateTime before, int limit) {
+        return orderRepository.findStalePaymentIds(before, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 결제 진행 중에 멈춘 주문을 결제 실패로 정리 (결제 시작 후 PG 결과를 반영하기 전에 프로세스가 죽은 경우)
+     * PG에서 승인되었더라도 주문 취소 이벤트로 PG 결제가 취소되고 재고 예약이 풀림
+     *
+     * @return 정리했는지 여부 (그 사이 결제 결과가 반영되었으면 false)
+     */
+    @Transactional
+    public boolean failStalePayment(Long orderId, LocalDateTime before) {
+        if (orderRepository.failStalePayment(orderId, before, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        Order order = findOrderById(orderId);
+        orderSummaryProjector.changeStatus(orderId, order.getStatus());
+        eventPublisher.publish(createOrderCancelledEvent(order, "결제 처리 중단"));
+        return true;
+    }
+
     @Transactional
     public void markAsFailed(Long orderId) {
         Order order = findOrderById(orderId);
+        if (order.getPaymentStatus() == Order.PaymentStatus.FAILED) {
+            // 멈춘 결제로 이미 정리되어 취소 이벤트가 발행된 주문
+            return;
+        }
         order.markAsFailed();
         orderRepository.save(order);
+        orderSummaryProjector.changeStatus(orderId, order.getStatus());
 
-        eventPublisher.publishEvent(createOrderCancelledEvent(order, "결제 실패"));
+        eventPublisher.publish(createOrderCancelledEvent(order, "결제 실패"));
     }
 
     @Transactional
@@ -64,6 +143,7 @@ public class OrderService {
                 .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다: " + orderNumber));
         
         order.cancel();
+        orderSummaryProjector.changeStatus(order.getId(), order.getStatus());
         log.info("주문 취소 완료 - 주문번호: {}", orderNumber);
     }
 
@@ -74,8 +154,39 @@ public class OrderService {
         validateOrderCancellable(order.getStatus());
         
         order.cancel();
+        orderSummaryProjector.changeStatus(orderId, order.getStatus());
         
-        eventPublisher.publishEvent(createOrderCancelledEvent(order, "사용자 취소"));
+        eventPublisher.publish(createOrderCancelledEvent(order, "사용자 취소"));
+    }
+
+    /**
+     * 배송 상태 변경을 주문 상태에 반영 (배송 시작 → SHIPPED, 배송 완료 → DELIVERED)
+     * 같은 이벤트가 다시 전달되면 이미 반영된 상태라 건너뜀
+     */
+    @Transactional
+    public void applyDeliveryStatus(Long orderId, String deliveryStatus) {
+        Order order = findOrderById(orderId);
+        OrderStatus target = switch (deliveryStatus) {
+            case "SHIPPING" -> OrderStatus.SHIPPED;
+            case "COMPLETED" -> OrderStatus.DELIVERED;
+            default -> null;
+        };
+        if (target == null || order.getStatus() == target) {
+            return;
+        }
+        if (order.getStatus() == OrderStatus.CANCELLED || order.getStatus() == OrderStatus.FAILED) {
+            log.warn("종료된 주문이라 배송 상태를 반영하지 않습니다 - 주문ID: {}, 주문 상태: {}, 배송 상태: {}",
+                    orderId, order.getStatus(), deliveryStatus);
+            return;
+        }
+
+        if (target == OrderStatus.SHIPPED) {
+            order.markAsShipped();
+        } else {
+            order.markAsDelivered();
+        }
+        orderSummaryProjector.changeStatus(orderId, target);
+        log.info("배송 상태 반영 - 주문ID: {}, 주문 상태: {}", orderId, target);
     }
 
     public OrderDetailDto getOrderDetail(Long orderId) {
@@ -87,6 +198,14 @@ public class OrderService {
                 .productName(item.getProductName())
                 .quantity(item.getQuantity())
                 .unitPrice(item.getUnitPrice())
+                .options(item.getOptions().stream()
+                    .map(option -> OrderItemOptionDto.builder()
+                        .productOptionId(option.getProductOptionId())
+                        .productAddonId(option.getProductAddonId())
+                        .optionName(option.getOptionName())
+                        .price(option.getPriceAdjustment())
+                        .build())
+                    .collect(Collectors.toList()))
                 .build())
             .collect(Collectors.toList());
 
@@ -107,16 +226,33 @@ public class OrderService {
         );
     }
 
-    public List<OrderDto> getOrdersByMemberId(Long memberId) {
-        return orderRepository.findByMemberIdWithItems(memberId).stream()
-                .map(this::toOrderDto)
-                .collect(Collectors.toList());
+    /**
+     * 회원 주문 목록 커서 기반 페이지 조회 (최신순)
+     * 주문 목록 조회 모델에서 한 페이지만 읽고, 페이지의 주문 상품(리뷰 작성 여부 포함)은 IN 조회 한 번으로 채움
+     */
+    public CursorPage<OrderDto> getMyOrders(Long memberId, String cursor, int size) {
+        OrderCursor after = OrderCursor.decode(cursor);
+        int pageSize = size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        List<OrderSummary> fetched = orderSummaryRepository.findLatestPageAfter(
+                memberId, after.createdAt(), after.id(), PageRequest.of(0, pageSize + 1));
+        return CursorPage.ofBatch(fetched, pageSize,
+                summary -> new OrderCursor(summary.getCreatedAt(), summary.getOrderId()).encode(),
+                this::toOrderDtos);
     }
 
-    public List<OrderDto> getAllOrders() {
-        return orderRepository.findAllWithItems().stream()
-                .map(this::toOrderDto)
-                .collect(Collectors.toList());
+    /**
+     * 관리자 주문 검색 (최신순 커서 기반 페이지, 조건 없으면 전체 주문)
+     * 페이지의 주문 상품은 IN 조회 한 번으로 채움
+     */
+    public CursorPage<OrderDto> searchOrders(OrderSearchCondition condition, String cursor, int size) {
+        OrderCursor after = OrderCursor.decode(cursor);
+        int pageSize = size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        List<OrderSearchRow> fetched = orderSearchRepository.findPage(condition, after, pageSize + 1);
+        return CursorPage.ofBatch(fetched, pageSize,
+                row -> new OrderCursor(row.createdAt(), row.id()).encode(),
+                this::toSearchResults);
     }
 
     @Transactional
@@ -125,6 +261,7 @@ public class OrderService {
         
         order.setStatus(request.status());
         orderRepository.save(order);
+        orderSummaryProjector.changeStatus(orderId, request.status());
         
         return toOrderDto(order);
     }
@@ -149,6 +286,7 @@ public class OrderService {
             OrderItem orderItem = OrderItem.builder()
                     .order(order)
                     .productId(itemDto.getProductId())
+                    .storeId(itemDto.getStoreId())
                     .productName(itemDto.getProductName())
                     .quantity(itemDto.getQuantity())
                     .unitPrice(itemDto.getUnitPrice())
@@ -173,6 +311,7 @@ public class OrderService {
         order.calculateTotal();
 
         Order savedOrder = orderRepository.save(order);
+        orderSummaryProjector.project(savedOrder);
 
         publishOrderPlacedEvent(savedOrder);
         
@@ -195,24 +334,78 @@ public class OrderService {
         }
     }
 
-    private String createItemSummary(List<OrderItem> items) {
-        if (items == null || items.isEmpty()) {
-            return "";
+    private List<OrderDto> toOrderDtos(List<OrderSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<OrderSummaryItem>> itemsByOrderId = orderSummaryItemRepository
+                .findByOrderIdInOrderByOrderItemIdAsc(summaries.stream().map(OrderSummary::getOrderId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(OrderSummaryItem::getOrderId));
+
+        return summaries.stream()
+                .map(summary -> new OrderDto(
+                        summary.getOrderId(),
+                        summary.getOrderNumber(),
+                        summary.getTotalAmount(),
+                        summary.getStatus().name(),
+                        summary.getStatus().getDescription(),
+                        summary.getCreatedAt(),
+                        summary.getItemSummary(),
+                        itemsByOrderId.getOrDefault(summary.getOrderId(), List.of()).stream()
+                                .map(item -> OrderItemDto.builder()
+                                        .productId(item.getProductId())
+                                        .productName(item.getProductName())
+                                        .quantity(item.getQuantity())
+                                        .unitPrice(item.getUnitPrice())
+                                        .orderItemId(item.getOrderItemId())
+                                        .hasReview(item.isHasReview())
+                                        .build())
+                                .collect(Collectors.toList())
+                ))
+                .toList();
+    }
+
+    private List<OrderDto> toSearchResults(List<OrderSearchRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
         }
-        String firstItemName = items.get(0).getProductName();
-        int size = items.size();
-        return size > 1 ? firstItemName + " 외 " + (size - 1) + "건" : firstItemName;
+        Map<Long, List<OrderItem>> itemsByOrderId = orderRepository
+                .findItemsByOrderIdIn(rows.stream().map(OrderSearchRow::id).toList())
+                .stream()
+                .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+
+        return rows.stream()
+                .map(row -> {
+                    List<OrderItem> items = itemsByOrderId.getOrDefault(row.id(), List.of());
+                    return new OrderDto(
+                            row.id(),
+                            row.orderNumber(),
+                            row.totalAmount(),
+                            row.status().name(),
+                            row.status().getDescription(),
+                            row.createdAt(),
+                            Order.summarizeItems(items),
+                            items.stream().map(this::toOrderItemDto).collect(Collectors.toList())
+                    );
+                })
+                .toList();
+    }
+
+    private OrderItemDto toOrderItemDto(OrderItem item) {
+        return OrderItemDto.builder()
+                .productId(item.getProductId())
+                .storeId(item.getStoreId())
+                .productName(item.getProductName())
+                .quantity(item.getQuantity())
+                .unitPrice(item.getUnitPrice())
+                .orderItemId(item.getId())
+                .build();
     }
 
     private OrderDto toOrderDto(Order order) {
         List<OrderItemDto> itemDtos = order.getItems().stream()
-                .map(item -> OrderItemDto.builder()
-                        .productId(item.getProductId())
-                        .productName(item.getProductName())
-                        .quantity(item.getQuantity())
-                        .unitPrice(item.getUnitPrice())
-                        .orderItemId(item.getId())
-                        .build())
+                .map(this::toOrderItemDto)
                 .collect(Collectors.toList());
 
         return new OrderDto(
@@ -222,18 +415,26 @@ public class OrderService {
                 order.getStatus().name(),
                 order.getStatus().getDescription(),
                 order.getCreatedAt(),
-                createItemSummary(order.getItems()),
+                order.summarizeItems(),
                 itemDtos
         );
     }
 
+    private List<Long> productOptionIds(OrderItem item) {
+        return item.getOptions().stream()
+                .map(OrderItemOption::getProductOptionId)
+                .filter(java.util.Objects::nonNull)
+                .toList();
+    }
+
     private OrderCancelledEvent createOrderCancelledEvent(Order order, String reason) {
         List<OrderPlacedEvent.OrderItemInfo> items = order.getItems().stream()
                 .map(item -> new OrderPlacedEvent.OrderItemInfo(
                         item.getProductId(),
                         item.getProductName(),
                         item.getQuantity(),
-                        item.getUnitPrice()
+                        item.getUnitPrice(),
+                        productOptionIds(item)
                 ))
                 .collect(Collectors.toList());
 
@@ -265,7 +466,8 @@ public class OrderService {
                         item.getProductId(),
                         item.getProductName(),
                         item.getQuantity(),
-                        item.getUnitPrice()
+                        item.getUnitPrice(),
+                        productOptionIds(item)
                 ))
                 .collect(Collectors.toList());
 
@@ -276,7 +478,7 @@ public class OrderService {
                 order.getDeliveryNote()
         );
 
-        eventPublisher.publishEvent(new OrderPlacedEvent(
+        eventPublisher.publish(new OrderPlacedEvent(
                 order.getOrderNumber(),
                 order.getId(),
                 itemSummary,
@@ -0,0 +1,65 @@
+package com.flower.order.service;
+
+import com.flower.order.domain.Order;
+import com.flower.order.domain.OrderStatus;
+import com.flower.order.domain.OrderSummary;
+import com.flower.order.domain.OrderSummaryItem;
+import com.flower.order.repository.OrderSummaryItemRepository;
+import com.flower.order.repository.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내 주문 목록 조회 모델(OrderSummary/OrderSummaryItem) 갱신
+ * - 주문 생성/상태 변경: OrderService가 주문 변경과 같은 트랜잭션에서 호출 (목록에 바로 보이도록)
+ * - 배송 상태/리뷰 작성 여부: 다른 모듈의 이벤트를 받아 반영 (OrderEventListener)
+ *
+ * 모든 갱신은 덮어쓰기라 같은 이벤트가 두 번 전달되어도 결과가 같음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryProjector {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderSummaryItemRepository orderSummaryItemRepository;
+
+    /**
+     * 주문 한 건의 조회 모델 생성 (조회 모델이 아직 없는 주문에만 호출: 주문 생성 시점, 백필 대상 주문)
+     * 존재 여부를 다시 조회하지 않고 바로 INSERT 하므로 주문 INSERT와 같은 JDBC 배치로 묶임
+     */
+    @Transactional
+    public void project(Order order) {
+        orderSummaryRepository.save(new OrderSummary(order, order.summarizeItems()));
+        orderSummaryItemRepository.saveAll(order.getItems().stream()
+                .map(item -> new OrderSummaryItem(order.getId(), item))
+                .toList());
+    }
+
+    /**
+     * 주문 상태 반영 (취소/실패된 주문의 리뷰는 숨김 처리되므로 작성 여부도 함께 해제)
+     */
+    @Transactional
+    public void changeStatus(Long orderId, OrderStatus status) {
+        if (orderSummaryRepository.updateStatus(orderId, status, LocalDateTime.now()) == 0) {
+            log.warn("주문 목록 조회 모델이 없어 상태 반영을 건너뜁니다: 주문ID={}, 상태={}", orderId, status);
+            return;
+        }
+        if (status == OrderStatus.CANCELLED || status == OrderStatus.FAILED) {
+            orderSummaryItemRepository.clearReviews(orderId);
+        }
+    }
+
+    @Transactional
+    public void changeReviewStatus(List<Long> orderItemIds, boolean hasReview) {
+        if (orderItemIds.isEmpty()) {
+            return;
+        }
+        orderSummaryItemRepository.updateHasReview(orderItemIds, hasReview);
+    }
+}
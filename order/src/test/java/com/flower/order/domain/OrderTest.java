@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class OrderTest {
 
@@ -43,4 +44,19 @@ class OrderTest {
         // 합계: 35000
         assertThat(order.getTotalAmount()).isEqualByComparingTo(new BigDecimal("35000"));
     }
+
+    @Test
+    @DisplayName("결제 실패로 정리된 주문은 뒤늦게 결제 완료로 바뀌지 않아야 한다")
+    void should_reject_mark_as_paid_after_failure() {
+        // 준비
+        Order order = Order.builder()
+                .orderNumber("ORD-001")
+                .paymentStatus(Order.PaymentStatus.FAILED)
+                .status(OrderStatus.FAILED)
+                .build();
+
+        // 실행 & 검증
+        assertThatThrownBy(order::markAsPaid).isInstanceOf(IllegalStateException.class);
+        assertThat(order.getPaymentStatus()).isEqualTo(Order.PaymentStatus.FAILED);
+    }
 }
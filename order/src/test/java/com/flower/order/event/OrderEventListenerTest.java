@@ -1,7 +1,11 @@
 package com.flower.order.event;
 
-import com.flower.common.event.InventoryDeductionFailedEvent;
+import com.flower.common.event.DeliveryStatusChangedEvent;
+import com.flower.common.event.ReviewCreatedEvent;
+import com.flower.common.event.ReviewDeletedEvent;
+import com.flower.common.repository.FailureLogRepository;
 import com.flower.order.service.OrderService;
+import com.flower.order.service.OrderSummaryProjector;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,7 +13,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OrderEventListener Tests")
@@ -18,6 +25,12 @@ class OrderEventListenerTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private OrderSummaryProjector orderSummaryProjector;
+
+    @Mock
+    private FailureLogRepository failureLogRepository;
+
     @InjectMocks
     private OrderEventListener orderEventListener;
 
@@ -26,4 +39,58 @@ class OrderEventListenerTest {
     @org.junit.jupiter.api.Disabled("Logic moved to PaymentEventListener, OrderEventListener is currently empty")
     void shouldCancelOrderWhenInventoryDeductionFails() {
     }
+
+    @Test
+    @DisplayName("Should apply the delivery status to the order")
+    void shouldApplyDeliveryStatus() {
+        // 준비
+        DeliveryStatusChangedEvent event = new DeliveryStatusChangedEvent("ORD-1", 1L, "SHIPPING");
+
+        // 실행
+        orderEventListener.handleDeliveryStatusChanged(event);
+
+        // 검증
+        verify(orderService).applyDeliveryStatus(1L, "SHIPPING");
+    }
+
+    @Test
+    @DisplayName("Should mark the order item as reviewed in the read model when a review is created")
+    void shouldMarkReviewedWhenReviewCreated() {
+        // 준비
+        ReviewCreatedEvent event = new ReviewCreatedEvent(this, 10L, 100L, 1000L, 5);
+
+        // 실행
+        orderEventListener.handleReviewCreated(event);
+
+        // 검증
+        verify(orderSummaryProjector).changeReviewStatus(List.of(1000L), true);
+    }
+
+    @Test
+    @DisplayName("Should clear the reviewed flag in the read model when a review is deleted")
+    void shouldClearReviewedWhenReviewDeleted() {
+        // 준비
+        ReviewDeletedEvent event = new ReviewDeletedEvent(this, 10L, 100L, 1000L, 5);
+
+        // 실행
+        orderEventListener.handleReviewDeleted(event);
+
+        // 검증
+        verify(orderSummaryProjector).changeReviewStatus(List.of(1000L), false);
+    }
+
+    @Test
+    @DisplayName("Should ignore review events that are not tied to an order item")
+    void shouldIgnoreReviewEventsWithoutOrderItem() {
+        // 준비
+        ReviewCreatedEvent created = new ReviewCreatedEvent(this, 10L, 100L, null, 5);
+        ReviewDeletedEvent deleted = new ReviewDeletedEvent(this, 10L, 100L, null, 5);
+
+        // 실행
+        orderEventListener.handleReviewCreated(created);
+        orderEventListener.handleReviewDeleted(deleted);
+
+        // 검증
+        verifyNoInteractions(orderSummaryProjector);
+    }
 }
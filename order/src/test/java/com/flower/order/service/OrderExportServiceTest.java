@@ -0,0 +1,112 @@
+package com.flower.order.service;
+
+import com.flower.order.domain.Order;
+import com.flower.order.domain.OrderStatus;
+import com.flower.order.dto.OrderExportFormat;
+import com.flower.order.dto.OrderSearchCondition;
+import com.flower.order.dto.OrderSearchRow;
+import com.flower.order.repository.OrderSearchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderExportService Tests")
+class OrderExportServiceTest {
+
+    private static final OrderSearchCondition ALL = new OrderSearchCondition(null, null, null, null, null);
+
+    @Mock
+    private OrderSearchRepository orderSearchRepository;
+
+    private OrderExportService orderExportService;
+
+    @BeforeEach
+    void setUp() {
+        orderExportService = new OrderExportService(orderSearchRepository, 100, 2);
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header followed by one line per order")
+    void shouldExportCsv() throws IOException {
+        // 준비
+        streamRows(row(1L, LocalDateTime.of(2026, 5, 1, 9, 0)), row(2L, null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // 실행
+        long count = orderExportService.export(ALL, OrderExportFormat.CSV, out);
+
+        // 검증
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                OrderSearchRow.CSV_HEADER,
+                "1,ORD-1,7,30000,PAID,PAID,2026-05-01T08:00,2026-05-01T09:00",
+                "2,ORD-2,7,30000,PAID,PAID,2026-05-01T08:00,");
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line for NDJSON")
+    void shouldExportNdjson() throws IOException {
+        // 준비
+        streamRows(row(1L, null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // 실행
+        orderExportService.export(ALL, OrderExportFormat.NDJSON, out);
+
+        // 검증
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"orderId\":1,\"orderNumber\":\"ORD-1\",\"memberId\":7,\"totalAmount\":30000,\"status\":\"PAID\"," +
+                "\"paymentStatus\":\"PAID\",\"createdAt\":\"2026-05-01T08:00\",\"paidAt\":null}\n");
+    }
+
+    @Test
+    @DisplayName("Should stop reading when the client goes away")
+    void shouldStopWhenOutputFails() {
+        // 준비 - flush 시점에 클라이언트 연결이 끊긴 출력 스트림
+        streamRows(row(1L, null), row(2L, null), row(3L, null));
+        OutputStream brokenOut = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // 실행 & 검증
+        assertThatThrownBy(() -> orderExportService.export(ALL, OrderExportFormat.CSV, brokenOut))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamRows(OrderSearchRow... rows) {
+        doAnswer(invocation -> {
+            Consumer<OrderSearchRow> action = invocation.getArgument(2);
+            for (OrderSearchRow row : rows) {
+                action.accept(row);
+            }
+            return null;
+        }).when(orderSearchRepository).forEach(eq(ALL), eq(100), any(Consumer.class));
+    }
+
+    private OrderSearchRow row(Long id, LocalDateTime paidAt) {
+        return new OrderSearchRow(id, "ORD-" + id, 7L, new BigDecimal("30000"), OrderStatus.PAID,
+                Order.PaymentStatus.PAID, LocalDateTime.of(2026, 5, 1, 8, 0), paidAt);
+    }
+}
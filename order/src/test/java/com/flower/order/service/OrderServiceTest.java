@@ -0,0 +1,212 @@
+package com.flower.order.service;
+
+import com.flower.common.dto.CursorPage;
+import com.flower.common.event.OrderCancelledEvent;
+import com.flower.common.outbox.OutboxEventPublisher;
+import com.flower.order.domain.Order;
+import com.flower.order.domain.OrderItem;
+import com.flower.order.domain.OrderStatus;
+import com.flower.order.domain.OrderSummary;
+import com.flower.order.domain.OrderSummaryItem;
+import com.flower.order.dto.OrderCursor;
+import com.flower.order.dto.OrderDto;
+import com.flower.order.repository.OrderRepository;
+import com.flower.order.repository.OrderSummaryItemRepository;
+import com.flower.order.repository.OrderSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderService Tests")
+class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Mock
+    private OrderSummaryItemRepository orderSummaryItemRepository;
+
+    @Mock
+    private OrderSummaryProjector orderSummaryProjector;
+
+    @Mock
+    private OutboxEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    @Test
+    @DisplayName("Should serve my orders from the read model one page at a time")
+    void shouldPageMyOrdersFromReadModel() {
+        // 준비 - 페이지 크기 2, 조회 결과 3건 (1건은 다음 페이지 존재 확인용)
+        LocalDateTime now = LocalDateTime.of(2026, 5, 1, 12, 0);
+        OrderSummary newest = summary(30L, now);
+        OrderSummary middle = summary(20L, now.minusHours(1));
+        OrderSummary oldest = summary(10L, now.minusHours(2));
+        when(orderSummaryRepository.findLatestPageAfter(eq(1L), any(), any(), any()))
+                .thenReturn(List.of(newest, middle, oldest));
+        when(orderSummaryItemRepository.findByOrderIdInOrderByOrderItemIdAsc(List.of(30L, 20L)))
+                .thenReturn(List.of(summaryItem(30L, 300L, true), summaryItem(20L, 200L, false)));
+
+        // 실행
+        CursorPage<OrderDto> page = orderService.getMyOrders(1L, null, 2);
+
+        // 검증
+        assertThat(page.content()).extracting(OrderDto::id).containsExactly(30L, 20L);
+        assertThat(page.content().get(0).items().get(0).isHasReview()).isTrue();
+        assertThat(page.content().get(1).items().get(0).isHasReview()).isFalse();
+        assertThat(page.hasNext()).isTrue();
+        assertThat(OrderCursor.decode(page.nextCursor())).isEqualTo(new OrderCursor(middle.getCreatedAt(), 20L));
+        verify(orderRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should mark the order as shipped and update the read model when delivery starts")
+    void shouldApplyShippingStatus() {
+        // 준비
+        Order order = Order.builder().id(1L).status(OrderStatus.PAID).build();
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        // 실행
+        orderService.applyDeliveryStatus(1L, "SHIPPING");
+
+        // 검증
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.SHIPPED);
+        assertThat(order.getShippedAt()).isNotNull();
+        verify(orderSummaryProjector).changeStatus(1L, OrderStatus.SHIPPED);
+    }
+
+    @Test
+    @DisplayName("Should ignore a redelivered delivery event that was already applied")
+    void shouldIgnoreDuplicateDeliveryStatus() {
+        // 준비
+        LocalDateTime deliveredAt = LocalDateTime.of(2026, 5, 1, 12, 0);
+        Order order = Order.builder().id(1L).status(OrderStatus.DELIVERED).deliveredAt(deliveredAt).build();
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        // 실행
+        orderService.applyDeliveryStatus(1L, "COMPLETED");
+
+        // 검증
+        assertThat(order.getDeliveredAt()).isEqualTo(deliveredAt);
+        verifyNoInteractions(orderSummaryProjector);
+    }
+
+    @Test
+    @DisplayName("Should mark an in-progress payment as paid and update the read model")
+    void shouldMarkInProgressPaymentAsPaid() {
+        // 준비
+        when(orderRepository.completePayment(eq(1L), any())).thenReturn(1);
+
+        // 실행
+        orderService.markAsPaid(1L);
+
+        // 검증
+        verify(orderSummaryProjector).changeStatus(1L, OrderStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("Should refuse to mark a payment as paid after recovery already failed it")
+    void shouldRefuseMarkAsPaidAfterStaleRecovery() {
+        // 준비
+        Order order = Order.builder().id(1L).status(OrderStatus.FAILED).paymentStatus(Order.PaymentStatus.FAILED).build();
+        when(orderRepository.completePayment(eq(1L), any())).thenReturn(0);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        // 실행 & 검증
+        assertThatThrownBy(() -> orderService.markAsPaid(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("FAILED");
+        verifyNoInteractions(orderSummaryProjector);
+    }
+
+    @Test
+    @DisplayName("Should fail a payment stuck in progress and publish the cancellation")
+    void shouldFailStalePayment() {
+        // 준비
+        LocalDateTime before = LocalDateTime.now().minusMinutes(5);
+        Order order = Order.builder().id(1L).orderNumber("ORD-1")
+                .status(OrderStatus.FAILED).paymentStatus(Order.PaymentStatus.FAILED).build();
+        when(orderRepository.failStalePayment(eq(1L), eq(before), any())).thenReturn(1);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        // 실행
+        boolean recovered = orderService.failStalePayment(1L, before);
+
+        // 검증
+        assertThat(recovered).isTrue();
+        verify(orderSummaryProjector).changeStatus(1L, OrderStatus.FAILED);
+        verify(eventPublisher).publish(any(OrderCancelledEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should leave a payment alone when its result arrived in the meantime")
+    void shouldSkipStalePaymentWhenResultArrived() {
+        // 준비
+        LocalDateTime before = LocalDateTime.now().minusMinutes(5);
+        when(orderRepository.failStalePayment(eq(1L), eq(before), any())).thenReturn(0);
+
+        // 실행
+        boolean recovered = orderService.failStalePayment(1L, before);
+
+        // 검증
+        assertThat(recovered).isFalse();
+        verifyNoInteractions(eventPublisher, orderSummaryProjector);
+    }
+
+    @Test
+    @DisplayName("Should not publish a second cancellation for a payment already failed by recovery")
+    void shouldSkipMarkAsFailedWhenAlreadyFailed() {
+        // 준비
+        Order order = Order.builder().id(1L).status(OrderStatus.FAILED).paymentStatus(Order.PaymentStatus.FAILED).build();
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        // 실행
+        orderService.markAsFailed(1L);
+
+        // 검증
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private OrderSummary summary(Long orderId, LocalDateTime createdAt) {
+        Order order = Order.builder()
+                .id(orderId)
+                .orderNumber("ORD-" + orderId)
+                .memberId(1L)
+                .totalAmount(new BigDecimal("30000"))
+                .createdAt(createdAt)
+                .build();
+        return new OrderSummary(order, "Rose");
+    }
+
+    private OrderSummaryItem summaryItem(Long orderId, Long orderItemId, boolean hasReview) {
+        OrderItem item = OrderItem.builder()
+                .id(orderItemId)
+                .productId(1L)
+                .productName("Rose")
+                .quantity(1)
+                .unitPrice(new BigDecimal("30000"))
+                .build();
+        OrderSummaryItem summaryItem = new OrderSummaryItem(orderId, item);
+        ReflectionTestUtils.setField(summaryItem, "hasReview", hasReview);
+        return summaryItem;
+    }
+}
@@ -2,12 +2,13 @@ package com.flower.payment.adapter.out.payment;
 
 import com.flower.payment.port.out.PaymentGatewayPort;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 
+/**
+ * 즉시 응답하는 PG 대역 (payment.pg.adapter=mock, 기본값)
+ */
 @Slf4j
-@Component
 public class MockTossPaymentAdapter implements PaymentGatewayPort {
 
     @Override
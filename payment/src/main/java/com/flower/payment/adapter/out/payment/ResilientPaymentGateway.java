@@ -0,0 +1,139 @@
+package com.flower.payment.adapter.out.payment;
+
+import com.flower.common.concurrent.CircuitBreaker;
+import com.flower.common.exception.PaymentNotAttemptedException;
+import com.flower.common.exception.PaymentProcessingException;
+import com.flower.payment.port.out.PaymentGatewayPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PG 호출 보호 데코레이터
+ * - 벌크헤드: 동시에 PG로 나가는 호출 수를 제한하고, 한도를 넘으면 기다리지 않고 바로 거절
+ * - 데드라인: 호출마다 가상 스레드에서 실행해 deadline-ms가 지나면 중단하고 실패 처리
+ * - 회로 차단기: 실패/타임아웃이 몰리면 일정 시간 PG를 부르지 않고 바로 거절 (거절 승인은 PG가 정상 응답한 것이라 실패로 세지 않음)
+ * 벌크헤드/회로 차단 거절은 PG에 요청이 가지 않았으므로 PaymentNotAttemptedException으로 구분해 던짐
+ *
+ * PG가 느려져도 요청 스레드가 PG 응답을 무한정 기다리며 쌓이지 않아 API 전체 응답성이 유지됨
+ */
+@Slf4j
+public class ResilientPaymentGateway implements PaymentGatewayPort {
+
+    private final PaymentGatewayPort delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final long deadlineMillis;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Timer latency;
+    private final Counter bulkheadRejected;
+    private final Counter circuitRejected;
+    private final Counter timeouts;
+    private final Counter errors;
+
+    public ResilientPaymentGateway(PaymentGatewayPort delegate, CircuitBreaker circuitBreaker,
+                                   int maxConcurrentCalls, long deadlineMillis, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.deadlineMillis = deadlineMillis;
+
+        this.latency = Timer.builder("payment.pg.latency")
+                .description("PG 호출 소요 시간")
+                .register(meterRegistry);
+        this.bulkheadRejected = Counter.builder("payment.pg.rejected").tag("reason", "bulkhead")
+                .description("동시 호출 한도 초과로 거절한 PG 호출 수")
+                .register(meterRegistry);
+        this.circuitRejected = Counter.builder("payment.pg.rejected").tag("reason", "circuit-open")
+                .description("회로 차단으로 거절한 PG 호출 수")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("payment.pg.timeouts")
+                .description("데드라인을 넘긴 PG 호출 수")
+                .register(meterRegistry);
+        this.errors = Counter.builder("payment.pg.errors")
+                .description("예외로 끝난 PG 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.pg.bulkhead.in-use", () -> maxConcurrentCalls - bulkhead.availablePermits())
+                .description("진행 중인 PG 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.pg.circuit.state", () -> circuitBreaker.state().ordinal())
+                .description("회로 차단기 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean processPayment(String orderNumber, BigDecimal amount, String paymentKey, String paymentType) {
+        return call("결제 승인", orderNumber, () -> delegate.processPayment(orderNumber, amount, paymentKey, paymentType));
+    }
+
+    @Override
+    public boolean cancelPayment(String orderNumber, String reason) {
+        return call("결제 취소", orderNumber, () -> delegate.cancelPayment(orderNumber, reason));
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // --- Private Helper Methods ---
+
+    private <T> T call(String operation, String orderNumber, Callable<T> action) {
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejected.increment();
+            log.warn("[PG] 동시 호출 한도 초과로 {} 거절: 주문번호={}", operation, orderNumber);
+            throw new PaymentNotAttemptedException("결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                circuitRejected.increment();
+                log.warn("[PG] 회로 차단 중이라 {} 거절: 주문번호={}", operation, orderNumber);
+                throw new PaymentNotAttemptedException("결제 시스템 장애로 일시적으로 결제할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            return callWithDeadline(operation, orderNumber, action);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private <T> T callWithDeadline(String operation, String orderNumber, Callable<T> action) {
+        long startedAt = System.nanoTime();
+        Future<T> future = executor.submit(action);
+        try {
+            T result = future.get(deadlineMillis, TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure();
+            timeouts.increment();
+            log.warn("[PG] {} 응답 시간 초과 ({}ms): 주문번호={}", operation, deadlineMillis, orderNumber);
+            throw new PaymentProcessingException("PG사 응답 시간 초과 (" + deadlineMillis + "ms)");
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            errors.increment();
+            log.warn("[PG] {} 실패: 주문번호={}, 오류={}", operation, orderNumber, e.getCause().getMessage());
+            throw new PaymentProcessingException("PG사 " + operation + " 요청 실패", e.getCause());
+        } catch (InterruptedException e) {
+            // 호출 스레드가 중단된 것이라 PG 상태와 무관 → 회로 차단기에는 반영하지 않음
+            future.cancel(true);
+            circuitBreaker.releasePermission();
+            Thread.currentThread().interrupt();
+            throw new PaymentProcessingException("PG사 " + operation + " 요청이 중단되었습니다");
+        } finally {
+            latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
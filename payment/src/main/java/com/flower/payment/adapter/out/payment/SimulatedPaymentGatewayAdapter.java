@@ -0,0 +1,78 @@
+package com.flower.payment.adapter.out.payment;
+
+import com.flower.payment.port.out.PaymentGatewayPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 PG 대역 (payment.pg.adapter=simulated)
+ * 실제 PG처럼 지연과 오류를 섞어 응답해, 결제 흐름이 PG 성능 저하를 어떻게 견디는지 로컬에서 재현
+ *
+ * - 지연: 중앙값(median-ms)과 p99(p99-ms)로 정한 로그 정규 분포 (대부분 빠르고 일부가 길게 늘어지는 꼬리 지연)
+ * - 멈춤: hang-rate 비율로 hang-ms 동안 응답하지 않음 (연결은 됐지만 PG가 응답을 못 하는 상황)
+ * - 오류: error-rate 비율로 예외 (PG 5xx/네트워크 오류)
+ * - 거절: decline-rate 비율로 승인 거절 (정상 응답)
+ */
+@Slf4j
+public class SimulatedPaymentGatewayAdapter implements PaymentGatewayPort {
+
+    private static final double Z_99 = 2.326; // 표준 정규 분포의 99 백분위
+
+    private final double mu;
+    private final double sigma;
+    private final double hangRate;
+    private final long hangMillis;
+    private final double errorRate;
+    private final double declineRate;
+
+    public SimulatedPaymentGatewayAdapter(long medianMillis, long p99Millis, double hangRate, long hangMillis,
+                                          double errorRate, double declineRate) {
+        if (medianMillis <= 0 || p99Millis < medianMillis) {
+            throw new IllegalArgumentException("median-ms는 0보다 크고 p99-ms 이하여야 합니다.");
+        }
+        this.mu = Math.log(medianMillis);
+        this.sigma = Math.log((double) p99Millis / medianMillis) / Z_99;
+        this.hangRate = hangRate;
+        this.hangMillis = hangMillis;
+        this.errorRate = errorRate;
+        this.declineRate = declineRate;
+        log.info("[PG-Simulated] 지연 중앙값 {}ms, p99 {}ms, 멈춤 {}% ({}ms), 오류 {}%, 거절 {}%",
+                medianMillis, p99Millis, hangRate * 100, hangMillis, errorRate * 100, declineRate * 100);
+    }
+
+    @Override
+    public boolean processPayment(String orderNumber, BigDecimal amount, String paymentKey, String paymentType) {
+        simulateNetwork(orderNumber);
+        if (paymentKey.contains("FAIL") || ThreadLocalRandom.current().nextDouble() < declineRate) {
+            log.debug("[PG-Simulated] 결제 승인 거절 - 주문번호: {}", orderNumber);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean cancelPayment(String orderNumber, String reason) {
+        simulateNetwork(orderNumber);
+        return true;
+    }
+
+    // --- Private Helper Methods ---
+
+    private void simulateNetwork(String orderNumber) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMillis = random.nextDouble() < hangRate
+                ? hangMillis
+                : Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("PG 응답 대기 중단 - 주문번호: " + orderNumber, e);
+        }
+        if (random.nextDouble() < errorRate) {
+            throw new IllegalStateException("[PG-Simulated] 일시적인 PG 오류 (503) - 주문번호: " + orderNumber);
+        }
+    }
+}
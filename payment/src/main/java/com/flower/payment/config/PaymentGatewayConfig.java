@@ -0,0 +1,57 @@
+package com.flower.payment.config;
+
+import com.flower.common.concurrent.CircuitBreaker;
+import com.flower.payment.adapter.out.payment.MockTossPaymentAdapter;
+import com.flower.payment.adapter.out.payment.ResilientPaymentGateway;
+import com.flower.payment.adapter.out.payment.SimulatedPaymentGatewayAdapter;
+import com.flower.payment.port.out.PaymentGatewayPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * PG 어댑터 구성
+ * payment.pg.adapter(mock | simulated)로 고른 어댑터를 ResilientPaymentGateway로 감싸 PaymentGatewayPort로 등록
+ */
+@Slf4j
+@Configuration
+public class PaymentGatewayConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ResilientPaymentGateway paymentGatewayPort(
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${payment.pg.adapter:mock}") String adapter,
+            @Value("${payment.pg.max-concurrent-calls:50}") int maxConcurrentCalls,
+            @Value("${payment.pg.deadline-ms:5000}") long deadlineMillis,
+            @Value("${payment.pg.circuit.window-size:50}") int windowSize,
+            @Value("${payment.pg.circuit.minimum-calls:20}") int minimumCalls,
+            @Value("${payment.pg.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${payment.pg.circuit.open-seconds:30}") long openSeconds,
+            @Value("${payment.pg.circuit.half-open-calls:5}") int halfOpenCalls) {
+        PaymentGatewayPort delegate = switch (adapter) {
+            case "mock" -> new MockTossPaymentAdapter();
+            case "simulated" -> new SimulatedPaymentGatewayAdapter(
+                    environment.getProperty("payment.pg.simulator.median-ms", Long.class, 150L),
+                    environment.getProperty("payment.pg.simulator.p99-ms", Long.class, 1500L),
+                    environment.getProperty("payment.pg.simulator.hang-rate", Double.class, 0.0),
+                    environment.getProperty("payment.pg.simulator.hang-ms", Long.class, 30000L),
+                    environment.getProperty("payment.pg.simulator.error-rate", Double.class, 0.0),
+                    environment.getProperty("payment.pg.simulator.decline-rate", Double.class, 0.0));
+            default -> throw new IllegalArgumentException("지원하지 않는 PG 어댑터입니다: " + adapter);
+        };
+        log.info("PG 어댑터 구성: {} (동시 호출 {}건, 데드라인 {}ms)", adapter, maxConcurrentCalls, deadlineMillis);
+
+        CircuitBreaker circuitBreaker = new CircuitBreaker("payment-gateway", windowSize, minimumCalls,
+                failureRateThreshold, Duration.ofSeconds(openSeconds), halfOpenCalls);
+        return new ResilientPaymentGateway(delegate, circuitBreaker, maxConcurrentCalls, deadlineMillis,
+                meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -2,14 +2,12 @@ package com.flower.payment.event;
 
 import com.flower.common.event.InventoryDeductionFailedEvent;
 import com.flower.common.event.OrderCancelledEvent;
+import com.flower.common.outbox.OutboxListener;
 import com.flower.order.service.OrderService;
 import com.flower.payment.service.PaymentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Slf4j
 @Component
@@ -22,8 +20,7 @@ public class PaymentEventListener {
     /**
      * 주문 취소 이벤트 수신 시 결제 취소 처리
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @OutboxListener
     public void handleOrderCancelled(OrderCancelledEvent event) {
         log.info("주문 취소 이벤트 수신 - 결제 취소 시작: 주문번호={}, 주문ID={}", event.getOrderNumber(), event.getOrderId());
         
@@ -34,15 +31,16 @@ public class PaymentEventListener {
             paymentService.cancelPayment(event.getOrderId());
             log.info("결제 취소 완료: 주문ID={}", event.getOrderId());
         } catch (Exception e) {
+            // PG 장애(회로 차단, 데드라인 초과 등)로 실패한 취소는 아웃박스 재시도에 맡김
             log.error("결제 취소 실패: 주문ID={}, 오류={}", event.getOrderId(), e.getMessage());
+            throw e;
         }
     }
 
     /**
      * 재고 차감 실패 시 보상 트랜잭션 (결제 취소 및 주문 취소)
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @OutboxListener
     public void handleInventoryDeductionFailed(InventoryDeductionFailedEvent event) {
         log.info("재고 차감 실패 이벤트 수신 - 보상 트랜잭션 시작: 주문번호={}, 사유={}", event.getOrderNumber(), event.getReason());
         
@@ -0,0 +1,25 @@
+package com.flower.payment.service;
+
+import com.flower.common.event.PaymentCompletedEvent;
+import com.flower.common.outbox.OutboxEventPublisher;
+import com.flower.order.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PG 승인 결과 반영 (주문 상태 변경과 결제 완료 이벤트 기록을 한 트랜잭션으로 커밋)
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentResultWriter {
+
+    private final OrderService orderService;
+    private final OutboxEventPublisher eventPublisher;
+
+    @Transactional
+    public void markAsPaid(PaymentCompletedEvent event) {
+        orderService.markAsPaid(event.getOrderId());
+        eventPublisher.publish(event);
+    }
+}
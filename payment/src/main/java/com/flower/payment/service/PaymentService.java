@@ -1,74 +1,75 @@
 package com.flower.payment.service;
 
+import com.flower.common.exception.PaymentNotAttemptedException;
 import com.flower.common.exception.PaymentProcessingException;
 import com.flower.common.event.OrderPlacedEvent;
 import com.flower.common.event.PaymentCompletedEvent;
+import com.flower.order.dto.OrderDetailDto;
+import com.flower.order.dto.OrderItemOptionDto;
 import com.flower.order.service.OrderService;
 import com.flower.payment.dto.PaymentRequest;
 import com.flower.payment.port.out.PaymentGatewayPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+/**
+ * 결제 처리
+ * PG 왕복 동안 DB 커넥션을 잡고 있지 않도록 세 단계로 나눔
+ * 1. 짧은 트랜잭션으로 주문을 결제 진행 중으로 표시하고 이벤트에 쓸 주문 정보를 읽음
+ * 2. 트랜잭션 밖에서 PG 승인 요청 (데드라인/동시 호출 제한/회로 차단은 ResilientPaymentGateway가 담당)
+ * 3. 짧은 트랜잭션으로 결과 반영 + 결제 완료 이벤트 기록
+ *
+ * 데드라인 초과 후 PG에서 뒤늦게 승인되더라도 실패 처리 시 발행되는 주문 취소 이벤트로 PG 결제가 취소됨
+ * PG를 호출하기 전에 거절된 결제(동시 호출 한도 초과, 회로 차단)는 실패 처리하지 않고 결제 대기로 되돌려 다시 시도할 수 있게 함
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
 
     private final OrderService orderService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final PaymentResultWriter paymentResultWriter;
     private final PaymentGatewayPort paymentGatewayPort;
 
-    @Transactional
     public void processPayment(PaymentRequest request) {
         log.info("Processing payment for order: {}, method: {}", request.orderNumber(), request.paymentType());
 
+        // 1. 결제 진행 중 표시 (이미 결제 중이거나 완료된 주문이면 PG를 호출하지 않고 예외)
+        OrderDetailDto order = orderService.startPayment(request.orderId());
+
         try {
-            // 1. PG사 결제 승인 요청
+            // 2. PG사 결제 승인 요청 (트랜잭션 밖)
             boolean isApproved = paymentGatewayPort.processPayment(
-                request.orderNumber(), 
-                request.amount(), 
-                request.paymentKey(), 
+                request.orderNumber(),
+                request.amount(),
+                request.paymentKey(),
                 request.paymentType()
             );
 
             if (!isApproved) {
                 throw new PaymentProcessingException("PG사 결제 승인 거절");
             }
-            
-            // 2. 주문 상태 변경 (PAID)
-            orderService.markAsPaid(request.orderId());
-            
-            // 3. 결제 완료 이벤트 발행 (배송 등 후속 처리용)
-            var order = orderService.getOrderDetail(request.orderId());
-            
-            var items = order.items().stream()
-                    .map(item -> new OrderPlacedEvent.OrderItemInfo(
-                            item.getProductId(),
-                            item.getProductName(),
-                            item.getQuantity(),
-                            item.getUnitPrice()
-                    ))
-                    .collect(Collectors.toList());
-    
-            eventPublisher.publishEvent(new PaymentCompletedEvent(
-                    order.orderNumber(),
-                    order.id(),
-                    order.memberId(),
-                    items,
-                    order.isDirectOrder(),
-                    order.deliveryName(),
-                    order.deliveryPhone(),
-                    order.deliveryAddress(),
-                    order.deliveryNote()
-            ));
-            
+
+            // 3. 주문 상태 변경 (PAID) + 결제 완료 이벤트 발행 (배송 등 후속 처리용)
+            paymentResultWriter.markAsPaid(toPaymentCompletedEvent(order));
+
             log.info("Payment completed for order: {}", request.orderId());
-            
+
+        } catch (PaymentNotAttemptedException e) {
+            log.warn("Payment not attempted for order: {}, reason: {}", request.orderId(), e.getMessage());
+            try {
+                orderService.abandonPayment(request.orderId());
+            } catch (Exception ex) {
+                // 되돌리지 못한 주문은 결제 진행 중으로 남아 멈춘 결제 정리 작업이 실패로 처리함
+                log.error("Failed to return order to pending payment: {}", ex.getMessage());
+            }
+            throw e;
         } catch (Exception e) {
             log.error("Payment failed for order: {}, reason: {}", request.orderId(), e.getMessage());
             try {
@@ -96,9 +97,37 @@ public class PaymentService {
         log.info("Payment cancelled for order: {}", orderId);
     }
     
-    @Transactional
     public void cancelPaymentByOrderNumber(String orderNumber, String reason) {
         log.info("Cancelling payment via PG for orderNumber: {}", orderNumber);
         paymentGatewayPort.cancelPayment(orderNumber, reason);
     }
+
+    // --- Private Helper Methods ---
+
+    private PaymentCompletedEvent toPaymentCompletedEvent(OrderDetailDto order) {
+        var items = order.items().stream()
+                .map(item -> new OrderPlacedEvent.OrderItemInfo(
+                        item.getProductId(),
+                        item.getProductName(),
+                        item.getQuantity(),
+                        item.getUnitPrice(),
+                        item.getOptions() == null ? List.of() : item.getOptions().stream()
+                                .map(OrderItemOptionDto::getProductOptionId)
+                                .filter(Objects::nonNull)
+                                .toList()
+                ))
+                .collect(Collectors.toList());
+
+        return new PaymentCompletedEvent(
+                order.orderNumber(),
+                order.id(),
+                order.memberId(),
+                items,
+                order.isDirectOrder(),
+                order.deliveryName(),
+                order.deliveryPhone(),
+                order.deliveryAddress(),
+                order.deliveryNote()
+        );
+    }
 }
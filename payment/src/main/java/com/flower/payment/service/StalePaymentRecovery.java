@@ -0,0 +1,53 @@
+package com.flower.payment.service;
+
+import com.flower.order.service.OrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 진행 중(IN_PROGRESS)에 멈춘 주문 정리
+ * 결제 시작 후 PG 결과를 반영하기 전에 프로세스가 죽으면 주문이 결제 중으로 남아 같은 주문을 다시 결제할 수 없음.
+ * PG 데드라인보다 충분히 긴 stale-seconds가 지나도록 결과가 없으면 결제 실패로 정리하고,
+ * 발행되는 주문 취소 이벤트로 뒤늦게 승인되었을 수 있는 PG 결제를 취소함 (데드라인 초과와 같은 처리)
+ */
+@Slf4j
+@Component
+public class StalePaymentRecovery {
+
+    private final OrderService orderService;
+    private final long staleSeconds;
+    private final int batchSize;
+
+    public StalePaymentRecovery(OrderService orderService,
+                                @Value("${payment.recovery.stale-seconds:300}") long staleSeconds,
+                                @Value("${payment.recovery.batch-size:100}") int batchSize) {
+        this.orderService = orderService;
+        this.staleSeconds = staleSeconds;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.recovery.interval-ms:60000}")
+    public void recoverStalePayments() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(staleSeconds);
+        List<Long> orderIds = orderService.findStalePaymentIds(before, batchSize);
+        int recovered = 0;
+        for (Long orderId : orderIds) {
+            try {
+                if (orderService.failStalePayment(orderId, before)) {
+                    recovered++;
+                    log.warn("결제 진행 중에 멈춘 주문을 결제 실패로 정리했습니다: 주문ID={}", orderId);
+                }
+            } catch (Exception e) {
+                log.error("멈춘 결제 정리 실패: 주문ID={}, 오류={}", orderId, e.getMessage(), e);
+            }
+        }
+        if (recovered > 0) {
+            log.info("멈춘 결제 정리 완료: {}건", recovered);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.flower.payment.adapter.out.payment;
+
+import com.flower.common.concurrent.CircuitBreaker;
+import com.flower.common.exception.PaymentNotAttemptedException;
+import com.flower.common.exception.PaymentProcessingException;
+import com.flower.payment.port.out.PaymentGatewayPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ResilientPaymentGateway Tests")
+class ResilientPaymentGatewayTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ResilientPaymentGateway gateway;
+
+    @AfterEach
+    void tearDown() {
+        gateway.shutdown();
+    }
+
+    @Test
+    @DisplayName("데드라인을 넘긴 PG 호출은 기다리지 않고 실패 처리한다")
+    void shouldFailWhenDeadlineExceeded() {
+        // given
+        gateway = new ResilientPaymentGateway(new StubGateway(() -> sleep(5000)), circuitBreaker(), 10, 100, meterRegistry);
+
+        // when
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> approve("ORD-1"))
+                .isInstanceOf(PaymentProcessingException.class)
+                .hasMessageContaining("시간 초과");
+
+        // then
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(2000);
+        assertThat(meterRegistry.get("payment.pg.timeouts").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘긴 요청은 PG를 부르지 않고 바로 거절한다")
+    void shouldRejectWhenBulkheadFull() throws InterruptedException {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        gateway = new ResilientPaymentGateway(new StubGateway(() -> {
+            calls.incrementAndGet();
+            entered.countDown();
+            await(release);
+        }), circuitBreaker(), 1, 5000, meterRegistry);
+        Thread inFlight = new Thread(() -> approve("ORD-1"));
+        inFlight.start();
+        entered.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> approve("ORD-2"))
+                .isInstanceOf(PaymentNotAttemptedException.class)
+                .hasMessageContaining("결제 요청이 많아");
+        release.countDown();
+        inFlight.join();
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PG 오류가 이어지면 회로를 열고 이후 요청은 PG를 부르지 않고 바로 거절한다")
+    void shouldFastFailWhenCircuitOpen() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        gateway = new ResilientPaymentGateway(new StubGateway(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("PG 503");
+        }), circuitBreaker(), 10, 1000, meterRegistry);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> approve("ORD-1")).isInstanceOf(PaymentProcessingException.class);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> approve("ORD-2"))
+                .isInstanceOf(PaymentNotAttemptedException.class)
+                .hasMessageContaining("일시적으로 결제할 수 없습니다");
+        assertThat(calls.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("승인 거절은 PG의 정상 응답이므로 회로 차단 실패로 세지 않는다")
+    void shouldNotCountDeclineAsFailure() {
+        // given
+        gateway = new ResilientPaymentGateway(new MockTossPaymentAdapter(), circuitBreaker(), 10, 1000, meterRegistry);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(gateway.processPayment("ORD-" + i, BigDecimal.TEN, "FAIL-key", "CARD")).isFalse();
+        }
+
+        // then
+        assertThat(approve("ORD-OK")).isTrue();
+    }
+
+    private boolean approve(String orderNumber) {
+        return gateway.processPayment(orderNumber, BigDecimal.valueOf(50000), "test-key", "CARD");
+    }
+
+    private CircuitBreaker circuitBreaker() {
+        return new CircuitBreaker("pg", 10, 4, 0.5, Duration.ofSeconds(30), 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record StubGateway(Runnable behavior) implements PaymentGatewayPort {
+        @Override
+        public boolean processPayment(String orderNumber, BigDecimal amount, String paymentKey, String paymentType) {
+            behavior.run();
+            return true;
+        }
+
+        @Override
+        public boolean cancelPayment(String orderNumber, String reason) {
+            behavior.run();
+            return true;
+        }
+    }
+}
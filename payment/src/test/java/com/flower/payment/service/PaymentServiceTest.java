@@ -1,5 +1,7 @@
 package com.flower.payment.service;
 
+import com.flower.common.event.PaymentCompletedEvent;
+import com.flower.common.exception.PaymentNotAttemptedException;
 import com.flower.common.exception.PaymentProcessingException;
 import com.flower.order.dto.OrderDetailDto;
 import com.flower.order.dto.OrderItemDto;
@@ -10,15 +12,16 @@ import com.flower.payment.port.out.PaymentGatewayPort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -34,7 +37,7 @@ class PaymentServiceTest {
     private OrderService orderService;
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private PaymentResultWriter paymentResultWriter;
 
     @Mock
     private PaymentGatewayPort paymentGatewayPort;
@@ -63,15 +66,19 @@ class PaymentServiceTest {
                 100L, false, Collections.singletonList(itemDto)
         );
 
+        given(orderService.startPayment(orderId)).willReturn(orderDetail);
         given(paymentGatewayPort.processPayment(any(), any(), any(), any())).willReturn(true);
-        given(orderService.getOrderDetail(orderId)).willReturn(orderDetail);
 
         // when
         paymentService.processPayment(request);
 
-        // then
-        verify(orderService).markAsPaid(orderId);
-        verify(eventPublisher).publishEvent(any());
+        // then - 결제 시작 시 읽은 주문 정보로 이벤트를 만들고 주문을 다시 조회하지 않음
+        ArgumentCaptor<PaymentCompletedEvent> event = ArgumentCaptor.forClass(PaymentCompletedEvent.class);
+        verify(paymentResultWriter).markAsPaid(event.capture());
+        assertThat(event.getValue().getOrderId()).isEqualTo(orderId);
+        assertThat(event.getValue().getItems()).hasSize(1);
+        verify(orderService, never()).getOrderDetail(any());
+        verify(orderService, never()).markAsFailed(any());
     }
 
     @Test
@@ -91,4 +98,62 @@ class PaymentServiceTest {
         
         verify(orderService).markAsFailed(orderId);
     }
+
+    @Test
+    @DisplayName("PG 호출이 데드라인 초과 등으로 실패하면 주문을 FAILED 상태로 변경한다")
+    void processPayment_Fail_GatewayError() {
+        // given
+        Long orderId = 1L;
+        PaymentRequest request = new PaymentRequest(
+            "ORD-123", orderId, BigDecimal.valueOf(50000), "test-key", "CARD", "장미 외 1건"
+        );
+        given(paymentGatewayPort.processPayment(any(), any(), any(), any()))
+                .willThrow(new PaymentProcessingException("PG사 응답 시간 초과 (5000ms)"));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.processPayment(request))
+                .isInstanceOf(PaymentProcessingException.class)
+                .hasMessageContaining("시간 초과");
+
+        verify(orderService).markAsFailed(orderId);
+        verify(paymentResultWriter, never()).markAsPaid(any());
+    }
+
+    @Test
+    @DisplayName("PG 호출 전에 거절되면 주문을 실패 처리하지 않고 결제 대기로 되돌린다")
+    void processPayment_NotAttempted() {
+        // given
+        Long orderId = 1L;
+        PaymentRequest request = new PaymentRequest(
+            "ORD-123", orderId, BigDecimal.valueOf(50000), "test-key", "CARD", "장미 외 1건"
+        );
+        given(paymentGatewayPort.processPayment(any(), any(), any(), any()))
+                .willThrow(new PaymentNotAttemptedException("결제 시스템 장애로 일시적으로 결제할 수 없습니다. 잠시 후 다시 시도해주세요."));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.processPayment(request))
+                .isInstanceOf(PaymentNotAttemptedException.class);
+
+        verify(orderService).abandonPayment(orderId);
+        verify(orderService, never()).markAsFailed(any());
+        verify(paymentResultWriter, never()).markAsPaid(any());
+    }
+
+    @Test
+    @DisplayName("이미 결제가 진행 중인 주문이면 PG를 호출하지 않는다")
+    void processPayment_AlreadyInProgress() {
+        // given
+        Long orderId = 1L;
+        PaymentRequest request = new PaymentRequest(
+            "ORD-123", orderId, BigDecimal.valueOf(50000), "test-key", "CARD", "장미 외 1건"
+        );
+        given(orderService.startPayment(orderId)).willThrow(new IllegalStateException("결제할 수 없는 주문 상태입니다"));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.processPayment(request))
+                .isInstanceOf(IllegalStateException.class);
+
+        verifyNoInteractions(paymentGatewayPort);
+        verify(orderService, never()).markAsFailed(any());
+    }
 }
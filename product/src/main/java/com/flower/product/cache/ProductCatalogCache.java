@@ -0,0 +1,166 @@
+package com.flower.product.cache;
+
+import com.flower.product.dto.ProductDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 상품 상세 조회용 인메모리 스냅샷 캐시 (read-through)
+ * - 상품 ID별 불변 ProductDto 스냅샷을 보관
+ * - 상품 생성/수정/삭제/재고 변경 시 해당 상품만 커밋 이후 무효화
+ * - 무효화 시 버전을 올려, 무효화 이전에 시작된 조회 결과가 뒤늦게 적재되는 것을 막음
+ */
+@Slf4j
+@Component
+public class ProductCatalogCache {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final Map<Long, ProductDto> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ProductCatalogCache(@Value("${product.catalog-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public ProductDto get(Long productId, Function<Long, ProductDto> loader) {
+        ProductDto cached = snapshots.get(productId);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long version = versionOf(productId);
+        ProductDto loaded = loader.apply(productId);
+        putIfCurrent(productId, loaded, version);
+        return loaded;
+    }
+
+    public Map<Long, ProductDto> getAll(Collection<Long> productIds, Function<List<Long>, Map<Long, ProductDto>> loader) {
+        Map<Long, ProductDto> result = new HashMap<>();
+        Map<Long, Long> missedVersions = new HashMap<>();
+
+        for (Long productId : productIds) {
+            if (result.containsKey(productId) || missedVersions.containsKey(productId)) {
+                continue;
+            }
+            ProductDto cached = snapshots.get(productId);
+            if (cached != null) {
+                hits.increment();
+                result.put(productId, cached);
+            } else {
+                misses.increment();
+                missedVersions.put(productId, versionOf(productId));
+            }
+        }
+
+        if (!missedVersions.isEmpty()) {
+            Map<Long, ProductDto> loaded = loader.apply(new ArrayList<>(missedVersions.keySet()));
+            loaded.forEach((productId, dto) -> {
+                putIfCurrent(productId, dto, missedVersions.get(productId));
+                result.put(productId, dto);
+            });
+        }
+        return result;
+    }
+
+    public boolean contains(Long productId) {
+        return snapshots.containsKey(productId);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 해당 상품 스냅샷을 무효화
+     * 트랜잭션 밖에서 호출되면 즉시 무효화
+     */
+    public void invalidateAfterCommit(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(productId);
+                }
+            });
+        } else {
+            invalidate(productId);
+        }
+    }
+
+    public void invalidate(Long productId) {
+        snapshots.compute(productId, (key, existing) -> {
+            versions.incrementAndGet(stripeOf(key));
+            return null;
+        });
+        invalidations.increment();
+        log.debug("상품 캐시 무효화: ProductId={}", productId);
+    }
+
+    public void clear() {
+        for (Long productId : new ArrayList<>(snapshots.keySet())) {
+            invalidate(productId);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), snapshots.size());
+    }
+
+    private void putIfCurrent(Long productId, ProductDto snapshot, long version) {
+        if (snapshot == null) {
+            return;
+        }
+        // 같은 키에 대한 compute는 직렬화되므로 invalidate와 경합해도 오래된 스냅샷이 남지 않음
+        snapshots.compute(productId, (key, existing) -> versionOf(key) == version ? snapshot : existing);
+        evictIfOversized();
+    }
+
+    private void evictIfOversized() {
+        if (snapshots.size() <= maxSize) {
+            return;
+        }
+        Iterator<Long> iterator = snapshots.keySet().iterator();
+        while (snapshots.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private long versionOf(Long productId) {
+        return versions.get(stripeOf(productId));
+    }
+
+    private int stripeOf(Long productId) {
+        return (int) (productId & (VERSION_STRIPES - 1));
+    }
+
+    public record Stats(long hits, long misses, long evictions, long invalidations, int size) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
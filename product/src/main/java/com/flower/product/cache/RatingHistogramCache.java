@@ -0,0 +1,95 @@
+package com.flower.product.cache;
+
+import com.flower.product.dto.RatingHistogram;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 상품 별점 분포 인메모리 캐시 (read-through)
+ * - 상세 페이지는 리뷰를 훑지 않고 상품 행에 유지되는 분포를 한 번 읽어 메모리에서 제공
+ * - ReviewStatsAggregator가 변화량을 반영한 상품은 즉시 무효화
+ * - 배치(ProductRatingSyncJob) 재집계는 다른 프로세스에서 일어나므로 TTL이 지나면 다시 읽어 반영
+ * - ProductCatalogCache와 같이 무효화 시 버전을 올려, 무효화 이전에 시작된 조회 결과가 뒤늦게 적재되는 것을 막음
+ */
+@Slf4j
+@Component
+public class RatingHistogramCache {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final int maxSize;
+    private final long ttlNanos;
+
+    public RatingHistogramCache(@Value("${product.rating-histogram.max-size:10000}") int maxSize,
+                                @Value("${product.rating-histogram.ttl-seconds:600}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * @return 상품이 없으면 빈 값
+     */
+    public Optional<RatingHistogram> get(Long productId, Function<Long, Optional<RatingHistogram>> loader) {
+        Entry cached = entries.get(productId);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return Optional.of(cached.histogram());
+        }
+
+        long version = versionOf(productId);
+        Optional<RatingHistogram> loaded = loader.apply(productId);
+        loaded.ifPresent(histogram -> {
+            Entry entry = new Entry(histogram, now);
+            entries.compute(productId, (key, existing) -> versionOf(key) == version ? entry : existing);
+            evictIfOversized();
+        });
+        return loaded;
+    }
+
+    public void invalidate(Long productId) {
+        entries.compute(productId, (key, existing) -> {
+            versions.incrementAndGet(stripeOf(key));
+            return null;
+        });
+        log.debug("별점 분포 캐시 무효화: ProductId={}", productId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // --- Private Helper Methods ---
+
+    private void evictIfOversized() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        Iterator<Long> iterator = entries.keySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private long versionOf(Long productId) {
+        return versions.get(stripeOf(productId));
+    }
+
+    private int stripeOf(Long productId) {
+        return (int) (productId & (VERSION_STRIPES - 1));
+    }
+
+    private record Entry(RatingHistogram histogram, long loadedAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.flower.product.domain;
 
+import com.flower.common.id.SnowflakeIdGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_product_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_product_category_trending", columnList = "category, is_active, is_trending, created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -91,6 +95,27 @@ public class Product {
     @Builder.Default
     private Double averageRating = 0.0;
 
+    // 별점 분포 (1~5점 리뷰 수) - ReviewStatsAggregator가 증분 반영, ProductRatingSyncJob이 재집계
+    @Column(name = "rating_count_1")
+    @Builder.Default
+    private Long ratingCount1 = 0L;
+
+    @Column(name = "rating_count_2")
+    @Builder.Default
+    private Long ratingCount2 = 0L;
+
+    @Column(name = "rating_count_3")
+    @Builder.Default
+    private Long ratingCount3 = 0L;
+
+    @Column(name = "rating_count_4")
+    @Builder.Default
+    private Long ratingCount4 = 0L;
+
+    @Column(name = "rating_count_5")
+    @Builder.Default
+    private Long ratingCount5 = 0L;
+
     @ElementCollection
     @CollectionTable(name = "product_tags", joinColumns = @JoinColumn(name = "product_id"))
     @Column(name = "tag")
@@ -130,7 +155,7 @@ public class Product {
     }
     
     private String generateProductCode() {
-        return "PRD-" + System.currentTimeMillis();
+        return SnowflakeIdGenerator.shared().nextCode("PRD");
     }
 
     public boolean hasSufficientStock(int quantity) {
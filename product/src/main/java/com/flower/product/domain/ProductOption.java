@@ -64,4 +64,32 @@ public class ProductOption {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    public boolean isStockTracked() {
+        return stockQuantity != null;
+    }
+
+    public boolean hasSufficientStock(int quantity) {
+        return !isStockTracked() || stockQuantity >= quantity;
+    }
+
+    /**
+     * 옵션 재고 차감 (옵션 재고를 관리하지 않으면 무시)
+     */
+    public void decreaseStock(int quantity) {
+        if (!isStockTracked()) {
+            return;
+        }
+        if (!hasSufficientStock(quantity)) {
+            throw new IllegalStateException("옵션 재고가 부족합니다. 옵션: " + name + " " + optionValue
+                    + ", 현재재고: " + stockQuantity + ", 요청수량: " + quantity);
+        }
+        this.stockQuantity -= quantity;
+    }
+
+    public void increaseStock(int quantity) {
+        if (isStockTracked()) {
+            this.stockQuantity += quantity;
+        }
+    }
 }
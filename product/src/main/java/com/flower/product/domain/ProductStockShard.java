@@ -0,0 +1,34 @@
+package com.flower.product.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 타임세일 등 주문이 몰리는 상품의 분할 재고 카운터
+ * 상품 재고를 N개 행으로 나누어 동시 차감이 하나의 행 락에 몰리지 않도록 함
+ */
+@Entity
+@Table(name = "product_stock_shards",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stock_shard_product_index", columnNames = {"product_id", "shard_index"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "shard_index", nullable = false)
+    private Integer shardIndex;
+
+    @Column(nullable = false)
+    private Integer quantity;
+}
@@ -0,0 +1,54 @@
+package com.flower.product.dto;
+
+import com.flower.product.domain.Product;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 상품 목록 keyset 커서 (isTrending, createdAt, id)
+ * 클라이언트에는 Base64 인코딩된 불투명 문자열로만 노출
+ */
+public record ProductCursor(
+    boolean trending,
+    LocalDateTime createdAt,
+    Long id
+) {
+    /**
+     * 첫 페이지 조회용 센티널 커서 (모든 상품보다 뒤에 위치)
+     */
+    public static final ProductCursor FIRST = new ProductCursor(true, LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String DELIMITER = "|";
+
+    public static ProductCursor of(Product product) {
+        return new ProductCursor(Boolean.TRUE.equals(product.getIsTrending()), product.getCreatedAt(), product.getId());
+    }
+
+    public static ProductCursor of(ProductRow row) {
+        return new ProductCursor(Boolean.TRUE.equals(row.isTrending()), row.createdAt(), row.id());
+    }
+
+    public static ProductCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return new ProductCursor(Boolean.parseBoolean(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = trending + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -6,5 +6,6 @@ public record ProductOptionDto(
     Long id,
     String name,
     String optionValue,
-    BigDecimal priceAdjustment
+    BigDecimal priceAdjustment,
+    Integer stockQuantity // 옵션별 재고 (null이면 옵션 재고를 관리하지 않고 상품 재고만 사용)
 ) {}
@@ -0,0 +1,19 @@
+package com.flower.product.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 옵션 일괄 조회용 JPQL 생성자 프로젝션 (상품 ID 포함)
+ */
+public record ProductOptionRow(
+    Long productId,
+    Long id,
+    String name,
+    String optionValue,
+    BigDecimal priceAdjustment,
+    Integer stockQuantity
+) {
+    public ProductOptionDto toDto() {
+        return new ProductOptionDto(id, name, optionValue, priceAdjustment, stockQuantity);
+    }
+}
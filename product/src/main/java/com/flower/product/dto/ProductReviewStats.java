@@ -0,0 +1,11 @@
+package com.flower.product.dto;
+
+/**
+ * 상품별 리뷰 통계 전체 값 (리뷰 원본에서 다시 집계한 리뷰 수, 평점 합계, 별점 분포)
+ */
+public record ProductReviewStats(
+    Long productId,
+    long reviewCount,
+    long totalRating,
+    RatingHistogram histogram
+) {}
@@ -0,0 +1,60 @@
+package com.flower.product.dto;
+
+import com.flower.product.domain.Product.DeliveryType;
+import com.flower.product.domain.ProductCategory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 목록 조회용 JPQL 생성자 프로젝션
+ * 엔티티를 영속성 컨텍스트에 올리지 않고(더티 체킹/스냅샷 없음) 필요한 컬럼만 읽음
+ */
+public record ProductRow(
+    Long id,
+    Long storeId,
+    String name,
+    BigDecimal price,
+    BigDecimal discountPrice,
+    Integer stockQuantity,
+    String description,
+    String thumbnailUrl,
+    Boolean isActive,
+    Boolean isAvailableToday,
+    ProductCategory category,
+    DeliveryType deliveryType,
+    Long reviewCount,
+    Long totalRating,
+    Double averageRating,
+    Boolean isTrending,
+    LocalDateTime createdAt
+) {
+    public ProductDto toDto(List<ProductOptionDto> options) {
+        return toDto(options, stockQuantity);
+    }
+
+    /**
+     * @param currentStock 분할 재고 상품이면 샤드 합계, 아니면 stockQuantity
+     */
+    public ProductDto toDto(List<ProductOptionDto> options, Integer currentStock) {
+        return new ProductDto(
+            id,
+            storeId,
+            name,
+            discountPrice != null ? discountPrice : price,
+            discountPrice,
+            currentStock,
+            description,
+            thumbnailUrl,
+            Boolean.TRUE.equals(isActive),
+            Boolean.TRUE.equals(isAvailableToday),
+            options,
+            category,
+            deliveryType,
+            reviewCount,
+            totalRating,
+            averageRating
+        );
+    }
+}
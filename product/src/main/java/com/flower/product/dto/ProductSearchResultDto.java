@@ -0,0 +1,20 @@
+package com.flower.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "상품 검색 결과 (관련도순)")
+public record ProductSearchResultDto(
+    @Schema(description = "검색된 상품 목록")
+    List<ProductDto> products,
+
+    @Schema(description = "전체 검색 결과 수", example = "42")
+    long totalCount,
+
+    @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
+    int page,
+
+    @Schema(description = "페이지 크기", example = "20")
+    int size
+) {}
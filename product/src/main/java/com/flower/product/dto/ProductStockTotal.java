@@ -0,0 +1,9 @@
+package com.flower.product.dto;
+
+/**
+ * 분할 재고 합계 프로젝션
+ */
+public record ProductStockTotal(
+    Long productId,
+    Long quantity
+) {}
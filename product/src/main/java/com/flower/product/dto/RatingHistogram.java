@@ -0,0 +1,57 @@
+package com.flower.product.dto;
+
+/**
+ * 상품 별점 분포 (1~5점 리뷰 수)
+ * 변화량을 나타낼 때는 각 값이 음수일 수 있음
+ */
+public record RatingHistogram(
+    long oneStar,
+    long twoStar,
+    long threeStar,
+    long fourStar,
+    long fiveStar
+) {
+    public static final RatingHistogram EMPTY = new RatingHistogram(0, 0, 0, 0, 0);
+
+    /**
+     * 해당 별점 하나만 1인 분포 (리뷰 한 건)
+     */
+    public static RatingHistogram ofRating(int rating) {
+        return switch (rating) {
+            case 1 -> new RatingHistogram(1, 0, 0, 0, 0);
+            case 2 -> new RatingHistogram(0, 1, 0, 0, 0);
+            case 3 -> new RatingHistogram(0, 0, 1, 0, 0);
+            case 4 -> new RatingHistogram(0, 0, 0, 1, 0);
+            case 5 -> new RatingHistogram(0, 0, 0, 0, 1);
+            default -> throw new IllegalArgumentException("별점은 1~5 사이여야 합니다: " + rating);
+        };
+    }
+
+    public RatingHistogram plus(RatingHistogram other) {
+        return new RatingHistogram(oneStar + other.oneStar, twoStar + other.twoStar, threeStar + other.threeStar,
+                fourStar + other.fourStar, fiveStar + other.fiveStar);
+    }
+
+    public RatingHistogram minus(RatingHistogram other) {
+        return new RatingHistogram(oneStar - other.oneStar, twoStar - other.twoStar, threeStar - other.threeStar,
+                fourStar - other.fourStar, fiveStar - other.fiveStar);
+    }
+
+    /**
+     * @param star 1~5
+     */
+    public long countOf(int star) {
+        return switch (star) {
+            case 1 -> oneStar;
+            case 2 -> twoStar;
+            case 3 -> threeStar;
+            case 4 -> fourStar;
+            case 5 -> fiveStar;
+            default -> throw new IllegalArgumentException("별점은 1~5 사이여야 합니다: " + star);
+        };
+    }
+
+    public boolean isZero() {
+        return oneStar == 0 && twoStar == 0 && threeStar == 0 && fourStar == 0 && fiveStar == 0;
+    }
+}
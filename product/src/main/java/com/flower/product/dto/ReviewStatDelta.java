@@ -0,0 +1,11 @@
+package com.flower.product.dto;
+
+/**
+ * 상품별 리뷰 통계 누적 변화량 (리뷰 수, 평점 합계, 별점 분포)
+ */
+public record ReviewStatDelta(
+    Long productId,
+    long reviewCount,
+    long totalRating,
+    RatingHistogram histogram
+) {}
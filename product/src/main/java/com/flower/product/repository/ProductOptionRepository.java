@@ -1,9 +1,16 @@
 package com.flower.product.repository;
 
 import com.flower.product.domain.ProductOption;
+import com.flower.product.dto.ProductOptionRow;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,4 +38,27 @@ public interface ProductOptionRepository extends JpaRepository<ProductOption, Lo
      * 상품 ID로 사용 가능한 옵션 조회
      */
     List<ProductOption> findByProductIdAndIsAvailableOrderByDisplayOrderAsc(Long productId, boolean isAvailable);
+
+    /**
+     * 여러 상품의 옵션을 한 번에 프로젝션으로 조회 (목록 조회 시 N+1 방지)
+     */
+    @Query("SELECT new com.flower.product.dto.ProductOptionRow(o.product.id, o.id, o.name, o.optionValue, o.priceAdjustment, o.stockQuantity) " +
+           "FROM ProductOption o WHERE o.product.id IN :productIds ORDER BY o.displayOrder ASC, o.id ASC")
+    List<ProductOptionRow> findRowsByProductIdIn(@Param("productIds") List<Long> productIds);
+
+    /**
+     * 여러 옵션을 ID 오름차순으로 한 번에 잠금 (상품 일괄 차감과 같은 순서 규칙)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM ProductOption o WHERE o.id IN :ids ORDER BY o.id ASC")
+    List<ProductOption> findAllByIdInWithLock(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 옵션 재고가 충분할 때만 차감하는 조건부 UPDATE (재고를 관리하지 않는 옵션은 그대로 통과)
+     * @return 영향받은 행 수 (0이면 옵션이 없거나 재고 부족)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductOption o SET o.stockQuantity = o.stockQuantity - :quantity " +
+           "WHERE o.id = :id AND (o.stockQuantity IS NULL OR o.stockQuantity >= :quantity)")
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
 }
@@ -2,13 +2,19 @@ package com.flower.product.repository;
 
 import com.flower.product.domain.Product;
 import com.flower.product.domain.ProductCategory;
+import com.flower.product.dto.ProductRow;
+import com.flower.product.dto.RatingHistogram;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +24,20 @@ import java.util.Optional;
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+    /**
+     * 목록 조회용 프로젝션 SELECT 절 (엔티티 하이드레이션 없이 ProductRow로 직접 매핑)
+     */
+    String PRODUCT_ROW_SELECT = "SELECT new com.flower.product.dto.ProductRow(" +
+            "p.id, p.storeId, p.name, p.price, p.discountPrice, p.stockQuantity, p.description, p.thumbnailUrl, " +
+            "p.isActive, p.isAvailableToday, p.category, p.deliveryType, p.reviewCount, p.totalRating, p.averageRating, " +
+            "p.isTrending, p.createdAt) FROM Product p ";
+
+    /**
+     * 재고 있음 조건 (분할 재고 상품은 products.stock_quantity가 리밸런싱 시점에만 동기화되므로 샤드 재고로 판단)
+     */
+    String IN_STOCK = "(EXISTS (SELECT 1 FROM ProductStockShard s WHERE s.productId = p.id AND s.quantity > 0) " +
+            "OR (p.stockQuantity > 0 AND NOT EXISTS (SELECT 1 FROM ProductStockShard s WHERE s.productId = p.id))) ";
+
     Optional<Product> findByProductCode(String productCode);
 
     List<Product> findByCategory(ProductCategory category);
@@ -36,13 +56,16 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.isAvailableToday = true")
     List<Product> findSameDayDeliveryProducts();
 
-    @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.name LIKE %:keyword% OR p.description LIKE %:keyword%")
+    @Query("SELECT p FROM Product p WHERE p.isActive = true AND (p.name LIKE %:keyword% OR p.description LIKE %:keyword%)")
     List<Product> searchProducts(@Param("keyword") String keyword);
 
-    @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.stockQuantity > 0")
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.tags WHERE p.isActive = true")
+    List<Product> findAllActiveWithTags();
+
+    @Query("SELECT p FROM Product p WHERE p.isActive = true AND " + IN_STOCK)
     List<Product> findAvailableProducts();
 
-     @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.category = :category AND p.stockQuantity > 0")
+     @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.category = :category AND " + IN_STOCK)
      List<Product> findAvailableProductsByCategory(@Param("category") ProductCategory category);
 
     @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.deliveryType = :deliveryType")
@@ -57,9 +80,72 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
+    /**
+     * 여러 상품을 ID 오름차순으로 한 번에 잠금 (모든 트랜잭션이 같은 순서로 락을 잡아 교착 상태 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id ASC")
+    List<Product> findAllByIdInWithLock(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 재고가 충분할 때만 차감하는 조건부 UPDATE
+     * @return 영향받은 행 수 (0이면 상품이 없거나 재고 부족)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.stockQuantity >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = :quantity, p.updatedAt = :now WHERE p.id = :id")
+    int updateStockQuantity(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
     @Query("SELECT p FROM Product p WHERE p.storeId = :storeId AND p.isActive = true")
     List<Product> findByStoreId(@Param("storeId") Long storeId);
 
     @Query("SELECT p FROM Product p WHERE p.storeId = :storeId")
     List<Product> findAllByStoreId(@Param("storeId") Long storeId);
+
+    @Query("SELECT new com.flower.product.dto.RatingHistogram(" +
+           "COALESCE(p.ratingCount1, 0), COALESCE(p.ratingCount2, 0), COALESCE(p.ratingCount3, 0), " +
+           "COALESCE(p.ratingCount4, 0), COALESCE(p.ratingCount5, 0)) FROM Product p WHERE p.id = :id")
+    Optional<RatingHistogram> findRatingHistogramById(@Param("id") Long id);
+
+    /**
+     * 상품 ID 키셋 순회 (전체 재집계 배치용)
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // --- Projection (목록 조회 전용) ---
+
+    @Query(PRODUCT_ROW_SELECT + "WHERE p.id IN :ids")
+    List<ProductRow> findRowsByIdIn(@Param("ids") List<Long> ids);
+
+    @Query(PRODUCT_ROW_SELECT + "ORDER BY p.id ASC")
+    List<ProductRow> findAllRows();
+
+    @Query(PRODUCT_ROW_SELECT + "WHERE p.storeId = :storeId AND p.isActive = true")
+    List<ProductRow> findRowsByStoreId(@Param("storeId") Long storeId);
+
+    // --- Keyset Pagination (createdAt DESC, id DESC) ---
+
+    @Query(PRODUCT_ROW_SELECT + "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductRow> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(PRODUCT_ROW_SELECT + "WHERE p.isActive = true AND " + IN_STOCK + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductRow> findAvailablePageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(PRODUCT_ROW_SELECT + "WHERE p.isActive = true AND p.isFeatured = true AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductRow> findFeaturedPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(PRODUCT_ROW_SELECT + "WHERE p.isActive = true AND p.category = :category " +
+           "AND ((:trending = true AND p.isTrending = false) " +
+           "OR (p.isTrending = :trending AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)))) " +
+           "ORDER BY p.isTrending DESC, p.createdAt DESC, p.id DESC")
+    List<ProductRow> findActiveByCategoryPageAfter(@Param("category") ProductCategory category,
+                                                   @Param("trending") boolean trending,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
 }
@@ -0,0 +1,100 @@
+package com.flower.product.repository;
+
+import com.flower.product.dto.ProductReviewStats;
+import com.flower.product.dto.RatingHistogram;
+import com.flower.product.dto.ReviewStatDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 리뷰 통계 일괄 반영 (JDBC 배치)
+ * 엔티티를 읽지 않고 현재 값에 변화량을 더하는 UPDATE를 한 번의 배치로 전송
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductReviewStatsRepository {
+
+    // 평균은 갱신 전 값 기준으로 계산해야 하므로 SET 절 맨 앞에 둠 (MySQL은 SET 절을 왼쪽부터 순서대로 적용)
+    private static final String APPLY_DELTA_SQL =
+            "UPDATE products SET " +
+            "average_rating = CASE WHEN review_count + ? > 0 " +
+            "THEN ROUND(CAST(GREATEST(total_rating + ?, 0) AS DOUBLE PRECISION) / (review_count + ?), 1) ELSE 0 END, " +
+            "review_count = GREATEST(review_count + ?, 0), " +
+            "total_rating = GREATEST(total_rating + ?, 0), " +
+            "rating_count_1 = GREATEST(COALESCE(rating_count_1, 0) + ?, 0), " +
+            "rating_count_2 = GREATEST(COALESCE(rating_count_2, 0) + ?, 0), " +
+            "rating_count_3 = GREATEST(COALESCE(rating_count_3, 0) + ?, 0), " +
+            "rating_count_4 = GREATEST(COALESCE(rating_count_4, 0) + ?, 0), " +
+            "rating_count_5 = GREATEST(COALESCE(rating_count_5, 0) + ?, 0), " +
+            "updated_at = ? " +
+            "WHERE id = ?";
+
+    private static final String OVERWRITE_SQL =
+            "UPDATE products SET review_count = ?, total_rating = ?, average_rating = ?, " +
+            "rating_count_1 = ?, rating_count_2 = ?, rating_count_3 = ?, rating_count_4 = ?, rating_count_5 = ?, " +
+            "updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 변화량 순서대로 영향받은 행 수 (0이면 상품 없음)
+     */
+    @Transactional
+    public int[] applyDeltas(List<ReviewStatDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.reviewCount());
+            ps.setLong(2, delta.totalRating());
+            ps.setLong(3, delta.reviewCount());
+            ps.setLong(4, delta.reviewCount());
+            ps.setLong(5, delta.totalRating());
+            setHistogram(ps, 6, delta.histogram());
+            ps.setTimestamp(11, now);
+            ps.setLong(12, delta.productId());
+        })[0];
+    }
+
+    /**
+     * 리뷰 원본에서 다시 집계한 값으로 덮어쓰기 (평점 동기화 배치용)
+     */
+    @Transactional
+    public int[] overwriteStats(List<ProductReviewStats> stats) {
+        if (stats.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate(OVERWRITE_SQL, stats, stats.size(), (ps, stat) -> {
+            ps.setLong(1, stat.reviewCount());
+            ps.setLong(2, stat.totalRating());
+            ps.setDouble(3, averageOf(stat));
+            setHistogram(ps, 4, stat.histogram());
+            ps.setTimestamp(9, now);
+            ps.setLong(10, stat.productId());
+        })[0];
+    }
+
+    private static void setHistogram(PreparedStatement ps, int firstIndex, RatingHistogram histogram) throws SQLException {
+        for (int star = 1; star <= 5; star++) {
+            ps.setLong(firstIndex + star - 1, histogram.countOf(star));
+        }
+    }
+
+    // Product.calculateAverageRating과 같은 규칙 (소수 첫째 자리 반올림)
+    private static double averageOf(ProductReviewStats stat) {
+        if (stat.reviewCount() <= 0) {
+            return 0.0;
+        }
+        return Math.round((double) stat.totalRating() / stat.reviewCount() * 10.0) / 10.0;
+    }
+}
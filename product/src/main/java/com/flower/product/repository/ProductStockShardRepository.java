@@ -0,0 +1,52 @@
+package com.flower.product.repository;
+
+import com.flower.product.domain.ProductStockShard;
+import com.flower.product.dto.ProductStockTotal;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 분할 재고 카운터 리포지토리
+ */
+@Repository
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShard, Long> {
+
+    long countByProductId(Long productId);
+
+    @Query("SELECT DISTINCT s.productId FROM ProductStockShard s WHERE s.productId IN :productIds")
+    List<Long> findShardedProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT new com.flower.product.dto.ProductStockTotal(s.productId, SUM(s.quantity)) " +
+           "FROM ProductStockShard s WHERE s.productId IN :productIds GROUP BY s.productId")
+    List<ProductStockTotal> sumByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 지정한 샤드에 재고가 충분할 때만 차감
+     * @return 영향받은 행 수 (0이면 해당 샤드 재고 부족)
+     */
+    @Modifying
+    @Query("UPDATE ProductStockShard s SET s.quantity = s.quantity - :quantity " +
+           "WHERE s.productId = :productId AND s.shardIndex = :shardIndex AND s.quantity >= :quantity")
+    int decreaseIfAvailable(@Param("productId") Long productId,
+                            @Param("shardIndex") int shardIndex,
+                            @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE ProductStockShard s SET s.quantity = s.quantity + :quantity " +
+           "WHERE s.productId = :productId AND s.shardIndex = :shardIndex")
+    int increase(@Param("productId") Long productId,
+                 @Param("shardIndex") int shardIndex,
+                 @Param("quantity") int quantity);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockShard s WHERE s.productId = :productId ORDER BY s.shardIndex ASC")
+    List<ProductStockShard> findAllByProductIdWithLock(@Param("productId") Long productId);
+}
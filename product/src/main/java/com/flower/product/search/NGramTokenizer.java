@@ -0,0 +1,53 @@
+package com.flower.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 상품 검색용 n-gram 토크나이저
+ * - 한글은 띄어쓰기/조사 변형이 많아 형태소 분석 대신 2-gram으로 분해 ("장미꽃다발" -> 장미, 미꽃, 꽃다, 다발)
+ * - 영문/숫자도 같은 규칙으로 분해하여 LIKE '%kw%'와 유사한 부분 일치를 지원
+ * - 글자/숫자가 아닌 문자는 구분자로 취급
+ */
+public final class NGramTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int runStart = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean inWord = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (inWord && runStart < 0) {
+                runStart = i;
+            } else if (!inWord && runStart >= 0) {
+                emitGrams(codePoints, runStart, i, tokens);
+                runStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void emitGrams(int[] codePoints, int start, int end, List<String> tokens) {
+        int length = end - start;
+        if (length < GRAM_SIZE) {
+            tokens.add(new String(codePoints, start, length));
+            return;
+        }
+        for (int i = start; i + GRAM_SIZE <= end; i++) {
+            tokens.add(new String(codePoints, i, GRAM_SIZE));
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.flower.product.search;
+
+import com.flower.product.domain.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 상품명/설명/태그에 대한 인메모리 역색인
+ * - 토큰은 NGramTokenizer로 생성하며, 필드별 가중치(상품명 > 태그 > 설명)를 누적하여 저장
+ * - 검색어의 모든 토큰을 포함하는 상품만 후보로 삼고, 가중치 x IDF 합으로 정렬
+ * - 활성 상품만 색인하며, 상품 생성/수정/삭제 커밋 후 해당 상품만 증분 갱신
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final Comparator<ScoredProduct> RANKING = Comparator
+            .comparingDouble(ScoredProduct::score).reversed()
+            .thenComparing(ScoredProduct::productId, Comparator.reverseOrder());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private Map<Long, Set<String>> termsByProduct = new HashMap<>();
+    // 재구성 중 들어온 증분 갱신 (상품별 마지막 문서, 삭제는 null) - 재구성 중이 아니면 null
+    private Map<Long, Document> pendingUpdates;
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsByProduct.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 색인 재구성 (기동 시 1회)
+     * 새 색인을 락 밖에서 만든 뒤 교체하므로, 재구성 중에도 기존 색인으로 검색 가능
+     * 스냅샷을 읽기 전부터 교체 시점까지 들어온 증분 갱신은 모아 두었다가 교체 직후 새 색인에 다시 반영
+     */
+    public void rebuild(Supplier<? extends Collection<Document>> snapshot) {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        NavigableMap<String, Map<Long, Integer>> newPostings = new TreeMap<>();
+        Map<Long, Set<String>> newTermsByProduct = new HashMap<>();
+        try {
+            for (Document document : snapshot.get()) {
+                addTo(newPostings, newTermsByProduct, document);
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            pendingUpdates.forEach((productId, document) -> {
+                removeFrom(newPostings, newTermsByProduct, productId);
+                if (document != null) {
+                    addTo(newPostings, newTermsByProduct, document);
+                }
+            });
+            replayed = pendingUpdates.size();
+            this.postings = newPostings;
+            this.termsByProduct = newTermsByProduct;
+            this.pendingUpdates = null;
+            this.ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 검색 색인 재구성 완료: 상품 수={}, 토큰 수={}, 재반영 갱신 수={}",
+                newTermsByProduct.size(), newPostings.size(), replayed);
+    }
+
+    public void index(Document document) {
+        lock.writeLock().lock();
+        try {
+            removeFrom(postings, termsByProduct, document.productId());
+            addTo(postings, termsByProduct, document);
+            if (pendingUpdates != null) {
+                pendingUpdates.put(document.productId(), document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeFrom(postings, termsByProduct, productId);
+            if (pendingUpdates != null) {
+                pendingUpdates.put(productId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 상품 색인 갱신 (비활성 상품은 색인에서 제거)
+     */
+    public void indexAfterCommit(Product product) {
+        if (product.getId() == null) {
+            return;
+        }
+        if (Boolean.TRUE.equals(product.getIsActive())) {
+            Document document = Document.from(product);
+            runAfterCommit(() -> index(document));
+        } else {
+            removeAfterCommit(product.getId());
+        }
+    }
+
+    public void removeAfterCommit(Long productId) {
+        runAfterCommit(() -> remove(productId));
+    }
+
+    public SearchPage search(String keyword, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("잘못된 페이지 요청입니다. page=" + page + ", size=" + size);
+        }
+
+        List<String> queryTerms = NGramTokenizer.tokenize(keyword).stream().distinct().toList();
+        if (queryTerms.isEmpty()) {
+            return new SearchPage(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Double>> termScores = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                Map<Long, Double> scores = scoreTerm(term);
+                if (scores.isEmpty()) {
+                    return new SearchPage(List.of(), 0);
+                }
+                termScores.add(scores);
+            }
+            termScores.sort(Comparator.comparingInt(Map::size));
+
+            int limit = (page + 1) * size;
+            PriorityQueue<ScoredProduct> topK = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            long totalHits = 0;
+
+            Map<Long, Double> smallest = termScores.get(0);
+            for (Map.Entry<Long, Double> candidate : smallest.entrySet()) {
+                double score = candidate.getValue();
+                boolean matchesAll = true;
+                for (int i = 1; i < termScores.size(); i++) {
+                    Double other = termScores.get(i).get(candidate.getKey());
+                    if (other == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    score += other;
+                }
+                if (!matchesAll) {
+                    continue;
+                }
+                totalHits++;
+                topK.offer(new ScoredProduct(candidate.getKey(), score));
+                if (topK.size() > limit) {
+                    topK.poll();
+                }
+            }
+
+            List<ScoredProduct> ranked = new ArrayList<>(topK);
+            ranked.sort(RANKING);
+            List<Long> pageIds = ranked.stream()
+                    .skip((long) page * size)
+                    .map(ScoredProduct::productId)
+                    .toList();
+            return new SearchPage(pageIds, totalHits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 토큰이 gram 크기보다 짧으면(한 글자 검색) 해당 글자로 시작하는 모든 토큰을 합산
+    private Map<Long, Double> scoreTerm(String term) {
+        Map<Long, Double> scores = new HashMap<>();
+        int documentCount = Math.max(termsByProduct.size(), 1);
+
+        Collection<Map<Long, Integer>> matched;
+        if (term.codePointCount(0, term.length()) < NGramTokenizer.GRAM_SIZE) {
+            matched = postings.subMap(term, true, term + Character.MAX_VALUE, true).values();
+        } else {
+            Map<Long, Integer> posting = postings.get(term);
+            matched = posting == null ? List.of() : List.of(posting);
+        }
+
+        for (Map<Long, Integer> posting : matched) {
+            double idf = Math.log(1.0 + (double) documentCount / posting.size());
+            posting.forEach((productId, weight) -> scores.merge(productId, weight * idf, Double::sum));
+        }
+        return scores;
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private static void addTo(NavigableMap<String, Map<Long, Integer>> postings,
+                              Map<Long, Set<String>> termsByProduct,
+                              Document document) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        accumulate(termWeights, document.name(), NAME_WEIGHT);
+        accumulate(termWeights, document.description(), DESCRIPTION_WEIGHT);
+        if (document.tags() != null) {
+            document.tags().forEach(tag -> accumulate(termWeights, tag, TAG_WEIGHT));
+        }
+
+        termWeights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.productId(), weight));
+        termsByProduct.put(document.productId(), termWeights.keySet());
+    }
+
+    private static void removeFrom(NavigableMap<String, Map<Long, Integer>> postings,
+                                   Map<Long, Set<String>> termsByProduct,
+                                   Long productId) {
+        Set<String> terms = termsByProduct.remove(productId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void accumulate(Map<String, Integer> termWeights, String text, int weight) {
+        for (String token : NGramTokenizer.tokenize(text)) {
+            termWeights.merge(token, weight, Integer::sum);
+        }
+    }
+
+    public record Document(Long productId, String name, String description, List<String> tags) {
+        public static Document from(Product product) {
+            return new Document(
+                    product.getId(),
+                    product.getName(),
+                    product.getDescription(),
+                    product.getTags() == null ? List.of() : List.copyOf(product.getTags())
+            );
+        }
+    }
+
+    public record SearchPage(List<Long> productIds, long totalHits) {
+    }
+
+    private record ScoredProduct(Long productId, double score) {
+    }
+}
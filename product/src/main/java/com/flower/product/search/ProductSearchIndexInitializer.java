@@ -0,0 +1,31 @@
+package com.flower.product.search;
+
+import com.flower.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 애플리케이션 기동 완료 시 활성 상품 전체로 검색 색인을 구성
+ * 이후 갱신은 ProductService의 생성/수정/삭제 경로에서 증분으로 반영됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexInitializer {
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndex() {
+        log.info("상품 검색 색인 구성 시작");
+        productSearchIndex.rebuild(() -> productRepository.findAllActiveWithTags().stream()
+                .map(ProductSearchIndex.Document::from)
+                .toList());
+    }
+}
@@ -0,0 +1,55 @@
+package com.flower.product.service;
+
+import com.flower.common.dto.CursorPage;
+import com.flower.product.cache.ProductCatalogCache;
+import com.flower.product.dto.ProductDto;
+import com.flower.product.dto.ProductOptionDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ProductCatalogCache를 앞단에 둔 ProductQueryService
+ * 캐시 적중 시 트랜잭션/커넥션 없이 스냅샷을 반환하고, 미스일 때만 ProductService로 위임
+ */
+@Primary
+@Service
+@RequiredArgsConstructor
+public class CachingProductQueryService implements ProductQueryService {
+
+    private final ProductService productService;
+    private final ProductCatalogCache productCatalogCache;
+
+    @Override
+    public ProductDto getProductById(Long productId) {
+        return productCatalogCache.get(productId, productService::getProductById);
+    }
+
+    @Override
+    public Map<Long, ProductDto> getProductsMapByIds(List<Long> productIds) {
+        return productCatalogCache.getAll(productIds, productService::getProductsMapByIds);
+    }
+
+    @Override
+    public boolean existsById(Long productId) {
+        return productCatalogCache.contains(productId) || productService.existsById(productId);
+    }
+
+    @Override
+    public List<ProductDto> getAllProducts() {
+        return productService.getAllProducts();
+    }
+
+    @Override
+    public CursorPage<ProductDto> getProducts(String cursor, int size) {
+        return productService.getProducts(cursor, size);
+    }
+
+    @Override
+    public List<ProductOptionDto> getOptionsByIds(List<Long> optionIds) {
+        return productService.getOptionsByIds(optionIds);
+    }
+}
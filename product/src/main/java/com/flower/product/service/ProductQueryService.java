@@ -1,5 +1,6 @@
 package com.flower.product.service;
 
+import com.flower.common.dto.CursorPage;
 import com.flower.product.dto.ProductDto;
 import com.flower.product.dto.ProductOptionDto;
 
@@ -16,5 +17,7 @@ public interface ProductQueryService {
 
     List<ProductDto> getAllProducts();
 
+    CursorPage<ProductDto> getProducts(String cursor, int size);
+
     List<ProductOptionDto> getOptionsByIds(List<Long> optionIds);
 }
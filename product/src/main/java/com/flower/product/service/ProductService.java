@@ -1,6 +1,9 @@
 package com.flower.product.service;
 
+import com.flower.common.dto.CursorPage;
 import com.flower.common.exception.EntityNotFoundException;
+import com.flower.product.cache.ProductCatalogCache;
+import com.flower.product.cache.RatingHistogramCache;
 import com.flower.product.domain.Product;
 import com.flower.product.domain.ProductAddon;
 import com.flower.product.domain.ProductCategory;
@@ -9,13 +12,23 @@ import com.flower.product.dto.*;
 import com.flower.product.repository.ProductAddonRepository;
 import com.flower.product.repository.ProductOptionRepository;
 import com.flower.product.repository.ProductRepository;
+import com.flower.product.search.ProductSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -24,9 +37,20 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ProductService implements ProductQueryService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int OPTION_LOOKUP_CHUNK_SIZE = 1000;
+
     private final ProductRepository productRepository;
     private final ProductOptionRepository productOptionRepository;
     private final ProductAddonRepository productAddonRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final RatingHistogramCache ratingHistogramCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ShardedStockService shardedStockService;
+
+    @Value("${product.stock.deduction-mode:PESSIMISTIC_LOCK}")
+    private StockDeductionMode stockDeductionMode = StockDeductionMode.PESSIMISTIC_LOCK;
 
     // --- Query Methods ---
 
@@ -49,8 +73,8 @@ public class ProductService implements ProductQueryService {
     @Override
     @Transactional(readOnly = true)
     public Map<Long, ProductDto> getProductsMapByIds(List<Long> productIds) {
-        return getByIds(productIds).stream()
-                .collect(Collectors.toMap(Product::getId, this::toDto));
+        return toDtos(productRepository.findRowsByIdIn(productIds)).stream()
+                .collect(Collectors.toMap(ProductDto::id, Function.identity()));
     }
 
     @Transactional(readOnly = true)
@@ -68,16 +92,51 @@ public class ProductService implements ProductQueryService {
     @Override
     @Transactional(readOnly = true)
     public List<ProductDto> getAllProducts() {
-        return productRepository.findAll().stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtos(productRepository.findAllRows());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ProductDto> getProducts(String cursor, int size) {
+        ProductCursor after = ProductCursor.decode(cursor);
+        int pageSize = boundPageSize(size);
+        return toCursorPage(productRepository.findPageAfter(after.createdAt(), after.id(), firstRows(pageSize)), pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ProductDto> getAvailableProducts(String cursor, int size) {
+        ProductCursor after = ProductCursor.decode(cursor);
+        int pageSize = boundPageSize(size);
+        return toCursorPage(productRepository.findAvailablePageAfter(after.createdAt(), after.id(), firstRows(pageSize)), pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ProductDto> getFeaturedProducts(String cursor, int size) {
+        ProductCursor after = ProductCursor.decode(cursor);
+        int pageSize = boundPageSize(size);
+        return toCursorPage(productRepository.findFeaturedPageAfter(after.createdAt(), after.id(), firstRows(pageSize)), pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ProductDto> getProductsByCategory(ProductCategory category, String cursor, int size) {
+        ProductCursor after = ProductCursor.decode(cursor);
+        int pageSize = boundPageSize(size);
+        List<ProductRow> fetched = productRepository.findActiveByCategoryPageAfter(
+                category, after.trending(), after.createdAt(), after.id(), firstRows(pageSize));
+        return toCursorPage(fetched, pageSize);
+    }
+
+    /**
+     * 상품 별점 분포 조회 (메모리 캐시 우선, 리뷰 테이블은 읽지 않음)
+     */
+    public RatingHistogram getRatingHistogram(Long productId) {
+        return ratingHistogramCache.get(productId, productRepository::findRatingHistogramById)
+                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다: " + productId));
     }
 
     @Transactional(readOnly = true)
     public List<ProductDto> getProductsByStoreId(Long storeId) {
-        return productRepository.findByStoreId(storeId).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtos(productRepository.findRowsByStoreId(storeId));
     }
 
     @Transactional(readOnly = true)
@@ -111,6 +170,31 @@ public class ProductService implements ProductQueryService {
         return productRepository.searchProducts(keyword);
     }
 
+    /**
+     * 역색인 기반 상품 검색 (관련도순, 페이지 단위)
+     * 기동 직후 색인 구성 전에는 LIKE 검색으로 대체
+     */
+    @Transactional(readOnly = true)
+    public ProductSearchResultDto searchProducts(String keyword, int page, int size) {
+        if (!productSearchIndex.isReady()) {
+            List<Product> matched = productRepository.searchProducts(keyword);
+            List<ProductDto> products = matched.stream()
+                    .skip((long) page * size)
+                    .limit(size)
+                    .map(this::toDto)
+                    .toList();
+            return new ProductSearchResultDto(products, matched.size(), page, size);
+        }
+
+        ProductSearchIndex.SearchPage searchPage = productSearchIndex.search(keyword, page, size);
+        Map<Long, ProductDto> productMap = getProductsMapByIds(searchPage.productIds());
+        List<ProductDto> products = searchPage.productIds().stream()
+                .map(productMap::get)
+                .filter(java.util.Objects::nonNull)
+                .toList();
+        return new ProductSearchResultDto(products, searchPage.totalHits(), page, size);
+    }
+
     @Transactional(readOnly = true)
     public List<Product> getAvailableProducts() {
         return productRepository.findAvailableProducts();
@@ -131,13 +215,18 @@ public class ProductService implements ProductQueryService {
         Product savedProduct = productRepository.save(product);
 
         saveProductOptions(request.options(), savedProduct);
+        productCatalogCache.invalidateAfterCommit(savedProduct.getId());
+        productSearchIndex.indexAfterCommit(savedProduct);
 
         return savedProduct;
     }
     
     @Transactional
     public Product createProduct(Product product) {
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        productCatalogCache.invalidateAfterCommit(savedProduct.getId());
+        productSearchIndex.indexAfterCommit(savedProduct);
+        return savedProduct;
     }
 
     @Transactional
@@ -148,12 +237,20 @@ public class ProductService implements ProductQueryService {
         
         updateProductFields(existingProduct, request);
         updateProductOptions(existingProduct, request.options());
+        // 분할 재고 상품은 샤드가 실제 재고이므로 샤드에 다시 분배
+        if (request.stockQuantity() != null) {
+            shardedStockService.resetStock(productId, request.stockQuantity());
+        }
+        productCatalogCache.invalidateAfterCommit(productId);
+        productSearchIndex.indexAfterCommit(existingProduct);
 
         return productRepository.save(existingProduct);
     }
     
     @Transactional
     public Product updateProduct(Long productId, Product product) {
+         productCatalogCache.invalidateAfterCommit(productId);
+         productSearchIndex.indexAfterCommit(product);
          return productRepository.save(product);
     }
 
@@ -163,31 +260,180 @@ public class ProductService implements ProductQueryService {
         log.info("상품 삭제 처리: {}", product.getName());
         product.setIsActive(false);
         productRepository.save(product);
+        productCatalogCache.invalidateAfterCommit(productId);
+        productSearchIndex.removeAfterCommit(productId);
     }
 
     @Transactional(readOnly = true)
     public boolean checkStock(Long productId, int quantity) {
         Product product = findProductById(productId);
+        Integer shardedStock = shardedStockService.totals(List.of(productId)).get(productId);
+        if (shardedStock != null) {
+            return shardedStock >= quantity;
+        }
         return product.hasSufficientStock(quantity);
     }
 
     @Transactional
     public void decreaseStock(Long productId, int quantity) {
+        if (shardedStockService.isSharded(productId)) {
+            shardedStockService.decrease(productId, quantity);
+            productCatalogCache.invalidateAfterCommit(productId);
+            log.info("상품 재고 감소(분할 재고): 상품ID {} - 수량: {}", productId, quantity);
+            return;
+        }
+        if (stockDeductionMode == StockDeductionMode.CONDITIONAL_UPDATE) {
+            decreaseStockConditionally(productId, quantity);
+            return;
+        }
+
         Product product = productRepository.findByIdWithLock(productId)
                 .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다: " + productId));
         
         product.decreaseStock(quantity);
         productRepository.save(product);
+        productCatalogCache.invalidateAfterCommit(productId);
         
         log.info("상품 재고 감소: {} - 수량: {}, 남은재고: {}",
                 product.getName(), quantity, product.getStockQuantity());
     }
 
+    /**
+     * 행 락 없이 단일 조건부 UPDATE로 차감
+     * 락 대기 없이 DB가 원자적으로 재고 검사와 차감을 수행하므로, 인기 상품 주문이 트랜잭션 단위로 직렬화되지 않음
+     */
+    private void decreaseStockConditionally(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("차감 수량은 1 이상이어야 합니다: " + quantity);
+        }
+
+        int updated = productRepository.decreaseStockIfAvailable(productId, quantity, LocalDateTime.now());
+        if (updated == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new EntityNotFoundException("상품을 찾을 수 없습니다: " + productId);
+            }
+            throw new IllegalStateException("재고가 부족합니다. 상품ID: " + productId + ", 요청수량: " + quantity);
+        }
+        productCatalogCache.invalidateAfterCommit(productId);
+
+        log.info("상품 재고 감소(조건부 갱신): 상품ID {} - 수량: {}", productId, quantity);
+    }
+
+    /**
+     * 여러 상품 재고를 하나의 트랜잭션으로 일괄 차감 (하나라도 실패하면 전체 롤백)
+     * 상품 ID 오름차순으로 락을 잡아, 같은 상품을 다른 순서로 담은 주문끼리도 교착 상태가 생기지 않음
+     *
+     * @param quantitiesByProductId 상품 ID별 차감 수량
+     */
+    @Transactional
+    public void decreaseStocks(Map<Long, Integer> quantitiesByProductId) {
+        decreaseStocks(quantitiesByProductId, Map.of());
+    }
+
+    /**
+     * 상품 재고와 옵션 재고를 하나의 트랜잭션으로 일괄 차감
+     * 락 순서는 항상 상품(ID 오름차순) → 옵션(ID 오름차순)으로 고정
+     * 옵션은 주문 상품에 속하므로 캐시 무효화는 상품 단위 무효화로 함께 처리됨
+     *
+     * @param quantitiesByProductId 상품 ID별 차감 수량
+     * @param quantitiesByOptionId  옵션 ID별 차감 수량 (재고를 관리하지 않는 옵션은 무시)
+     */
+    @Transactional
+    public void decreaseStocks(Map<Long, Integer> quantitiesByProductId, Map<Long, Integer> quantitiesByOptionId) {
+        if (quantitiesByProductId.isEmpty() && quantitiesByOptionId.isEmpty()) {
+            return;
+        }
+        SortedMap<Long, Integer> sorted = new TreeMap<>(quantitiesByProductId);
+        SortedMap<Long, Integer> sharded = extractSharded(sorted);
+
+        if (stockDeductionMode == StockDeductionMode.CONDITIONAL_UPDATE) {
+            sorted.forEach(this::decreaseStockConditionally);
+        } else if (!sorted.isEmpty()) {
+            for (Product product : lockAll(sorted.keySet())) {
+                product.decreaseStock(sorted.get(product.getId()));
+                productCatalogCache.invalidateAfterCommit(product.getId());
+            }
+        }
+        sharded.forEach((productId, quantity) -> {
+            shardedStockService.decrease(productId, quantity);
+            productCatalogCache.invalidateAfterCommit(productId);
+        });
+        decreaseOptionStocks(new TreeMap<>(quantitiesByOptionId));
+        log.info("상품 재고 일괄 감소: {}, 분할 재고: {}, 옵션: {}", sorted, sharded, quantitiesByOptionId);
+    }
+
+    private void decreaseOptionStocks(SortedMap<Long, Integer> quantitiesByOptionId) {
+        if (quantitiesByOptionId.isEmpty()) {
+            return;
+        }
+        if (stockDeductionMode == StockDeductionMode.CONDITIONAL_UPDATE) {
+            quantitiesByOptionId.forEach((optionId, quantity) -> {
+                if (productOptionRepository.decreaseStockIfAvailable(optionId, quantity) == 0) {
+                    if (!productOptionRepository.existsById(optionId)) {
+                        throw new EntityNotFoundException("상품 옵션을 찾을 수 없습니다: " + optionId);
+                    }
+                    throw new IllegalStateException("옵션 재고가 부족합니다. 옵션ID: " + optionId + ", 요청수량: " + quantity);
+                }
+            });
+            return;
+        }
+        for (ProductOption option : lockAllOptions(quantitiesByOptionId.keySet())) {
+            option.decreaseStock(quantitiesByOptionId.get(option.getId()));
+        }
+    }
+
+    /**
+     * 여러 상품 재고를 하나의 트랜잭션으로 일괄 복구 (락 순서는 decreaseStocks와 동일)
+     *
+     * @param quantitiesByProductId 상품 ID별 복구 수량
+     */
+    @Transactional
+    public void increaseStocks(Map<Long, Integer> quantitiesByProductId) {
+        increaseStocks(quantitiesByProductId, Map.of());
+    }
+
+    /**
+     * 상품 재고와 옵션 재고를 하나의 트랜잭션으로 일괄 복구 (락 순서는 decreaseStocks와 동일)
+     */
+    @Transactional
+    public void increaseStocks(Map<Long, Integer> quantitiesByProductId, Map<Long, Integer> quantitiesByOptionId) {
+        if (quantitiesByProductId.isEmpty() && quantitiesByOptionId.isEmpty()) {
+            return;
+        }
+        SortedMap<Long, Integer> sorted = new TreeMap<>(quantitiesByProductId);
+        SortedMap<Long, Integer> sharded = extractSharded(sorted);
+
+        if (!sorted.isEmpty()) {
+            for (Product product : lockAll(sorted.keySet())) {
+                product.increaseStock(sorted.get(product.getId()));
+                productCatalogCache.invalidateAfterCommit(product.getId());
+            }
+        }
+        sharded.forEach((productId, quantity) -> {
+            shardedStockService.increase(productId, quantity);
+            productCatalogCache.invalidateAfterCommit(productId);
+        });
+        if (!quantitiesByOptionId.isEmpty()) {
+            SortedMap<Long, Integer> options = new TreeMap<>(quantitiesByOptionId);
+            for (ProductOption option : lockAllOptions(options.keySet())) {
+                option.increaseStock(options.get(option.getId()));
+            }
+        }
+        log.info("상품 재고 일괄 증가: {}, 분할 재고: {}, 옵션: {}", sorted, sharded, quantitiesByOptionId);
+    }
+
     @Transactional
     public void increaseStock(Long productId, int quantity) {
+        if (shardedStockService.isSharded(productId)) {
+            shardedStockService.increase(productId, quantity);
+            productCatalogCache.invalidateAfterCommit(productId);
+            log.info("상품 재고 증가(분할 재고): 상품ID {} - 수량: {}", productId, quantity);
+            return;
+        }
         Product product = findProductById(productId);
         product.increaseStock(quantity);
         productRepository.save(product);
+        productCatalogCache.invalidateAfterCommit(productId);
         log.info("상품 재고 증가: {} - 수량: {}, 남은재고: {}",
                 product.getName(), quantity, product.getStockQuantity());
     }
@@ -228,7 +474,11 @@ public class ProductService implements ProductQueryService {
     @Transactional
     public ProductOption createProductOption(ProductOption option) {
         log.info("신규 상품 옵션 생성: {}", option.getOptionValue());
-        return productOptionRepository.save(option);
+        ProductOption savedOption = productOptionRepository.save(option);
+        if (option.getProduct() != null) {
+            productCatalogCache.invalidateAfterCommit(option.getProduct().getId());
+        }
+        return savedOption;
     }
 
     @Transactional
@@ -239,6 +489,82 @@ public class ProductService implements ProductQueryService {
 
     // --- Private Helper Methods ---
 
+    private int boundPageSize(int size) {
+        if (size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // 다음 페이지 존재 여부 판단을 위해 1건 더 조회
+    private PageRequest firstRows(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    private CursorPage<ProductDto> toCursorPage(List<ProductRow> fetched, int pageSize) {
+        return CursorPage.ofBatch(fetched, pageSize, row -> ProductCursor.of(row).encode(), this::toDtos);
+    }
+
+    /**
+     * 프로젝션 행 목록을 DTO로 변환
+     * 옵션은 상품별 지연 로딩(N+1) 대신 IN 절로 묶어 한 번에 조회한 뒤 상품 ID로 그룹핑
+     */
+    private List<ProductDto> toDtos(List<ProductRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> productIds = rows.stream().map(ProductRow::id).toList();
+        Map<Long, List<ProductOptionDto>> optionsByProduct = findOptionsByProductIds(productIds);
+        Map<Long, Integer> shardedStocks = shardedStockService.totals(productIds);
+        return rows.stream()
+                .map(row -> row.toDto(
+                        optionsByProduct.getOrDefault(row.id(), List.of()),
+                        shardedStocks.getOrDefault(row.id(), row.stockQuantity())))
+                .toList();
+    }
+
+    // DB별 IN 절 파라미터 제한을 넘지 않도록 나누어 조회
+    private Map<Long, List<ProductOptionDto>> findOptionsByProductIds(List<Long> productIds) {
+        Map<Long, List<ProductOptionDto>> optionsByProduct = new HashMap<>();
+        for (int from = 0; from < productIds.size(); from += OPTION_LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + OPTION_LOOKUP_CHUNK_SIZE, productIds.size()));
+            for (ProductOptionRow option : productOptionRepository.findRowsByProductIdIn(chunk)) {
+                optionsByProduct.computeIfAbsent(option.productId(), id -> new ArrayList<>()).add(option.toDto());
+            }
+        }
+        return optionsByProduct;
+    }
+
+    // 분할 재고 상품을 떼어내 별도 맵으로 반환 (원본 맵에서는 제거)
+    private SortedMap<Long, Integer> extractSharded(SortedMap<Long, Integer> quantities) {
+        SortedMap<Long, Integer> sharded = new TreeMap<>();
+        for (Long productId : shardedStockService.findSharded(quantities.keySet())) {
+            sharded.put(productId, quantities.remove(productId));
+        }
+        return sharded;
+    }
+
+    // 변경 내용은 커밋 시 더티 체킹으로 반영되며, hibernate.jdbc.batch_size 설정 시 하나의 배치로 전송됨
+    private List<Product> lockAll(Collection<Long> productIds) {
+        List<Product> products = productRepository.findAllByIdInWithLock(productIds);
+        if (products.size() != productIds.size()) {
+            Set<Long> found = products.stream().map(Product::getId).collect(Collectors.toSet());
+            Long missing = productIds.stream().filter(id -> !found.contains(id)).findFirst().orElse(null);
+            throw new EntityNotFoundException("상품을 찾을 수 없습니다: " + missing);
+        }
+        return products;
+    }
+
+    private List<ProductOption> lockAllOptions(Collection<Long> optionIds) {
+        List<ProductOption> options = productOptionRepository.findAllByIdInWithLock(optionIds);
+        if (options.size() != optionIds.size()) {
+            Set<Long> found = options.stream().map(ProductOption::getId).collect(Collectors.toSet());
+            Long missing = optionIds.stream().filter(id -> !found.contains(id)).findFirst().orElse(null);
+            throw new EntityNotFoundException("상품 옵션을 찾을 수 없습니다: " + missing);
+        }
+        return options;
+    }
+
     private Product findProductById(Long productId) {
         return productRepository.findById(productId)
                 .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다: " + productId));
@@ -310,7 +636,10 @@ public class ProductService implements ProductQueryService {
     private ProductDto toDto(Product product) {
         List<ProductOptionDto> optionDtos = product.getOptions().stream()
                 .map(this::toOptionDto)
-                .collect(Collectors.toList());
+                .toList();
+        // 분할 재고 상품은 샤드 합계가 실제 재고
+        Integer stockQuantity = product.getId() == null ? product.getStockQuantity()
+                : shardedStockService.totals(List.of(product.getId())).getOrDefault(product.getId(), product.getStockQuantity());
 
         return new ProductDto(
             product.getId(),
@@ -318,7 +647,7 @@ public class ProductService implements ProductQueryService {
             product.getName(),
             product.getEffectivePrice(),
             product.getDiscountPrice(),
-            product.getStockQuantity(),
+            stockQuantity,
             product.getDescription(),
             product.getThumbnailUrl(),
             product.getIsActive(),
@@ -337,7 +666,8 @@ public class ProductService implements ProductQueryService {
                 opt.getId(),
                 opt.getName(),
                 opt.getOptionValue(),
-                opt.getPriceAdjustment()
+                opt.getPriceAdjustment(),
+                opt.getStockQuantity()
         );
     }
 }
@@ -0,0 +1,184 @@
+package com.flower.product.service;
+
+import com.flower.product.cache.ProductCatalogCache;
+import com.flower.product.cache.RatingHistogramCache;
+import com.flower.product.dto.RatingHistogram;
+import com.flower.product.dto.ReviewStatDelta;
+import com.flower.product.repository.ProductReviewStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 리뷰 통계 변화량 합산기
+ * - 리뷰 이벤트마다 상품 행을 읽고 고치는 대신, 상품별 변화량(리뷰 수, 평점 합계, 별점 분포)을 스트라이프로 나눈 메모리 누적기에 더해 둠
+ * - 일정 주기(review.stats.flush-interval-ms) 또는 누적 이벤트 수(review.stats.flush-threshold)에 도달하면
+ *   상품당 한 줄의 UPDATE로 모아 JDBC 배치 한 번에 반영
+ * - 반영에 실패한 변화량은 다시 누적기에 되돌려 다음 주기에 재시도
+ *
+ * 주의: 반영 전 변화량은 메모리에만 있으므로 비정상 종료 시 유실될 수 있음 (ProductRatingSyncJob이 리뷰 원본으로 보정)
+ */
+@Slf4j
+@Component
+public class ReviewStatsAggregator {
+
+    private static final int STRIPES = 64;
+
+    private final ProductReviewStatsRepository productReviewStatsRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final RatingHistogramCache ratingHistogramCache;
+    private final int flushThreshold;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ReviewStatsAggregator(ProductReviewStatsRepository productReviewStatsRepository,
+                                 ProductCatalogCache productCatalogCache,
+                                 RatingHistogramCache ratingHistogramCache,
+                                 @Value("${review.stats.flush-threshold:500}") int flushThreshold) {
+        this.productReviewStatsRepository = productReviewStatsRepository;
+        this.productCatalogCache = productCatalogCache;
+        this.ratingHistogramCache = ratingHistogramCache;
+        this.flushThreshold = flushThreshold;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 리뷰 작성 반영
+     */
+    public void addRating(Long productId, int rating) {
+        record(productId, 1, rating, RatingHistogram.ofRating(rating));
+    }
+
+    /**
+     * 리뷰 별점 수정 반영
+     */
+    public void changeRating(Long productId, int oldRating, int newRating) {
+        record(productId, 0, (long) newRating - oldRating,
+                RatingHistogram.ofRating(newRating).minus(RatingHistogram.ofRating(oldRating)));
+    }
+
+    /**
+     * 리뷰 삭제 반영
+     */
+    public void removeRating(Long productId, int rating) {
+        record(productId, -1, -rating, RatingHistogram.EMPTY.minus(RatingHistogram.ofRating(rating)));
+    }
+
+    /**
+     * 상품 리뷰 통계 변화량 누적 (누적 이벤트 수가 임계치에 닿으면 호출 스레드에서 바로 반영)
+     * 반영 실패는 여기서 삼킴 - 변화량은 이미 누적기에 되돌려졌으므로 호출 측 이벤트가 재전달되면 이중 집계됨
+     */
+    public void record(Long productId, long reviewCountDelta, long totalRatingDelta, RatingHistogram histogramDelta) {
+        stripeOf(productId).add(productId, reviewCountDelta, totalRatingDelta, histogramDelta);
+        if (pendingEvents.incrementAndGet() >= flushThreshold) {
+            scheduledFlush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${review.stats.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("리뷰 통계 반영 실패, 다음 주기에 재시도: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 누적된 변화량을 일괄 반영 (다른 스레드가 반영 중이면 건너뜀)
+     *
+     * @return 반영한 상품 수
+     */
+    public int flush() {
+        if (!flushLock.tryLock()) {
+            return 0;
+        }
+        try {
+            pendingEvents.set(0);
+            List<ReviewStatDelta> deltas = new ArrayList<>();
+            for (Stripe stripe : stripes) {
+                stripe.drainTo(deltas);
+            }
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+
+            int[] updated;
+            try {
+                updated = productReviewStatsRepository.applyDeltas(deltas);
+            } catch (RuntimeException e) {
+                deltas.forEach(delta -> stripeOf(delta.productId())
+                        .add(delta.productId(), delta.reviewCount(), delta.totalRating(), delta.histogram()));
+                throw e;
+            }
+
+            for (int i = 0; i < deltas.size(); i++) {
+                Long productId = deltas.get(i).productId();
+                if (updated[i] == 0) {
+                    log.error("상품을 찾을 수 없어 평점 갱신 실패: ProductId={}", productId);
+                }
+                productCatalogCache.invalidate(productId);
+                ratingHistogramCache.invalidate(productId);
+            }
+            log.debug("리뷰 통계 반영 완료: 상품 {}건", deltas.size());
+            return deltas.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 반영이 끝나기를 기다린 뒤 남은 변화량 반영
+        flushLock.lock();
+        flushLock.unlock();
+        flush();
+    }
+
+    // --- Private Helper Methods ---
+
+    private Stripe stripeOf(Long productId) {
+        return stripes[Math.floorMod(Long.hashCode(productId), STRIPES)];
+    }
+
+    // 상품별 누적 값: [리뷰 수, 평점 합계, 1점 수, 2점 수, 3점 수, 4점 수, 5점 수]
+    private static final class Stripe {
+        private Map<Long, long[]> deltas = new HashMap<>();
+
+        synchronized void add(Long productId, long reviewCountDelta, long totalRatingDelta, RatingHistogram histogramDelta) {
+            long[] delta = deltas.computeIfAbsent(productId, id -> new long[7]);
+            delta[0] += reviewCountDelta;
+            delta[1] += totalRatingDelta;
+            for (int star = 1; star <= 5; star++) {
+                delta[star + 1] += histogramDelta.countOf(star);
+            }
+        }
+
+        void drainTo(List<ReviewStatDelta> target) {
+            Map<Long, long[]> drained;
+            synchronized (this) {
+                drained = deltas;
+                deltas = new HashMap<>();
+            }
+            drained.forEach((productId, delta) -> {
+                RatingHistogram histogram = new RatingHistogram(delta[2], delta[3], delta[4], delta[5], delta[6]);
+                if (delta[0] != 0 || delta[1] != 0 || !histogram.isZero()) {
+                    target.add(new ReviewStatDelta(productId, delta[0], delta[1], histogram));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.flower.product.service;
+
+import com.flower.common.exception.EntityNotFoundException;
+import com.flower.product.cache.ProductCatalogCache;
+import com.flower.product.domain.Product;
+import com.flower.product.domain.ProductStockShard;
+import com.flower.product.dto.ProductStockTotal;
+import com.flower.product.repository.ProductRepository;
+import com.flower.product.repository.ProductStockShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 타임세일 상품용 분할 재고
+ * - 상품 재고를 N개 샤드 행으로 나누고, 차감 시 임의의 샤드부터 조건부 UPDATE를 시도하여 행 락 경합을 분산
+ * - 모든 샤드가 요청 수량보다 적으면 샤드 전체를 잠그고 합계를 다시 균등 분배(리밸런싱)한 뒤 차감
+ * - 샤드 사용 중 상품의 정확한 재고는 샤드 합계이며, products.stock_quantity는 리밸런싱/재설정/해제 시점에만 동기화됨
+ *   (재고 유무 필터는 ProductRepository.IN_STOCK으로 샤드 재고를 직접 확인)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShardedStockService {
+
+    public static final int MIN_SHARDS = 2;
+    public static final int MAX_SHARDS = 64;
+
+    private final ProductStockShardRepository stockShardRepository;
+    private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
+
+    /**
+     * 상품 재고를 샤드로 분할 (현재 재고를 균등 분배)
+     */
+    @Transactional
+    public void enableSharding(Long productId, int shardCount) {
+        if (shardCount < MIN_SHARDS || shardCount > MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드 수는 " + MIN_SHARDS + "~" + MAX_SHARDS + " 사이여야 합니다: " + shardCount);
+        }
+        Product product = productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다: " + productId));
+        if (stockShardRepository.countByProductId(productId) > 0) {
+            throw new IllegalStateException("이미 분할 재고가 적용된 상품입니다: " + productId);
+        }
+
+        int[] quantities = distribute(product.getStockQuantity(), shardCount);
+        List<ProductStockShard> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(ProductStockShard.builder()
+                    .productId(productId)
+                    .shardIndex(i)
+                    .quantity(quantities[i])
+                    .build());
+        }
+        stockShardRepository.saveAll(shards);
+        productCatalogCache.invalidateAfterCommit(productId);
+        log.info("분할 재고 적용: 상품ID={}, 샤드 수={}, 재고={}", productId, shardCount, product.getStockQuantity());
+    }
+
+    /**
+     * 샤드 재고를 합산하여 상품 재고로 되돌리고 샤드를 제거
+     */
+    @Transactional
+    public void disableSharding(Long productId) {
+        List<ProductStockShard> shards = stockShardRepository.findAllByProductIdWithLock(productId);
+        if (shards.isEmpty()) {
+            return;
+        }
+        int total = sum(shards);
+        productRepository.updateStockQuantity(productId, total, LocalDateTime.now());
+        stockShardRepository.deleteAllInBatch(shards);
+        productCatalogCache.invalidateAfterCommit(productId);
+        log.info("분할 재고 해제: 상품ID={}, 재고={}", productId, total);
+    }
+
+    /**
+     * 관리자가 지정한 재고로 샤드를 다시 균등 분배 (상품 재고도 같은 값으로 동기화)
+     * @return 분할 재고 상품이 아니면 false
+     */
+    @Transactional
+    public boolean resetStock(Long productId, int quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("재고는 0 이상이어야 합니다: " + quantity);
+        }
+        List<ProductStockShard> shards = stockShardRepository.findAllByProductIdWithLock(productId);
+        if (shards.isEmpty()) {
+            return false;
+        }
+        int[] quantities = distribute(quantity, shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            shards.get(i).setQuantity(quantities[i]);
+        }
+        productRepository.updateStockQuantity(productId, quantity, LocalDateTime.now());
+        log.info("분할 재고 재설정: 상품ID={}, 샤드 수={}, 재고={}", productId, shards.size(), quantity);
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isSharded(Long productId) {
+        return stockShardRepository.countByProductId(productId) > 0;
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Long> findSharded(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(stockShardRepository.findShardedProductIds(productIds));
+    }
+
+    /**
+     * 샤드 재고 합계 (샤드가 없는 상품은 결과에 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> totals(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return stockShardRepository.sumByProductIds(productIds).stream()
+                .collect(Collectors.toMap(ProductStockTotal::productId, total -> total.quantity().intValue()));
+    }
+
+    @Transactional
+    public void decrease(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("차감 수량은 1 이상이어야 합니다: " + quantity);
+        }
+        int shardCount = (int) stockShardRepository.countByProductId(productId);
+        if (shardCount == 0) {
+            throw new IllegalStateException("분할 재고가 적용되지 않은 상품입니다: " + productId);
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            if (stockShardRepository.decreaseIfAvailable(productId, (start + i) % shardCount, quantity) > 0) {
+                return;
+            }
+        }
+        rebalanceAndDecrease(productId, quantity);
+    }
+
+    @Transactional
+    public void increase(Long productId, int quantity) {
+        int shardCount = (int) stockShardRepository.countByProductId(productId);
+        if (shardCount == 0) {
+            throw new IllegalStateException("분할 재고가 적용되지 않은 상품입니다: " + productId);
+        }
+        stockShardRepository.increase(productId, ThreadLocalRandom.current().nextInt(shardCount), quantity);
+    }
+
+    // 개별 샤드로는 부족할 때만 진입하므로 전체 락 비용은 재고 소진 직전에만 발생
+    private void rebalanceAndDecrease(Long productId, int quantity) {
+        List<ProductStockShard> shards = stockShardRepository.findAllByProductIdWithLock(productId);
+        int total = sum(shards);
+        if (total < quantity) {
+            throw new IllegalStateException("재고가 부족합니다. 현재재고: " + total + ", 요청수량: " + quantity);
+        }
+
+        int remaining = total - quantity;
+        int[] quantities = distribute(remaining, shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            shards.get(i).setQuantity(quantities[i]);
+        }
+        productRepository.updateStockQuantity(productId, remaining, LocalDateTime.now());
+        log.info("분할 재고 리밸런싱: 상품ID={}, 샤드 수={}, 남은재고={}", productId, shards.size(), remaining);
+    }
+
+    private static int sum(List<ProductStockShard> shards) {
+        return shards.stream().mapToInt(ProductStockShard::getQuantity).sum();
+    }
+
+    private static int[] distribute(int total, int shardCount) {
+        int[] quantities = new int[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            quantities[i] = total / shardCount + (i < total % shardCount ? 1 : 0);
+        }
+        return quantities;
+    }
+}
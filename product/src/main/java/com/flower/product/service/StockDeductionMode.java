@@ -0,0 +1,16 @@
+package com.flower.product.service;
+
+/**
+ * 재고 차감 방식 (product.stock.deduction-mode)
+ */
+public enum StockDeductionMode {
+    /**
+     * SELECT ... FOR UPDATE로 행 락을 잡고 엔티티를 수정 (트랜잭션 종료까지 락 유지)
+     */
+    PESSIMISTIC_LOCK,
+
+    /**
+     * UPDATE ... WHERE stock >= :quantity 단일 조건부 갱신 (영향 행 수로 재고 부족 판단)
+     */
+    CONDITIONAL_UPDATE
+}
@@ -0,0 +1,112 @@
+package com.flower.product.cache;
+
+import com.flower.product.domain.Product.DeliveryType;
+import com.flower.product.domain.ProductCategory;
+import com.flower.product.dto.ProductDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductCatalogCache Tests")
+class ProductCatalogCacheTest {
+
+    @Test
+    @DisplayName("두 번째 조회부터는 로더를 호출하지 않고 스냅샷을 반환한다")
+    void should_returnSnapshot_when_cached() {
+        // given
+        ProductCatalogCache cache = new ProductCatalogCache(100);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        cache.get(1L, id -> { loadCount.incrementAndGet(); return product(id, 10); });
+        ProductDto result = cache.get(1L, id -> { loadCount.incrementAndGet(); return product(id, 10); });
+
+        // then
+        assertThat(result.id()).isEqualTo(1L);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 로더로 최신 스냅샷을 읽는다")
+    void should_reload_when_invalidated() {
+        // given
+        ProductCatalogCache cache = new ProductCatalogCache(100);
+        cache.get(1L, id -> product(id, 10));
+
+        // when
+        cache.invalidateAfterCommit(1L);
+        ProductDto result = cache.get(1L, id -> product(id, 7));
+
+        // then
+        assertThat(result.stockQuantity()).isEqualTo(7);
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로딩 도중 무효화되면 로딩 결과를 캐시에 적재하지 않는다")
+    void should_notStoreStaleSnapshot_when_invalidatedDuringLoad() {
+        // given
+        ProductCatalogCache cache = new ProductCatalogCache(100);
+
+        // when
+        cache.get(1L, id -> {
+            ProductDto stale = product(id, 10);
+            cache.invalidate(id);
+            return stale;
+        });
+
+        // then
+        assertThat(cache.contains(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다건 조회 시 캐시에 없는 상품만 로더로 조회한다")
+    void should_loadOnlyMissingIds_when_getAll() {
+        // given
+        ProductCatalogCache cache = new ProductCatalogCache(100);
+        cache.get(1L, id -> product(id, 10));
+
+        // when
+        Map<Long, ProductDto> result = cache.getAll(List.of(1L, 2L, 3L), ids -> {
+            assertThat(ids).containsExactlyInAnyOrder(2L, 3L);
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> product(id, 5)));
+        });
+
+        // then
+        assertThat(result).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 스냅샷을 축출하고 축출 횟수를 기록한다")
+    void should_evict_when_oversized() {
+        // given
+        ProductCatalogCache cache = new ProductCatalogCache(2);
+
+        // when
+        for (long id = 1; id <= 5; id++) {
+            cache.get(id, productId -> product(productId, 1));
+        }
+
+        // then
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.stats().evictions()).isEqualTo(3);
+    }
+
+    private ProductDto product(Long id, int stock) {
+        return new ProductDto(
+                id, 100L, "장미 꽃다발", BigDecimal.valueOf(50000), null, stock,
+                "설명", null, true, false, List.of(),
+                ProductCategory.FLOWER_BOUQUET, DeliveryType.PARCEL, 0L, 0L, 0.0
+        );
+    }
+}
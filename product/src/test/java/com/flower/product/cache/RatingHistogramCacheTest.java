@@ -0,0 +1,76 @@
+package com.flower.product.cache;
+
+import com.flower.product.dto.RatingHistogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RatingHistogramCache Tests")
+class RatingHistogramCacheTest {
+
+    @Test
+    @DisplayName("두 번째 조회부터는 로더를 호출하지 않고 메모리의 분포를 반환한다")
+    void should_returnCachedHistogram() {
+        // given
+        RatingHistogramCache cache = new RatingHistogramCache(100, 600);
+        AtomicInteger loadCount = new AtomicInteger();
+        RatingHistogram histogram = new RatingHistogram(1, 0, 2, 5, 10);
+
+        // when
+        cache.get(1L, id -> { loadCount.incrementAndGet(); return Optional.of(histogram); });
+        Optional<RatingHistogram> result = cache.get(1L, id -> { loadCount.incrementAndGet(); return Optional.of(histogram); });
+
+        // then
+        assertThat(result).contains(histogram);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 로더로 최신 분포를 읽는다")
+    void should_reload_when_invalidated() {
+        // given
+        RatingHistogramCache cache = new RatingHistogramCache(100, 600);
+        cache.get(1L, id -> Optional.of(RatingHistogram.EMPTY));
+
+        // when
+        cache.invalidate(1L);
+        Optional<RatingHistogram> result = cache.get(1L, id -> Optional.of(RatingHistogram.ofRating(4)));
+
+        // then
+        assertThat(result).contains(new RatingHistogram(0, 0, 0, 1, 0));
+    }
+
+    @Test
+    @DisplayName("로딩 도중 무효화되면 로딩 결과를 캐시에 적재하지 않는다")
+    void should_notStoreStaleHistogram_when_invalidatedDuringLoad() {
+        // given
+        RatingHistogramCache cache = new RatingHistogramCache(100, 600);
+
+        // when
+        cache.get(1L, id -> {
+            cache.invalidate(id);
+            return Optional.of(RatingHistogram.EMPTY);
+        });
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 상품은 캐시하지 않는다")
+    void should_notCacheMissingProduct() {
+        // given
+        RatingHistogramCache cache = new RatingHistogramCache(100, 600);
+
+        // when
+        Optional<RatingHistogram> result = cache.get(99L, id -> Optional.empty());
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package com.flower.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductSearchIndex Tests")
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.rebuild(() -> List.of(
+                new ProductSearchIndex.Document(1L, "빨간 장미 꽃다발", "기념일 선물", List.of("장미", "기념일")),
+                new ProductSearchIndex.Document(2L, "튤립 꽃다발", "봄 분위기의 장미색 튤립", List.of("튤립")),
+                new ProductSearchIndex.Document(3L, "개업 화분", "사무실 개업 축하", List.of("개업"))
+        ));
+    }
+
+    @Test
+    @DisplayName("한글 검색어는 2-gram으로 분해된다")
+    void should_tokenizeHangulIntoBigrams() {
+        assertThat(NGramTokenizer.tokenize("장미꽃다발")).containsExactly("장미", "미꽃", "꽃다", "다발");
+        assertThat(NGramTokenizer.tokenize("Red 장미!")).containsExactly("re", "ed", "장미");
+    }
+
+    @Test
+    @DisplayName("상품명에 일치하는 상품이 설명에만 일치하는 상품보다 먼저 노출된다")
+    void should_rankNameMatchFirst() {
+        ProductSearchIndex.SearchPage result = index.search("장미", 0, 10);
+
+        assertThat(result.productIds()).containsExactly(1L, 2L);
+        assertThat(result.totalHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함하는 상품만 반환한다")
+    void should_requireAllTokens() {
+        ProductSearchIndex.SearchPage result = index.search("장미 튤립", 0, 10);
+
+        assertThat(result.productIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("페이지 단위로 결과를 나누어 반환한다")
+    void should_paginate() {
+        ProductSearchIndex.SearchPage secondPage = index.search("꽃다발", 1, 1);
+
+        assertThat(secondPage.productIds()).hasSize(1);
+        assertThat(secondPage.totalHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("수정/삭제 시 해당 상품의 색인만 갱신된다")
+    void should_updateIncrementally() {
+        index.index(new ProductSearchIndex.Document(3L, "장미 화분", "개업 축하", List.of()));
+        assertThat(index.search("장미", 0, 10).productIds()).contains(3L);
+
+        index.remove(1L);
+        assertThat(index.search("장미", 0, 10).productIds()).doesNotContain(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재구성 중 들어온 수정/삭제는 새 색인에 다시 반영된다")
+    void should_replayUpdatesMadeDuringRebuild() {
+        index.rebuild(() -> {
+            // 스냅샷을 읽은 뒤 교체 전에 커밋된 수정/삭제
+            List<ProductSearchIndex.Document> snapshot = List.of(
+                    new ProductSearchIndex.Document(1L, "빨간 장미 꽃다발", "기념일 선물", List.of("장미")),
+                    new ProductSearchIndex.Document(3L, "개업 화분", "사무실 개업 축하", List.of("개업")));
+            index.index(new ProductSearchIndex.Document(3L, "장미 화분", "개업 축하", List.of()));
+            index.remove(1L);
+            return snapshot;
+        });
+
+        assertThat(index.search("장미", 0, 10).productIds()).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 해당 글자로 시작하는 토큰과 일치한다")
+    void should_matchSingleCharacterByPrefix() {
+        assertThat(index.search("튤", 0, 10).productIds()).containsExactly(2L);
+    }
+}
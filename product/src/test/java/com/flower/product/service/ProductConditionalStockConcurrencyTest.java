@@ -0,0 +1,107 @@
+package com.flower.product.service;
+
+import com.flower.product.domain.Product;
+import com.flower.product.domain.ProductCategory;
+import com.flower.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(
+        classes = com.flower.product.TestProductApplication.class,
+        properties = "product.stock.deduction-mode=CONDITIONAL_UPDATE"
+)
+class ProductConditionalStockConcurrencyTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.builder()
+                .name("테스트 튤립")
+                .productCode("TEST-TULIP")
+                .description("조건부 차감 동시성 테스트용")
+                .price(BigDecimal.valueOf(10000))
+                .stockQuantity(10)
+                .category(ProductCategory.FLOWER_BOUQUET)
+                .deliveryType(Product.DeliveryType.PARCEL)
+                .isActive(true)
+                .build();
+        productId = productRepository.save(product).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드에서 재고보다 많은 동시 주문이 들어와도 초과 판매되지 않는다")
+    void decreaseStock_ConditionalUpdate_NoOverselling() throws InterruptedException {
+        // given
+        int initialStock = 10;
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    productService.decreaseStock(productId, 1);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // then
+        Product product = productRepository.findById(productId).orElseThrow();
+
+        assertThat(product.getStockQuantity()).isEqualTo(0);
+        assertThat(successCount.get()).isEqualTo(initialStock);
+        assertThat(failCount.get()).isEqualTo(threadCount - initialStock);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드에서 요청 수량이 남은 재고보다 많으면 재고는 변하지 않는다")
+    void decreaseStock_ConditionalUpdate_RejectsLargerQuantity() {
+        // when & then
+        assertThrows(IllegalStateException.class, () -> productService.decreaseStock(productId, 11));
+
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getStockQuantity()).isEqualTo(10);
+    }
+}
@@ -3,6 +3,7 @@ package com.flower.product.service;
 import com.flower.product.domain.Product;
 import com.flower.product.domain.ProductCategory;
 import com.flower.product.dto.ProductDto;
+import com.flower.product.dto.ProductRow;
 import com.flower.product.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -33,6 +34,12 @@ class ProductServiceStoreQueryTest {
     @Mock
     private com.flower.product.repository.ProductAddonRepository productAddonRepository;
 
+    @Mock
+    private com.flower.product.cache.ProductCatalogCache productCatalogCache;
+
+    @Mock
+    private ShardedStockService shardedStockService;
+
     @InjectMocks
     private ProductService productService;
 
@@ -83,8 +90,8 @@ class ProductServiceStoreQueryTest {
     void should_getProductsByStoreId_when_validStoreId() {
         // given
         Long storeId = 100L;
-        given(productRepository.findByStoreId(storeId))
-                .willReturn(Arrays.asList(storeProduct1, storeProduct2));
+        given(productRepository.findRowsByStoreId(storeId))
+                .willReturn(Arrays.asList(toRow(storeProduct1), toRow(storeProduct2)));
 
         // when
         List<ProductDto> products = productService.getProductsByStoreId(storeId);
@@ -94,7 +101,7 @@ class ProductServiceStoreQueryTest {
         assertThat(products).allMatch(p -> p.storeId().equals(100L));
         assertThat(products).extracting(ProductDto::name)
                 .containsExactlyInAnyOrder("우리 가게 장미 꽃다발", "우리 가게 튤립 꽃다발");
-        verify(productRepository).findByStoreId(storeId);
+        verify(productRepository).findRowsByStoreId(storeId);
     }
 
     @Test
@@ -102,7 +109,7 @@ class ProductServiceStoreQueryTest {
     void should_returnEmptyList_when_storeHasNoProducts() {
         // given
         Long emptyStoreId = 999L;
-        given(productRepository.findByStoreId(emptyStoreId))
+        given(productRepository.findRowsByStoreId(emptyStoreId))
                 .willReturn(List.of());
 
         // when
@@ -110,7 +117,7 @@ class ProductServiceStoreQueryTest {
 
         // then
         assertThat(products).isEmpty();
-        verify(productRepository).findByStoreId(emptyStoreId);
+        verify(productRepository).findRowsByStoreId(emptyStoreId);
     }
 
     @Test
@@ -118,8 +125,8 @@ class ProductServiceStoreQueryTest {
     void should_notReturnOtherStoreProducts_when_queryingSpecificStore() {
         // given
         Long storeId = 100L;
-        given(productRepository.findByStoreId(storeId))
-                .willReturn(Arrays.asList(storeProduct1, storeProduct2));
+        given(productRepository.findRowsByStoreId(storeId))
+                .willReturn(Arrays.asList(toRow(storeProduct1), toRow(storeProduct2)));
 
         // when
         List<ProductDto> products = productService.getProductsByStoreId(storeId);
@@ -128,4 +135,13 @@ class ProductServiceStoreQueryTest {
         assertThat(products).noneMatch(p -> p.storeId().equals(200L));
         assertThat(products).noneMatch(p -> p.name().equals("다른 가게 상품"));
     }
+
+    private ProductRow toRow(Product product) {
+        return new ProductRow(product.getId(), product.getStoreId(), product.getName(), product.getPrice(),
+                product.getDiscountPrice(), product.getStockQuantity(), product.getDescription(),
+                product.getThumbnailUrl(), product.getIsActive(), product.getIsAvailableToday(),
+                product.getCategory(), product.getDeliveryType(), product.getReviewCount(),
+                product.getTotalRating(), product.getAverageRating(), product.getIsTrending(),
+                product.getCreatedAt());
+    }
 }
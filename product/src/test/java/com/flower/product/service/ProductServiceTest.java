@@ -1,9 +1,18 @@
 package com.flower.product.service;
 
+import com.flower.common.dto.CursorPage;
 import com.flower.common.exception.EntityNotFoundException;
+import com.flower.product.cache.ProductCatalogCache;
 import com.flower.product.domain.Product;
 import com.flower.product.domain.ProductCategory;
+import com.flower.product.domain.ProductOption;
+import com.flower.product.dto.ProductCursor;
+import com.flower.product.dto.ProductDto;
+import com.flower.product.dto.ProductOptionRow;
+import com.flower.product.dto.ProductRow;
+import com.flower.product.repository.ProductOptionRepository;
 import com.flower.product.repository.ProductRepository;
+import com.flower.product.search.ProductSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,8 +21,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,6 +41,18 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductOptionRepository productOptionRepository;
+
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ShardedStockService shardedStockService;
+
     @InjectMocks
     private ProductService productService;
 
@@ -90,6 +116,85 @@ class ProductServiceTest {
         verify(productRepository, times(1)).findActiveProductsByCategoryOrderByTrending(ProductCategory.FLOWER_GIFT);
     }
 
+    @Test
+    @DisplayName("Should reject conditional stock decrease when stock is insufficient")
+    void shouldRejectConditionalDecreaseWhenStockInsufficient() {
+        // 준비
+        ReflectionTestUtils.setField(productService, "stockDeductionMode", StockDeductionMode.CONDITIONAL_UPDATE);
+        when(productRepository.decreaseStockIfAvailable(eq(1L), eq(200), any(LocalDateTime.class))).thenReturn(0);
+        when(productRepository.existsById(1L)).thenReturn(true);
+
+        // 실행 및 검증
+        assertThrows(IllegalStateException.class, () -> productService.decreaseStock(1L, 200));
+        verify(productRepository, never()).findByIdWithLock(anyLong());
+        verify(productCatalogCache, never()).invalidateAfterCommit(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should decrease stocks of all products with one locking query")
+    void shouldDecreaseStocksInBatch() {
+        // 준비
+        Product tulip = Product.builder()
+                .id(2L)
+                .productCode("TEST-002")
+                .name("튤립 꽃다발")
+                .price(new BigDecimal("30000"))
+                .stockQuantity(5)
+                .category(ProductCategory.FLOWER_GIFT)
+                .build();
+        when(productRepository.findAllByIdInWithLock(anyCollection())).thenReturn(List.of(testProduct, tulip));
+
+        // 실행
+        productService.decreaseStocks(Map.of(2L, 5, 1L, 10));
+
+        // 검증
+        assertThat(testProduct.getStockQuantity()).isEqualTo(90);
+        assertThat(tulip.getStockQuantity()).isZero();
+        verify(productRepository, never()).findByIdWithLock(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reject batch decrease when a product is missing")
+    void shouldRejectBatchDecreaseWhenProductMissing() {
+        // 준비
+        when(productRepository.findAllByIdInWithLock(anyCollection())).thenReturn(List.of(testProduct));
+
+        // 실행 및 검증
+        assertThrows(EntityNotFoundException.class, () -> productService.decreaseStocks(Map.of(1L, 10, 99L, 1)));
+        assertThat(testProduct.getStockQuantity()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should decrease product and option stocks together")
+    void shouldDecreaseOptionStocksWithProducts() {
+        // 준비
+        ProductOption large = ProductOption.builder().id(10L).name("사이즈").optionValue("L").stockQuantity(3).build();
+        ProductOption wrapping = ProductOption.builder().id(11L).name("포장").optionValue("기본").build();
+        when(productRepository.findAllByIdInWithLock(anyCollection())).thenReturn(List.of(testProduct));
+        when(productOptionRepository.findAllByIdInWithLock(anyCollection())).thenReturn(List.of(large, wrapping));
+
+        // 실행
+        productService.decreaseStocks(Map.of(1L, 2), Map.of(10L, 2, 11L, 2));
+
+        // 검증
+        assertThat(testProduct.getStockQuantity()).isEqualTo(98);
+        assertThat(large.getStockQuantity()).isEqualTo(1);
+        assertThat(wrapping.getStockQuantity()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject batch decrease when option stock is short")
+    void shouldRejectBatchDecreaseWhenOptionStockShort() {
+        // 준비
+        ProductOption large = ProductOption.builder().id(10L).name("사이즈").optionValue("L").stockQuantity(1).build();
+        when(productRepository.findAllByIdInWithLock(anyCollection())).thenReturn(List.of(testProduct));
+        when(productOptionRepository.findAllByIdInWithLock(anyCollection())).thenReturn(List.of(large));
+
+        // 실행 및 검증
+        assertThrows(IllegalStateException.class, () -> productService.decreaseStocks(Map.of(1L, 2), Map.of(10L, 2)));
+        assertThat(large.getStockQuantity()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Should check stock successfully")
     void shouldCheckStockSuccessfully() {
@@ -142,4 +247,61 @@ class ProductServiceTest {
         assertThat(results).hasSize(1);
         verify(productRepository, times(1)).searchProducts("장미");
     }
+
+    @Test
+    @DisplayName("Should return next cursor when more products exist")
+    void shouldReturnNextCursorWhenMoreProductsExist() {
+        // 준비
+        ProductRow first = productRow(1L, "장미 꽃다발", LocalDateTime.of(2024, 2, 14, 10, 0));
+        ProductRow second = productRow(2L, "튤립 꽃다발", LocalDateTime.of(2024, 2, 14, 9, 0));
+        when(productRepository.findPageAfter(ProductCursor.FIRST.createdAt(), ProductCursor.FIRST.id(), PageRequest.of(0, 2)))
+                .thenReturn(List.of(first, second));
+        when(productOptionRepository.findRowsByProductIdIn(List.of(1L))).thenReturn(List.of());
+
+        // 실행
+        CursorPage<ProductDto> page = productService.getProducts(null, 1);
+
+        // 검증
+        assertThat(page.content()).extracting(ProductDto::id).containsExactly(1L);
+        assertThat(page.hasNext()).isTrue();
+        ProductCursor next = ProductCursor.decode(page.nextCursor());
+        assertThat(next.id()).isEqualTo(1L);
+        assertThat(next.createdAt()).isEqualTo(LocalDateTime.of(2024, 2, 14, 10, 0));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void shouldRejectMalformedCursor() {
+        // 실행 및 검증
+        assertThrows(IllegalArgumentException.class, () -> productService.getProducts("not-a-cursor", 20));
+    }
+
+    @Test
+    @DisplayName("Should load options for listed products in a single batched query")
+    void shouldLoadOptionsForListedProductsInSingleQuery() {
+        // 준비
+        ProductRow rose = productRow(1L, "장미 꽃다발", LocalDateTime.of(2024, 2, 14, 10, 0));
+        ProductRow tulip = productRow(2L, "튤립 꽃다발", LocalDateTime.of(2024, 2, 14, 9, 0));
+        when(productRepository.findAllRows()).thenReturn(List.of(rose, tulip));
+        when(productOptionRepository.findRowsByProductIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new ProductOptionRow(1L, 10L, "사이즈", "L", new BigDecimal("5000"), null),
+                new ProductOptionRow(1L, 11L, "사이즈", "XL", new BigDecimal("10000"), 3)
+        ));
+
+        // 실행
+        List<ProductDto> products = productService.getAllProducts();
+
+        // 검증
+        assertThat(products).extracting(ProductDto::id).containsExactly(1L, 2L);
+        assertThat(products.get(0).options()).hasSize(2);
+        assertThat(products.get(1).options()).isEmpty();
+        assertThat(products.get(0).price()).isEqualByComparingTo("45000");
+        verify(productOptionRepository, times(1)).findRowsByProductIdIn(anyList());
+        verify(productRepository, never()).findAll();
+    }
+
+    private ProductRow productRow(Long id, String name, LocalDateTime createdAt) {
+        return new ProductRow(id, null, name, new BigDecimal("50000"), new BigDecimal("45000"), 100,
+                null, null, true, false, ProductCategory.FLOWER_GIFT, null, 0L, 0L, 0.0, false, createdAt);
+    }
 }
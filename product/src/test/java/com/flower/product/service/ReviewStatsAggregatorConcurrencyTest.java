@@ -0,0 +1,111 @@
+package com.flower.product.service;
+
+import com.flower.product.domain.Product;
+import com.flower.product.domain.ProductCategory;
+import com.flower.product.dto.RatingHistogram;
+import com.flower.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = com.flower.product.TestProductApplication.class,
+        properties = {"review.stats.flush-threshold=100", "review.stats.flush-interval-ms=600000"})
+class ReviewStatsAggregatorConcurrencyTest {
+
+    @Autowired
+    private ReviewStatsAggregator reviewStatsAggregator;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long roseId;
+    private Long tulipId;
+
+    @BeforeEach
+    void setUp() {
+        roseId = productRepository.save(product("테스트 장미", "TEST-ROSE")).getId();
+        tulipId = productRepository.save(product("테스트 튤립", "TEST-TULIP")).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 리뷰 변화량이 빠짐없이 합산되어 상품 통계에 반영되어야 한다")
+    void recordReviews_Concurrency() throws InterruptedException {
+        int threadCount = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            int sequence = i;
+            executorService.submit(() -> {
+                try {
+                    // 장미: 5점 리뷰 작성, 튤립: 4점 리뷰 작성 후 절반은 3점으로 수정
+                    reviewStatsAggregator.addRating(roseId, 5);
+                    reviewStatsAggregator.addRating(tulipId, 4);
+                    if (sequence % 2 == 0) {
+                        reviewStatsAggregator.changeRating(tulipId, 4, 3);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+        reviewStatsAggregator.flush();
+
+        Product rose = productRepository.findById(roseId).orElseThrow();
+        Product tulip = productRepository.findById(tulipId).orElseThrow();
+        assertThat(rose.getReviewCount()).isEqualTo(1000L);
+        assertThat(rose.getTotalRating()).isEqualTo(5000L);
+        assertThat(rose.getAverageRating()).isEqualTo(5.0);
+        assertThat(tulip.getReviewCount()).isEqualTo(1000L);
+        assertThat(tulip.getTotalRating()).isEqualTo(3500L);
+        assertThat(tulip.getAverageRating()).isEqualTo(3.5);
+        assertThat(productRepository.findRatingHistogramById(roseId))
+                .contains(new RatingHistogram(0, 0, 0, 0, 1000));
+        assertThat(productRepository.findRatingHistogramById(tulipId))
+                .contains(new RatingHistogram(0, 0, 500, 500, 0));
+    }
+
+    @Test
+    @DisplayName("리뷰 삭제로 통계가 음수가 되지 않아야 한다")
+    void recordDeletes_NeverNegative() {
+        reviewStatsAggregator.removeRating(roseId, 5);
+        reviewStatsAggregator.flush();
+
+        Product rose = productRepository.findById(roseId).orElseThrow();
+        assertThat(rose.getReviewCount()).isZero();
+        assertThat(rose.getTotalRating()).isZero();
+        assertThat(rose.getAverageRating()).isZero();
+        assertThat(productRepository.findRatingHistogramById(roseId)).contains(RatingHistogram.EMPTY);
+    }
+
+    private Product product(String name, String productCode) {
+        return Product.builder()
+                .name(name)
+                .productCode(productCode)
+                .description("리뷰 통계 테스트용")
+                .price(BigDecimal.valueOf(10000))
+                .stockQuantity(100)
+                .category(ProductCategory.FLOWER_BOUQUET)
+                .deliveryType(Product.DeliveryType.PARCEL)
+                .isActive(true)
+                .build();
+    }
+}
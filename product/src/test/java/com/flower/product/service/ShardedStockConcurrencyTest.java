@@ -0,0 +1,171 @@
+package com.flower.product.service;
+
+import com.flower.product.cache.ProductCatalogCache;
+import com.flower.product.domain.Product;
+import com.flower.product.domain.ProductCategory;
+import com.flower.product.dto.ProductDto;
+import com.flower.product.dto.UpdateProductRequest;
+import com.flower.product.repository.ProductRepository;
+import com.flower.product.repository.ProductStockShardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = com.flower.product.TestProductApplication.class)
+class ShardedStockConcurrencyTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ShardedStockService shardedStockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockShardRepository stockShardRepository;
+
+    @Autowired
+    private ProductQueryService productQueryService;
+
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.builder()
+                .name("타임세일 장미")
+                .productCode("TEST-FLASH")
+                .description("분할 재고 동시성 테스트용")
+                .price(BigDecimal.valueOf(10000))
+                .stockQuantity(40)
+                .category(ProductCategory.FLOWER_BOUQUET)
+                .deliveryType(Product.DeliveryType.PARCEL)
+                .isActive(true)
+                .build();
+        productId = productRepository.save(product).getId();
+        shardedStockService.enableSharding(productId, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockShardRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("분할 재고 상품에 재고보다 많은 동시 주문이 들어와도 초과 판매되지 않는다")
+    void decreaseStock_Sharded_NoOverselling() throws InterruptedException {
+        // given
+        int initialStock = 40;
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    productService.decreaseStock(productId, 1);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(initialStock);
+        assertThat(failCount.get()).isEqualTo(threadCount - initialStock);
+        assertThat(productService.getProductById(productId).stockQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 샤드가 바닥나면 리밸런싱 후 차감하며, 조회 재고는 샤드 합계와 일치한다")
+    void decreaseStock_Sharded_RebalancesWhenShardRunsDry() {
+        // when: 샤드당 10개이므로 15개 차감은 리밸런싱을 거쳐야 함
+        productService.decreaseStock(productId, 15);
+
+        // then
+        assertThat(productService.getProductById(productId).stockQuantity()).isEqualTo(25);
+        assertThat(stockShardRepository.findAll())
+                .allSatisfy(shard -> assertThat(shard.getQuantity()).isBetween(6, 7));
+
+        // when: 샤드 해제 시 합계가 상품 재고로 돌아감
+        shardedStockService.disableSharding(productId);
+
+        // then
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(25);
+        assertThat(stockShardRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("분할 재고 적용과 해제는 캐시된 상품 스냅샷을 무효화한다")
+    void enableAndDisableSharding_InvalidateCatalogCache() {
+        // given
+        productQueryService.getProductById(productId);
+        assertThat(productCatalogCache.contains(productId)).isTrue();
+
+        // when: 샤드 해제
+        shardedStockService.disableSharding(productId);
+
+        // then
+        assertThat(productCatalogCache.contains(productId)).isFalse();
+
+        // given
+        productQueryService.getProductById(productId);
+        assertThat(productCatalogCache.contains(productId)).isTrue();
+
+        // when: 샤드 재적용
+        shardedStockService.enableSharding(productId, 4);
+
+        // then
+        assertThat(productCatalogCache.contains(productId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재고 있는 상품 목록과 재고 수정은 상품 재고가 아니라 샤드 재고를 기준으로 한다")
+    void availableProductsAndUpdate_Sharded_UseShardStock() {
+        // given: 샤드마다 10개씩 차감해 리밸런싱 없이 샤드를 모두 비움 (products.stock_quantity는 40 그대로)
+        for (int i = 0; i < 4; i++) {
+            productService.decreaseStock(productId, 10);
+        }
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(40);
+
+        // then
+        assertThat(productService.getAvailableProducts()).extracting(Product::getId).doesNotContain(productId);
+        assertThat(productService.getAvailableProducts(null, 20).content())
+                .extracting(ProductDto::id).doesNotContain(productId);
+
+        // when: 관리자 재고 수정은 샤드에 다시 분배됨
+        productService.updateProduct(productId, new UpdateProductRequest(
+                null, null, null, null, 20, null, null, null, null, null, null));
+
+        // then
+        assertThat(productService.getProductById(productId).stockQuantity()).isEqualTo(20);
+        assertThat(stockShardRepository.findAll())
+                .allSatisfy(shard -> assertThat(shard.getQuantity()).isEqualTo(5));
+        assertThat(productService.getAvailableProducts()).extracting(Product::getId).contains(productId);
+    }
+}
@@ -12,13 +12,17 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_review_product_latest", columnList = "productId, isHidden, createdAt, id"),
+        @Index(name = "idx_review_product_rating", columnList = "productId, isHidden, rating, createdAt, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Review {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reviews_seq")
+    @SequenceGenerator(name = "reviews_seq", sequenceName = "reviews_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,36 @@
+package com.flower.review.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 변경 기록 (작성/수정/삭제/숨김이 일어난 상품)
+ * 상품 평점 증분 동기화 배치가 마지막 처리 ID 이후의 기록만 읽어 영향받은 상품만 재계산
+ */
+@Entity
+@Getter
+@Table(name = "review_change_log")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public static ReviewChangeLog of(Long productId) {
+        ReviewChangeLog log = new ReviewChangeLog();
+        log.productId = productId;
+        log.changedAt = LocalDateTime.now();
+        return log;
+    }
+}
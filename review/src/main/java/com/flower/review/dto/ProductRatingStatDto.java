@@ -3,5 +3,10 @@ package com.flower.review.dto;
 public record ProductRatingStatDto(
     Long productId,
     Long reviewCount,
-    Long totalRating
+    Long totalRating,
+    Long oneStarCount,
+    Long twoStarCount,
+    Long threeStarCount,
+    Long fourStarCount,
+    Long fiveStarCount
 ) {}
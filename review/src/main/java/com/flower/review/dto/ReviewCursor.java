@@ -0,0 +1,48 @@
+package com.flower.review.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 상품 리뷰 목록 keyset 커서 (rating, createdAt, id)
+ * 최신순 정렬에서는 rating을 사용하지 않으며, 클라이언트에는 Base64 인코딩된 불투명 문자열로만 노출
+ */
+public record ReviewCursor(
+    int rating,
+    LocalDateTime createdAt,
+    Long id
+) {
+    /**
+     * 첫 페이지 조회용 센티널 커서 (모든 리뷰보다 뒤에 위치)
+     */
+    public static final ReviewCursor FIRST = new ReviewCursor(Integer.MAX_VALUE, LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String DELIMITER = "|";
+
+    public static ReviewCursor of(ReviewDto review) {
+        return new ReviewCursor(review.rating(), review.createdAt(), review.id());
+    }
+
+    public static ReviewCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return new ReviewCursor(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = rating + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,9 @@
+package com.flower.review.dto;
+
+/**
+ * 상품 리뷰 목록 정렬 기준
+ */
+public enum ReviewSort {
+    LATEST,         // 최신순
+    RATING_DESC     // 평점 높은순 (같은 평점이면 최신순)
+}
@@ -1,13 +1,11 @@
 package com.flower.review.event;
 
 import com.flower.common.event.OrderCancelledEvent;
+import com.flower.common.outbox.OutboxListener;
 import com.flower.review.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
 
@@ -21,8 +19,7 @@ public class ReviewOrderEventListener {
 
     private final ReviewService reviewService;
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @OutboxListener
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleOrderCancelled(OrderCancelledEvent event) {
         log.info("주문 취소 이벤트 수신 - 리뷰 숨김 처리 시작: OrderId={}, OrderNumber={}", event.getOrderId(), event.getOrderNumber());
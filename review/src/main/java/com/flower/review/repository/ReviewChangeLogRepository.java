@@ -0,0 +1,28 @@
+package com.flower.review.repository;
+
+import com.flower.review.domain.ReviewChangeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReviewChangeLogRepository extends JpaRepository<ReviewChangeLog, Long> {
+
+    /**
+     * 기준 시각 이전에 기록된 마지막 ID (그 이후 기록은 아직 커밋되지 않은 앞 번호가 있을 수 있어 다음 실행으로 미룸)
+     */
+    @Query("SELECT MAX(c.id) FROM ReviewChangeLog c WHERE c.changedAt < :before")
+    Long findMaxIdChangedBefore(@Param("before") LocalDateTime before);
+
+    @Query("SELECT DISTINCT c.productId FROM ReviewChangeLog c WHERE c.id > :fromId AND c.id <= :toId")
+    List<Long> findChangedProductIds(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ReviewChangeLog c WHERE c.id <= :id")
+    int deleteUpTo(@Param("id") Long id);
+}
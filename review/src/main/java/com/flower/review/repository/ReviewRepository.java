@@ -1,19 +1,53 @@
 package com.flower.review.repository;
 
 import com.flower.review.domain.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.flower.review.dto.ProductRatingStatDto;
+import com.flower.review.dto.ReviewDto;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    List<Review> findByProductIdOrderByCreatedAtDesc(Long productId);
+
+    /**
+     * 목록 조회용 프로젝션 SELECT 절 (숨김 리뷰는 SQL에서 제외, 엔티티 하이드레이션 없이 ReviewDto로 직접 매핑)
+     */
+    String REVIEW_DTO_SELECT = "SELECT new com.flower.review.dto.ReviewDto(" +
+            "r.id, r.productId, r.memberId, r.rating, r.content, r.createdAt) " +
+            "FROM Review r WHERE r.productId = :productId AND r.isHidden = false ";
+
+    // --- Keyset Pagination (idx_review_product_latest / idx_review_product_rating) ---
+
+    @org.springframework.data.jpa.repository.Query(REVIEW_DTO_SELECT +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewDto> findLatestPageAfter(@org.springframework.data.repository.query.Param("productId") Long productId,
+                                        @org.springframework.data.repository.query.Param("createdAt") LocalDateTime createdAt,
+                                        @org.springframework.data.repository.query.Param("id") Long id,
+                                        Pageable pageable);
+
+    @org.springframework.data.jpa.repository.Query(REVIEW_DTO_SELECT +
+            "AND (r.rating < :rating OR (r.rating = :rating AND " +
+            "(r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)))) " +
+            "ORDER BY r.rating DESC, r.createdAt DESC, r.id DESC")
+    List<ReviewDto> findRatingPageAfter(@org.springframework.data.repository.query.Param("productId") Long productId,
+                                        @org.springframework.data.repository.query.Param("rating") int rating,
+                                        @org.springframework.data.repository.query.Param("createdAt") LocalDateTime createdAt,
+                                        @org.springframework.data.repository.query.Param("id") Long id,
+                                        Pageable pageable);
+
     boolean existsByMemberIdAndProductId(Long memberId, Long productId);
     boolean existsByOrderItemId(Long orderItemId);
 
-    @org.springframework.data.jpa.repository.Query("SELECT new com.flower.review.dto.ProductRatingStatDto(r.productId, COUNT(r), SUM(r.rating)) FROM Review r WHERE r.isHidden = false GROUP BY r.productId")
-    List<ProductRatingStatDto> countReviewStatsByProduct();
+    @org.springframework.data.jpa.repository.Query("SELECT new com.flower.review.dto.ProductRatingStatDto(r.productId, COUNT(r), SUM(r.rating), " +
+            "SUM(CASE WHEN r.rating = 1 THEN 1L ELSE 0L END), SUM(CASE WHEN r.rating = 2 THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN r.rating = 3 THEN 1L ELSE 0L END), SUM(CASE WHEN r.rating = 4 THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN r.rating = 5 THEN 1L ELSE 0L END)) " +
+            "FROM Review r WHERE r.isHidden = false AND r.productId IN :productIds GROUP BY r.productId")
+    List<ProductRatingStatDto> countReviewStatsByProductIdIn(@org.springframework.data.repository.query.Param("productIds") java.util.Collection<Long> productIds);
 
     List<Review> findByOrderItemIdIn(List<Long> orderItemIds);
     
@@ -1,35 +1,44 @@
 package com.flower.review.service;
 
+import com.flower.common.dto.CursorPage;
 import com.flower.common.event.ReviewCreatedEvent;
 import com.flower.common.event.ReviewDeletedEvent;
 import com.flower.common.event.ReviewUpdatedEvent;
 import com.flower.common.exception.BusinessException;
 import com.flower.common.exception.EntityNotFoundException;
+import com.flower.common.outbox.OutboxEventPublisher;
 import com.flower.order.service.OrderModuleService;
 import com.flower.product.repository.ProductRepository;
 import com.flower.review.domain.Review;
+import com.flower.review.domain.ReviewChangeLog;
 import com.flower.review.dto.CreateReviewRequest;
+import com.flower.review.dto.ReviewCursor;
 import com.flower.review.dto.ReviewDto;
+import com.flower.review.dto.ReviewSort;
 import com.flower.review.dto.UpdateReviewRequest;
+import com.flower.review.repository.ReviewChangeLogRepository;
 import com.flower.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
 
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final ReviewRepository reviewRepository;
+    private final ReviewChangeLogRepository reviewChangeLogRepository;
     private final ProductRepository productRepository;
     private final OrderModuleService orderModuleService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventPublisher eventPublisher;
 
     @Transactional
     public ReviewDto createReview(CreateReviewRequest request) {
@@ -60,12 +69,14 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        reviewChangeLogRepository.save(ReviewChangeLog.of(savedReview.getProductId()));
 
         // 5. 이벤트 발행 (비동기 평점 갱신)
-        eventPublisher.publishEvent(new ReviewCreatedEvent(
-                this,
+        eventPublisher.publish(new ReviewCreatedEvent(
+                savedReview.getId(),
                 savedReview.getId(),
                 savedReview.getProductId(),
+                savedReview.getOrderItemId(),
                 savedReview.getRating()
         ));
         
@@ -74,12 +85,19 @@ public class ReviewService {
         return toDto(savedReview);
     }
 
+    /**
+     * 상품 리뷰 목록 커서 기반 페이지 조회 (숨김 리뷰는 쿼리에서 제외)
+     */
     @Transactional(readOnly = true)
-    public List<ReviewDto> getReviewsByProduct(Long productId) {
-        return reviewRepository.findByProductIdOrderByCreatedAtDesc(productId).stream()
-                .filter(review -> !review.getIsHidden())
-                .map(this::toDto)
-                .collect(Collectors.toList());
+    public CursorPage<ReviewDto> getReviewsByProduct(Long productId, ReviewSort sort, String cursor, int size) {
+        ReviewCursor after = ReviewCursor.decode(cursor);
+        int pageSize = size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        PageRequest firstRows = PageRequest.of(0, pageSize + 1);
+
+        List<ReviewDto> fetched = sort == ReviewSort.RATING_DESC
+                ? reviewRepository.findRatingPageAfter(productId, after.rating(), after.createdAt(), after.id(), firstRows)
+                : reviewRepository.findLatestPageAfter(productId, after.createdAt(), after.id(), firstRows);
+        return CursorPage.of(fetched, pageSize, review -> ReviewCursor.of(review).encode(), review -> review);
     }
 
     @Transactional
@@ -88,6 +106,11 @@ public class ReviewService {
         for (Review review : reviews) {
             review.hide();
         }
+        reviewChangeLogRepository.saveAll(reviews.stream()
+                .map(Review::getProductId)
+                .distinct()
+                .map(ReviewChangeLog::of)
+                .toList());
         log.info("주문 취소로 인한 리뷰 숨김 처리 완료: {} 건", reviews.size());
     }
 
@@ -102,9 +125,10 @@ public class ReviewService {
 
         Integer oldRating = review.getRating();
         review.update(request.rating(), request.content());
+        reviewChangeLogRepository.save(ReviewChangeLog.of(review.getProductId()));
 
-        eventPublisher.publishEvent(new ReviewUpdatedEvent(
-                this,
+        eventPublisher.publish(new ReviewUpdatedEvent(
+                review.getId(),
                 review.getId(),
                 review.getProductId(),
                 oldRating,
@@ -124,11 +148,13 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        reviewChangeLogRepository.save(ReviewChangeLog.of(review.getProductId()));
 
-        eventPublisher.publishEvent(new ReviewDeletedEvent(
-                this,
+        eventPublisher.publish(new ReviewDeletedEvent(
+                review.getId(),
                 review.getId(),
                 review.getProductId(),
+                review.getOrderItemId(),
                 review.getRating()
         ));
     }
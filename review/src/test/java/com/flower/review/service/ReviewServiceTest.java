@@ -1,12 +1,18 @@
 package com.flower.review.service;
 
+import com.flower.common.dto.CursorPage;
 import com.flower.common.exception.BusinessException;
 import com.flower.common.exception.EntityNotFoundException;
+import com.flower.common.outbox.OutboxEventPublisher;
 import com.flower.order.service.OrderModuleService;
 import com.flower.product.repository.ProductRepository;
 import com.flower.review.domain.Review;
+import com.flower.review.domain.ReviewChangeLog;
 import com.flower.review.dto.CreateReviewRequest;
+import com.flower.review.dto.ReviewCursor;
 import com.flower.review.dto.ReviewDto;
+import com.flower.review.dto.ReviewSort;
+import com.flower.review.repository.ReviewChangeLogRepository;
 import com.flower.review.repository.ReviewRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,8 +20,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -38,6 +45,9 @@ class ReviewServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ReviewChangeLogRepository reviewChangeLogRepository;
+
     @Mock
     private ProductRepository productRepository;
 
@@ -45,7 +55,7 @@ class ReviewServiceTest {
     private OrderModuleService orderModuleService;
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private OutboxEventPublisher eventPublisher;
 
     @Test
     @DisplayName("리뷰 생성 성공")
@@ -71,7 +81,8 @@ class ReviewServiceTest {
         assertThat(result.productId()).isEqualTo(productId);
         assertThat(result.memberId()).isEqualTo(memberId);
         assertThat(result.rating()).isEqualTo(5);
-        verify(eventPublisher).publishEvent(any());
+        verify(eventPublisher).publish(any());
+        verify(reviewChangeLogRepository).save(any(ReviewChangeLog.class));
         verify(orderModuleService).validateOrderItemForReview(orderItemId, memberId, productId);
     }
 
@@ -117,5 +128,54 @@ class ReviewServiceTest {
 
         // then
         assertThat(review.getIsHidden()).isTrue();
+        verify(reviewChangeLogRepository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("평점순 리뷰 조회 시 다음 페이지 커서 반환")
+    void getReviewsByProduct_ratingSort() {
+        // given
+        Long productId = 1L;
+        ReviewDto best = new ReviewDto(10L, productId, 1L, 5, "최고", LocalDateTime.of(2024, 5, 1, 10, 0));
+        ReviewDto good = new ReviewDto(11L, productId, 2L, 4, "좋아요", LocalDateTime.of(2024, 5, 2, 10, 0));
+        given(reviewRepository.findRatingPageAfter(productId, ReviewCursor.FIRST.rating(), ReviewCursor.FIRST.createdAt(),
+                ReviewCursor.FIRST.id(), PageRequest.of(0, 2)))
+                .willReturn(List.of(best, good));
+
+        // when
+        CursorPage<ReviewDto> page = reviewService.getReviewsByProduct(productId, ReviewSort.RATING_DESC, null, 1);
+
+        // then
+        assertThat(page.content()).extracting(ReviewDto::id).containsExactly(10L);
+        assertThat(page.hasNext()).isTrue();
+        ReviewCursor next = ReviewCursor.decode(page.nextCursor());
+        assertThat(next.rating()).isEqualTo(5);
+        assertThat(next.id()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("최신순 마지막 페이지는 다음 커서가 없음")
+    void getReviewsByProduct_lastPage() {
+        // given
+        Long productId = 1L;
+        ReviewCursor after = new ReviewCursor(5, LocalDateTime.of(2024, 5, 3, 10, 0), 20L);
+        ReviewDto review = new ReviewDto(19L, productId, 1L, 3, "보통", LocalDateTime.of(2024, 5, 2, 10, 0));
+        given(reviewRepository.findLatestPageAfter(productId, after.createdAt(), after.id(), PageRequest.of(0, 11)))
+                .willReturn(List.of(review));
+
+        // when
+        CursorPage<ReviewDto> page = reviewService.getReviewsByProduct(productId, ReviewSort.LATEST, after.encode(), 10);
+
+        // then
+        assertThat(page.content()).containsExactly(review);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 리뷰 조회 시 예외")
+    void getReviewsByProduct_malformedCursor() {
+        assertThatThrownBy(() -> reviewService.getReviewsByProduct(1L, ReviewSort.LATEST, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 }